@@ -1,15 +1,36 @@
 package algorithms.brute_force;
 
 
+import algorithms.evaluation.BaseEvaluator;
 import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.evolutionary_algorithms.util.BiObjectiveParetoArchive;
 import algorithms.problem.BaseIndividual;
+import algorithms.problem.CompiledTTP;
 import algorithms.problem.TTP;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
 
+/**
+ * Finds the exact Pareto front of a TTP by branch and bound.
+ * Tours start in the first city, as in the genotypes of the algorithms,
+ * and are split by their first cities into tasks of a ForkJoin pool
+ * (the evaluation pool of the parameters or the common pool).
+ * For every tour, items are chosen city by city and a subtree is
+ * skipped if it exceeds the capacity or if the archive of the task
+ * weakly dominates its optimistic point, i.e. the time of the rest of the tour
+ * at the current speed and the fractional knapsack bound of the profit.
+ */
 public class TTPExhaustiveSearch {
 
+  // number of tour positions fixed by a task, including the first city
+  private static final int TASK_PREFIX_LENGTH = 3;
+  // optimistic times are sums in a different order than the times of tours
+  private static final double TIME_BOUND_TOLERANCE = 1e-9;
+
   private TTP problem;
   protected ParameterSet<Integer, TTP> parameters;
   private List<BaseIndividual<Integer, TTP>> nonDominated;
@@ -21,11 +42,32 @@ public class TTPExhaustiveSearch {
   }
 
   public List<BaseIndividual<Integer, TTP>> findNonDominated() {
-    int[] path = new int[problem.getPath().length];
+    CompiledTTP instance = problem.getCompiled();
+    ForkJoinPool pool = parameters.evaluationPool instanceof ForkJoinPool
+        ? (ForkJoinPool) parameters.evaluationPool : ForkJoinPool.commonPool();
+
+    List<ForkJoinTask<BiObjectiveParetoArchive<Integer, TTP>>> tasks = new ArrayList<>();
+    int[] path = new int[instance.getNumCities()];
     for (int i = 0; i < path.length; ++i) {
       path[i] = i;
     }
-    tryPaths(path, 0);
+    // the ratio order of the compiled instance compares rounded ratios, which is not enough for the bound
+    int[] ratioOrder = IntStream.range(0, instance.getNumItems()).boxed()
+        .sorted((i, j) -> Double.compare(instance.getProfit(j) / instance.getWeight(j),
+            instance.getProfit(i) / instance.getWeight(i)))
+        .mapToInt(ele -> ele).toArray();
+    addTasks(pool, tasks, path, ratioOrder, 1, Math.min(TASK_PREFIX_LENGTH, path.length - 1));
+
+    // archives are merged in the order of tasks, so the front does not depend on scheduling
+    BiObjectiveParetoArchive<Integer, TTP> front = new BiObjectiveParetoArchive<>();
+    for (ForkJoinTask<BiObjectiveParetoArchive<Integer, TTP>> task : tasks) {
+      front.addAll(task.join());
+    }
+
+    nonDominated = front.getIndividuals();
+    for (BaseIndividual<Integer, TTP> individual : nonDominated) {
+      individual.setObjectives();
+    }
     for (int i = 0; i < nonDominated.size(); ++i) {
       double profit = 0;
       double travellingTime = nonDominated.get(i).getProblem().getTravellingTime();
@@ -41,45 +83,192 @@ public class TTPExhaustiveSearch {
     return nonDominated;
   }
 
-  private void tryPaths(int[] path, int index){
-    if (index >= path.length - 1) {
-      int[] selection = new int[problem.getSelection().length];
-      trySelections(path, selection, 0);
+  private void addTasks(ForkJoinPool pool, List<ForkJoinTask<BiObjectiveParetoArchive<Integer, TTP>>> tasks, int[] path, int[] ratioOrder,
+                        int index, int prefixLength) {
+    if (index >= prefixLength) {
+      TourSearch search = new TourSearch(problem, parameters.evaluator, path.clone(), ratioOrder, prefixLength);
+      tasks.add(pool.submit(search::search));
       return;
     }
 
     for (int i = index; i < path.length; i++) {
-      int t = path[index];
-      path[index] = path[i];
-      path[i] = t;
+      swap(path, index, i);
+      addTasks(pool, tasks, path, ratioOrder, index + 1, prefixLength);
+      swap(path, index, i);
+    }
+  }
+
+  private static void swap(int[] path, int i, int j) {
+    int t = path[i];
+    path[i] = path[j];
+    path[j] = t;
+  }
+
+  /**
+   * Search of all tours sharing a prefix, with its own archive and buffers.
+   * Objectives of archived solutions are the travelling time and the negative profit,
+   * as calculated by the multi-objective TTP evaluator.
+   */
+  private static class TourSearch {
 
-      tryPaths(path, index+1);
+    private final TTP problem;
+    private final BaseEvaluator<Integer, TTP> evaluator;
+    private final CompiledTTP instance;
+    private final int[] path;
+    private final int prefixLength;
+    private final int[] selection;
+    // items in the descending order of profit to weight ratio
+    private final int[] ratioOrder;
+    private final BiObjectiveParetoArchive<Integer, TTP> archive = new BiObjectiveParetoArchive<>();
 
-      t = path[index];
-      path[index] = path[i];
-      path[i] = t;
+    private final double minSpeed;
+    private final double maxSpeed;
+    private final double capacity;
+    private final int[] cityItemGenes;
+    private final int[] cityPositions;
+    // distance from the tour position to the end of the tour
+    private final double[] remainingDistances;
+    // last tour position where the item may be picked
+    private final int[] lastPositions;
+
+    TourSearch(TTP problem, BaseEvaluator<Integer, TTP> evaluator, int[] path, int[] ratioOrder, int prefixLength) {
+      this.problem = problem;
+      this.evaluator = evaluator;
+      this.instance = problem.getCompiled();
+      this.minSpeed = problem.getMinSpeed();
+      this.maxSpeed = problem.getMaxSpeed();
+      this.path = path;
+      this.ratioOrder = ratioOrder;
+      this.prefixLength = prefixLength;
+      this.selection = new int[instance.getNumItems()];
+      this.capacity = instance.getCapacity();
+      this.cityPositions = new int[path.length];
+      this.remainingDistances = new double[path.length + 1];
+      this.lastPositions = new int[selection.length];
+
+      int numCityItems = instance.getCityItemsTo(path.length - 1);
+      this.cityItemGenes = new int[numCityItems];
+      for (int city = 0; city < path.length; ++city) {
+        for (int i = instance.getCityItemsFrom(city); i < instance.getCityItemsTo(city); ++i) {
+          int item = instance.getCityItem(i);
+          int gene = 1;
+          while (instance.getPickupCity(item, gene) != city) {
+            ++gene;
+          }
+          cityItemGenes[i] = gene;
+        }
+      }
+    }
+
+    BiObjectiveParetoArchive<Integer, TTP> search() {
+      tryPaths(prefixLength);
+      return archive;
     }
-  }
 
-  private void trySelections(int[] path, int[] selection, int index) {
-    if(index >= selection.length){
-      BaseIndividual<Integer, TTP> individual = new BaseIndividual<>(problem, parameters.evaluator);
-      individual.getProblem().setPath(path.clone());
-      individual.getProblem().setSelection(selection.clone());
-      if (individual.getProblem().getCurrentWeight() > individual.getProblem().getKnapsack().getCapacity()) {
+    private void tryPaths(int index) {
+      if (index >= path.length - 1) {
+        prepareTour();
+        trySelections(0, instance.getCityItemsFrom(path[0]), 0d, 0d, 0d);
         return;
       }
-      individual.setObjectives();
-      nonDominated.add(individual);
-      nonDominated = removeDuplicates(nonDominated);
-      nonDominated = getNondominated(nonDominated);
-      return;
+
+      for (int i = index; i < path.length; i++) {
+        swap(path, index, i);
+        tryPaths(index + 1);
+        swap(path, index, i);
+      }
     }
 
-    int numValues = parameters.upperBounds[path.length + index];
-    for (int i = 0; i < numValues; i++) {
-      selection[index] = i;
-      trySelections(path, selection, index + 1);
+    private void prepareTour() {
+      for (int i = 0; i < path.length; ++i) {
+        cityPositions[path[i]] = i;
+      }
+      remainingDistances[path.length] = 0d;
+      for (int i = path.length - 1; i >= 0; --i) {
+        remainingDistances[i] = remainingDistances[i + 1] + instance.getDistance(path[i], path[(i + 1) % path.length]);
+      }
+      for (int item = 0; item < selection.length; ++item) {
+        int lastPosition = -1;
+        for (int gene = 1; gene <= instance.getNumAvailableCities(item); ++gene) {
+          lastPosition = Math.max(lastPosition, cityPositions[instance.getPickupCity(item, gene)]);
+        }
+        lastPositions[item] = lastPosition;
+      }
+    }
+
+    /**
+     * Decides whether to pick the items of the city at the tour position, starting
+     * from the given item of the city, and then leaves the city. Weights, speeds and
+     * times are calculated in the same order as in TTP, so travelling times are equal.
+     */
+    private void trySelections(int position, int cityItem, double weight, double profit, double time) {
+      int city = path[position];
+      if (cityItem == instance.getCityItemsFrom(city) && isPruned(position, weight, profit, time)) {
+        return;
+      }
+
+      if (cityItem == instance.getCityItemsTo(city)) {
+        double velocity = maxSpeed - (weight * ( (maxSpeed - minSpeed)  / capacity ));
+        velocity = Math.max(velocity, minSpeed);
+        time += instance.getDistance(city, path[(position + 1) % path.length]) / velocity;
+        if (position == path.length - 1) {
+          addSolution(time, profit);
+        } else {
+          trySelections(position + 1, instance.getCityItemsFrom(path[position + 1]), weight, profit, time);
+        }
+        return;
+      }
+
+      int item = instance.getCityItem(cityItem);
+      double itemWeight = instance.getWeight(item);
+      if (selection[item] == 0 && weight + itemWeight <= capacity) {
+        selection[item] = cityItemGenes[cityItem];
+        trySelections(position, cityItem + 1, weight + itemWeight, profit + instance.getProfit(item), time);
+        selection[item] = 0;
+      }
+      trySelections(position, cityItem + 1, weight, profit, time);
+    }
+
+    /**
+     * Speed only decreases as items are picked, so the rest of the tour takes at least
+     * its distance divided by the current speed. Profits are integers, so the fractional
+     * bound of the remaining items is rounded up.
+     */
+    private boolean isPruned(int position, double weight, double profit, double time) {
+      double velocity = maxSpeed - (weight * ( (maxSpeed - minSpeed)  / capacity ));
+      velocity = Math.max(velocity, minSpeed);
+      double minTime = (time + remainingDistances[position] / velocity) * (1 - TIME_BOUND_TOLERANCE);
+
+      double remainingCapacity = capacity - weight;
+      double maxProfit = profit;
+      for (int rank = 0; rank < ratioOrder.length && remainingCapacity > 0; ++rank) {
+        int item = ratioOrder[rank];
+        if (selection[item] > 0 || lastPositions[item] < position) {
+          continue;
+        }
+        if (instance.getWeight(item) <= remainingCapacity) {
+          remainingCapacity -= instance.getWeight(item);
+          maxProfit += instance.getProfit(item);
+        } else {
+          maxProfit += Math.ceil(instance.getProfit(item) * remainingCapacity / instance.getWeight(item));
+          break;
+        }
+      }
+      return archive.isWeaklyDominated(minTime, -maxProfit);
+    }
+
+    /**
+     * Arrays are copied into a new individual only if the solution is added.
+     */
+    private void addSolution(double time, double profit) {
+      if (archive.isWeaklyDominated(time, -profit)) {
+        return;
+      }
+      BaseIndividual<Integer, TTP> solution = new BaseIndividual<>(problem, evaluator);
+      solution.getProblem().setPath(path.clone());
+      solution.getProblem().setSelection(selection.clone());
+      solution.setObjectives(new double[]{time, -profit});
+      archive.add(solution);
     }
   }
 
@@ -16,6 +16,10 @@ public class AverageUseOfResourceTimeEvaluator<GENE extends Number> extends Base
     super(individual);
   }
 
+  public AverageUseOfResourceTimeEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context) {
+    super(individual, context);
+  }
+
   /**
    * Duration of the individual
    *
@@ -28,7 +32,7 @@ public class AverageUseOfResourceTimeEvaluator<GENE extends Number> extends Base
 
   @Override
   public BaseScheduleEvaluator<GENE> getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new AverageUseOfResourceTimeEvaluator<>(individual);
+    return new AverageUseOfResourceTimeEvaluator<>(individual, getContext(individual.getProblem()));
   }
 
   @Override
@@ -48,6 +48,19 @@ abstract public class BaseEvaluator<GENE extends Number, PROBLEM extends BasePro
    */
   abstract public double[] getNormalObjectives();
 
+  /**
+   * Returns normalized values of objectives already computed by
+   * <code>getObjectives()</code>. By default the objectives are
+   * computed again by <code>getNormalObjectives()</code>, evaluators
+   * override it to normalize the given values instead.
+   *
+   * @param objectives objective values of the solution
+   * @return array with normalized objective values
+   */
+  public double[] getNormalObjectives(double[] objectives) {
+    return getNormalObjectives();
+  }
+
   /**
    * Allows to differentiate evaluators
    *
@@ -1,6 +1,7 @@
 package algorithms.evaluation;
 
 import algorithms.problem.BaseIndividual;
+import algorithms.problem.scheduling.CompiledSchedule;
 import algorithms.problem.scheduling.Resource;
 import algorithms.problem.scheduling.Schedule;
 import algorithms.problem.scheduling.Skill;
@@ -19,10 +20,29 @@ abstract public class BaseScheduleEvaluator<GENE extends Number> extends BaseEva
   protected double maxCost;
   protected double maxDuration;
 
+  // difference array of cash flows reused by evaluations on the same thread
+  private static final ThreadLocal<double[]> CASH_FLOWS = ThreadLocal.withInitial(() -> new double[0]);
+
+  // bounds shared with the copies of this evaluator
+  private ScheduleEvaluationContext context;
+
   public BaseScheduleEvaluator() { }
 
   public BaseScheduleEvaluator(BaseIndividual<GENE, Schedule> individual) {
+    this(individual, null);
+  }
+
+  /**
+   * Creates an evaluator using bounds computed for another copy of the
+   * same instance.
+   *
+   * @param individual individual to evaluate
+   * @param context bounds of the instance, computed again if they do not
+   *                match the schedule of the individual
+   */
+  public BaseScheduleEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context) {
     super(individual);
+    this.context = context;
     setMaxValues();
   }
 
@@ -33,21 +53,113 @@ abstract public class BaseScheduleEvaluator<GENE extends Number> extends BaseEva
     maxCost = getMaxCost();
   }
 
+  /**
+   * Returns bounds of the objectives for the instance of the schedule.
+   * They are kept in this evaluator and passed to its copies, so
+   * evaluators of the whole population compute them once.
+   *
+   * @param schedule schedule to get the bounds for
+   * @return bounds of the objectives
+   */
+  public ScheduleEvaluationContext getContext(Schedule schedule) {
+    ScheduleEvaluationContext current = context;
+    if (current == null || !current.isFor(schedule)) {
+      current = new ScheduleEvaluationContext(schedule);
+      context = current;
+    }
+    return current;
+  }
+
+  protected ScheduleEvaluationContext getContext() {
+    return getContext(individual.getProblem());
+  }
+
   @Override
   public double[] getObjectives() {
     double[] objectives = new double[2];
-    objectives[0] = getDuration();
-    objectives[1] = getCost();
+    evaluateObjectives(objectives, null);
     return objectives;
   }
 
   @Override
   public double[] getNormalObjectives() {
+    return getNormalObjectives(getObjectives());
+  }
+
+  @Override
+  public double[] getNormalObjectives(double[] objectives) {
     // TODO: - get min cost / duration ?
-    double[] objectives = new double[2];
-    objectives[0] = getDuration() / maxDuration;
-    objectives[1] = getCost() / maxCost;
-    return objectives;
+    double[] normalObjectives = new double[2];
+    normalObjectives[0] = objectives[0] / maxDuration;
+    normalObjectives[1] = objectives[1] / maxCost;
+    return normalObjectives;
+  }
+
+  /**
+   * Computes objectives of the schedule in a single pass over its resources
+   * and tasks. The objectives are, in order: duration, cost, average cash flow
+   * deviation, skill overuse and average use of resource time, and only the
+   * first <code>objectives.length</code> of them are computed. Cash flows are
+   * accumulated in a reusable difference array instead of per time unit.
+   *
+   * @param objectives array to fill with objective values
+   * @param normalObjectives array of the same length to fill with
+   *                         normalized values, or null
+   */
+  public void evaluateObjectives(double[] objectives, double[] normalObjectives) {
+    Schedule schedule = individual.getProblem();
+    ScheduleEvaluationContext context = getContext(schedule);
+    CompiledSchedule compiled = schedule.getCompiled();
+    int numObjectives = objectives.length;
+    Resource[] resources = schedule.getResources();
+
+    int duration = 0;
+    double useOfResourceTime = 0.0d;
+    double expectedUsedTime = context.getMaxDuration() / (double) resources.length;
+    for (Resource r : resources) {
+      if (r.getFinish() > duration) {
+        duration = r.getFinish();
+      }
+      useOfResourceTime += Math.abs(r.getWorkingTime() - expectedUsedTime);
+    }
+
+    double[] cashFlows = numObjectives > 2 ? getCashFlowBuffer(duration) : null;
+    double cost = 0.0d;
+    double skillOveruse = 0.0d;
+    for (Task t : schedule.getTasks()) {
+      if (t.getResourceId() == -1) {
+        continue;
+      }
+      Resource r = schedule.getResource(t.getResourceId());
+      cost += r.getSalary() * t.getDuration();
+      if (cashFlows != null && t.getStart() > -1) {
+        addCashFlow(cashFlows, t, r.getSalary());
+      }
+      if (numObjectives > 3) {
+        skillOveruse += compiled != null
+            ? compiled.getSkillOveruse(compiled.getTaskIndex(t.getId()), compiled.getResourceIndex(r.getId()))
+            : getSkillOveruse(t, r);
+      }
+    }
+
+    objectives[0] = duration;
+    objectives[1] = cost;
+    if (numObjectives > 2) {
+      objectives[2] = getCashFlowDeviation(cashFlows, duration);
+    }
+    if (numObjectives > 3) {
+      objectives[3] = skillOveruse;
+    }
+    if (numObjectives > 4) {
+      objectives[4] = useOfResourceTime;
+    }
+    if (normalObjectives != null) {
+      double[] maxValues = {context.getMaxDuration(), context.getMaxCost(), context.getMaxAverageCashFlowDeviation(),
+          context.getMaxSkillOveruse(), context.getMaxUseOfResourceTime()};
+      for (int i = 0; i < numObjectives; ++i) {
+        normalObjectives[i] = objectives[i] / maxValues[i];
+      }
+    }
   }
 
   /**
@@ -95,16 +207,7 @@ abstract public class BaseScheduleEvaluator<GENE extends Number> extends BaseEva
    * @return minimum possible duration of the individual
    */
   public double getMinDuration() {
-    Schedule schedule = individual.getProblem();
-    Task[] tasks = schedule.getTasks();
-    Task shortest = tasks[0];
-    for (Task t : tasks) {
-      if (t.getDuration() < shortest.getDuration()) {
-        shortest = t;
-      }
-    }
-
-    return (shortest.getDuration() * tasks.length) / (double)schedule.getResources().length;
+    return getContext().getMinDuration();
   }
 
   /**
@@ -113,12 +216,7 @@ abstract public class BaseScheduleEvaluator<GENE extends Number> extends BaseEva
    * @return maximum possible duration of the individual
    */
   public double getMaxDuration() {
-    Schedule schedule = individual.getProblem();
-    int duration = 0;
-    for (Task t : schedule.getTasks()) {
-      duration += t.getDuration();
-    }
-    return duration;
+    return getContext().getMaxDuration();
   }
 
   /**
@@ -128,19 +226,7 @@ abstract public class BaseScheduleEvaluator<GENE extends Number> extends BaseEva
    * @return minimum possible cost of the individual
    */
   public double getMinCost() {
-    Schedule schedule = individual.getProblem();
-    Resource[] resources = schedule.getResources();
-    Resource expRes = resources[0];
-    for (Resource r : resources) {
-      if (r.getSalary() < expRes.getSalary()) {
-        expRes = r;
-      }
-    }
-    int maxCost = 0;
-    for (Task t : schedule.getTasks()) {
-      maxCost += (t.getDuration() * expRes.getSalary());
-    }
-    return maxCost;
+    return getContext().getMinCost();
   }
 
   /**
@@ -150,19 +236,7 @@ abstract public class BaseScheduleEvaluator<GENE extends Number> extends BaseEva
    * @return maximum possible cost of the individual
    */
   public double getMaxCost() {
-    Schedule schedule = individual.getProblem();
-    Resource[] resources = schedule.getResources();
-    Resource expRes = resources[0];
-    for (Resource r : resources) {
-      if (r.getSalary() > expRes.getSalary()) {
-        expRes = r;
-      }
-    }
-    int maxCost = 0;
-    for (Task t : schedule.getTasks()) {
-      maxCost += (t.getDuration() * expRes.getSalary());
-    }
-    return maxCost;
+    return getContext().getMaxCost();
   }
 
   protected double getAverageUseOfResourceTime() {
@@ -177,31 +251,59 @@ abstract public class BaseScheduleEvaluator<GENE extends Number> extends BaseEva
   }
 
   public double getMaxUseOfResourceTime() {
-    Schedule schedule = individual.getProblem();
-    Resource[] resources = schedule.getResources();
-    double expectedUsedTime = maxDuration / (double) resources.length;
-    return expectedUsedTime * (resources.length - 1);
+    return getContext().getMaxUseOfResourceTime();
   }
 
   protected double getAverageCashFlowDeviation(double duration) {
     Schedule schedule = individual.getProblem();
-    double[] cashFlows = new double[(int)duration];
-    Task[] tasks = schedule.getTasks();
-    double cashFlow;
-    for (Task t : tasks) {
-      cashFlow = schedule.getResource(t.getResourceId()).getSalary();
+    double[] cashFlows = getCashFlowBuffer((int)duration);
+    for (Task t : schedule.getTasks()) {
       if (t.getStart() > -1) {
-        int finish = t.getStart() + t.getDuration();
-        for (int i = t.getStart(); i < finish; ++i) {
-          cashFlows[i] += cashFlow;
-        }
+        addCashFlow(cashFlows, t, schedule.getResource(t.getResourceId()).getSalary());
       }
     }
+    return getCashFlowDeviation(cashFlows, (int)duration);
+  }
 
-    double average = Arrays.stream(cashFlows).average().orElse(Double.NaN);
+  /**
+   * Returns a cleared buffer of this thread for a difference array of
+   * cash flows. It is reused between evaluations, so it must not be kept.
+   *
+   * @param duration duration of the project
+   * @return buffer with at least <code>duration + 1</code> zeros
+   */
+  private static double[] getCashFlowBuffer(int duration) {
+    double[] cashFlows = CASH_FLOWS.get();
+    if (cashFlows.length <= duration) {
+      cashFlows = new double[Math.max(duration + 1, 2 * cashFlows.length)];
+      CASH_FLOWS.set(cashFlows);
+    } else {
+      Arrays.fill(cashFlows, 0, duration + 1, 0.0d);
+    }
+    return cashFlows;
+  }
+
+  private static void addCashFlow(double[] cashFlows, Task t, double cashFlow) {
+    cashFlows[t.getStart()] += cashFlow;
+    cashFlows[t.getStart() + t.getDuration()] -= cashFlow;
+  }
+
+  /**
+   * Turns the difference array into cash flows of each time unit and
+   * sums their absolute deviations from the average cash flow.
+   */
+  private static double getCashFlowDeviation(double[] cashFlows, int duration) {
+    double cashFlow = 0.0d;
+    double sum = 0.0d;
+    for (int i = 0; i < duration; ++i) {
+      cashFlow += cashFlows[i];
+      cashFlows[i] = cashFlow;
+      sum += cashFlow;
+    }
+    double average = sum / duration;
     double deviation = 0.0d;
-    for (double flow : cashFlows) {
-      deviation += Math.abs(flow - average);
+    for (int i = 0; i < duration; ++i) {
+      deviation += Math.abs(cashFlows[i] - average);
     }
     return deviation;
   }
@@ -210,43 +312,37 @@ abstract public class BaseScheduleEvaluator<GENE extends Number> extends BaseEva
     Schedule schedule = individual.getProblem();
     double overuse = 0.0d;
     Task[] tasks = schedule.getTasks();
-    for (Task t : tasks) {
-      Resource r = schedule.getResource(t.getResourceId());
-      for (Skill tSkill : t.getRequiredSkills()) {
-        Skill rSkill = Arrays.stream(r.getSkills()).filter(s -> s.getType().equals(tSkill.getType())).findFirst().orElse(null);
-        if (rSkill == null) {
-          throw new IllegalStateException("Incorrect task - resource assignment");
-        }
-        overuse += rSkill.getLevel() - tSkill.getLevel();
+    CompiledSchedule compiled = schedule.getCompiled();
+    if (compiled != null) {
+      for (Task t : tasks) {
+        overuse += compiled.getSkillOveruse(compiled.getTaskIndex(t.getId()), compiled.getResourceIndex(t.getResourceId()));
       }
-
+      return overuse;
+    }
+    for (Task t : tasks) {
+      overuse += getSkillOveruse(t, schedule.getResource(t.getResourceId()));
     }
     return  overuse;
   }
 
-  public double getMaxSkillOveruse() {
-    Schedule schedule = individual.getProblem();
-    Task[] tasks = schedule.getTasks();
-    double maxOveruse = 0.0d;
-    for (Task t : tasks) {
-      for (Skill tSkill : t.getRequiredSkills()) {
-
-        int maxLevel = 0;
-        for (Resource r : schedule.getResources()) {
-          Skill rSkill = Arrays.stream(r.getSkills()).filter(s -> s.getType().equals(tSkill.getType())).findFirst().orElse(null);
-          if (rSkill != null && rSkill.getLevel() > maxLevel) {
-            maxLevel = rSkill.getLevel();
-          }
-        }
-        maxOveruse += maxLevel - tSkill.getLevel();
-
+  private static double getSkillOveruse(Task t, Resource r) {
+    double overuse = 0.0d;
+    for (Skill tSkill : t.getRequiredSkills()) {
+      Skill rSkill = Arrays.stream(r.getSkills()).filter(s -> s.getType().equals(tSkill.getType())).findFirst().orElse(null);
+      if (rSkill == null) {
+        throw new IllegalStateException("Incorrect task - resource assignment");
       }
+      overuse += rSkill.getLevel() - tSkill.getLevel();
     }
-    return maxOveruse;
+    return overuse;
+  }
+
+  public double getMaxSkillOveruse() {
+    return getContext().getMaxSkillOveruse();
   }
 
   public double getMaxAverageCashFlowDeviation() {
-    return maxCost;
+    return getContext().getMaxAverageCashFlowDeviation();
   }
 
   /**
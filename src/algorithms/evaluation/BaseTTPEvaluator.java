@@ -1,8 +1,8 @@
 package algorithms.evaluation;
 
 import algorithms.problem.BaseIndividual;
+import algorithms.problem.CompiledTTP;
 import algorithms.problem.TTP;
-import algorithms.problem.mkp.Knapsack;
 
 /**
  * Base evaluator for Travelling Salesman Problem.
@@ -19,11 +19,11 @@ public abstract class BaseTTPEvaluator<GENE extends Number> extends BaseEvaluato
   protected double getProfit() {
     double profit = 0d;
     TTP problem = individual.getProblem();
-    Knapsack knapsack = problem.getKnapsack();
+    CompiledTTP instance = problem.getCompiled();
     int[] selection = problem.getSelection();
     for (int i = 0; i < selection.length; ++i) {
       if (selection[i] > 0) {
-        profit += knapsack.getItem(i).getProfit();
+        profit += instance.getProfit(i);
       }
     }
     return profit;
@@ -11,7 +11,10 @@ public class BiScheduleEvaluator<GENE extends Number> extends BaseScheduleEvalua
 
   public BiScheduleEvaluator(BaseIndividual<GENE, Schedule> individual) {
     super(individual);
-    setMaxValues();
+  }
+
+  public BiScheduleEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context) {
+    super(individual, context);
   }
 
   @Override
@@ -21,7 +24,7 @@ public class BiScheduleEvaluator<GENE extends Number> extends BaseScheduleEvalua
 
   @Override
   public BiScheduleEvaluator getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new BiScheduleEvaluator<>(individual);
+    return new BiScheduleEvaluator<>(individual, getContext(individual.getProblem()));
   }
 
   @Override
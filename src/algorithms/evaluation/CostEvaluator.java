@@ -16,6 +16,10 @@ public class CostEvaluator<GENE extends Number> extends BaseScheduleEvaluator<GE
     super(individual);
   }
 
+  public CostEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context) {
+    super(individual, context);
+  }
+
   /**
    * Cost of the individual.
    *
@@ -28,7 +32,7 @@ public class CostEvaluator<GENE extends Number> extends BaseScheduleEvaluator<GE
 
   @Override
   public CostEvaluator getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new CostEvaluator<>(individual);
+    return new CostEvaluator<>(individual, getContext(individual.getProblem()));
   }
 
   @Override
@@ -16,6 +16,10 @@ public class DurationEvaluator<GENE extends Number> extends BaseScheduleEvaluato
     super(individual);
   }
 
+  public DurationEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context) {
+    super(individual, context);
+  }
+
   /**
    * Duration of the individual
    *
@@ -28,7 +32,7 @@ public class DurationEvaluator<GENE extends Number> extends BaseScheduleEvaluato
 
   @Override
   public BaseEvaluator getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new DurationEvaluator<>(individual);
+    return new DurationEvaluator<>(individual, getContext(individual.getProblem()));
   }
 
   @Override
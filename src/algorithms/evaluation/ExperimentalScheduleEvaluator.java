@@ -18,7 +18,10 @@ public class ExperimentalScheduleEvaluator<GENE extends Number> extends BaseSche
 
   public ExperimentalScheduleEvaluator(BaseIndividual<GENE, Schedule> individual) {
     super(individual);
-    setMaxValues();
+  }
+
+  public ExperimentalScheduleEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context) {
+    super(individual, context);
   }
 
   @Override
@@ -42,13 +45,13 @@ public class ExperimentalScheduleEvaluator<GENE extends Number> extends BaseSche
   }
 
   @Override
-  public double[] getNormalObjectives() {
+  public double[] getNormalObjectives(double[] objectives) {
     // TODO: - get min cost / duration ?
-    double[] objectives = new double[3];
-    objectives[0] = getDuration() / maxDuration;
-    objectives[1] = getCost() / maxCost;
-    objectives[2] = getSkillOveruse() / maxSkillOveruse;
-    return objectives;
+    double[] normalObjectives = new double[3];
+    normalObjectives[0] = objectives[0] / maxDuration;
+    normalObjectives[1] = objectives[1] / maxCost;
+    normalObjectives[2] = objectives[2] / maxSkillOveruse;
+    return normalObjectives;
   }
 
   /**
@@ -105,7 +108,7 @@ public class ExperimentalScheduleEvaluator<GENE extends Number> extends BaseSche
 
   @Override
   public ExperimentalScheduleEvaluator getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new ExperimentalScheduleEvaluator<>(individual);
+    return new ExperimentalScheduleEvaluator<>(individual, getContext(individual.getProblem()));
   }
 
   @Override
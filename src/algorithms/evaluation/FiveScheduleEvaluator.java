@@ -15,7 +15,10 @@ public class FiveScheduleEvaluator<GENE extends Number> extends BaseScheduleEval
 
   public FiveScheduleEvaluator(BaseIndividual<GENE, Schedule> individual) {
     super(individual);
-    setMaxValues();
+  }
+
+  public FiveScheduleEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context) {
+    super(individual, context);
   }
 
   @Override
@@ -34,26 +37,20 @@ public class FiveScheduleEvaluator<GENE extends Number> extends BaseScheduleEval
   @Override
   public double[] getObjectives() {
     double[] objectives = new double[5];
-    double duration = getDuration();
-    objectives[0] = duration;
-    objectives[1] = getCost();
-    objectives[2] = getAverageCashFlowDeviation(duration);
-    objectives[3] = getSkillOveruse();
-    objectives[4] = getAverageUseOfResourceTime();
+    evaluateObjectives(objectives, null);
     return objectives;
   }
 
   @Override
-  public double[] getNormalObjectives() {
+  public double[] getNormalObjectives(double[] objectives) {
     // TODO: - get min cost / duration ?
-    double[] objectives = new double[5];
-    double duration = getDuration();
-    objectives[0] = duration / maxDuration;
-    objectives[1] = getCost() / maxCost;
-    objectives[2] = getAverageCashFlowDeviation(duration) / maxAverageCashFlowDeviation;
-    objectives[3] = getSkillOveruse() / maxSkillOveruse;
-    objectives[4] = getAverageUseOfResourceTime() / maxUseOfResourceTime;
-    return objectives;
+    double[] normalObjectives = new double[5];
+    normalObjectives[0] = objectives[0] / maxDuration;
+    normalObjectives[1] = objectives[1] / maxCost;
+    normalObjectives[2] = objectives[2] / maxAverageCashFlowDeviation;
+    normalObjectives[3] = objectives[3] / maxSkillOveruse;
+    normalObjectives[4] = objectives[4] / maxUseOfResourceTime;
+    return normalObjectives;
   }
 
   /**
@@ -118,7 +115,7 @@ public class FiveScheduleEvaluator<GENE extends Number> extends BaseScheduleEval
 
   @Override
   public FiveScheduleEvaluator getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new FiveScheduleEvaluator<>(individual);
+    return new FiveScheduleEvaluator<>(individual, getContext(individual.getProblem()));
   }
 
   @Override
@@ -14,7 +14,10 @@ public class FourScheduleEvaluator<GENE extends Number> extends BaseScheduleEval
 
   public FourScheduleEvaluator(BaseIndividual<GENE, Schedule> individual) {
     super(individual);
-    setMaxValues();
+  }
+
+  public FourScheduleEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context) {
+    super(individual, context);
   }
 
   @Override
@@ -32,24 +35,19 @@ public class FourScheduleEvaluator<GENE extends Number> extends BaseScheduleEval
   @Override
   public double[] getObjectives() {
     double[] objectives = new double[4];
-    double duration = getDuration();
-    objectives[0] = duration;
-    objectives[1] = getCost();
-    objectives[2] = getAverageCashFlowDeviation(duration);
-    objectives[3] = getSkillOveruse();
+    evaluateObjectives(objectives, null);
     return objectives;
   }
 
   @Override
-  public double[] getNormalObjectives() {
+  public double[] getNormalObjectives(double[] objectives) {
     // TODO: - get min cost / duration ?
-    double[] objectives = new double[4];
-    double duration = getDuration();
-    objectives[0] = duration / maxDuration;
-    objectives[1] = getCost() / maxCost;
-    objectives[2] = getAverageCashFlowDeviation(duration) / maxAverageCashFlowDeviation;
-    objectives[3] = getSkillOveruse() / maxSkillOveruse;
-    return objectives;
+    double[] normalObjectives = new double[4];
+    normalObjectives[0] = objectives[0] / maxDuration;
+    normalObjectives[1] = objectives[1] / maxCost;
+    normalObjectives[2] = objectives[2] / maxAverageCashFlowDeviation;
+    normalObjectives[3] = objectives[3] / maxSkillOveruse;
+    return normalObjectives;
   }
 
   /**
@@ -110,7 +108,7 @@ public class FourScheduleEvaluator<GENE extends Number> extends BaseScheduleEval
 
   @Override
   public FourScheduleEvaluator getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new FourScheduleEvaluator<>(individual);
+    return new FourScheduleEvaluator<>(individual, getContext(individual.getProblem()));
   }
 
   @Override
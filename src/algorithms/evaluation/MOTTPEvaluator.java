@@ -41,13 +41,18 @@ public class MOTTPEvaluator<GENE extends Number> extends BaseTTPEvaluator<GENE>
 
   @Override
   public double[] getNormalObjectives() {
-    double[] objectives = getObjectives();
+    return getNormalObjectives(getObjectives());
+  }
+
+  @Override
+  public double[] getNormalObjectives(double[] objectives) {
+    double[] normalObjectives = new double[2];
     TTP problem = individual.getProblem();
 
-    objectives[0] /= (problem.getMaxTravellingTime() - problem.getMinTravellingTime());
-    objectives[1] /= problem.getMaxProfit();
+    normalObjectives[0] = objectives[0] / (problem.getMaxTravellingTime() - problem.getMinTravellingTime());
+    normalObjectives[1] = objectives[1] / problem.getMaxProfit();
 
-    return objectives;
+    return normalObjectives;
   }
 
   @Override
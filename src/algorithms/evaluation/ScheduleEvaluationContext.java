@@ -0,0 +1,136 @@
+package algorithms.evaluation;
+
+import algorithms.problem.scheduling.CompiledSchedule;
+import algorithms.problem.scheduling.Resource;
+import algorithms.problem.scheduling.Schedule;
+import algorithms.problem.scheduling.Skill;
+import algorithms.problem.scheduling.Task;
+
+import java.util.Arrays;
+
+/**
+ * Bounds of the schedule objectives, which depend only on the instance.
+ * Computed once and shared by evaluators of all individuals built on
+ * copies of the same compiled schedule, so creating an evaluator for
+ * a new individual does not scan tasks and resources again.
+ */
+public final class ScheduleEvaluationContext {
+
+  private final Schedule schedule;
+  private final CompiledSchedule compiled;
+
+  private final double minDuration;
+  private final double maxDuration;
+  private final double minCost;
+  private final double maxCost;
+  private final double maxSkillOveruse;
+  private final double maxUseOfResourceTime;
+
+  public ScheduleEvaluationContext(Schedule schedule) {
+    this.schedule = schedule;
+    this.compiled = schedule.getCompiled();
+    Task[] tasks = schedule.getTasks();
+    Resource[] resources = schedule.getResources();
+
+    // Duration of the shortest task times number tasks divided by number of resources
+    Task shortest = tasks[0];
+    for (Task t : tasks) {
+      if (t.getDuration() < shortest.getDuration()) {
+        shortest = t;
+      }
+    }
+    minDuration = (shortest.getDuration() * tasks.length) / (double)resources.length;
+
+    int duration = 0;
+    for (Task t : tasks) {
+      duration += t.getDuration();
+    }
+    maxDuration = duration;
+
+    // cost of all tasks as if the least / the most expensive resource would work on them
+    Resource cheapest = resources[0];
+    Resource mostExpensive = resources[0];
+    for (Resource r : resources) {
+      if (r.getSalary() < cheapest.getSalary()) {
+        cheapest = r;
+      }
+      if (r.getSalary() > mostExpensive.getSalary()) {
+        mostExpensive = r;
+      }
+    }
+    int cost = 0;
+    for (Task t : tasks) {
+      cost += (t.getDuration() * cheapest.getSalary());
+    }
+    minCost = cost;
+    cost = 0;
+    for (Task t : tasks) {
+      cost += (t.getDuration() * mostExpensive.getSalary());
+    }
+    maxCost = cost;
+
+    maxSkillOveruse = compiled != null ? compiled.getMaxSkillOveruse() : getMaxSkillOveruse(tasks, resources);
+
+    double expectedUsedTime = maxDuration / (double) resources.length;
+    maxUseOfResourceTime = expectedUsedTime * (resources.length - 1);
+  }
+
+  private static double getMaxSkillOveruse(Task[] tasks, Resource[] resources) {
+    double maxOveruse = 0.0d;
+    for (Task t : tasks) {
+      for (Skill tSkill : t.getRequiredSkills()) {
+
+        int maxLevel = 0;
+        for (Resource r : resources) {
+          Skill rSkill = Arrays.stream(r.getSkills()).filter(s -> s.getType().equals(tSkill.getType())).findFirst().orElse(null);
+          if (rSkill != null && rSkill.getLevel() > maxLevel) {
+            maxLevel = rSkill.getLevel();
+          }
+        }
+        maxOveruse += maxLevel - tSkill.getLevel();
+
+      }
+    }
+    return maxOveruse;
+  }
+
+  /**
+   * Checks if the bounds may be used for the schedule. Schedules without
+   * a compiled instance only match the schedule the bounds were computed for.
+   *
+   * @param schedule schedule to check
+   * @return true if the schedule is a copy of the same instance
+   */
+  public boolean isFor(Schedule schedule) {
+    return schedule == this.schedule || (compiled != null && schedule.getCompiled() == compiled);
+  }
+
+  public double getMinDuration() {
+    return minDuration;
+  }
+
+  public double getMaxDuration() {
+    return maxDuration;
+  }
+
+  public double getMinCost() {
+    return minCost;
+  }
+
+  public double getMaxCost() {
+    return maxCost;
+  }
+
+  public double getMaxAverageCashFlowDeviation() {
+    return maxCost;
+  }
+
+  public double getMaxSkillOveruse() {
+    return maxSkillOveruse;
+  }
+
+  public double getMaxUseOfResourceTime() {
+    return maxUseOfResourceTime;
+  }
+
+}
@@ -16,6 +16,10 @@ public class SkillOveruseEvaluator<GENE extends Number> extends BaseScheduleEval
     super(individual);
   }
 
+  public SkillOveruseEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context) {
+    super(individual, context);
+  }
+
   /**
    * Duration of the individual
    *
@@ -28,7 +32,7 @@ public class SkillOveruseEvaluator<GENE extends Number> extends BaseScheduleEval
 
   @Override
   public BaseScheduleEvaluator<GENE> getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new SkillOveruseEvaluator<>(individual);
+    return new SkillOveruseEvaluator<>(individual, getContext(individual.getProblem()));
   }
 
   @Override
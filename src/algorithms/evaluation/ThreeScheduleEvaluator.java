@@ -13,7 +13,10 @@ public class ThreeScheduleEvaluator<GENE extends Number> extends BaseScheduleEva
 
   public ThreeScheduleEvaluator(BaseIndividual<GENE, Schedule> individual) {
     super(individual);
-    setMaxValues();
+  }
+
+  public ThreeScheduleEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context) {
+    super(individual, context);
   }
 
   @Override
@@ -30,22 +33,18 @@ public class ThreeScheduleEvaluator<GENE extends Number> extends BaseScheduleEva
   @Override
   public double[] getObjectives() {
     double[] objectives = new double[3];
-    double duration = getDuration();
-    objectives[0] = duration;
-    objectives[1] = getCost();
-    objectives[2] = getAverageCashFlowDeviation(duration);
+    evaluateObjectives(objectives, null);
     return objectives;
   }
 
   @Override
-  public double[] getNormalObjectives() {
+  public double[] getNormalObjectives(double[] objectives) {
     // TODO: - get min cost / duration ?
-    double[] objectives = new double[3];
-    double duration = getDuration();
-    objectives[0] = duration / maxDuration;
-    objectives[1] = getCost() / maxCost;
-    objectives[2] = getAverageCashFlowDeviation(duration) / maxAverageCashFlowDeviation;
-    return objectives;
+    double[] normalObjectives = new double[3];
+    normalObjectives[0] = objectives[0] / maxDuration;
+    normalObjectives[1] = objectives[1] / maxCost;
+    normalObjectives[2] = objectives[2] / maxAverageCashFlowDeviation;
+    return normalObjectives;
   }
 
   /**
@@ -102,7 +101,7 @@ public class ThreeScheduleEvaluator<GENE extends Number> extends BaseScheduleEva
 
   @Override
   public ThreeScheduleEvaluator getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new ThreeScheduleEvaluator<>(individual);
+    return new ThreeScheduleEvaluator<>(individual, getContext(individual.getProblem()));
   }
 
   @Override
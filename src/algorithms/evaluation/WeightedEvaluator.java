@@ -27,6 +27,11 @@ public class WeightedEvaluator<GENE extends Number> extends BaseScheduleEvaluato
     this.evalRate = evalRate;
   }
 
+  public WeightedEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context, double evalRate) {
+    super(individual, context);
+    this.evalRate = evalRate;
+  }
+
   @Override
   public double evaluate() {
     if (evalRate > 1 || evalRate < 0) {
@@ -40,7 +45,7 @@ public class WeightedEvaluator<GENE extends Number> extends BaseScheduleEvaluato
 
   @Override
   public BaseEvaluator getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new WeightedEvaluator<GENE>(individual, evalRate);
+    return new WeightedEvaluator<GENE>(individual, getContext(individual.getProblem()), evalRate);
   }
 
   @Override
@@ -16,7 +16,11 @@ public class WeightedFiveScheduelEvaluator<GENE extends Number> extends FiveSche
 
   public WeightedFiveScheduelEvaluator(BaseIndividual<GENE, Schedule> individual, double[] evalRates) {
     super(individual);
-    setMaxValues();
+    this.evalRates = evalRates;
+  }
+
+  public WeightedFiveScheduelEvaluator(BaseIndividual<GENE, Schedule> individual, ScheduleEvaluationContext context, double[] evalRates) {
+    super(individual, context);
     this.evalRates = evalRates;
   }
 
@@ -44,7 +48,7 @@ public class WeightedFiveScheduelEvaluator<GENE extends Number> extends FiveSche
 
   @Override
   public FiveScheduleEvaluator getCopy(BaseIndividual<GENE, Schedule> individual) {
-    return new WeightedFiveScheduelEvaluator<>(individual, evalRates);
+    return new WeightedFiveScheduelEvaluator<>(individual, getContext(individual.getProblem()), evalRates);
   }
 
   @Override
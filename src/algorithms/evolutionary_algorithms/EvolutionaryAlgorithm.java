@@ -1,10 +1,15 @@
 package algorithms.evolutionary_algorithms;
 
+import algorithms.evolutionary_algorithms.migration_scheme.IslandChannel;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
+import algorithms.evolutionary_algorithms.util.BiObjectiveParetoArchive;
 import algorithms.problem.BaseIndividual;
 import algorithms.problem.BaseProblemRepresentation;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Base class for evolutionary algorithms.
@@ -18,6 +23,57 @@ public class EvolutionaryAlgorithm<GENE extends Number, PROBLEM extends BaseProb
   // limits max number of generations
   protected int generationLimit;
 
+  // set when the algorithm runs as an island of IslandModel
+  protected IslandChannel<GENE> islandChannel;
+
+  private static final int MIN_POPULATION_SIZE_FOR_ARCHIVE_INDEX = 16;
+
+  // sorted index of the list updated by the last bi-objective removeDuplicatesAndDominated,
+  // valid while the list holds the same individuals as the snapshot
+  private BiObjectiveParetoArchive<GENE, PROBLEM> archiveIndex;
+  private List<BaseIndividual<GENE, PROBLEM>> archiveIndexTarget;
+  private List<BaseIndividual<GENE, PROBLEM>> archiveIndexSnapshot;
+
+  public void setIslandChannel(IslandChannel<GENE> islandChannel) {
+    this.islandChannel = islandChannel;
+  }
+
+  /**
+   * Every migration interval sends members of the archive, spread along
+   * the first objective, to the neighbouring islands. Migrants received
+   * from the neighbours are built on the problem of this algorithm.
+   * Building a migrant is an evaluation, so the caller charges it to
+   * the budget before adding migrants to the archive.
+   *
+   * @param generation current generation number
+   * @param archive archive of non-dominated individuals
+   * @return built migrants, empty if none arrived
+   */
+  protected List<BaseIndividual<GENE, PROBLEM>> exchangeMigrants(int generation,
+                                                                List<BaseIndividual<GENE, PROBLEM>> archive) {
+    if (islandChannel == null) {
+      return new ArrayList<>();
+    }
+    if (islandChannel.isMigrationGeneration(generation) && !archive.isEmpty()) {
+      List<BaseIndividual<GENE, PROBLEM>> sorted = archive.stream()
+          .sorted((o1, o2) -> o1.compareTo(o2, 0)).collect(Collectors.toList());
+      int numEmigrants = Math.min(islandChannel.getMigrationSize(), sorted.size());
+      List<List<GENE>> emigrants = new ArrayList<>(numEmigrants);
+      for (int i = 0; i < numEmigrants; ++i) {
+        emigrants.add(sorted.get((int) ((long) i * sorted.size() / numEmigrants)).getGenes());
+      }
+      islandChannel.emigrate(emigrants);
+    }
+
+    List<List<GENE>> immigrantGenes = islandChannel.immigrate();
+    List<BaseIndividual<GENE, PROBLEM>> immigrants = new ArrayList<>(immigrantGenes.size());
+    for (List<GENE> genes : immigrantGenes) {
+      immigrants.add(new BaseIndividual<>(problem, genes, parameters.evaluator));
+    }
+    BatchEvaluation.buildSolutions(immigrants, parameters);
+    return immigrants;
+  }
+
   protected List<BaseIndividual<GENE, PROBLEM>> removeDuplicates(
       List<BaseIndividual<GENE, PROBLEM>> allIndividuals) {
     List<BaseIndividual<GENE, PROBLEM>> allIndividualsNoDuplicates = new ArrayList<>();
@@ -32,6 +88,14 @@ public class EvolutionaryAlgorithm<GENE extends Number, PROBLEM extends BaseProb
   public int removeDuplicatesAndDominated(
           List<BaseIndividual<GENE, PROBLEM>> population,
           List<BaseIndividual<GENE, PROBLEM>> allIndividuals) {
+    if (population.size() >= MIN_POPULATION_SIZE_FOR_ARCHIVE_INDEX
+        && BiObjectiveParetoArchive.isBiObjective(population) && BiObjectiveParetoArchive.isBiObjective(allIndividuals)) {
+      int counter = removeDuplicatesAndDominatedBiObjective(population, allIndividuals);
+      if (counter >= 0) {
+        return counter;
+      }
+    }
+
     int counter = 0;
     for (BaseIndividual<GENE, PROBLEM> individual : population) {
       boolean dominated = false;
@@ -61,9 +125,84 @@ public class EvolutionaryAlgorithm<GENE extends Number, PROBLEM extends BaseProb
     return counter;
   }
 
+  /**
+   * Same as the linear <code>removeDuplicatesAndDominated</code>, including the counter
+   * and the order of <code>allIndividuals</code>, but checks candidates against
+   * a sorted bi-objective archive. The archive is kept for the next call on the same
+   * list, unless the list is changed elsewhere in the meantime.
+   *
+   * @return number of changes, or -1 if <code>allIndividuals</code> is not
+   * a Pareto front without duplicates and nothing was changed
+   */
+  private int removeDuplicatesAndDominatedBiObjective(
+      List<BaseIndividual<GENE, PROBLEM>> population,
+      List<BaseIndividual<GENE, PROBLEM>> allIndividuals) {
+    BiObjectiveParetoArchive<GENE, PROBLEM> archive = getArchiveIndex(allIndividuals);
+    if (archive == null) {
+      return -1;
+    }
+    // the archive changes below, so it is valid again only with the new snapshot
+    archiveIndex = null;
+
+    int counter = 0;
+    List<BaseIndividual<GENE, PROBLEM>> added = new ArrayList<>();
+    for (BaseIndividual<GENE, PROBLEM> individual : population) {
+      int changes = archive.add(individual);
+      if (changes > 0) {
+        counter += changes;
+        added.add(individual);
+      }
+    }
+    allIndividuals.removeIf(individual -> !archive.contains(individual));
+    for (BaseIndividual<GENE, PROBLEM> individual : added) {
+      if (archive.contains(individual)) {
+        allIndividuals.add(individual);
+      }
+    }
+    archiveIndex = archive;
+    archiveIndexTarget = allIndividuals;
+    archiveIndexSnapshot = new ArrayList<>(allIndividuals);
+    return counter;
+  }
+
+  /**
+   * Returns the archive of the last call if the list still holds the same individuals,
+   * which takes linear time, otherwise builds a new one in O(n log n).
+   *
+   * @return archive of the list, or null if it is not a Pareto front without duplicates
+   */
+  private BiObjectiveParetoArchive<GENE, PROBLEM> getArchiveIndex(List<BaseIndividual<GENE, PROBLEM>> allIndividuals) {
+    if (archiveIndex != null && allIndividuals == archiveIndexTarget && isSameIndividuals(allIndividuals, archiveIndexSnapshot)) {
+      return archiveIndex;
+    }
+    BiObjectiveParetoArchive<GENE, PROBLEM> archive = new BiObjectiveParetoArchive<>();
+    for (BaseIndividual<GENE, PROBLEM> individual : allIndividuals) {
+      if (archive.add(individual) != 1) {
+        return null;
+      }
+    }
+    return archive;
+  }
+
+  private static boolean isSameIndividuals(List<? extends BaseIndividual> first, List<? extends BaseIndividual> second) {
+    if (first.size() != second.size()) {
+      return false;
+    }
+    Iterator<? extends BaseIndividual> iterator = second.iterator();
+    for (BaseIndividual individual : first) {
+      if (individual != iterator.next()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   // TODO: probably should be in a more generic place, it is also used by measures and now by mutation
   protected List<BaseIndividual<GENE, PROBLEM>> getNondominated(
       List<BaseIndividual<GENE, PROBLEM>> population) {
+    if (BiObjectiveParetoArchive.isBiObjective(population)) {
+      return BiObjectiveParetoArchive.getNondominated(population);
+    }
 
     List<BaseIndividual<GENE, PROBLEM>> nondominatedSolutions = new ArrayList<>();
 
@@ -13,6 +13,8 @@ import algorithms.problem.BaseProblemRepresentation;
 import algorithms.problem.scheduling.schedule_builders.ScheduleBuilder;
 import util.random.RandomBase;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * A helper class containing a set of parameters required
  * for evolutionary algorithms.
@@ -62,5 +64,10 @@ public class ParameterSet<GENE extends Number, PROBLEM extends BaseProblemRepres
   public BaseSelection<GENE, PROBLEM> selection;
   public BaseMigration<GENE, PROBLEM> migration;
   public ScheduleBuilder scheduleBuilder;
+  // pool building and evaluating offspring in parallel, i.e. a ForkJoinPool
+  // or a virtual thread executor, offspring are built on the calling thread if null;
+  // it is not used with a constraintPreserver, which draws its own random numbers
+  // in the order of the offspring; runners set BatchEvaluation.getPool()
+  public ExecutorService evaluationPool;
 
 }
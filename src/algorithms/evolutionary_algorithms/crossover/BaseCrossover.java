@@ -23,4 +23,24 @@ abstract public class BaseCrossover<GENE extends Number, PROBLEM extends BasePro
 
   abstract public List<List<GENE>> crossover(double TSPcr, double KNAPcr, List<GENE> firstParent, List<GENE> secondParent, ParameterSet<GENE, PROBLEM> parameters);
 
+  /**
+   * Crosses over consecutive pairs of parents, drawing the same random numbers
+   * as crossing over the pairs one by one. Children are appended to the given list,
+   * which may be reused between batches.
+   *
+   * @param TSPcr cross over rate of the TSP part
+   * @param KNAPcr cross over rate of the KNAP part
+   * @param parents genes of parents, pairs are at even and following odd indices
+   * @param children list the children genes are added to
+   * @param parameters set of parameters
+   * @return list of children genes
+   */
+  public List<List<GENE>> crossoverAll(double TSPcr, double KNAPcr, List<List<GENE>> parents,
+                                       List<List<GENE>> children, ParameterSet<GENE, PROBLEM> parameters) {
+    for (int i = 0; i + 1 < parents.size(); i += 2) {
+      children.addAll(crossover(TSPcr, KNAPcr, parents.get(i), parents.get(i + 1), parameters));
+    }
+    return children;
+  }
+
 }
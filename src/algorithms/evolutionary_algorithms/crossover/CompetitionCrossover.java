@@ -3,12 +3,20 @@ package algorithms.evolutionary_algorithms.crossover;
 import algorithms.evolutionary_algorithms.ParameterSet;
 import algorithms.problem.BaseProblemRepresentation;
 
-import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 
 public class CompetitionCrossover extends BaseCrossover<Integer, BaseProblemRepresentation> {
 
+  // most distinct neighbours of a city in two tours
+  private static final int MAX_NEIGHBOURS = 4;
+  // buckets of a default HashSet, which ordered neighbours drawn by the original edge crossover
+  private static final int HASH_SET_BUCKETS = 16;
+
+  private static final ThreadLocal<TSPWorkspace> WORKSPACES = ThreadLocal.withInitial(TSPWorkspace::new);
+
   @Override
   public List<List<Integer>> crossover(double cr, List<Integer> firstParent, List<Integer> secondParent, ParameterSet<Integer, BaseProblemRepresentation> parameters) {
     return null;
@@ -28,13 +36,30 @@ public class CompetitionCrossover extends BaseCrossover<Integer, BaseProblemRepr
   public List<List<Integer>> crossover(double TSPcr, double KNAPcr, List<Integer> firstParent,
                                        List<Integer> secondParent,
                                        ParameterSet<Integer, BaseProblemRepresentation> parameters) {
+    List<List<Integer>> result = new ArrayList<>(2);
+    addChildren(TSPcr, KNAPcr, firstParent, secondParent, parameters, result);
+    return result;
+  }
 
+  /**
+   * Adds the children straight to the given list, without a list for each pair.
+   */
+  @Override
+  public List<List<Integer>> crossoverAll(double TSPcr, double KNAPcr, List<List<Integer>> parents,
+                                          List<List<Integer>> children,
+                                          ParameterSet<Integer, BaseProblemRepresentation> parameters) {
+    for (int i = 0; i + 1 < parents.size(); i += 2) {
+      addChildren(TSPcr, KNAPcr, parents.get(i), parents.get(i + 1), parameters, children);
+    }
+    return children;
+  }
+
+  private void addChildren(double TSPcr, double KNAPcr, List<Integer> firstParent, List<Integer> secondParent,
+                           ParameterSet<Integer, BaseProblemRepresentation> parameters, List<List<Integer>> children) {
     CrossoverResult intermediateResult = null;
 
     if(parameters.TSPcrossoverVersion == 1) {
-      List<Integer> firstChild = new ArrayList<>(firstParent);
-      List<Integer> secondChild = new ArrayList<>(secondParent);
-      intermediateResult = indWiseEdgeCrossoverTSP(TSPcr, firstParent, secondParent, parameters, firstChild, secondChild);
+      intermediateResult = indWiseEdgeCrossoverTSP(TSPcr, firstParent, secondParent, parameters);
     } else if(parameters.TSPcrossoverVersion == 2) {
       intermediateResult = indWiseTwoOrSinglePointPMXCrossoverTSP(TSPcr, firstParent, secondParent, parameters, parameters.geneSplitPoint, false); // TWO point as the last param is true
     } else if(parameters.TSPcrossoverVersion == 3) {
@@ -57,11 +82,8 @@ public class CompetitionCrossover extends BaseCrossover<Integer, BaseProblemRepr
       indWiseTwoPointCrossoverKNAP(KNAPcr, firstParent, secondParent, parameters, intermediateResult);
     }
 
-    List<List<Integer>> result = new ArrayList<>();
-    result.add(intermediateResult.firstChild());
-    result.add(intermediateResult.secondChild());
-
-    return result;
+    children.add(intermediateResult.firstChild());
+    children.add(intermediateResult.secondChild());
   }
 
   private void printTSPGeneDifference(List<Integer> firstParent, List<Integer> secondParent, List<Integer> firstChild, List<Integer> secondChild, int geneSplitPoint) {
@@ -82,70 +104,62 @@ public class CompetitionCrossover extends BaseCrossover<Integer, BaseProblemRepr
     System.out.println(firstGenesName + " X " + secondGenesName + " TSP common genes: " + commonGenes);
   }
 
-  private CrossoverResult indWiseCXCrossoverTSP(double TSPcr, List<Integer> firstParent, List<Integer> secondParent, ParameterSet<Integer, BaseProblemRepresentation> parameters, int geneSplitPoint) {
-        if (parameters.random.nextDouble() > TSPcr) {
-            return new CrossoverResult(new ArrayList<>(firstParent), new ArrayList<>(secondParent));
-        }
-
-        int size = firstParent.size();
-
-        List<Integer> offspring1 = new ArrayList<>(Collections.nCopies(size, -1));
-        List<Integer> offspring2 = new ArrayList<>(Collections.nCopies(size, -1));
-
-        // Perform Cycle Crossover
-        int currentCityIndex = 0;
-        boolean cycleNotReached = true;
-        while (offspring1.contains(-1) && cycleNotReached && currentCityIndex < geneSplitPoint) {
-            if (offspring1.get(currentCityIndex) == -1) {
-                offspring1.set(currentCityIndex, firstParent.get(currentCityIndex));
-            }
-
-            int nextCity = secondParent.get(currentCityIndex);
-            currentCityIndex = firstParent.indexOf(nextCity);
 
-            cycleNotReached = !offspring1.contains(nextCity);
-        }
-
-        currentCityIndex = 0;
-        cycleNotReached = true;
-        while (offspring2.contains(-1) && cycleNotReached && currentCityIndex < geneSplitPoint) {
-          if (offspring2.get(currentCityIndex) == -1) {
-            offspring2.set(currentCityIndex, secondParent.get(currentCityIndex));
-          }
+  private CrossoverResult indWiseCXCrossoverTSP(double TSPcr, List<Integer> firstParent, List<Integer> secondParent, ParameterSet<Integer, BaseProblemRepresentation> parameters, int geneSplitPoint) {
+    if (parameters.random.nextDouble() > TSPcr) {
+      return new CrossoverResult(new ArrayList<>(firstParent), new ArrayList<>(secondParent));
+    }
 
-          int nextCity = firstParent.get(currentCityIndex);
-          currentCityIndex = secondParent.indexOf(nextCity);
+    TSPWorkspace workspace = WORKSPACES.get();
+    workspace.load(firstParent, secondParent, geneSplitPoint);
+    cycleChild(workspace.firstParent, workspace.secondParent, workspace.firstPositions, workspace.firstChild,
+        workspace.visited, geneSplitPoint, firstParent.size());
+    cycleChild(workspace.secondParent, workspace.firstParent, workspace.secondPositions, workspace.secondChild,
+        workspace.visited, geneSplitPoint, secondParent.size());
 
-          cycleNotReached = !offspring2.contains(nextCity);
-        }
+    return new CrossoverResult(workspace.toChild(workspace.firstChild, firstParent),
+        workspace.toChild(workspace.secondChild, secondParent));
+  }
 
-        // Fill in the remaining positions with cities from the second parent
-        for (int i = 0; i < geneSplitPoint; i++) {
-            if (!offspring1.contains(secondParent.get(i))) {
-                offspring1.set(i, secondParent.get(i));
-            }
+  /**
+   * Copies the cycle starting at the first city from the parent
+   * and the remaining cities from the other parent.
+   */
+  private static void cycleChild(int[] parent, int[] otherParent, int[] parentPositions, int[] child,
+                                 BitSet visited, int geneSplitPoint, int size) {
+    Arrays.fill(child, 0, geneSplitPoint, -1);
+    visited.clear();
+    // genes of the KNAP section are filled in at the end
+    int missingGenes = size;
+
+    int currentCityIndex = 0;
+    boolean cycleNotReached = true;
+    while (missingGenes > 0 && cycleNotReached && currentCityIndex < geneSplitPoint) {
+      if (child[currentCityIndex] == -1) {
+        child[currentCityIndex] = parent[currentCityIndex];
+        visited.set(parent[currentCityIndex]);
+        --missingGenes;
+      }
 
-            if (!offspring2.contains(firstParent.get(i))) {
-                offspring2.set(i, firstParent.get(i));
-            }
-        }
+      int nextCity = otherParent[currentCityIndex];
+      currentCityIndex = parentPositions[nextCity];
 
-        // fill up the KNAP section
-        for(int i = geneSplitPoint; i < size; i++) {
-            offspring1.set(i, firstParent.get(i));
-            offspring2.set(i, secondParent.get(i));
-        }
+      cycleNotReached = !visited.get(nextCity);
+    }
 
-        return new CrossoverResult(offspring1, offspring2);
+    for (int i = 0; i < geneSplitPoint; i++) {
+      if (!visited.get(otherParent[i])) {
+        child[i] = otherParent[i];
+        visited.set(otherParent[i]);
+      }
     }
+  }
 
   private CrossoverResult indWiseOXCrossoverTSP(double TSPcr, List<Integer> firstParent, List<Integer> secondParent, ParameterSet<Integer, BaseProblemRepresentation> parameters, int geneSplitPoint, boolean isSinglePoint) {
     if (parameters.random.nextDouble() > TSPcr) {
       return new CrossoverResult(new ArrayList<>(firstParent), new ArrayList<>(secondParent));
     }
 
-    int size = firstParent.size();
-
     // Determine the two crossover points
     int point1 = parameters.random.nextInt(geneSplitPoint);
     int point2 = parameters.random.nextInt(geneSplitPoint);
@@ -155,44 +169,39 @@ public class CompetitionCrossover extends BaseCrossover<Integer, BaseProblemRepr
       start = 0;
     }
 
-    List<Integer> offspring1 = new ArrayList<>(Collections.nCopies(size, -1));
-    List<Integer> offspring2 = new ArrayList<>(Collections.nCopies(size, -1));
+    TSPWorkspace workspace = WORKSPACES.get();
+    workspace.load(firstParent, secondParent, geneSplitPoint);
+    orderChild(workspace.firstParent, workspace.secondParent, workspace.firstChild, workspace.visited,
+        geneSplitPoint, start, end);
+    orderChild(workspace.secondParent, workspace.firstParent, workspace.secondChild, workspace.visited,
+        geneSplitPoint, start, end);
 
-    // Copy segment from parents to offspring
-    for (int i = start; i <= end; i++) {
-      offspring1.set(i, secondParent.get(i));
-      offspring2.set(i, firstParent.get(i));
-    }
+    return new CrossoverResult(workspace.toChild(workspace.firstChild, firstParent),
+        workspace.toChild(workspace.secondChild, secondParent));
+  }
 
-    // Fill in the remaining positions with cities from the first parent
-    for (int i = end + 1, j = end + 1; i != start; ) {
-      i %= geneSplitPoint;
-      j %= geneSplitPoint;
-      if (!offspring1.contains(firstParent.get(j))) {
-        offspring1.set(i, firstParent.get(j));
-        i += 1;
-      }
-      j += 1;
+  /**
+   * Copies the segment from the other parent and fills the remaining positions,
+   * starting after the segment, with cities of the parent in their order.
+   */
+  private static void orderChild(int[] parent, int[] otherParent, int[] child, BitSet visited,
+                                 int geneSplitPoint, int start, int end) {
+    visited.clear();
+    for (int i = start; i <= end; i++) {
+      child[i] = otherParent[i];
+      visited.set(otherParent[i]);
     }
 
-    // Fill in the remaining positions with cities from the second parent
-    for (int i = end + 1, j = end + 1; i != start; ) {
-      i %= geneSplitPoint;
-      j %= geneSplitPoint;
-      if (!offspring2.contains(secondParent.get(j))) {
-        offspring2.set(i, secondParent.get(j));
-        i += 1;
+    int remainingCities = geneSplitPoint - (end - start + 1);
+    for (int k = 0, j = (end + 1) % geneSplitPoint; k < remainingCities; ++k) {
+      while (visited.get(parent[j])) {
+        j = (j + 1) % geneSplitPoint;
       }
-      j += 1;
+      int i = (end + 1 + k) % geneSplitPoint;
+      child[i] = parent[j];
+      visited.set(parent[j]);
+      j = (j + 1) % geneSplitPoint;
     }
-
-    // fill up the rest
-    for(int i = geneSplitPoint; i < size; i++) {
-      offspring1.set(i, firstParent.get(i));
-      offspring2.set(i, secondParent.get(i));
-    }
-
-    return new CrossoverResult(offspring1, offspring2);
   }
 
   private CrossoverResult indWiseTwoOrSinglePointPMXCrossoverTSP(double TSPcr, List<Integer> firstParent, List<Integer> secondParent, ParameterSet<Integer, BaseProblemRepresentation> parameters, int geneSplitPoint, boolean isSinglePoint) {
@@ -200,8 +209,6 @@ public class CompetitionCrossover extends BaseCrossover<Integer, BaseProblemRepr
       return new CrossoverResult(new ArrayList<>(firstParent), new ArrayList<>(secondParent));
     }
 
-    int size = firstParent.size();
-
     // Determine the two crossover points
     int point1 = parameters.random.nextInt(geneSplitPoint);
     int point2 = parameters.random.nextInt(geneSplitPoint);
@@ -211,45 +218,44 @@ public class CompetitionCrossover extends BaseCrossover<Integer, BaseProblemRepr
       start = 0;
     }
 
-    List<Integer> offspring1 = new ArrayList<>(Collections.nCopies(size, -1));
-    List<Integer> offspring2 = new ArrayList<>(Collections.nCopies(size, -1));
+    TSPWorkspace workspace = WORKSPACES.get();
+    workspace.load(firstParent, secondParent, geneSplitPoint);
+    partiallyMappedChild(workspace.firstParent, workspace.secondParent, workspace.secondPositions,
+        workspace.firstChild, geneSplitPoint, start, end);
+    partiallyMappedChild(workspace.secondParent, workspace.firstParent, workspace.firstPositions,
+        workspace.secondChild, geneSplitPoint, start, end);
+
+    return new CrossoverResult(workspace.toChild(workspace.firstChild, firstParent),
+        workspace.toChild(workspace.secondChild, secondParent));
+  }
 
-    // Copy segment from parents to offspring
+  /**
+   * Copies the segment from the other parent, places cities of the other parent
+   * from outside the segment at positions mapped through the segment
+   * and fills the rest from the parent.
+   */
+  private static void partiallyMappedChild(int[] parent, int[] otherParent, int[] otherParentPositions,
+                                           int[] child, int geneSplitPoint, int start, int end) {
+    Arrays.fill(child, 0, geneSplitPoint, -1);
     for (int i = start; i <= end; i++) {
-      offspring1.set(i, secondParent.get(i));
-      offspring2.set(i, firstParent.get(i));
+      child[i] = otherParent[i];
     }
 
-    // Fill in the remaining positions with mappings
     for (int i = 0; i < geneSplitPoint; i++) {
       if (i < start || i > end) {
-        int index1 = secondParent.indexOf(firstParent.get(i));
-        int index2 = firstParent.indexOf(secondParent.get(i));
-
-        while (index1 >= start && index1 <= end) { // if the city existis in the already copid sequence
-          index1 = secondParent.indexOf(firstParent.get(index1));
+        int index = otherParentPositions[parent[i]];
+        while (index >= start && index <= end) { // if the city exists in the already copied sequence
+          index = otherParentPositions[parent[index]];
         }
-
-        while (index2 >= start && index2 <= end) {
-          index2 = firstParent.indexOf(secondParent.get(index2));
-        }
-
-        offspring1.set(index1, secondParent.get(i));
-        offspring2.set(index2, firstParent.get(i));
+        child[index] = otherParent[i];
       }
     }
 
-    // Fill in the remaining positions with non-mapped cities
-    for (int i = 0; i < size; i++) {
-      if (offspring1.get(i) == -1) {
-        offspring1.set(i, firstParent.get(i));
-      }
-      if (offspring2.get(i) == -1) {
-        offspring2.set(i, secondParent.get(i));
+    for (int i = 0; i < geneSplitPoint; i++) {
+      if (child[i] == -1) {
+        child[i] = parent[i];
       }
     }
-
-    return new CrossoverResult(offspring1, offspring2);
   }
 
   private static void indWiseTwoPointCrossoverKNAP(double KNAPcr, List<Integer> firstParent, List<Integer> secondParent, ParameterSet<Integer, BaseProblemRepresentation> parameters, CrossoverResult intermediateResult) {
@@ -311,92 +317,215 @@ public class CompetitionCrossover extends BaseCrossover<Integer, BaseProblemRepr
     }
   }
 
-  private CrossoverResult indWiseEdgeCrossoverTSP(double TSPcr, List<Integer> firstParent, List<Integer> secondParent, ParameterSet<Integer, BaseProblemRepresentation> parameters, List<Integer> firstChild, List<Integer> secondChild) {
+  private CrossoverResult indWiseEdgeCrossoverTSP(double TSPcr, List<Integer> firstParent, List<Integer> secondParent, ParameterSet<Integer, BaseProblemRepresentation> parameters) {
     // EDGE TSP
     if (parameters.random.nextDouble() < TSPcr) {
-      List<Set<Integer>> firstNeighbourhood = generateNeighbourhood(firstParent, secondParent, parameters);
-      List<Set<Integer>> secondNeighbourhood = copyNeighbourhood(firstNeighbourhood);
-      firstChild = getChild(firstChild, firstParent, secondParent, firstNeighbourhood, parameters);
-      secondChild = getChild(secondChild, secondParent, firstParent, secondNeighbourhood, parameters);
+      int numGenes = parameters.geneSplitPoint;
+      TSPWorkspace workspace = WORKSPACES.get();
+      workspace.load(firstParent, secondParent, numGenes);
+      workspace.generateNeighbourhood();
+      System.arraycopy(workspace.neighbours, 0, workspace.secondNeighbours, 0, numGenes * MAX_NEIGHBOURS);
+      System.arraycopy(workspace.neighbourCounts, 0, workspace.secondNeighbourCounts, 0, numGenes);
+      workspace.edgeChild(workspace.firstChild, workspace.firstParent[0], workspace.neighbours,
+          workspace.neighbourCounts, parameters);
+      workspace.edgeChild(workspace.secondChild, workspace.secondParent[0], workspace.secondNeighbours,
+          workspace.secondNeighbourCounts, parameters);
+      return new CrossoverResult(workspace.toChild(workspace.firstChild, firstParent),
+          workspace.toChild(workspace.secondChild, secondParent));
     }
-    CrossoverResult result = new CrossoverResult(firstChild, secondChild);
-    return result;
+    return new CrossoverResult(new ArrayList<>(firstParent), new ArrayList<>(secondParent));
   }
 
   private record CrossoverResult(List<Integer> firstChild, List<Integer> secondChild) {
   }
 
-  private List<Integer> getChild(List<Integer> child, List<Integer> firstParent, List<Integer> secondParent,
-                                 List<Set<Integer>> neighbourhood, ParameterSet<Integer, BaseProblemRepresentation> parameters) {
-    int numGenes = parameters.geneSplitPoint;
-    List<Integer> availableGenes = IntStream.rangeClosed(0, numGenes - 1)
-        .boxed().collect(Collectors.toList());
-    int x = firstParent.get(0);
-    availableGenes.remove(new Integer(x));
-    for (int i = 0; i < numGenes - 1; ++i) {
-      child.set(i, x);
-
-      removeFromNeighbourhood(x, neighbourhood);
-
-      if (neighbourhood.get(x).isEmpty()) {
-        x = availableGenes.get(parameters.random.nextInt(availableGenes.size()));
-        availableGenes.remove(new Integer(x));
-      } else {
-        Set<Integer> neighbourhoodOfX = neighbourhood.get(x);
-        int minSize = neighbourhoodOfX.stream().mapToInt(neighbour -> neighbourhood.get(neighbour).size()).min().orElse(0);
-        neighbourhoodOfX = neighbourhoodOfX.stream().filter(neighbour -> neighbourhood.get(neighbour).size() == minSize).collect(Collectors.toSet());
-        int random = parameters.random.nextInt(neighbourhoodOfX.size());
-        Iterator<Integer> iter = neighbourhoodOfX.iterator();
-        for (int j = 0; j < random; j++) {
-          iter.next();
-        }
-        x = iter.next();
+  /**
+   * Buffers of the TSP operators reused by every crossover on a thread.
+   * Cities of a tour are its genes before the split point, which are
+   * a permutation of numbers from 0 to the split point.
+   */
+  private static final class TSPWorkspace {
+
+    private int numCities;
+    private int[] firstParent = new int[0];
+    private int[] secondParent = new int[0];
+    // position of every city in the parents
+    private int[] firstPositions = new int[0];
+    private int[] secondPositions = new int[0];
+    private int[] firstChild = new int[0];
+    private int[] secondChild = new int[0];
+    // boxed cities of the parents, so children do not box them again
+    private Integer[] cities = new Integer[0];
+    private final BitSet visited = new BitSet();
+
+    // neighbours of every city in the order of adding, MAX_NEIGHBOURS per city
+    private int[] neighbours = new int[0];
+    private int[] neighbourCounts = new int[0];
+    private int[] secondNeighbours = new int[0];
+    private int[] secondNeighbourCounts = new int[0];
+    // Fenwick tree counting cities not yet in the child
+    private int[] availableCities = new int[0];
+    private final BitSet placed = new BitSet();
+    private final int[] candidates = new int[MAX_NEIGHBOURS];
+
+    private void load(List<Integer> first, List<Integer> second, int numCities) {
+      this.numCities = numCities;
+      if (firstParent.length < numCities) {
+        firstParent = new int[numCities];
+        secondParent = new int[numCities];
+        firstPositions = new int[numCities];
+        secondPositions = new int[numCities];
+        firstChild = new int[numCities];
+        secondChild = new int[numCities];
+        cities = new Integer[numCities];
+        neighbours = new int[numCities * MAX_NEIGHBOURS];
+        neighbourCounts = new int[numCities];
+        secondNeighbours = new int[numCities * MAX_NEIGHBOURS];
+        secondNeighbourCounts = new int[numCities];
+        availableCities = new int[numCities + 1];
+      }
+      Arrays.fill(firstPositions, 0, numCities, -1);
+      Arrays.fill(secondPositions, 0, numCities, -1);
+      // backwards, so the first occurrence of a city is kept as in List.indexOf
+      for (int i = numCities - 1; i >= 0; --i) {
+        Integer firstCity = first.get(i);
+        Integer secondCity = second.get(i);
+        firstParent[i] = firstCity;
+        secondParent[i] = secondCity;
+        firstPositions[firstCity] = i;
+        secondPositions[secondCity] = i;
+        cities[firstCity] = firstCity;
+        cities[secondCity] = secondCity;
+      }
+    }
 
-        availableGenes.remove(new Integer(x));
+    private List<Integer> toChild(int[] childCities, List<Integer> parent) {
+      List<Integer> child = new ArrayList<>(parent.size());
+      for (int i = 0; i < numCities; ++i) {
+        child.add(cities[childCities[i]]);
       }
+      child.addAll(parent.subList(numCities, parent.size()));
+      return child;
     }
-    child.set(numGenes - 1, x);
 
-    return child;
-  }
+    private void generateNeighbourhood() {
+      Arrays.fill(neighbourCounts, 0, numCities, 0);
+      addNeighbours(firstParent[0], firstParent[1], firstParent[numCities - 1]);
+      addNeighbours(secondParent[0], secondParent[1], secondParent[numCities - 1]);
+      for (int i = 1; i < numCities - 1; ++i) {
+        addNeighbours(firstParent[i], firstParent[i - 1], firstParent[i + 1]);
+        addNeighbours(secondParent[i], secondParent[i - 1], secondParent[i + 1]);
+      }
+      addNeighbours(firstParent[numCities - 1], firstParent[numCities - 2], firstParent[0]);
+      addNeighbours(secondParent[numCities - 1], secondParent[numCities - 2], secondParent[0]);
+    }
 
-  private void removeFromNeighbourhood(final Integer toRemove, List<Set<Integer>> neighbourhood) {
-    neighbourhood.forEach(set -> set.remove(toRemove));
-  }
+    private void addNeighbours(int city, int previous, int next) {
+      addNeighbour(city, previous);
+      addNeighbour(city, next);
+    }
 
-  private List<Set<Integer>> generateNeighbourhood(List<Integer> firstParent, List<Integer> secondParent, ParameterSet<Integer, BaseProblemRepresentation> parameters) {
-    int numGenes = parameters.geneSplitPoint;
-    List<Set<Integer>> neighbourhood = new ArrayList<>();
-    for (int i = 0; i < numGenes; ++i) {
-      neighbourhood.add(new HashSet<>());
+    private void addNeighbour(int city, int neighbour) {
+      int offset = city * MAX_NEIGHBOURS;
+      for (int k = 0; k < neighbourCounts[city]; ++k) {
+        if (neighbours[offset + k] == neighbour) {
+          return;
+        }
+      }
+      neighbours[offset + neighbourCounts[city]++] = neighbour;
     }
-    neighbourhood.get(firstParent.get(0)).add(firstParent.get(1));
-    neighbourhood.get(firstParent.get(0)).add(firstParent.get(numGenes - 1));
-    neighbourhood.get(secondParent.get(0)).add(secondParent.get(1));
-    neighbourhood.get(secondParent.get(0)).add(secondParent.get(numGenes - 1));
 
-    for (int i = 1; i < numGenes - 1; ++i) {
-      neighbourhood.get(firstParent.get(i)).add(firstParent.get(i - 1));
-      neighbourhood.get(firstParent.get(i)).add(firstParent.get(i + 1));
-      neighbourhood.get(secondParent.get(i)).add(secondParent.get(i - 1));
-      neighbourhood.get(secondParent.get(i)).add(secondParent.get(i + 1));
+    /**
+     * Builds a tour moving to the neighbour with the fewest neighbours left,
+     * or to a random city when the current one has none.
+     */
+    private void edgeChild(int[] child, int firstCity, int[] neighbours, int[] neighbourCounts,
+                           ParameterSet<Integer, BaseProblemRepresentation> parameters) {
+      int numAvailable = numCities;
+      for (int i = 1; i <= numCities; ++i) {
+        availableCities[i] = i & -i;
+      }
+      placed.clear();
+
+      int x = firstCity;
+      numAvailable -= place(x);
+      for (int i = 0; i < numCities - 1; ++i) {
+        child[i] = x;
+
+        // the neighbourhood is symmetric, so only neighbours of x have x as their neighbour
+        int offset = x * MAX_NEIGHBOURS;
+        for (int k = 0; k < neighbourCounts[x]; ++k) {
+          removeNeighbour(neighbours[offset + k], x, neighbours, neighbourCounts);
+        }
+
+        if (neighbourCounts[x] == 0) {
+          x = getAvailableCity(parameters.random.nextInt(numAvailable));
+        } else {
+          int minSize = Integer.MAX_VALUE;
+          for (int k = 0; k < neighbourCounts[x]; ++k) {
+            minSize = Math.min(minSize, neighbourCounts[neighbours[offset + k]]);
+          }
+          int numCandidates = 0;
+          for (int k = 0; k < neighbourCounts[x]; ++k) {
+            int neighbour = neighbours[offset + k];
+            if (neighbourCounts[neighbour] == minSize) {
+              // keep the iteration order of a HashSet: by bucket, then by adding
+              int j = numCandidates++;
+              while (j > 0 && getBucket(candidates[j - 1]) > getBucket(neighbour)) {
+                candidates[j] = candidates[j - 1];
+                --j;
+              }
+              candidates[j] = neighbour;
+            }
+          }
+          x = candidates[parameters.random.nextInt(numCandidates)];
+        }
+        numAvailable -= place(x);
+      }
+      child[numCities - 1] = x;
     }
 
-    neighbourhood.get(firstParent.get(numGenes - 1)).add(firstParent.get(numGenes - 2));
-    neighbourhood.get(firstParent.get(numGenes - 1)).add(firstParent.get(0));
-    neighbourhood.get(secondParent.get(numGenes - 1)).add(secondParent.get(numGenes - 2));
-    neighbourhood.get(secondParent.get(numGenes - 1)).add(secondParent.get(0));
+    private static void removeNeighbour(int city, int neighbour, int[] neighbours, int[] neighbourCounts) {
+      int offset = city * MAX_NEIGHBOURS;
+      int count = neighbourCounts[city];
+      for (int k = 0; k < count; ++k) {
+        if (neighbours[offset + k] == neighbour) {
+          System.arraycopy(neighbours, offset + k + 1, neighbours, offset + k, count - k - 1);
+          neighbourCounts[city] = count - 1;
+          return;
+        }
+      }
+    }
 
-    return neighbourhood;
-  }
+    private static int getBucket(int city) {
+      return (city ^ (city >>> 16)) & (HASH_SET_BUCKETS - 1);
+    }
+
+    private int place(int city) {
+      if (placed.get(city)) {
+        return 0;
+      }
+      placed.set(city);
+      for (int i = city + 1; i <= numCities; i += i & -i) {
+        --availableCities[i];
+      }
+      return 1;
+    }
 
-  private List<Set<Integer>> copyNeighbourhood(List<Set<Integer>> neighbourhood) {
-    List<Set<Integer>> copy = new ArrayList<>();
-    for (Set<Integer> set : neighbourhood) {
-      Set<Integer> setCopy = new HashSet<>(set);
-      copy.add(setCopy);
+    // finds the available city with the given rank in ascending order
+    private int getAvailableCity(int rank) {
+      int position = 0;
+      int remaining = rank + 1;
+      for (int step = Integer.highestOneBit(numCities); step > 0; step >>= 1) {
+        int next = position + step;
+        if (next <= numCities && availableCities[next] < remaining) {
+          position = next;
+          remaining -= availableCities[next];
+        }
+      }
+      return position;
     }
-    return copy;
+
   }
 
   private boolean areTSPListsEqual(List<?> list1, List<?> list2, int geneSplitPoint) {
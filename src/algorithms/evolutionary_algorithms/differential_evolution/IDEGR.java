@@ -136,15 +136,11 @@ public class IDEGR extends EvolutionaryAlgorithm<Double, Schedule> {
    * @return individual with built individual
    */
   private BaseIndividual<Double, Schedule> buildSchedule(BaseIndividual<Double, Schedule> individual) {
-    Schedule schedule = individual.getProblem();
-    parameters.converter.convertToInteger(schedule.getTasks(), individual.getGenes());
-    parameters.constraintPreserver.repair(schedule);
-    schedule.buildTaskResourceAssignments();
-    individual.setProblem(parameters.scheduleBuilder.buildTimestamps(schedule));
+    // schedules built before only have timestamps of changed tasks updated
+    individual.setProblem(individual.getProblem().buildSolution(individual.getGenes(), parameters));
     individual.setEvalValue(individual.evaluate());
     individual.setObjectives();
     individual.setNormalObjectives();
-    individual.getProblem().setHashCode();
     return individual;
   }
 
@@ -4,6 +4,8 @@ import algorithms.evolutionary_algorithms.ParameterSet;
 import algorithms.evolutionary_algorithms.selection.BaseSelection;
 import algorithms.evolutionary_algorithms.selection.ClusterBasedSelection;
 import algorithms.evolutionary_algorithms.selection.DiversitySelection;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
+import algorithms.evolutionary_algorithms.util.CloneIndex;
 import algorithms.evolutionary_algorithms.util.NondominatedSorter;
 import algorithms.problem.BaseIndividual;
 import algorithms.problem.BaseProblemRepresentation;
@@ -67,15 +69,16 @@ public class ANTGA2 <PROBLEM extends BaseProblemRepresentation> extends GeneticA
         BaseIndividual<Integer, PROBLEM> firstChild;
         BaseIndividual<Integer, PROBLEM> secondChild;
         List<List<Integer>> children;
+        List<BaseIndividual<Integer, PROBLEM>> offspring;
+        CloneIndex<Integer, PROBLEM> clones;
+        int firstNewIndividual;
 
         BaseSelection<Integer, PROBLEM> selection = new DiversitySelection();
         ((DiversitySelection<Integer>) selection).setTournamentSize(parameters.tournamentSize);
 
         population = parameters.initialPopulation.generate(problem, populationSize, parameters.evaluator, parameters);
 
-        for (BaseIndividual<Integer, PROBLEM> individual : population) {
-            individual.buildSolution(individual.getGenes(), parameters);
-        }
+        BatchEvaluation.buildSolutions(population, parameters);
 
         sorter.nondominatedSorting(population);
         sorter.crowdingDistance(population);
@@ -86,6 +89,8 @@ public class ANTGA2 <PROBLEM extends BaseProblemRepresentation> extends GeneticA
 
         while (generation < generationLimit) {
             newPopulation = new ArrayList<>();
+            offspring = new ArrayList<>();
+            clones = new CloneIndex<>(populationSize);
             sorter.nondominatedSorting(population);
 
             while (newPopulation.size() < populationSize) {
@@ -99,8 +104,14 @@ public class ANTGA2 <PROBLEM extends BaseProblemRepresentation> extends GeneticA
                 firstChild = new BaseIndividual<>(problem, children.get(0), parameters.evaluator);
                 secondChild = new BaseIndividual<>(problem, children.get(1), parameters.evaluator);
 
-                clonePreventionMethod(newPopulation, firstChild, secondChild);
-                best = setBestIndividual(best, firstChild, secondChild);
+                clonePreventionMethod(newPopulation, clones, firstChild, secondChild);
+                offspring.add(firstChild);
+                offspring.add(secondChild);
+            }
+            // selection and mutation use only the previous population, so all children are built at once
+            BatchEvaluation.buildSolutions(newPopulation, parameters);
+            for (int i = 0; i < offspring.size(); i += 2) {
+                best = setBestIndividual(best, offspring.get(i), offspring.get(i + 1));
             }
 
             population = newPopulation;
@@ -122,7 +133,10 @@ public class ANTGA2 <PROBLEM extends BaseProblemRepresentation> extends GeneticA
                     firstChild = new BaseIndividual<>(problem, children.get(0), parameters.evaluator);
                     secondChild = new BaseIndividual<>(problem, children.get(1), parameters.evaluator);
 
-                    clonePreventionMethod(newPopulation, firstChild, secondChild);
+                    // mutation uses the new population, so children are built before the next pair
+                    firstNewIndividual = newPopulation.size();
+                    clonePreventionMethod(newPopulation, clones, firstChild, secondChild);
+                    BatchEvaluation.buildSolutions(newPopulation.subList(firstNewIndividual, newPopulation.size()), parameters);
                     best = setBestIndividual(best, firstChild, secondChild);
                 }
 
@@ -174,20 +188,28 @@ public class ANTGA2 <PROBLEM extends BaseProblemRepresentation> extends GeneticA
         return best;
     }
 
-    private void clonePreventionMethod(List<BaseIndividual<Integer, PROBLEM>> newPopulation, BaseIndividual<Integer, PROBLEM> firstChild, BaseIndividual<Integer, PROBLEM> secondChild) {
-        for (int i = 0; newPopulation.contains(firstChild) && i < 20; i++) {
+    /**
+     * Adds children which are not clones to the new population. Their genes are repaired,
+     * so later children are compared with genes of built individuals, but the
+     * solutions are not built yet.
+     */
+    private void clonePreventionMethod(List<BaseIndividual<Integer, PROBLEM>> newPopulation, CloneIndex<Integer, PROBLEM> clones,
+                                       BaseIndividual<Integer, PROBLEM> firstChild, BaseIndividual<Integer, PROBLEM> secondChild) {
+        for (int i = 0; clones.contains(firstChild) && i < 20; i++) {
             firstChild.setGenes(parameters.mutation.mutate(population, 1.0, firstChild.getGenes(), 0, populationSize, parameters));
         }
-        if (!newPopulation.contains(firstChild)) {
-            firstChild.buildSolution(firstChild.getGenes(), parameters);
+        if (!clones.contains(firstChild)) {
+            firstChild.fixGenes();
             newPopulation.add(firstChild);
+            clones.add(firstChild);
         }
-        for (int i = 0; newPopulation.contains(secondChild) && i < 20; i++) {
+        for (int i = 0; clones.contains(secondChild) && i < 20; i++) {
             secondChild.setGenes(parameters.mutation.mutate(population, 1.0, secondChild.getGenes(), 0, populationSize, parameters));
         }
-        if (!newPopulation.contains(secondChild)) {
-            secondChild.buildSolution(secondChild.getGenes(), parameters);
+        if (!clones.contains(secondChild)) {
+            secondChild.fixGenes();
             newPopulation.add(secondChild);
+            clones.add(secondChild);
         }
     }
 
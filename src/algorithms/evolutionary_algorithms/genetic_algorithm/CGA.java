@@ -5,28 +5,28 @@ import algorithms.evolutionary_algorithms.genetic_algorithm.utils.InitialPopulat
 import algorithms.evolutionary_algorithms.genetic_algorithm.utils.OptimisationResult;
 import algorithms.evolutionary_algorithms.selection.ClusterDensityBasedSelection;
 import algorithms.evolutionary_algorithms.selection.IndividualsPairingMethod;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
+import algorithms.evolutionary_algorithms.util.CloneIndex;
 import algorithms.evolutionary_algorithms.util.ClusteringResult;
 import algorithms.evolutionary_algorithms.util.IndividualCluster;
 import algorithms.evolutionary_algorithms.util.IndividualWithDstToItsCentre;
 import algorithms.evolutionary_algorithms.util.NondominatedSorter;
 import algorithms.problem.BaseIndividual;
 import algorithms.problem.BaseProblemRepresentation;
-import algorithms.quality_measure.GenerationalDistance;
 import algorithms.quality_measure.HVMany;
-import algorithms.quality_measure.InvertedGenerationalDistance;
-import algorithms.visualization.EvolutionHistoryElement;
+import algorithms.quality_measure.ReferenceFrontDistances;
+import algorithms.visualization.EvolutionHistoryWriter;
 import algorithms.visualization.KmeansClusterisation;
 import interfaces.QualityMeasure;
 import javafx.util.Pair;
 import util.FILE_OUTPUT_LEVEL;
 import util.ParameterFunctions;
+import util.TelemetryWriter;
 
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -68,6 +68,10 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
     private IndividualsPairingMethod pairingMethod;
     private double localSearchProp;
     private int numberOfExtraPopulationTriggered;
+    // problems used to decode children after crossover, one for each thread building them
+    private ThreadLocal<PROBLEM> scratchProblems;
+    // writes the reporting files in the background, null if they are not saved
+    private TelemetryWriter telemetry;
 
     public OptimisationResult getOptimisationResult() {
         return optimisationResult;
@@ -165,14 +169,10 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
     public List<BaseIndividual<Integer, PROBLEM>> optimize() {
         // create empty file
         String hvHistoryFilePath = outputFilename + File.separator + "hv_hisotry" + this.iterationNumber + ".csv";
+        telemetry = null;
         if(saveResultFiles.getLevel() > 1) {
-            try {
-                BufferedWriter writer = new BufferedWriter(new FileWriter(hvHistoryFilePath));
-                writer.write("gen;cost;hv;igd;gd;child dominance cnt;archive changes cnt;arch hist ma;use popul\n");
-                writer.close();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+            telemetry = new TelemetryWriter();
+            telemetry.write(hvHistoryFilePath, "gen;cost;hv;igd;gd;child dominance cnt;archive changes cnt;arch hist ma;use popul\n");
         }
 //        System.out.println("generation; additional population; cur arch size; curr arch measure; clust added ind; prev arch size; prev arch measure");
         int generation = 1;
@@ -180,18 +180,26 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
         List<BaseIndividual<Integer, PROBLEM>> excludedArchive = new ArrayList<>();
 
         ClusteringResult gaClusteringResults = null;
-        String clusteringResultFilePath = "." + File.separator + "out" + File.separator + "clustering_res";
-        EvolutionHistoryElement.setClusteringResultFilePath(clusteringResultFilePath);
-        List<EvolutionHistoryElement> evolutionHistory = new ArrayList<>();
+        // repeats of a configuration run in parallel, so each one writes to its own directory
+        String clusteringResultFilePath = outputFilename + File.separator + "clustering_res" + this.iterationNumber;
+        EvolutionHistoryWriter evolutionHistory = null;
+        if(saveResultFiles.getLevel() > 2) {
+            evolutionHistory = new EvolutionHistoryWriter(telemetry, clusteringResultFilePath);
+        }
 
 //        BaseIndividual<Integer, PROBLEM> firstParent;
 //        BaseIndividual<Integer, PROBLEM> secondParent;
 
         BaseIndividual<Integer, PROBLEM> firstChild;
         BaseIndividual<Integer, PROBLEM> secondChild;
-        List<List<Integer>> children;
+        // selected parents, their genes and their children, reused between generations
+        List<BaseIndividual<Integer, PROBLEM>> parents = new ArrayList<>();
+        List<List<Integer>> parentsGenes = new ArrayList<>();
+        List<List<Integer>> children = new ArrayList<>();
 
         this.optimisationResult = new OptimisationResult();
+        final PROBLEM instance = problem;
+        scratchProblems = ThreadLocal.withInitial(() -> (PROBLEM)instance.cloneDeep());
 
         int cost = populationSize;
         int costSinceLastClustering = 0;
@@ -200,7 +208,7 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
         List<InitialPopulationWithEvaluation> initialPopulationWithEvaluation = new ArrayList<>();
 
         if(saveResultFiles.getLevel() > 2) {
-            savePopulationToFile(population, outputFilename + File.separator + "initial_popul.csv");
+            savePopulationToFile(population, outputFilename + File.separator + "initial_popul" + this.iterationNumber + ".csv");
         }
         for (BaseIndividual<Integer, PROBLEM> individual : population) {
             individual.buildSolution(individual.getGenes(), parameters);
@@ -228,6 +236,9 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
             int archiveChanges = 0;
 
             cost = localSearch(cost, generationLimit, archive, localSearchProp);
+            List<BaseIndividual<Integer, PROBLEM>> immigrants = exchangeMigrants(generation, archive);
+            cost += immigrants.size();
+            archiveChanges += removeDuplicatesAndDominated(immigrants, archive);
 
             if(costSinceLastMaRecord >= clusteringRunFrequencyInCost) {
                 costSinceLastMaRecord = 0;
@@ -266,6 +277,10 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
                 population = new ArrayList<>();
             }
 
+            if(telemetry != null) {
+                // the previous clustering result may still be written, while clustering updates its clusters
+                telemetry.flush();
+            }
             gaClusteringResults = kmeansCluster.clustering(gaClusteringResults, clusterWeightMeasure,
                     archive,
                     clusterSize,
@@ -292,7 +307,7 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
                         parameters, clusterWeightMeasure, parameterFunction, cost, pairingMethod);
 
 //                for(var e: population) {
-//                    EvolutionHistoryElement.addIfNotFull(evolutionHistory,
+//                    evolutionHistory.add(
 //                            generation, e.getObjectives()[0], e.getObjectives()[1], 1,
 //                            e.getObjectives()[0], e.getObjectives()[1], e.getObjectives()[0], e.getObjectives()[1]);
 //                }
@@ -302,41 +317,50 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
                     Collections.shuffle(pairs, parameters.random.getRandom());
                     pairs = pairs.subList(0, Math.min((int)Math.ceil((clusteringRunFrequencyInCost - costSinceLastClustering)/2.0), pairs.size())); // each pair costs 2 cost
                 }
+                // crossover and mutation use the random generator, so they are done for all pairs first
+                parents.clear();
+                parentsGenes.clear();
                 for(var mama: pairs) {
                     var firstAndSecondParent = (Pair<BaseIndividual<Integer, PROBLEM>, BaseIndividual<Integer, PROBLEM>>)mama;
-                    BaseIndividual<Integer, PROBLEM> firstParent = firstAndSecondParent.getKey();
-                    BaseIndividual<Integer, PROBLEM> secondParent = firstAndSecondParent.getValue();
-                    children = parameters.crossover.crossover(crossoverProbability, KNAPcrossoverProbability,
-                            firstParent.getGenes(), secondParent.getGenes(), parameters);
-
-                    var firstChildAfterCross = new BaseIndividual<>(problem, children.get(0), parameters.evaluator);
-                    firstChildAfterCross.buildSolution(firstChildAfterCross.getGenes(), parameters);
-                    var secondChildAfterCross = new BaseIndividual<>(problem, children.get(1), parameters.evaluator);
-                    secondChildAfterCross.buildSolution(secondChildAfterCross.getGenes(), parameters);
-
-                    children.set(0, parameters.mutation.mutate(null, mutationProbability, KNAPmutationProbability,
-                            children.get(0), 0, -666, parameters));
-                    children.set(1, parameters.mutation.mutate(null, mutationProbability, KNAPmutationProbability,
-                            children.get(1), 0, -666, parameters));
-
-                    var firstChildAfterCrossAndMut = new BaseIndividual<>(problem, children.get(0), parameters.evaluator);
-                    firstChildAfterCrossAndMut.buildSolution(firstChildAfterCrossAndMut.getGenes(), parameters);
-                    var secondChildAfterCrossAndMut = new BaseIndividual<>(problem, children.get(1), parameters.evaluator);
-                    secondChildAfterCrossAndMut.buildSolution(secondChildAfterCrossAndMut.getGenes(), parameters);
-                    this.optimisationResult.addDominanceStats(firstParent, secondParent, firstChildAfterCross,
-                            secondChildAfterCross, firstChildAfterCrossAndMut, secondChildAfterCrossAndMut);
-
-                    firstChild = new BaseIndividual<>(problem, children.get(0), parameters.evaluator);
-                    firstChild.buildSolution(firstChild.getGenes(), parameters);
-                    secondChild = new BaseIndividual<>(problem, children.get(1), parameters.evaluator);
-                    secondChild.buildSolution(secondChild.getGenes(), parameters);
+                    parents.add(firstAndSecondParent.getKey());
+                    parents.add(firstAndSecondParent.getValue());
+                    parentsGenes.add(firstAndSecondParent.getKey().getGenes());
+                    parentsGenes.add(firstAndSecondParent.getValue().getGenes());
+                }
+                children.clear();
+                parameters.crossover.crossoverAll(crossoverProbability, KNAPcrossoverProbability,
+                        parentsGenes, children, parameters);
+
+                List<PairOffspring<PROBLEM>> pairsOffspring = new ArrayList<>(pairs.size());
+                for(int i = 0; i < children.size(); i += 2) {
+                    List<Integer> firstCrossedGenes = children.get(i);
+                    List<Integer> secondCrossedGenes = children.get(i + 1);
+                    var offspring = new PairOffspring<>(parents.get(i), parents.get(i + 1),
+                            new ArrayList<>(firstCrossedGenes), new ArrayList<>(secondCrossedGenes));
+
+                    offspring.firstGenes = parameters.mutation.mutate(null, mutationProbability, KNAPmutationProbability,
+                            firstCrossedGenes, 0, -666, parameters);
+                    offspring.secondGenes = parameters.mutation.mutate(null, mutationProbability, KNAPmutationProbability,
+                            secondCrossedGenes, 0, -666, parameters);
+                    pairsOffspring.add(offspring);
+                }
+                BatchEvaluation.forEach(pairsOffspring, offspring -> offspring.build(scratchProblems.get(), parameters), parameters);
+
+                for(var offspring: pairsOffspring) {
+                    BaseIndividual<Integer, PROBLEM> firstParent = offspring.firstParent;
+                    BaseIndividual<Integer, PROBLEM> secondParent = offspring.secondParent;
+                    this.optimisationResult.addDominanceStats(firstParent, secondParent, offspring.firstChildAfterCross,
+                            offspring.secondChildAfterCross, offspring.firstChild, offspring.secondChild);
+
+                    firstChild = offspring.firstChild;
+                    secondChild = offspring.secondChild;
 
                     if(saveResultFiles.getLevel() > 2) {
-                        EvolutionHistoryElement.addIfNotFull(evolutionHistory, generation,
+                        evolutionHistory.add(generation,
                                 firstChild.getObjectives()[0], firstChild.getObjectives()[1], -2,
                                 firstParent.getObjectives()[0], firstParent.getObjectives()[1],
                                 secondParent.getObjectives()[0], secondParent.getObjectives()[1]);
-                        EvolutionHistoryElement.addIfNotFull(evolutionHistory, generation,
+                        evolutionHistory.add(generation,
                                 secondChild.getObjectives()[0], secondChild.getObjectives()[1], -2,
                                 firstParent.getObjectives()[0], firstParent.getObjectives()[1],
                                 secondParent.getObjectives()[0], secondParent.getObjectives()[1]);
@@ -366,7 +390,7 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
                     int clusterId = cluster.getClusterId();
                     for (var clsInd : cluster.getCluster()) {
                         var e = ((IndividualWithDstToItsCentre) clsInd).getIndividual();
-                        EvolutionHistoryElement.addIfNotFull(evolutionHistory, generation, e.getObjectives()[0], e.getObjectives()[1], clusterId,
+                        evolutionHistory.add(generation, e.getObjectives()[0], e.getObjectives()[1], clusterId,
                                 e.getObjectives()[0], e.getObjectives()[1], e.getObjectives()[0], e.getObjectives()[1]);
                     }
                 }
@@ -381,18 +405,15 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
             archiveChanges += removeDuplicatesAndDominated(population, archCopy);
             removeDuplicatesAndDominated(archCopy, optimalParetoFrontWithArchive);
             double archiveHv = this.hvCalculator.getMeasure(archCopy);
-            double archiveIgd = new InvertedGenerationalDistance(optimalParetoFrontWithArchive).getMeasure(archCopy);
-            double archiveGd = new GenerationalDistance(optimalParetoFrontWithArchive).getMeasure(archCopy);
+            // the reference front includes the archive, so it is indexed again every generation
+            ReferenceFrontDistances archiveDistances = new ReferenceFrontDistances(optimalParetoFrontWithArchive);
+            archiveDistances.calculate(archCopy);
+            double archiveIgd = archiveDistances.getInvertedGenerationalDistance();
+            double archiveGd = archiveDistances.getGenerationalDistance();
             if(saveResultFiles.getLevel() > 1) {
-                try {
-                    BufferedWriter writer = new BufferedWriter(new FileWriter(hvHistoryFilePath, true));
-                    writer.write(generation + ";" + cost + ";" + archiveHv + ";" + archiveIgd + ";" + archiveGd
-                            + ";" + noOfChildDominatingParents + ";" + archiveChanges + ";" + archHistMa
-                            + ";" + maArchHistIsPopulationUsed + "\n");
-                    writer.close();
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+                telemetry.append(hvHistoryFilePath, generation + ";" + cost + ";" + archiveHv + ";" + archiveIgd + ";" + archiveGd
+                        + ";" + noOfChildDominatingParents + ";" + archiveChanges + ";" + archHistMa
+                        + ";" + maArchHistIsPopulationUsed + "\n");
             }
 
 //            population = getIndividualClosesToArchive(population, archive, populationSize, populationTurProp);
@@ -425,9 +446,13 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
 
         removeDuplicatesAndDominated(population, archive);
         if(saveResultFiles.getLevel() > 2) {
-            EvolutionHistoryElement.toFile(evolutionHistory);
+            evolutionHistory.close();
             saveInitialPopulationAndItsStats(initialPopulationWithEvaluation, "initialPop" + this.iterationNumber + ".csv", "initialPopSummary.csv");
         }
+        if(telemetry != null) {
+            telemetry.close();
+            telemetry = null;
+        }
         removeDuplicatesAndDominated(excludedArchive, archive);
         archive = removeDuplicates(archive);
         List<BaseIndividual<Integer, PROBLEM>> pareto = getNondominated(archive);
@@ -511,7 +536,7 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
                 var chosenInd = archive.get(i);
                 List<Integer> chosenIndGenes = chosenInd.getGenes();
                 parameters.mutation.mutate(null, this.tspLocalSearchArchiveProp, this.knapLocalSearchArchiveProp, chosenIndGenes, 0, -666, parameters);
-                var mutatedInd = new BaseIndividual<>(problem, chosenIndGenes, parameters.evaluator);
+                var mutatedInd = new BaseIndividual<>(chosenInd.getProblem(), chosenIndGenes, parameters.evaluator);
                 mutatedInd.buildSolution(mutatedInd.getGenes(), parameters);
                 localSearchPopulation.add(mutatedInd);
 
@@ -533,7 +558,7 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
             var chosenInd = archive.get(randomIndex);
             List<Integer> chosenIndGenes = chosenInd.getGenes();
             parameters.mutation.mutate(null, TSPf, KNAPf, chosenIndGenes, 0, -666, parameters);
-            var mutatedInd = new BaseIndividual<>(problem, chosenIndGenes, parameters.evaluator);
+            var mutatedInd = new BaseIndividual<>(chosenInd.getProblem(), chosenIndGenes, parameters.evaluator);
             mutatedInd.buildSolution(mutatedInd.getGenes(), parameters);
             population.add(mutatedInd);
 
@@ -544,40 +569,36 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
     }
 
     private void writeReportingFiles(List<BaseIndividual<Integer, PROBLEM>> excludedArchive, ClusteringResult gaClusteringResults) {
-        if(excludedArchive.size() > 0 && saveResultFiles.getLevel() > 1) {
+        if(telemetry == null) {
+            return;
+        }
+        if(excludedArchive.size() > 0) {
             toFileExcludedIndividuals(excludedArchive, gaClusteringResults.getClusteringResultFilePath(), gaClusteringResults.getClusteringResultFileName());
         }
-        gaClusteringResults.toFile();
+        telemetry.execute(gaClusteringResults::toFile);
     }
 
     private void toFileExcludedIndividuals(List<BaseIndividual<Integer,PROBLEM>> excludedArchive, String clusteringResultFilePath, String clusteringResultFileName) {
-        try {
-            String fullPath = clusteringResultFilePath + File.separator + "excludedInd_" + clusteringResultFileName;
-            Files.createDirectories(Paths.get(clusteringResultFilePath));
-            BufferedWriter writer = new BufferedWriter(new FileWriter(fullPath));
-            StringBuilder output = new StringBuilder("Usage Cnt;Adj Usage Cnt;Unsuc Usage Cnt;Adj Unsuc Usage Cnt;Number of Times It Was Excluded;Curr Exclusion Cnt;Obj 0; Obj 1;Norm Obj 0;Norm Obj 1\n");
-
-            for(var ind: excludedArchive) {
-                output.append(ind.getUsageCounter() + ";");
-                output.append(ind.getAdjustedUsageCounter() + ";");
-                output.append(ind.getUnsuccessfulUsageCounter() + ";");
-                output.append(ind.getAdjusterUnsuccessfulUsageCounter() + ";");
-                output.append(ind.getNumberOfTimesItHasBeenExcluded() + ";");
-                output.append(ind.getExclusionGenerationCounter() + ";");
-                for(double obj: ind.getObjectives()) {
-                    output.append(obj + ";");
-                }
+        String fullPath = clusteringResultFilePath + File.separator + "excludedInd_" + clusteringResultFileName;
+        StringBuilder output = new StringBuilder("Usage Cnt;Adj Usage Cnt;Unsuc Usage Cnt;Adj Unsuc Usage Cnt;Number of Times It Was Excluded;Curr Exclusion Cnt;Obj 0; Obj 1;Norm Obj 0;Norm Obj 1\n");
+
+        for(var ind: excludedArchive) {
+            output.append(ind.getUsageCounter() + ";");
+            output.append(ind.getAdjustedUsageCounter() + ";");
+            output.append(ind.getUnsuccessfulUsageCounter() + ";");
+            output.append(ind.getAdjusterUnsuccessfulUsageCounter() + ";");
+            output.append(ind.getNumberOfTimesItHasBeenExcluded() + ";");
+            output.append(ind.getExclusionGenerationCounter() + ";");
+            for(double obj: ind.getObjectives()) {
+                output.append(obj + ";");
+            }
 
-                for(double normObj: ind.getNormalObjectives()) {
-                    output.append(normObj + ";");
-                }
-                output.append("\n");
+            for(double normObj: ind.getNormalObjectives()) {
+                output.append(normObj + ";");
             }
-            writer.write(output.toString());
-            writer.close();
-        } catch(IOException e) {
-            e.printStackTrace();
+            output.append("\n");
         }
+        telemetry.write(fullPath, output.toString());
     }
 
     private void recordGenerationAndUpdateArchiveAndExcludedIndividuals(int indExclusionUsageLimit,
@@ -769,20 +790,23 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
         return best;
     }
 
-    private void clonePreventionMethod(List<BaseIndividual<Integer, PROBLEM>> newPopulation, BaseIndividual<Integer, PROBLEM> firstChild, BaseIndividual<Integer, PROBLEM> secondChild) {
-        for (int i = 0; newPopulation.contains(firstChild) && i < 20; i++) {
+    private void clonePreventionMethod(List<BaseIndividual<Integer, PROBLEM>> newPopulation, CloneIndex<Integer, PROBLEM> clones,
+                                       BaseIndividual<Integer, PROBLEM> firstChild, BaseIndividual<Integer, PROBLEM> secondChild) {
+        for (int i = 0; clones.contains(firstChild) && i < 20; i++) {
             firstChild.setGenes(parameters.mutation.mutate(population, mutationProbability, KNAPmutationProbability, firstChild.getGenes(), 0, populationSize, parameters));
         }
-        if (!newPopulation.contains(firstChild)) {
+        if (!clones.contains(firstChild)) {
             firstChild.buildSolution(firstChild.getGenes(), parameters);
             newPopulation.add(firstChild);
+            clones.add(firstChild);
         }
-        for (int i = 0; newPopulation.contains(secondChild) && i < 20; i++) {
+        for (int i = 0; clones.contains(secondChild) && i < 20; i++) {
             secondChild.setGenes(parameters.mutation.mutate(population, mutationProbability, KNAPmutationProbability, secondChild.getGenes(), 0, populationSize, parameters));
         }
-        if (!newPopulation.contains(secondChild)) {
+        if (!clones.contains(secondChild)) {
             secondChild.buildSolution(secondChild.getGenes(), parameters);
             newPopulation.add(secondChild);
+            clones.add(secondChild);
         }
     }
 
@@ -811,4 +835,44 @@ public class CGA<PROBLEM extends BaseProblemRepresentation> extends GeneticAlgor
         }
         return mnd;
     }
-}
\ No newline at end of file
+
+    /**
+     * Children of a pair of parents. Children after crossover are only needed for
+     * the dominance stats, so they are decoded into a scratch problem. Mutated children
+     * are built from the crossed ones, so only the part changed by the mutation is re-evaluated.
+     */
+    private static final class PairOffspring<PROBLEM extends BaseProblemRepresentation> {
+
+        private final BaseIndividual<Integer, PROBLEM> firstParent;
+        private final BaseIndividual<Integer, PROBLEM> secondParent;
+        private final List<Integer> firstCrossedGenes;
+        private final List<Integer> secondCrossedGenes;
+        private List<Integer> firstGenes;
+        private List<Integer> secondGenes;
+
+        private BaseIndividual<Integer, PROBLEM> firstChildAfterCross;
+        private BaseIndividual<Integer, PROBLEM> secondChildAfterCross;
+        private BaseIndividual<Integer, PROBLEM> firstChild;
+        private BaseIndividual<Integer, PROBLEM> secondChild;
+
+        private PairOffspring(BaseIndividual<Integer, PROBLEM> firstParent, BaseIndividual<Integer, PROBLEM> secondParent,
+                              List<Integer> firstCrossedGenes, List<Integer> secondCrossedGenes) {
+            this.firstParent = firstParent;
+            this.secondParent = secondParent;
+            this.firstCrossedGenes = firstCrossedGenes;
+            this.secondCrossedGenes = secondCrossedGenes;
+        }
+
+        private void build(PROBLEM scratchProblem, ParameterSet<Integer, PROBLEM> parameters) {
+            firstChildAfterCross = BaseIndividual.withSharedProblem(scratchProblem, firstCrossedGenes, parameters.evaluator);
+            firstChildAfterCross.buildSolution(firstChildAfterCross.getGenes(), parameters);
+            firstChild = new BaseIndividual<>(scratchProblem, firstGenes, parameters.evaluator);
+            firstChild.buildSolution(firstChild.getGenes(), parameters);
+
+            secondChildAfterCross = BaseIndividual.withSharedProblem(scratchProblem, secondCrossedGenes, parameters.evaluator);
+            secondChildAfterCross.buildSolution(secondChildAfterCross.getGenes(), parameters);
+            secondChild = new BaseIndividual<>(scratchProblem, secondGenes, parameters.evaluator);
+            secondChild.buildSolution(secondChild.getGenes(), parameters);
+        }
+    }
+}
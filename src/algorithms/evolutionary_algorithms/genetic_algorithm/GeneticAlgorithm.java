@@ -2,6 +2,8 @@ package algorithms.evolutionary_algorithms.genetic_algorithm;
 
 import algorithms.evolutionary_algorithms.EvolutionaryAlgorithm;
 import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
+import algorithms.evolutionary_algorithms.util.NondominatedSortingEngine;
 import algorithms.problem.BaseIndividual;
 import algorithms.problem.BaseProblemRepresentation;
 
@@ -17,6 +19,7 @@ public class GeneticAlgorithm<PROBLEM extends BaseProblemRepresentation> extends
   	protected double crossoverProbability;
 	protected double mutationProbability;
 	protected int numObjectives;
+	protected NondominatedSortingEngine sortingEngine = new NondominatedSortingEngine();
 
 	public GeneticAlgorithm(PROBLEM problem, int populationSize, int generationLimit, ParameterSet<Integer, PROBLEM> parameters,
 													double mutationProbability, double crossoverProbability) {
@@ -40,9 +43,7 @@ public class GeneticAlgorithm<PROBLEM extends BaseProblemRepresentation> extends
 		List<List<Integer>> children;
 
 		population = parameters.initialPopulation.generate(problem, populationSize, parameters.evaluator, parameters);
-		for (BaseIndividual<Integer, PROBLEM> individual : population) {
-      individual.buildSolution(individual.getGenes(), parameters);
-		}
+		BatchEvaluation.buildSolutions(population, parameters);
 		best = findBestIndividual(population);
 
 		while (generation < generationLimit) {
@@ -60,18 +61,15 @@ public class GeneticAlgorithm<PROBLEM extends BaseProblemRepresentation> extends
 				firstChild = new BaseIndividual<>(problem, children.get(0), parameters.evaluator);
 				secondChild = new BaseIndividual<>(problem, children.get(1), parameters.evaluator);
 
-				firstChild.buildSolution(firstChild.getGenes(), parameters);
-				secondChild.buildSolution(secondChild.getGenes(), parameters);
 				newPopulation.add(firstChild);
 				newPopulation.add(secondChild);
-
-				if (firstChild.getEvalValue() < best.getEvalValue()) {
-					best = firstChild;
-				}
-				if (secondChild.getEvalValue() < best.getEvalValue()) {
-					best = secondChild;
+			}
+			// selection uses only the previous population, so all children are built at once
+			BatchEvaluation.buildSolutions(newPopulation, parameters);
+			for (BaseIndividual<Integer, PROBLEM> child : newPopulation) {
+				if (child.getEvalValue() < best.getEvalValue()) {
+					best = child;
 				}
-
 			}
 			population.add(best);
 			population = newPopulation;
@@ -86,56 +84,17 @@ public class GeneticAlgorithm<PROBLEM extends BaseProblemRepresentation> extends
 
 	protected Map<Integer, List<BaseIndividual<Integer, PROBLEM>>> nondominatedSorting(
 			List<BaseIndividual<Integer, PROBLEM>> population) {
-		for (BaseIndividual<Integer, PROBLEM> individual : population) {
-			individual.setNumOfDominatingSolutions(0);
-			individual.getDominatedSolutions().clear();
-			individual.setRank(-1);
-		}
+		int[] ranks = sortingEngine.getRanks(population);
+		int numberOfFronts = Arrays.stream(ranks).max().orElse(0);
 
 		Map<Integer, List<BaseIndividual<Integer, PROBLEM>>> fronts = new HashMap<>();
-		int rank = 1;
-		fronts.put(rank, new ArrayList<>());
-
-		for (BaseIndividual<Integer, PROBLEM> p : population) {
-			for (BaseIndividual<Integer, PROBLEM> q : population) {
-				if (!p.equals(q)) {
-					if (p.dominates(q)) {
-						p.getDominatedSolutions().add(q);
-					} else if (q.dominates(p)) {
-						p.setNumOfDominatingSolutions(p
-								.getNumOfDominatingSolutions() + 1);
-					}
-				}
-			}
-			if (p.getNumOfDominatingSolutions() == 0) {
-				fronts.get(rank).add(p);
-			}
-		}
-
-		List<BaseIndividual<Integer, PROBLEM>> currentFront;
-		currentFront = fronts.get(1);
-
-		rank = 2;
-		while (!currentFront.isEmpty()) {
+		for (int rank = 1; rank <= numberOfFronts; rank++) {
 			fronts.put(rank, new ArrayList<>());
-			for (BaseIndividual<Integer, PROBLEM> individual : currentFront) {
-				for (BaseIndividual<Integer, PROBLEM> dominated : individual
-						.getDominatedSolutions()) {
-					dominated.setNumOfDominatingSolutions(dominated
-							.getNumOfDominatingSolutions() - 1);
-					if (dominated.getNumOfDominatingSolutions() == 0) {
-						fronts.get(rank).add(dominated);
-					}
-				}
-			}
-			currentFront = fronts.get(rank);
-			rank++;
 		}
-		fronts.remove(fronts.size());
-		for (rank = 1; rank <= fronts.size(); rank++) {
-			for (BaseIndividual<Integer, PROBLEM> individual : fronts.get(rank)) {
-				individual.setRank(rank);
-			}
+		for (int i = 0; i < ranks.length; i++) {
+			BaseIndividual<Integer, PROBLEM> individual = population.get(i);
+			individual.setRank(ranks[i]);
+			fronts.get(ranks[i]).add(individual);
 		}
 		return fronts;
 	}
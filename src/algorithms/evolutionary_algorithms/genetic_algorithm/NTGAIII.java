@@ -5,6 +5,8 @@ import algorithms.evolutionary_algorithms.selection.BaseSelection;
 import algorithms.evolutionary_algorithms.selection.DiversitySelection;
 import algorithms.evolutionary_algorithms.selection.NondominatedSortingNoCrowdingTournament;
 import algorithms.evolutionary_algorithms.selection.NondominatedSortingTournament;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
+import algorithms.evolutionary_algorithms.util.CloneIndex;
 import algorithms.evolutionary_algorithms.util.NondominatedSorter;
 import algorithms.problem.BaseIndividual;
 import algorithms.problem.BaseProblemRepresentation;
@@ -64,6 +66,7 @@ public class NTGAIII<PROBLEM extends BaseProblemRepresentation> extends GeneticA
     List<List<Integer>> children;
 
     List<BaseIndividual<Integer, PROBLEM>> newPopulation = new ArrayList<>();
+    CloneIndex<Integer, PROBLEM> clones = new CloneIndex<>(populationSize);
     sorter.nondominatedSorting(population);
     if (hasCD) {
       crowdingDistance(population);
@@ -84,22 +87,26 @@ public class NTGAIII<PROBLEM extends BaseProblemRepresentation> extends GeneticA
       secondChild = new BaseIndividual<>(problem, children.get(1), parameters.evaluator);
 
       // TODO: refactor after I get well :(
-      for (int i = 0; newPopulation.contains(firstChild) && i < 20; i++) {
+      for (int i = 0; clones.contains(firstChild) && i < 20; i++) {
         firstChild.setGenes(parameters.mutation.mutate(population, 1.0, firstChild.getGenes(), 0, populationSize, parameters));
       }
-      if (!newPopulation.contains(firstChild)) {
-        firstChild.buildSolution(firstChild.getGenes(), parameters);
+      // genes are repaired at once, so later children are compared with the built ones
+      if (!clones.contains(firstChild)) {
+        firstChild.fixGenes();
         newPopulation.add(firstChild);
+        clones.add(firstChild);
       }
-      for (int i = 0; newPopulation.contains(secondChild) && i < 20; i++) {
+      for (int i = 0; clones.contains(secondChild) && i < 20; i++) {
         secondChild.setGenes(parameters.mutation.mutate(population, 1.0, secondChild.getGenes(), 0, populationSize, parameters));
       }
-      if (!newPopulation.contains(secondChild)) {
-        secondChild.buildSolution(secondChild.getGenes(), parameters);
+      if (!clones.contains(secondChild)) {
+        secondChild.fixGenes();
         newPopulation.add(secondChild);
+        clones.add(secondChild);
       }
 
     }
+    BatchEvaluation.buildSolutions(newPopulation, parameters);
     population = newPopulation;
 
     removeDuplicatesAndDominated(population, combinedPopulations);
@@ -107,9 +114,7 @@ public class NTGAIII<PROBLEM extends BaseProblemRepresentation> extends GeneticA
 
   public List<BaseIndividual<Integer, PROBLEM>> createPopulation(List<BaseIndividual<Integer, PROBLEM>> combinedPopulations) {
     List<BaseIndividual<Integer, PROBLEM>> population = parameters.initialPopulation.generate(problem, populationSize, parameters.evaluator, parameters);
-    for (BaseIndividual<Integer, PROBLEM> individual : population) {
-      individual.buildSolution(individual.getGenes(), parameters);
-    }
+    BatchEvaluation.buildSolutions(population, parameters);
     sorter.nondominatedSorting(population);
     sorter.crowdingDistance(population);
 
@@ -3,6 +3,7 @@ package algorithms.evolutionary_algorithms.genetic_algorithm;
 
 import algorithms.evolutionary_algorithms.ParameterSet;
 import algorithms.evolutionary_algorithms.initial_population.BaseInitialPopulation;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
 import algorithms.problem.BaseIndividual;
 import algorithms.problem.BaseProblemRepresentation;
 
@@ -37,9 +38,7 @@ public class NondominatedSortingGA<PROBLEM extends BaseProblemRepresentation> ex
 
     population = parameters.initialPopulation.generate(problem, populationSize,
         parameters.evaluator, parameters);
-    for (BaseIndividual<Integer, PROBLEM> individual : population) {
-      individual.buildSolution(individual.getGenes(), parameters);
-    }
+    BatchEvaluation.buildSolutions(population, parameters);
     nondominatedSorting(population);
     allIndividuals.addAll(population);
     newPopulation = makeNewPop(population, allIndividuals);
@@ -146,13 +145,11 @@ public class NondominatedSortingGA<PROBLEM extends BaseProblemRepresentation> ex
 //        newPopulation.add(secondChild);
 //      }
 
-      firstChild.buildSolution(firstChild.getGenes(), parameters);
-      secondChild.buildSolution(secondChild.getGenes(), parameters);
-
       newPopulation.add(firstChild);
       newPopulation.add(secondChild);
 
     }
+    BatchEvaluation.buildSolutions(newPopulation, parameters);
 
     return newPopulation;
   }
@@ -7,6 +7,8 @@ import algorithms.evolutionary_algorithms.mutation.BaseMutation;
 import algorithms.evolutionary_algorithms.mutation.SwapBitMutation;
 import algorithms.evolutionary_algorithms.selection.BaseSelection;
 import algorithms.evolutionary_algorithms.selection.DiversitySelection;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
+import algorithms.evolutionary_algorithms.util.CloneIndex;
 import algorithms.evolutionary_algorithms.util.NondominatedSorter;
 import algorithms.problem.BaseIndividual;
 import algorithms.problem.BaseProblemRepresentation;
@@ -45,6 +47,8 @@ public class NondominatedTournamentGA<PROBLEM extends BaseProblemRepresentation>
         BaseIndividual<Integer, PROBLEM> firstChild;
         BaseIndividual<Integer, PROBLEM> secondChild;
         List<List<Integer>> children;
+        List<BaseIndividual<Integer, PROBLEM>> offspring;
+        CloneIndex<Integer, PROBLEM> clones;
 
         BaseSelection<Integer, PROBLEM> selection;
         selection = new DiversitySelection();
@@ -52,9 +56,7 @@ public class NondominatedTournamentGA<PROBLEM extends BaseProblemRepresentation>
 
         population = parameters.initialPopulation.generate(problem, populationSize, parameters.evaluator, parameters);
 
-        for (BaseIndividual<Integer, PROBLEM> individual : population) {
-            individual.buildSolution(individual.getGenes(), parameters);
-        }
+        BatchEvaluation.buildSolutions(population, parameters);
         sorter.nondominatedSorting(population);
         sorter.crowdingDistance(population);
         best = findBestIndividual(population);
@@ -75,6 +77,8 @@ public class NondominatedTournamentGA<PROBLEM extends BaseProblemRepresentation>
 
 		while (generation < generationLimit) {
 			newPopulation = new ArrayList<>();
+            offspring = new ArrayList<>();
+            clones = new CloneIndex<>(populationSize);
       sorter.nondominatedSorting(population);
 //      crowdingDistance(population);
 
@@ -119,33 +123,38 @@ public class NondominatedTournamentGA<PROBLEM extends BaseProblemRepresentation>
                 secondChild = new BaseIndividual<>(problem, children.get(1), parameters.evaluator);
 
                 // TODO: refactor after I get well :(
-                for (int i = 0; newPopulation.contains(firstChild) && i < 20; i++) {
+                for (int i = 0; clones.contains(firstChild) && i < 20; i++) {
                     firstChild.setGenes(parameters.mutation.mutate(population, 1.0, firstChild.getGenes(), 0, populationSize, parameters));
                 }
-                if (!newPopulation.contains(firstChild)) {
-                    firstChild.buildSolution(firstChild.getGenes(), parameters);
+                // genes are repaired at once, so later children are compared with the built ones
+                if (!clones.contains(firstChild)) {
+                    firstChild.fixGenes();
                     newPopulation.add(firstChild);
+                    clones.add(firstChild);
                 }
-                for (int i = 0; newPopulation.contains(secondChild) && i < 20; i++) {
+                for (int i = 0; clones.contains(secondChild) && i < 20; i++) {
                     secondChild.setGenes(parameters.mutation.mutate(population, 1.0, secondChild.getGenes(), 0, populationSize, parameters));
                 }
-                if (!newPopulation.contains(secondChild)) {
-                    secondChild.buildSolution(secondChild.getGenes(), parameters);
+                if (!clones.contains(secondChild)) {
+                    secondChild.fixGenes();
                     newPopulation.add(secondChild);
+                    clones.add(secondChild);
                 }
+                offspring.add(firstChild);
+                offspring.add(secondChild);
 
 //        buildSchedule(firstChild);
 //        buildSchedule(secondChild);
 //        newPopulation.add(firstChild);
 //        newPopulation.add(secondChild);
 
-                if (firstChild.getEvalValue() < best.getEvalValue()) {
-                    best = firstChild;
-                }
-                if (secondChild.getEvalValue() < best.getEvalValue()) {
-                    best = secondChild;
+            }
+            // selection and mutation use only the previous population, so all children are built at once
+            BatchEvaluation.buildSolutions(newPopulation, parameters);
+            for (BaseIndividual<Integer, PROBLEM> child : offspring) {
+                if (child.getEvalValue() < best.getEvalValue()) {
+                    best = child;
                 }
-
             }
             population = newPopulation;
 //      long start = System.nanoTime();
@@ -96,6 +96,20 @@ public class OptimisationResult<PROBLEM extends BaseProblemRepresentation> {
         numberOfAfterCrossAndMutAfterCrossChecks += 2;
     }
 
+    /**
+     * Adds counters of another run, e.g. of another island of the same run.
+     */
+    public void add(OptimisationResult<?> other) {
+        afterCrossParentDominationCounter += other.afterCrossParentDominationCounter;
+        numberOfAfterCrossChecks += other.numberOfAfterCrossChecks;
+        afterCrossAndMutParentDominationCounter += other.afterCrossAndMutParentDominationCounter;
+        numberOfAfterCrossAndMutChecks += other.numberOfAfterCrossAndMutChecks;
+        afterCrossAfterCrossAndMutDominationCounter += other.afterCrossAfterCrossAndMutDominationCounter;
+        numberOfAfterCrossAfterCrossAndMutChecks += other.numberOfAfterCrossAfterCrossAndMutChecks;
+        afterCrossAndMutAfterCrossDominationCounter += other.afterCrossAndMutAfterCrossDominationCounter;
+        numberOfAfterCrossAndMutAfterCrossChecks += other.numberOfAfterCrossAndMutAfterCrossChecks;
+    }
+
     public static double getAvgAfterCrossParentDominationCounter(List<OptimisationResult> listOfResults) {
         int sum = 0;
         for(var e: listOfResults) {
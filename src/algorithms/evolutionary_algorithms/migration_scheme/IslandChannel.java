@@ -0,0 +1,60 @@
+package algorithms.evolutionary_algorithms.migration_scheme;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Connects an island with its neighbours. Migrants are sent as copies
+ * of their genes to lock-free queues of the neighbours, so islands
+ * never wait for each other and never share individuals or problems.
+ */
+public class IslandChannel<GENE extends Number> {
+
+  private final int migrationInterval;
+  private final int migrationSize;
+  private final ConcurrentLinkedQueue<List<GENE>> immigrants = new ConcurrentLinkedQueue<>();
+  private final List<IslandChannel<GENE>> neighbours = new ArrayList<>();
+
+  public IslandChannel(int migrationInterval, int migrationSize) {
+    this.migrationInterval = migrationInterval;
+    this.migrationSize = migrationSize;
+  }
+
+  public void connect(IslandChannel<GENE> neighbour) {
+    neighbours.add(neighbour);
+  }
+
+  public boolean isMigrationGeneration(int generation) {
+    return generation % migrationInterval == 0;
+  }
+
+  public int getMigrationSize() {
+    return migrationSize;
+  }
+
+  /**
+   * Sends the genes to every neighbour.
+   *
+   * @param emigrants genes of the migrants
+   */
+  public void emigrate(List<List<GENE>> emigrants) {
+    for (IslandChannel<GENE> neighbour : neighbours) {
+      for (List<GENE> genes : emigrants) {
+        neighbour.immigrants.offer(new ArrayList<>(genes));
+      }
+    }
+  }
+
+  /**
+   * @return genes of all migrants received since the last call
+   */
+  public List<List<GENE>> immigrate() {
+    List<List<GENE>> received = new ArrayList<>();
+    for (List<GENE> genes = immigrants.poll(); genes != null; genes = immigrants.poll()) {
+      received.add(genes);
+    }
+    return received;
+  }
+
+}
@@ -0,0 +1,94 @@
+package algorithms.evolutionary_algorithms.migration_scheme;
+
+import algorithms.evolutionary_algorithms.EvolutionaryAlgorithm;
+import algorithms.evolutionary_algorithms.genetic_algorithm.GeneticAlgorithm;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.BaseProblemRepresentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntFunction;
+
+/**
+ * Runs several genetic algorithms (islands) on the same problem at once, each
+ * on its own thread with its own archive, parameters and random generator.
+ * Every migration interval an island sends elite members of its archive to
+ * the neighbouring islands of the topology, and it adds the received ones to
+ * its archive without waiting for them. Only algorithms which call
+ * <code>exchangeMigrants</code> (CGA) migrate, others run independently.
+ * Evaluations of received migrants are charged to the budget of the island.
+ * Final archives are merged in the island order into the global archive.
+ * Migration is asynchronous, so seeded runs with more than one island
+ * are not repeatable.
+ */
+public class IslandModel<PROBLEM extends BaseProblemRepresentation, ISLAND extends GeneticAlgorithm<PROBLEM>> {
+
+  private final int numIslands;
+  private final MigrationTopology topology;
+  private final int migrationInterval;
+  private final int migrationSize;
+  private final IntFunction<? extends ISLAND> islandFactory;
+  private final EvolutionaryAlgorithm<Integer, PROBLEM> frontMerger = new EvolutionaryAlgorithm<>();
+  private final List<ISLAND> islands = new ArrayList<>();
+
+  /**
+   * @param numIslands number of islands and threads
+   * @param topology islands to which migrants are sent
+   * @param migrationInterval number of generations between migrations
+   * @param migrationSize number of migrants sent to each neighbour
+   * @param islandFactory creates the algorithm of the island with the given index,
+   *                      parameters and random generators must not be shared between islands
+   */
+  public IslandModel(int numIslands, MigrationTopology topology, int migrationInterval, int migrationSize,
+                     IntFunction<? extends ISLAND> islandFactory) {
+    this.numIslands = numIslands;
+    this.topology = topology;
+    this.migrationInterval = migrationInterval;
+    this.migrationSize = migrationSize;
+    this.islandFactory = islandFactory;
+  }
+
+  public List<BaseIndividual<Integer, PROBLEM>> optimize() {
+    List<IslandChannel<Integer>> channels = new ArrayList<>(numIslands);
+    for (int island = 0; island < numIslands; ++island) {
+      channels.add(new IslandChannel<>(migrationInterval, migrationSize));
+    }
+    for (int island = 0; island < numIslands; ++island) {
+      for (int neighbour : topology.getNeighbours(island, numIslands)) {
+        channels.get(island).connect(channels.get(neighbour));
+      }
+    }
+
+    islands.clear();
+    for (int island = 0; island < numIslands; ++island) {
+      ISLAND algorithm = islandFactory.apply(island);
+      algorithm.setIslandChannel(channels.get(island));
+      islands.add(algorithm);
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(numIslands);
+    List<ForkJoinTask<List<BaseIndividual<Integer, PROBLEM>>>> tasks = new ArrayList<>(numIslands);
+    try {
+      for (ISLAND algorithm : islands) {
+        tasks.add(pool.submit(algorithm::optimize));
+      }
+      List<BaseIndividual<Integer, PROBLEM>> archive = new ArrayList<>();
+      for (ForkJoinTask<List<BaseIndividual<Integer, PROBLEM>>> task : tasks) {
+        frontMerger.removeDuplicatesAndDominated(task.join(), archive);
+      }
+      return archive;
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * @return algorithms of the islands of the last run, in the island order
+   */
+  public List<ISLAND> getIslands() {
+    return islands;
+  }
+
+}
@@ -0,0 +1,46 @@
+package algorithms.evolutionary_algorithms.migration_scheme;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Islands to which an island sends its migrants.
+ */
+public enum MigrationTopology {
+
+  // previous and next island
+  RING,
+  // left, right, upper and lower island of a grid wrapped at its edges, the last row may be shorter
+  TORUS,
+  FULLY_CONNECTED;
+
+  /**
+   * @param island index of the island
+   * @param numIslands number of all islands
+   * @return distinct indices of the neighbouring islands, without the island itself
+   */
+  public int[] getNeighbours(int island, int numIslands) {
+    int[] neighbours;
+    switch (this) {
+      case RING:
+        neighbours = new int[]{(island + 1) % numIslands, (island + numIslands - 1) % numIslands};
+        break;
+      case TORUS:
+        int columns = (int) Math.ceil(Math.sqrt(numIslands));
+        int row = island / columns;
+        int column = island % columns;
+        int rowLength = Math.min(columns, numIslands - row * columns);
+        int columnLength = (numIslands - 1 - column) / columns + 1;
+        neighbours = new int[]{
+            row * columns + (column + 1) % rowLength,
+            row * columns + (column + rowLength - 1) % rowLength,
+            ((row + 1) % columnLength) * columns + column,
+            ((row + columnLength - 1) % columnLength) * columns + column};
+        break;
+      default:
+        neighbours = IntStream.range(0, numIslands).toArray();
+    }
+    return Arrays.stream(neighbours).filter(neighbour -> neighbour != island).distinct().toArray();
+  }
+
+}
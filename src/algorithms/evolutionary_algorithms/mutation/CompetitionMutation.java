@@ -1,15 +1,12 @@
 package algorithms.evolutionary_algorithms.mutation;
 
 import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.evolutionary_algorithms.util.IntGenotype;
 import algorithms.problem.BaseIndividual;
 import algorithms.problem.BaseProblemRepresentation;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepresentation> {
 
@@ -34,91 +31,93 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
                               double TSPmutationProbability, double KNAPmutationProbability, List<Integer> genesToMutate,
                               int current, int populationSize, ParameterSet<Integer, BaseProblemRepresentation> parameters) {
     int splitPoint = parameters.geneSplitPoint;
+    IntGenotype genotype = new IntGenotype(genesToMutate, splitPoint);
 
     if(parameters.TSPmutationVersion == 1) {
-      indWiseReverseMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint); // BASELINE
+      indWiseReverseMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint); // BASELINE
     } else if(parameters.TSPmutationVersion == 2) {
-      indWiseReverseFixedLengthMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint, 40);
+      indWiseReverseFixedLengthMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint, 40);
     } else if(parameters.TSPmutationVersion == 3) {
-      geneWiseReverseMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint);
+      geneWiseReverseMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.TSPmutationVersion == 4) {
-      indWiseDisplacementMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseDisplacementMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.TSPmutationVersion == 5) {
-      indWiseInversionDisplacementMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseInversionDisplacementMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.TSPmutationVersion == 6) {
-      indWiseScrambleDisplacementMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseScrambleDisplacementMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.TSPmutationVersion == 7) {
-      indWiseScrambleMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseScrambleMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.TSPmutationVersion == 8) {
-      indWiseInsertionMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseInsertionMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.TSPmutationVersion == 9) {
-      geneWiseInsertionMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint);
+      geneWiseInsertionMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.TSPmutationVersion == 10) {
-      geneWiseBitSwapMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint);
+      geneWiseBitSwapMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.TSPmutationVersion == 11) {
-      indWiseBitSwapMutationTSP(TSPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseBitSwapMutationTSP(TSPmutationProbability, genotype, parameters, splitPoint);
     }
 
     if(parameters.KNAPmutationVersion == 1) {
-      geneWiseBitFlipMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint); // BASELINE
+      geneWiseBitFlipMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint); // BASELINE
     } else if(parameters.KNAPmutationVersion == 2) { // NEW FAVOURITE
-      indWiseBitFlipMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint, 1); // NEW FAVOURITE
+      indWiseBitFlipMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint, 1); // NEW FAVOURITE
     } else if(parameters.KNAPmutationVersion == 3) {
-      indWiseReverseMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseReverseMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 4) {
-      indWiseReverseFixedLengthMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint, 30);
+      indWiseReverseFixedLengthMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint, 30);
     } else if(parameters.KNAPmutationVersion == 5) {
-      geneWiseReverseMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      geneWiseReverseMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 6) {
-      indWiseDisplacementMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseDisplacementMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 7) {
-      indWiseInversionDisplacementMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseInversionDisplacementMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 8) {
-      indWiseScrambleDisplacementMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseScrambleDisplacementMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 9) {
-      indWiseScrambleMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseScrambleMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 10) {
-      indWiseInsertionMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseInsertionMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 11) {
-      geneWiseInsertionMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      geneWiseInsertionMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 12) {
-      geneWiseBitSwapMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      geneWiseBitSwapMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 13) {
-      indWiseBitSwapMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseBitSwapMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 14) {
-      indWiseBitFlipSeqMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseBitFlipSeqMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 15) {
-      indWiseBitFlipSeqFixedLengthMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint, 40);
+      indWiseBitFlipSeqFixedLengthMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint, 40);
     } else if(parameters.KNAPmutationVersion == 16) {
-      indWiseBitFlipSeqDisplacementMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseBitFlipSeqDisplacementMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 17) {
-      indWiseInversionDisplacementMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseInversionDisplacementMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 18) {
-      indWiseBitFlipInsertionMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      indWiseBitFlipInsertionMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 19) {
-      geneWiseBitFlipInsertionMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      geneWiseBitFlipInsertionMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 20) {
-      geneWiseInsertionMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint);
+      geneWiseInsertionMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint);
     } else if(parameters.KNAPmutationVersion == 21) {
-      indWiseBitFlipMutationDynKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint, 2);
+      indWiseBitFlipMutationDynKNAP(KNAPmutationProbability, genotype, parameters, splitPoint, 2);
     } else if(parameters.KNAPmutationVersion == 22) {
-      indWiseBitFlipMutationDynKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint, 3);
+      indWiseBitFlipMutationDynKNAP(KNAPmutationProbability, genotype, parameters, splitPoint, 3);
     } else if(parameters.KNAPmutationVersion == 23) {
-      indWiseBitFlipMutationDynKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint, 4);
+      indWiseBitFlipMutationDynKNAP(KNAPmutationProbability, genotype, parameters, splitPoint, 4);
     }  else if(parameters.KNAPmutationVersion == 24) {
-      indWiseBitFlipMutationDynKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint, 5);
+      indWiseBitFlipMutationDynKNAP(KNAPmutationProbability, genotype, parameters, splitPoint, 5);
     } else if(parameters.KNAPmutationVersion == 25) {
-      indWiseBitFlipMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint, 2);
+      indWiseBitFlipMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint, 2);
     } else if(parameters.KNAPmutationVersion == 26) {
-      indWiseBitFlipMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint, 3);
+      indWiseBitFlipMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint, 3);
     } else if(parameters.KNAPmutationVersion == 27) {
-      indWiseBitFlipMutationKNAP(KNAPmutationProbability, genesToMutate, parameters, splitPoint, 4);
+      indWiseBitFlipMutationKNAP(KNAPmutationProbability, genotype, parameters, splitPoint, 4);
     }
+    genotype.copyTo(genesToMutate);
     return genesToMutate;
   }
 
 
-  private static void geneWiseReverseMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void geneWiseReverseMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // gene-wise reverse mutation TSP
     for(int i = 0; i < splitPoint; i++) {
       if (parameters.random.nextDouble() < TSPmutationProbability) {
@@ -128,15 +127,15 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
           secondGene = parameters.random.nextInt(splitPoint);
         }
         if (firstGene < secondGene) {
-          Collections.reverse(genesToMutate.subList(firstGene, secondGene));
+          genesToMutate.reverse(firstGene, secondGene);
         } else {
-          Collections.reverse(genesToMutate.subList(secondGene, firstGene));
+          genesToMutate.reverse(secondGene, firstGene);
         }
       }
     }
   }
 
-  private static void indWiseReverseMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseReverseMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // Individual - wise reverse mutation TSP
     if (parameters.random.nextDouble() < TSPmutationProbability) {
 
@@ -147,15 +146,15 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       }
 //      Collections.swap(genesToMutate, firstGene, secondGene);
       if (firstGene < secondGene) {
-        Collections.reverse(genesToMutate.subList(firstGene, secondGene));
+        genesToMutate.reverse(firstGene, secondGene);
       } else {
-        Collections.reverse(genesToMutate.subList(secondGene, firstGene));
+        genesToMutate.reverse(secondGene, firstGene);
       }
 
     }
   }
 
-  private static void indWiseBitSwapMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseBitSwapMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     //     ind-wise swap bit mutation TSP
     if (parameters.random.nextDouble() < TSPmutationProbability) {
       int firstGene = parameters.random.nextInt(splitPoint);
@@ -163,11 +162,11 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       while (firstGene == secondGene) {
         secondGene = parameters.random.nextInt(splitPoint);
       }
-      Collections.swap(genesToMutate, firstGene, secondGene);
+      genesToMutate.swap(firstGene, secondGene);
     }
   }
 
-  private static void geneWiseBitSwapMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void geneWiseBitSwapMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // gene-wise swap bit mutation TSP
     for(int i = 0; i < splitPoint; i++) {
       if (parameters.random.nextDouble() < TSPmutationProbability) {
@@ -175,38 +174,34 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
         while (i == secondGene) {
           secondGene = parameters.random.nextInt(splitPoint);
         }
-        Collections.swap(genesToMutate, i, secondGene);
+        genesToMutate.swap(i, secondGene);
       }
     }
   }
 
-  private static void geneWiseInsertionMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void geneWiseInsertionMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // gene-wise TSP insertion mutation
     for(int i = 0; i < splitPoint; i++) {
       if (parameters.random.nextDouble() < TSPmutationProbability) {
         int geneNumberToMove = i;
         int whereToInsert = parameters.random.nextInt(splitPoint - 1);
 
-        int geneToInsert = genesToMutate.get(geneNumberToMove);
-        genesToMutate.remove(geneNumberToMove);
-        genesToMutate.add(whereToInsert, geneToInsert);
+        genesToMutate.move(geneNumberToMove, whereToInsert);
       }
     }
   }
 
-  private static void indWiseInsertionMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseInsertionMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // ind-wise TSP insertion mutation
     if (parameters.random.nextDouble() < TSPmutationProbability) {
       int geneNumberToMove = parameters.random.nextInt(splitPoint);
       int whereToInsert = parameters.random.nextInt(splitPoint - 1);
 
-      int geneToInsert = genesToMutate.get(geneNumberToMove);
-      genesToMutate.remove(geneNumberToMove);
-      genesToMutate.add(whereToInsert, geneToInsert);
+      genesToMutate.move(geneNumberToMove, whereToInsert);
     }
   }
 
-  private static void indWiseScrambleMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseScrambleMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // TSP Scramble mutation
     if (parameters.random.nextDouble() < TSPmutationProbability) {
       int a = parameters.random.nextInt(splitPoint);
@@ -217,12 +212,11 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int firstGene = Math.min(a, b);
       int secondGene = Math.max(a, b);
 
-      List<Integer> subList = genesToMutate.subList(firstGene, secondGene);
-      Collections.shuffle(subList, parameters.random.getRandom());
+      genesToMutate.shuffle(firstGene, secondGene, parameters.random.getRandom());
     }
   }
 
-  private static void indWiseScrambleDisplacementMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseScrambleDisplacementMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // TSP Scramble displacement mutation
     if (parameters.random.nextDouble() < TSPmutationProbability) {
       int a = parameters.random.nextInt(splitPoint);
@@ -233,14 +227,13 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int firstGene = Math.min(a, b);
       int secondGene = Math.max(a, b);
 
-      List<Integer> sublistToBeDisplaced = removeAndReturnSubList(genesToMutate, firstGene, secondGene);
-      int displacementLocation = parameters.random.nextInt(splitPoint - sublistToBeDisplaced.size());
-      Collections.shuffle(sublistToBeDisplaced, parameters.random.getRandom());
-      genesToMutate.addAll(displacementLocation, sublistToBeDisplaced);
+      int displacementLocation = parameters.random.nextInt(splitPoint - (secondGene - firstGene));
+      genesToMutate.displace(firstGene, secondGene, displacementLocation);
+      genesToMutate.shuffle(displacementLocation, displacementLocation + secondGene - firstGene, parameters.random.getRandom());
     }
   }
 
-  private static void indWiseInversionDisplacementMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseInversionDisplacementMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // TSP Inversion displacement mutation
     if (parameters.random.nextDouble() < TSPmutationProbability) {
       int a = parameters.random.nextInt(splitPoint);
@@ -251,14 +244,13 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int firstGene = Math.min(a, b);
       int secondGene = Math.max(a, b);
 
-      List<Integer> sublistToBeDisplaced = removeAndReturnSubList(genesToMutate, firstGene, secondGene);
-      int displacementLocation = parameters.random.nextInt(splitPoint - sublistToBeDisplaced.size());
-      Collections.reverse(sublistToBeDisplaced);
-      genesToMutate.addAll(displacementLocation, sublistToBeDisplaced);
+      int displacementLocation = parameters.random.nextInt(splitPoint - (secondGene - firstGene));
+      genesToMutate.displace(firstGene, secondGene, displacementLocation);
+      genesToMutate.reverse(displacementLocation, displacementLocation + secondGene - firstGene);
     }
   }
 
-  private static void indWiseDisplacementMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseDisplacementMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // TSP displacement mutation
     if (parameters.random.nextDouble() < TSPmutationProbability) {
       int a = parameters.random.nextInt(splitPoint);
@@ -269,13 +261,12 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int firstGene = Math.min(a, b);
       int secondGene = Math.max(a, b);
 
-      List<Integer> sublistToBeDisplaced = removeAndReturnSubList(genesToMutate, firstGene, secondGene);
-      int displacementLocation = parameters.random.nextInt(splitPoint - sublistToBeDisplaced.size());
-      genesToMutate.addAll(displacementLocation, sublistToBeDisplaced);
+      int displacementLocation = parameters.random.nextInt(splitPoint - (secondGene - firstGene));
+      genesToMutate.displace(firstGene, secondGene, displacementLocation);
     }
   }
 
-  private static void indWiseReverseFixedLengthMutationTSP(double TSPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint, int length) {
+  private static void indWiseReverseFixedLengthMutationTSP(double TSPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint, int length) {
     // Individual - wise reverse with fixed length mutation TSP
     if (parameters.random.nextDouble() < TSPmutationProbability) {
 
@@ -286,48 +277,48 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       }
 //      Collections.swap(genesToMutate, firstGene, secondGene);
       if (firstGene < secondGene) {
-        Collections.reverse(genesToMutate.subList(firstGene, secondGene));
+        genesToMutate.reverse(firstGene, secondGene);
       } else {
-        Collections.reverse(genesToMutate.subList(secondGene, firstGene));
+        genesToMutate.reverse(secondGene, firstGene);
       }
     }
   }
 
-  private static void geneWiseBitFlipMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void geneWiseBitFlipMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // KNAP gene-wise mutation
     for(int i = splitPoint; i < genesToMutate.size(); i++) {
       if (parameters.random.nextDouble() < KNAPmutationProbability) {
-        genesToMutate.set(i, genesToMutate.get(i) ^ 1);
+        genesToMutate.flip(i);
       }
     }
   }
 
-  private static void indWiseBitFlipMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint, int numberOfSwaps) {
+  private static void indWiseBitFlipMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint, int numberOfSwaps) {
     //      individual-wise knapsack mutation
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
       for(int i = 0; i < numberOfSwaps; i++) {
         int random = parameters.random.next(genesToMutate.size() - splitPoint) + splitPoint;
-        genesToMutate.set(random, genesToMutate.get(random) ^ 1);
+        genesToMutate.flip(random);
 //        System.out.println(i + ", " + random);
       }
 //      System.out.println("");
     }
   }
-  private static void indWiseBitFlipMutationDynKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint, int numberOfPotentialSwaps) {
+  private static void indWiseBitFlipMutationDynKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint, int numberOfPotentialSwaps) {
     //      individual-wise knapsack mutation
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
       int numberOdGeneFlips = parameters.random.next(numberOfPotentialSwaps) + 1; // min 1 swap
 
       for (int i = 0; i < numberOdGeneFlips; i++) {
         int random = parameters.random.next(genesToMutate.size() - splitPoint) + splitPoint;
-        genesToMutate.set(random, genesToMutate.get(random) ^ 1);
+        genesToMutate.flip(random);
 //        System.out.println(i + ", " + random);
       }
 //      System.out.println("");
     }
   }
 
-  private static void geneWiseReverseMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void geneWiseReverseMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // gene-wise reverse mutation KNAP
     for(int i = splitPoint; i < genesToMutate.size(); i++) {
       if (parameters.random.nextDouble() < KNAPmutationProbability) {
@@ -337,15 +328,15 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
           secondGene = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
         }
         if (firstGene < secondGene) {
-          Collections.reverse(genesToMutate.subList(firstGene, secondGene));
+          genesToMutate.reverse(firstGene, secondGene);
         } else {
-          Collections.reverse(genesToMutate.subList(secondGene, firstGene));
+          genesToMutate.reverse(secondGene, firstGene);
         }
       }
     }
   }
 
-  private static void indWiseBitFlipSeqMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseBitFlipSeqMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // Individual - wise reverse mutation KNAP
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
 
@@ -357,15 +348,11 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int firstGene = Math.min(a, b);
       int secondGene = Math.max(a, b);
 
-      Function<Integer, Integer> function = bit -> bit ^ 1;
-      int finalSecondGene = secondGene;
-      IntStream.range(0, genesToMutate.size())
-              .mapToObj(i -> i >= firstGene && i <= finalSecondGene ? genesToMutate.set(i, function.apply(genesToMutate.get(i))) : genesToMutate.get(i))
-              .collect(Collectors.toList());
+      genesToMutate.flip(firstGene, secondGene + 1);
     }
   }
 
-  private static void indWiseReverseMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseReverseMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // Individual - wise reverse mutation KNAP
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
 
@@ -376,15 +363,15 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       }
 //      Collections.swap(genesToMutate, firstGene, secondGene);
       if (firstGene < secondGene) {
-        Collections.reverse(genesToMutate.subList(firstGene, secondGene));
+        genesToMutate.reverse(firstGene, secondGene);
       } else {
-        Collections.reverse(genesToMutate.subList(secondGene, firstGene));
+        genesToMutate.reverse(secondGene, firstGene);
       }
 
     }
   }
 
-  private static void indWiseBitSwapMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseBitSwapMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     //     ind-wise swap bit mutation KNAP
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
       int firstGene = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
@@ -392,12 +379,12 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       while (firstGene == secondGene) {
         secondGene = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
       }
-      Collections.swap(genesToMutate, firstGene, secondGene);
+      genesToMutate.swap(firstGene, secondGene);
     }
   }
 
 
-  private static void geneWiseBitSwapMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void geneWiseBitSwapMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // gene-wise swap bit mutation TSP
     for(int i = splitPoint; i < genesToMutate.size(); i++) {
       if (parameters.random.nextDouble() < KNAPmutationProbability) {
@@ -405,67 +392,61 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
         while (i == secondGene) {
           secondGene = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
         }
-        Collections.swap(genesToMutate, i, secondGene);
+        genesToMutate.swap(i, secondGene);
       }
     }
   }
 
-  private static void geneWiseBitFlipInsertionMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void geneWiseBitFlipInsertionMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // gene-wise KNAP insertion mutation
     for(int i = splitPoint; i < genesToMutate.size(); i++) {
       if (parameters.random.nextDouble() < KNAPmutationProbability) {
         int geneNumberToMove = i;
         int whereToInsert = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
 
-        int geneToInsert = genesToMutate.get(geneNumberToMove);
-        geneToInsert = geneToInsert ^ 1;
-        genesToMutate.remove(geneNumberToMove);
-        genesToMutate.add(whereToInsert, geneToInsert);
+        genesToMutate.move(geneNumberToMove, whereToInsert);
+
+        genesToMutate.flip(whereToInsert);
       }
     }
   }
 
-  private static void geneWiseInsertionMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void geneWiseInsertionMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // gene-wise KNAP insertion mutation
     for(int i = splitPoint; i < genesToMutate.size(); i++) {
       if (parameters.random.nextDouble() < KNAPmutationProbability) {
         int geneNumberToMove = i;
         int whereToInsert = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
 
-        int geneToInsert = genesToMutate.get(geneNumberToMove);
-        genesToMutate.remove(geneNumberToMove);
-        genesToMutate.add(whereToInsert, geneToInsert);
+        genesToMutate.move(geneNumberToMove, whereToInsert);
       }
     }
   }
 
-  private static void indWiseBitFlipInsertionMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseBitFlipInsertionMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // ind-wise KNAP insertion mutation
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
       int geneNumberToMove = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
       int whereToInsert = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
 
-      int geneToInsert = genesToMutate.get(geneNumberToMove);
-      geneToInsert = geneToInsert ^ 1;
-      genesToMutate.remove(geneNumberToMove);
-      genesToMutate.add(whereToInsert, geneToInsert);
+      genesToMutate.move(geneNumberToMove, whereToInsert);
+
+      genesToMutate.flip(whereToInsert);
     }
   }
 
-  private static void indWiseInsertionMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseInsertionMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // ind-wise KNAP insertion mutation
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
       int geneNumberToMove = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
       int whereToInsert = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
 
-      int geneToInsert = genesToMutate.get(geneNumberToMove);
-      genesToMutate.remove(geneNumberToMove);
-      genesToMutate.add(whereToInsert, geneToInsert);
+      genesToMutate.move(geneNumberToMove, whereToInsert);
     }
   }
 
 
-  private static void indWiseScrambleMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseScrambleMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // KNAP Scramble mutation
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
       int a = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
@@ -476,13 +457,12 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int firstGene = Math.min(a, b);
       int secondGene = Math.max(a, b);
 
-      List<Integer> subList = genesToMutate.subList(firstGene, secondGene);
-      Collections.shuffle(subList, parameters.random.getRandom());
+      genesToMutate.shuffle(firstGene, secondGene, parameters.random.getRandom());
     }
   }
 
 
-  private static void indWiseScrambleDisplacementMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseScrambleDisplacementMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // KNAP Scramble displacement mutation
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
       int a = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
@@ -493,16 +473,15 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int firstGene = Math.min(a, b);
       int secondGene = Math.max(a, b);
 
-      List<Integer> sublistToBeDisplaced = removeAndReturnSubList(genesToMutate, firstGene, secondGene);
-      int displacementLocation = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
-      Collections.shuffle(sublistToBeDisplaced, parameters.random.getRandom());
-      genesToMutate.addAll(displacementLocation, sublistToBeDisplaced);
+      int displacementLocation = parameters.random.nextInt(genesToMutate.size() - (secondGene - firstGene) - splitPoint) + splitPoint;
+      genesToMutate.displace(firstGene, secondGene, displacementLocation);
+      genesToMutate.shuffle(displacementLocation, displacementLocation + secondGene - firstGene, parameters.random.getRandom());
     }
   }
 
 
 
-  private static void indWiseBitFlipSeqDisplacementMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseBitFlipSeqDisplacementMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // KNAP Inversion displacement mutation
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
       int a = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
@@ -513,18 +492,13 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int firstGene = Math.min(a, b);
       int secondGene = Math.max(a, b);
 
-      List<Integer> sublistToBeDisplaced = removeAndReturnSubList(genesToMutate, firstGene, secondGene);
-      int displacementLocation = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
-      Function<Integer, Integer> function = bit -> bit ^ 1;
-      int finalSecondGene = secondGene;
-      IntStream.range(0, sublistToBeDisplaced.size())
-              .mapToObj(i -> sublistToBeDisplaced.set(i, function.apply(sublistToBeDisplaced.get(i))))
-              .collect(Collectors.toList());
-      genesToMutate.addAll(displacementLocation, sublistToBeDisplaced);
+      int displacementLocation = parameters.random.nextInt(genesToMutate.size() - (secondGene - firstGene) - splitPoint) + splitPoint;
+      genesToMutate.displace(firstGene, secondGene, displacementLocation);
+      genesToMutate.flip(displacementLocation, displacementLocation + secondGene - firstGene);
     }
   }
 
-  private static void indWiseInversionDisplacementMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseInversionDisplacementMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // KNAP Inversion displacement mutation
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
       int a = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
@@ -535,16 +509,15 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int firstGene = Math.min(a, b);
       int secondGene = Math.max(a, b);
 
-      List<Integer> sublistToBeDisplaced = removeAndReturnSubList(genesToMutate, firstGene, secondGene);
-      int displacementLocation = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
-      Collections.reverse(sublistToBeDisplaced);
-      genesToMutate.addAll(displacementLocation, sublistToBeDisplaced);
+      int displacementLocation = parameters.random.nextInt(genesToMutate.size() - (secondGene - firstGene) - splitPoint) + splitPoint;
+      genesToMutate.displace(firstGene, secondGene, displacementLocation);
+      genesToMutate.reverse(displacementLocation, displacementLocation + secondGene - firstGene);
     }
   }
 
 
 
-  private static void indWiseDisplacementMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
+  private static void indWiseDisplacementMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint) {
     // KNAP displacement mutation
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
       int a = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
@@ -555,28 +528,23 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int firstGene = Math.min(a, b);
       int secondGene = Math.max(a, b);
 
-      List<Integer> sublistToBeDisplaced = removeAndReturnSubList(genesToMutate, firstGene, secondGene);
-      int displacementLocation = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
-      genesToMutate.addAll(displacementLocation, sublistToBeDisplaced);
+      int displacementLocation = parameters.random.nextInt(genesToMutate.size() - (secondGene - firstGene) - splitPoint) + splitPoint;
+      genesToMutate.displace(firstGene, secondGene, displacementLocation);
     }
   }
 
 
-  private static void indWiseBitFlipSeqFixedLengthMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint, int length) {
+  private static void indWiseBitFlipSeqFixedLengthMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint, int length) {
     // Individual - wise reverse with fixed length mutation KNAP
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
 
       int firstGene = parameters.random.nextInt(genesToMutate.size() - splitPoint) + splitPoint;
       int secondGene = Math.min(firstGene + length, genesToMutate.size() - 1);
-      Function<Integer, Integer> function = bit -> bit ^ 1;
-      int finalSecondGene = secondGene;
-      IntStream.range(0, genesToMutate.size())
-              .mapToObj(i -> i >= firstGene && i <= finalSecondGene ? genesToMutate.set(i, function.apply(genesToMutate.get(i))) : genesToMutate.get(i))
-              .collect(Collectors.toList());
+      genesToMutate.flip(firstGene, secondGene + 1);
     }
   }
 
-  private static void indWiseReverseFixedLengthMutationKNAP(double KNAPmutationProbability, List<Integer> genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint, int length) {
+  private static void indWiseReverseFixedLengthMutationKNAP(double KNAPmutationProbability, IntGenotype genesToMutate, ParameterSet<Integer, BaseProblemRepresentation> parameters, int splitPoint, int length) {
     // Individual - wise reverse with fixed length mutation KNAP
     if (parameters.random.nextDouble() < KNAPmutationProbability) {
 
@@ -584,9 +552,9 @@ public class CompetitionMutation extends BaseMutation<Integer, BaseProblemRepres
       int secondGene = Math.min(firstGene + length, genesToMutate.size() - 1); //parameters.random.nextInt(splitPoint);
 //      Collections.swap(genesToMutate, firstGene, secondGene);
       if (firstGene < secondGene) {
-        Collections.reverse(genesToMutate.subList(firstGene, secondGene));
+        genesToMutate.reverse(firstGene, secondGene);
       } else {
-        Collections.reverse(genesToMutate.subList(secondGene, firstGene));
+        genesToMutate.reverse(secondGene, firstGene);
       }
     }
   }
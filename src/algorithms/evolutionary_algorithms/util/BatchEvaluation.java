@@ -0,0 +1,150 @@
+package algorithms.evolutionary_algorithms.util;
+
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.BaseProblemRepresentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Builds and evaluates a batch of individuals, which were already created
+ * by the variation operators, on the <code>evaluationPool</code> of the parameters.
+ * The batch is split into contiguous chunks and the calling thread processes
+ * the first one itself. Every individual is built on its own problem and
+ * the results stay in place, so they are merged in the order of submission.
+ * Random generator of the parameters has to be used only by the variation,
+ * which stays on the calling thread, so seeded runs give the same results
+ * with and without the pool.
+ */
+public final class BatchEvaluation {
+
+  /**
+   * System property with the number of threads of the pool returned by <code>getPool</code>
+   */
+  public static final String THREADS_PROPERTY = "evaluation.threads";
+
+  // chunks per thread, so threads finishing early may take the rest of the batch
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private static ForkJoinPool pool;
+
+  private BatchEvaluation() { }
+
+  /**
+   * Pool for the <code>evaluationPool</code> of runners, with the number of threads
+   * given by <code>evaluation.threads</code>. All runs of the process share the pool,
+   * its threads are daemons, so it is never shut down.
+   *
+   * @return shared pool, or null if fewer than two threads are set
+   */
+  public static synchronized ExecutorService getPool() {
+    int threads = Integer.getInteger(THREADS_PROPERTY, 1);
+    if (threads < 2) {
+      return null;
+    }
+    if (pool == null || pool.getParallelism() != threads) {
+      pool = new ForkJoinPool(threads);
+    }
+    return pool;
+  }
+
+  /**
+   * Builds solutions of the individuals based on their genes.
+   *
+   * @param individuals individuals to build
+   * @param parameters parameters with the evaluation pool
+   */
+  public static <GENE extends Number, PROBLEM extends BaseProblemRepresentation> void buildSolutions(
+      List<BaseIndividual<GENE, PROBLEM>> individuals, ParameterSet<GENE, PROBLEM> parameters) {
+    forEach(individuals, individual -> individual.buildSolution(individual.getGenes(), parameters), parameters);
+  }
+
+  /**
+   * Runs the task for every item, in parallel if the parameters have an evaluation pool
+   * and the order of building solutions does not matter. Constraint preservers may
+   * use their own random generators, so with a preserver the items are processed
+   * one by one in their order.
+   *
+   * @param items items to process
+   * @param task task which may run on any thread, but changes only the state of its item
+   * @param parameters parameters with the evaluation pool
+   */
+  public static <T> void forEach(List<T> items, Consumer<? super T> task, ParameterSet<?, ?> parameters) {
+    ExecutorService pool = parameters.evaluationPool;
+    if (pool == null || parameters.constraintPreserver != null || items.size() < 2) {
+      for (T item : items) {
+        task.accept(item);
+      }
+      return;
+    }
+
+    int threads = pool instanceof ForkJoinPool ? ((ForkJoinPool) pool).getParallelism()
+        : Runtime.getRuntime().availableProcessors();
+    int numChunks = Math.min(items.size(), Math.max(1, threads * CHUNKS_PER_THREAD));
+    // failures are kept per chunk, as the pool may pass copies of exceptions thrown by its threads
+    Throwable[] failures = new Throwable[numChunks];
+    List<Future<?>> futures = new ArrayList<>(numChunks - 1);
+    for (int chunk = 1; chunk < numChunks; ++chunk) {
+      int chunkNumber = chunk;
+      List<T> chunkItems = getChunk(items, chunk, numChunks);
+      futures.add(pool.submit(() -> runChunk(chunkItems, task, failures, chunkNumber)));
+    }
+    runChunk(getChunk(items, 0, numChunks), task, failures, 0);
+    // all chunks are finished before returning, even if one of them failed
+    boolean interrupted = false;
+    RuntimeException poolFailure = null;
+    for (Future<?> future : futures) {
+      while (true) {
+        try {
+          future.get();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          if (poolFailure == null) {
+            poolFailure = asRuntimeException(e.getCause());
+          }
+          break;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    // the failure of the first chunk is passed on, the same as without the pool
+    for (Throwable failure : failures) {
+      if (failure != null) {
+        throw asRuntimeException(failure);
+      }
+    }
+    if (poolFailure != null) {
+      throw poolFailure;
+    }
+  }
+
+  private static <T> void runChunk(List<T> items, Consumer<? super T> task, Throwable[] failures, int chunk) {
+    try {
+      items.forEach(task);
+    } catch (RuntimeException | Error e) {
+      failures[chunk] = e;
+    }
+  }
+
+  private static <T> List<T> getChunk(List<T> items, int chunk, int numChunks) {
+    return items.subList(items.size() * chunk / numChunks, items.size() * (chunk + 1) / numChunks);
+  }
+
+  private static RuntimeException asRuntimeException(Throwable cause) {
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+  }
+
+}
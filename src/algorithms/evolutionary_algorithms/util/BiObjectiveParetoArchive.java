@@ -0,0 +1,152 @@
+package algorithms.evolutionary_algorithms.util;
+
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.BaseProblemRepresentation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pareto front of a bi-objective problem kept sorted by the first objective.
+ * In a front without duplicates the second objective strictly decreases along
+ * the first one, so the only candidate that can dominate a new individual is its
+ * floor entry and the individuals it dominates form a contiguous range right after it.
+ * Both checks take logarithmic time.
+ *
+ * @param <GENE> type of genes
+ * @param <PROBLEM> type of problem
+ */
+public class BiObjectiveParetoArchive<GENE extends Number, PROBLEM extends BaseProblemRepresentation> {
+
+  private final TreeMap<Double, BaseIndividual<GENE, PROBLEM>> front = new TreeMap<>();
+
+  /**
+   * Adds an individual unless it is dominated by or equal to an archived one,
+   * removing all archived individuals it dominates. Individuals with equal
+   * objectives are treated as duplicates.
+   *
+   * @param individual individual to add
+   * @return number of changes in the archive, i.e. number of removed individuals
+   *         plus one if the individual was added, the same as counted by
+   *         <code>EvolutionaryAlgorithm.removeDuplicatesAndDominated</code>
+   */
+  public int add(BaseIndividual<GENE, PROBLEM> individual) {
+    double[] objectives = individual.getObjectives();
+    if (isWeaklyDominated(objectives[0], objectives[1])) {
+      return 0;
+    }
+
+    Double key = getKey(objectives[0]);
+    int changes = 0;
+    Iterator<BaseIndividual<GENE, PROBLEM>> dominated = front.tailMap(key, true).values().iterator();
+    while (dominated.hasNext() && dominated.next().getObjectives()[1] >= objectives[1]) {
+      dominated.remove();
+      changes++;
+    }
+    front.put(key, individual);
+    return changes + 1;
+  }
+
+  /**
+   * Adds the individuals of the other archive in the order of its first objective.
+   *
+   * @param archive archive to merge into this one
+   */
+  public void addAll(BiObjectiveParetoArchive<GENE, PROBLEM> archive) {
+    for (BaseIndividual<GENE, PROBLEM> individual : archive.front.values()) {
+      add(individual);
+    }
+  }
+
+  /**
+   * Lets a caller skip building an individual which would not be added.
+   *
+   * @return true if an archived individual is at least as good in both objectives
+   */
+  public boolean isWeaklyDominated(double first, double second) {
+    // only the floor entry can dominate the point or have the same objectives
+    Map.Entry<Double, BaseIndividual<GENE, PROBLEM>> floor = front.floorEntry(getKey(first));
+    return floor != null && floor.getValue().getObjectives()[1] <= second;
+  }
+
+  public boolean contains(BaseIndividual<GENE, PROBLEM> individual) {
+    return front.get(getKey(individual.getObjectives()[0])) == individual;
+  }
+
+  public int size() {
+    return front.size();
+  }
+
+  /**
+   * Returns archived individuals sorted by the first objective.
+   *
+   * @return list of individuals
+   */
+  public List<BaseIndividual<GENE, PROBLEM>> getIndividuals() {
+    return new ArrayList<>(front.values());
+  }
+
+  /**
+   * Returns individuals which are not dominated by any other individual of the
+   * population, in the original order and including duplicates. Sweeps the
+   * population sorted by objectives instead of comparing all pairs.
+   *
+   * @param population population of bi-objective individuals
+   * @return nondominated individuals
+   */
+  public static <GENE extends Number, PROBLEM extends BaseProblemRepresentation> List<BaseIndividual<GENE, PROBLEM>> getNondominated(
+      List<BaseIndividual<GENE, PROBLEM>> population) {
+    Integer[] order = new Integer[population.size()];
+    for (int i = 0; i < order.length; ++i) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (i, j) -> {
+      double[] first = population.get(i).getObjectives();
+      double[] second = population.get(j).getObjectives();
+      int result = Double.compare(getKey(first[0]), getKey(second[0]));
+      return result != 0 ? result : Double.compare(getKey(first[1]), getKey(second[1]));
+    });
+
+    boolean[] nondominated = new boolean[order.length];
+    double bestOfPreviousGroups = Double.POSITIVE_INFINITY;
+    for (int groupStart = 0, groupEnd; groupStart < order.length; groupStart = groupEnd) {
+      double[] groupBest = population.get(order[groupStart]).getObjectives();
+      groupEnd = groupStart;
+      while (groupEnd < order.length && population.get(order[groupEnd]).getObjectives()[0] == groupBest[0]) {
+        double second = population.get(order[groupEnd]).getObjectives()[1];
+        nondominated[order[groupEnd]] = second == groupBest[1] && second < bestOfPreviousGroups;
+        ++groupEnd;
+      }
+      bestOfPreviousGroups = Math.min(bestOfPreviousGroups, groupBest[1]);
+    }
+
+    List<BaseIndividual<GENE, PROBLEM>> result = new ArrayList<>();
+    for (int i = 0; i < nondominated.length; ++i) {
+      if (nondominated[i]) {
+        result.add(population.get(i));
+      }
+    }
+    return result;
+  }
+
+  public static boolean isBiObjective(List<? extends BaseIndividual> population) {
+    for (BaseIndividual individual : population) {
+      if (individual.getObjectives() == null || individual.getObjectives().length != 2) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adding 0.0 turns -0.0 into 0.0, so keys are ordered the same way as the
+   * dominance relation compares objectives.
+   */
+  private static Double getKey(double objective) {
+    return objective + 0.0;
+  }
+}
@@ -0,0 +1,107 @@
+package algorithms.evolutionary_algorithms.util;
+
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.BaseProblemRepresentation;
+
+import java.util.Arrays;
+
+/**
+ * Set of individuals of a population used to detect clones in constant time.
+ * Individuals are hashed by their 64-bit gene fingerprints in an open addressing
+ * table and, as fingerprints may collide, are clones only if their genes are equal.
+ *
+ * @param <GENE> type of genes
+ * @param <PROBLEM> type of problem
+ */
+public class CloneIndex<GENE extends Number, PROBLEM extends BaseProblemRepresentation> {
+
+  private long[] fingerprints;
+  private BaseIndividual<GENE, PROBLEM>[] individuals;
+  private int size;
+
+  public CloneIndex() {
+    this(16);
+  }
+
+  /**
+   * @param expectedSize number of individuals the index holds without resizing
+   */
+  public CloneIndex(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) * 2;
+    fingerprints = new long[capacity];
+    individuals = new BaseIndividual[capacity];
+  }
+
+  /**
+   * Checks if the index contains an individual with the same genes.
+   *
+   * @param individual individual to look for
+   * @return true if the individual is a clone of an indexed one
+   */
+  public boolean contains(BaseIndividual<GENE, PROBLEM> individual) {
+    long fingerprint = individual.getFingerprint();
+    int mask = individuals.length - 1;
+    for (int slot = getSlot(fingerprint, mask); individuals[slot] != null; slot = (slot + 1) & mask) {
+      if (fingerprints[slot] == fingerprint && individuals[slot].getGenes().equals(individual.getGenes())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds an individual unless the index already contains a clone of it.
+   * Genes of the individual must not change while it is indexed.
+   *
+   * @param individual individual to add
+   * @return true if the individual was added
+   */
+  public boolean add(BaseIndividual<GENE, PROBLEM> individual) {
+    if (contains(individual)) {
+      return false;
+    }
+    if (2 * (size + 1) > individuals.length) {
+      resize();
+    }
+    insert(individual.getFingerprint(), individual);
+    ++size;
+    return true;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public void clear() {
+    Arrays.fill(individuals, null);
+    size = 0;
+  }
+
+  private void insert(long fingerprint, BaseIndividual<GENE, PROBLEM> individual) {
+    int mask = individuals.length - 1;
+    int slot = getSlot(fingerprint, mask);
+    while (individuals[slot] != null) {
+      slot = (slot + 1) & mask;
+    }
+    fingerprints[slot] = fingerprint;
+    individuals[slot] = individual;
+  }
+
+  private void resize() {
+    long[] oldFingerprints = fingerprints;
+    BaseIndividual<GENE, PROBLEM>[] oldIndividuals = individuals;
+    fingerprints = new long[oldFingerprints.length * 2];
+    individuals = new BaseIndividual[oldIndividuals.length * 2];
+    for (int slot = 0; slot < oldIndividuals.length; ++slot) {
+      if (oldIndividuals[slot] != null) {
+        insert(oldFingerprints[slot], oldIndividuals[slot]);
+      }
+    }
+  }
+
+  // Fibonacci hashing spreads fingerprints differing only in high bits
+  private static int getSlot(long fingerprint, int mask) {
+    return (int)((fingerprint * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+  }
+
+}
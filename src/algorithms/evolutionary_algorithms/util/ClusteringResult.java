@@ -14,6 +14,7 @@ public class ClusteringResult {
     private final FILE_OUTPUT_LEVEL saveResultFiles;
     private final DataStatistics dataStats;
     ClustersAndTheirStatistics clustersAndTheirStatistics;
+    private final IncrementalObjectiveClusters<?> incrementalClusters;
     List<Double> clustersDispersion;
     List<Double> clusterWeights;
     List<IndividualCluster> clustersWithIndDstToCentre;
@@ -24,12 +25,15 @@ public class ClusteringResult {
 
     public String getClusteringResultFileName() { return clusteringResultFileName; }
 
-    public ClusteringResult(ClustersAndTheirStatistics clustersAndTheirStatistics, List<Double> clustersDispersion,
+    public ClusteringResult(ClustersAndTheirStatistics clustersAndTheirStatistics,
+                            IncrementalObjectiveClusters<?> incrementalClusters,
+                            List<Double> clustersDispersion,
                             List<Double> clusterWeights,
                             List<IndividualCluster> clustersWithIndDstToCentre, String clusteringResultFilePath,
                             String clusteringResultFileName, int minTravellingTimeClusterId, int maxTravellingTimeClusterId,
                             FILE_OUTPUT_LEVEL saveResultFiles, DataStatistics dataStats) {
         this.clustersAndTheirStatistics = clustersAndTheirStatistics;
+        this.incrementalClusters = incrementalClusters;
         this.clustersDispersion = clustersDispersion;
         this.clusterWeights = clusterWeights;
         this.clustersWithIndDstToCentre = clustersWithIndDstToCentre;
@@ -49,6 +53,13 @@ public class ClusteringResult {
         this.clustersAndTheirStatistics = clustersAndTheirStatistics;
     }
 
+    /**
+     * @return clusters of the points, which are updated by the next clusterings until they drift
+     */
+    public IncrementalObjectiveClusters<?> getIncrementalClusters() {
+        return incrementalClusters;
+    }
+
     public List<Double> getClustersDispersion() {
         return clustersDispersion;
     }
@@ -0,0 +1,314 @@
+package algorithms.evolutionary_algorithms.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Clusters of a changing set of solutions, started from a k-means clustering and then
+ * maintained point by point. A new point joins the cluster with the nearest centroid,
+ * a removed point is swapped with the last member of its cluster, and means and variances
+ * follow from running sums, so a change takes time independent of the number of points.
+ * Centroids are either the centroids of the k-means clustering or the running means.
+ * Once a mean moves further than the drift threshold from the centroid found by k-means,
+ * the clusters no longer describe the points and the solutions should be clustered again.
+ *
+ * @param <T> type of solutions, identified by reference
+ */
+public class IncrementalObjectiveClusters<T> {
+
+    private static class Member<T> {
+        final T item;
+        final double[] objectives;
+        // scaled objectives
+        final double[] point;
+        int cluster;
+        int position;
+        long version;
+
+        Member(T item, double[] objectives, double[] point) {
+            this.item = item;
+            this.objectives = objectives;
+            this.point = point;
+        }
+    }
+
+    private final ObjectiveSpaceKmeans kmeans;
+    private final int numObjectives;
+    private final int numClusters;
+    private final double driftThreshold;
+    private final boolean isMovingCentroids;
+
+    private final double[] kmeansCentroids;
+    private final double[] sums;
+    private final double[] squaredSums;
+    private final List<List<Member<T>>> members;
+    private final double[] minima;
+    private final boolean[] isMinimumValid;
+    private final boolean[] isChanged;
+    private final IdentityHashMap<T, Member<T>> index = new IdentityHashMap<>();
+    private long version;
+
+    /**
+     * @param kmeans clustering of the items
+     * @param items items in the order of points of the clustering, items of removed clusters are skipped
+     * @param driftThreshold largest allowed distance between a running mean and its k-means centroid,
+     *                       in objectives scaled by the clustering
+     * @param isMovingCentroids true to assign points to the running means instead of the k-means centroids
+     */
+    public IncrementalObjectiveClusters(ObjectiveSpaceKmeans kmeans, List<? extends T> items, double driftThreshold,
+                                        boolean isMovingCentroids) {
+        this.kmeans = kmeans;
+        this.numObjectives = kmeans.getNumObjectives();
+        this.numClusters = kmeans.getNumClusters();
+        this.driftThreshold = driftThreshold;
+        this.isMovingCentroids = isMovingCentroids;
+
+        kmeansCentroids = new double[numClusters * numObjectives];
+        for (int c = 0; c < numClusters; ++c) {
+            for (int o = 0; o < numObjectives; ++o) {
+                kmeansCentroids[c * numObjectives + o] = kmeans.getCentroid(c, o);
+            }
+        }
+        sums = new double[numClusters * numObjectives];
+        squaredSums = new double[numClusters * numObjectives];
+        members = new ArrayList<>(numClusters);
+        for (int c = 0; c < numClusters; ++c) {
+            members.add(new ArrayList<>(kmeans.getSize(c)));
+        }
+        minima = new double[numClusters * numObjectives];
+        isMinimumValid = new boolean[numClusters];
+        isChanged = new boolean[numClusters];
+
+        for (int i = 0; i < items.size(); ++i) {
+            if (kmeans.getAssignment(i) >= 0) {
+                double[] objectives = new double[numObjectives];
+                for (int o = 0; o < numObjectives; ++o) {
+                    objectives[o] = kmeans.getObjective(i, o);
+                }
+                insert(createMember(items.get(i), objectives), kmeans.getAssignment(i));
+            }
+        }
+        Arrays.fill(isChanged, true);
+    }
+
+    private Member<T> createMember(T item, double[] objectives) {
+        double[] point = new double[numObjectives];
+        for (int o = 0; o < numObjectives; ++o) {
+            point[o] = kmeans.scale(objectives[o], o);
+        }
+        return new Member<>(item, objectives, point);
+    }
+
+    /**
+     * Adds the item to the cluster with the nearest centroid.
+     *
+     * @return false if the item is already clustered
+     */
+    public boolean add(T item, double[] objectives) {
+        if (index.containsKey(item)) {
+            return false;
+        }
+        Member<T> member = createMember(item, objectives.clone());
+        int nearest = 0;
+        double nearestDistance = Double.POSITIVE_INFINITY;
+        for (int c = 0; c < numClusters; ++c) {
+            double distance = squaredDistance(member.point, c);
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = c;
+            }
+        }
+        insert(member, nearest);
+        return true;
+    }
+
+    /**
+     * @return false if the item is not clustered
+     */
+    public boolean remove(T item) {
+        Member<T> member = index.remove(item);
+        if (member == null) {
+            return false;
+        }
+        List<Member<T>> clusterMembers = members.get(member.cluster);
+        Member<T> last = clusterMembers.remove(clusterMembers.size() - 1);
+        if (last != member) {
+            clusterMembers.set(member.position, last);
+            last.position = member.position;
+        }
+        for (int o = 0; o < numObjectives; ++o) {
+            sums[member.cluster * numObjectives + o] -= member.point[o];
+            squaredSums[member.cluster * numObjectives + o] -= member.point[o] * member.point[o];
+            if (member.objectives[o] == minima[member.cluster * numObjectives + o]) {
+                isMinimumValid[member.cluster] = false;
+            }
+        }
+        isChanged[member.cluster] = true;
+        return true;
+    }
+
+    /**
+     * Makes the clustered items equal to the given ones, adding new items and removing missing ones.
+     *
+     * @param items items which should be clustered
+     * @param objectives objectives of an item
+     * @return number of added and removed items
+     */
+    public int update(List<? extends T> items, Function<? super T, double[]> objectives) {
+        ++version;
+        int changes = 0;
+        int numKept = 0;
+        for (T item : items) {
+            Member<T> member = index.get(item);
+            if (member == null) {
+                add(item, objectives.apply(item));
+                ++changes;
+            } else if (member.version != version) {
+                member.version = version;
+                ++numKept;
+            }
+        }
+        // items are found by reference, only missing ones need a pass over all clustered items
+        if (index.size() > numKept + changes) {
+            List<T> missing = new ArrayList<>();
+            for (Member<T> member : index.values()) {
+                if (member.version != version) {
+                    missing.add(member.item);
+                }
+            }
+            for (T item : missing) {
+                remove(item);
+                ++changes;
+            }
+        }
+        return changes;
+    }
+
+    private void insert(Member<T> member, int cluster) {
+        member.cluster = cluster;
+        member.position = members.get(cluster).size();
+        member.version = version;
+        members.get(cluster).add(member);
+        index.put(member.item, member);
+        boolean isFirst = members.get(cluster).size() == 1;
+        for (int o = 0; o < numObjectives; ++o) {
+            sums[cluster * numObjectives + o] += member.point[o];
+            squaredSums[cluster * numObjectives + o] += member.point[o] * member.point[o];
+            if (isFirst) {
+                minima[cluster * numObjectives + o] = member.objectives[o];
+            } else {
+                minima[cluster * numObjectives + o] = Math.min(minima[cluster * numObjectives + o], member.objectives[o]);
+            }
+        }
+        // minima of a cluster which lost its minimal member are found again when needed
+        isMinimumValid[cluster] |= isFirst;
+        isChanged[cluster] = true;
+    }
+
+    /**
+     * @return largest distance between a running mean and the k-means centroid of its cluster
+     */
+    public double getDrift() {
+        double drift = 0.0;
+        for (int c = 0; c < numClusters; ++c) {
+            int size = members.get(c).size();
+            if (size == 0) {
+                continue;
+            }
+            double distance = 0.0;
+            for (int o = 0; o < numObjectives; ++o) {
+                double difference = sums[c * numObjectives + o] / size - kmeansCentroids[c * numObjectives + o];
+                distance += difference * difference;
+            }
+            drift = Math.max(drift, Math.sqrt(distance));
+        }
+        return drift;
+    }
+
+    public boolean isDrifted() {
+        return getDrift() > driftThreshold;
+    }
+
+    /**
+     * @return number of clusters, including clusters which lost all their points
+     */
+    public int getNumClusters() {
+        return numClusters;
+    }
+
+    public int getSize(int cluster) {
+        return members.get(cluster).size();
+    }
+
+    public int getNumItems() {
+        return index.size();
+    }
+
+    public T getMember(int cluster, int member) {
+        return members.get(cluster).get(member).item;
+    }
+
+    /**
+     * @return distance of the member to the centroid of its cluster, in scaled objectives
+     */
+    public double getDistance(int cluster, int member) {
+        return Math.sqrt(squaredDistance(members.get(cluster).get(member).point, cluster));
+    }
+
+    /**
+     * @return minimal, not scaled value of the objective in a non-empty cluster
+     */
+    public double getMinimum(int cluster, int objective) {
+        if (!isMinimumValid[cluster]) {
+            Arrays.fill(minima, cluster * numObjectives, (cluster + 1) * numObjectives, Double.POSITIVE_INFINITY);
+            for (Member<T> member : members.get(cluster)) {
+                for (int o = 0; o < numObjectives; ++o) {
+                    minima[cluster * numObjectives + o] = Math.min(minima[cluster * numObjectives + o], member.objectives[o]);
+                }
+            }
+            isMinimumValid[cluster] = true;
+        }
+        return minima[cluster * numObjectives + objective];
+    }
+
+    /**
+     * @return average variance of the scaled objectives in a non-empty cluster
+     */
+    public double getDispersion(int cluster) {
+        int size = members.get(cluster).size();
+        double variance = 0.0;
+        for (int o = 0; o < numObjectives; ++o) {
+            double mean = sums[cluster * numObjectives + o] / size;
+            // running sums may round slightly below zero
+            variance += Math.max(0.0, squaredSums[cluster * numObjectives + o] / size - mean * mean);
+        }
+        return variance / numObjectives;
+    }
+
+    /**
+     * @return true if members of the cluster changed since the last call of <code>clearChanges</code>
+     */
+    public boolean isChanged(int cluster) {
+        return isChanged[cluster];
+    }
+
+    public void clearChanges() {
+        Arrays.fill(isChanged, false);
+    }
+
+    private double squaredDistance(double[] point, int cluster) {
+        int size = members.get(cluster).size();
+        double distance = 0.0;
+        for (int o = 0; o < numObjectives; ++o) {
+            double centroid = isMovingCentroids && size > 0 ? sums[cluster * numObjectives + o] / size
+                    : kmeansCentroids[cluster * numObjectives + o];
+            double difference = point[o] - centroid;
+            distance += difference * difference;
+        }
+        return distance;
+    }
+
+}
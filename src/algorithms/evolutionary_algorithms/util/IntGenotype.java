@@ -0,0 +1,126 @@
+package algorithms.evolutionary_algorithms.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Primitive genotype of an integer individual. Genes before the split point
+ * and after it are processed separately, e.g. the tour and the item selection
+ * of TTP. Range operations follow the semantics of the corresponding
+ * <code>List</code> operations, so operators give the same results for the same
+ * random numbers.
+ */
+public class IntGenotype {
+
+  private final int[] genes;
+  private final int splitPoint;
+
+  public IntGenotype(List<Integer> genes, int splitPoint) {
+    this.genes = new int[genes.size()];
+    for (int i = 0; i < this.genes.length; ++i) {
+      this.genes[i] = genes.get(i);
+    }
+    this.splitPoint = splitPoint;
+  }
+
+  public int size() {
+    return genes.length;
+  }
+
+  public int getSplitPoint() {
+    return splitPoint;
+  }
+
+  public int get(int index) {
+    return genes[index];
+  }
+
+  public void set(int index, int value) {
+    genes[index] = value;
+  }
+
+  public int[] getGenes() {
+    return genes;
+  }
+
+  /**
+   * Reverses genes in range [from, to).
+   */
+  public void reverse(int from, int to) {
+    for (int i = from, j = to - 1; i < j; ++i, --j) {
+      swap(i, j);
+    }
+  }
+
+  public void swap(int i, int j) {
+    int tmp = genes[i];
+    genes[i] = genes[j];
+    genes[j] = tmp;
+  }
+
+  public void flip(int index) {
+    genes[index] ^= 1;
+  }
+
+  /**
+   * Flips binary genes in range [from, to).
+   */
+  public void flip(int from, int to) {
+    for (int i = from; i < to; ++i) {
+      genes[i] ^= 1;
+    }
+  }
+
+  /**
+   * Moves a gene to another position, the same as <code>remove(from)</code>
+   * followed by <code>add(to, gene)</code>.
+   */
+  public void move(int from, int to) {
+    int gene = genes[from];
+    if (from < to) {
+      System.arraycopy(genes, from + 1, genes, from, to - from);
+    } else {
+      System.arraycopy(genes, to, genes, to + 1, from - to);
+    }
+    genes[to] = gene;
+  }
+
+  /**
+   * Moves genes in range [from, to) to the given location, the same as removing
+   * the sublist and inserting it back at <code>location</code> of the shortened list.
+   */
+  public void displace(int from, int to, int location) {
+    int[] block = Arrays.copyOfRange(genes, from, to);
+    int length = to - from;
+    if (location >= from) {
+      System.arraycopy(genes, to, genes, from, location - from);
+    } else {
+      System.arraycopy(genes, location, genes, location + length, from - location);
+    }
+    System.arraycopy(block, 0, genes, location, length);
+  }
+
+  /**
+   * Shuffles genes in range [from, to), the same as
+   * <code>Collections.shuffle</code> called on the sublist.
+   */
+  public void shuffle(int from, int to, Random random) {
+    for (int i = to - from; i > 1; --i) {
+      swap(from + i - 1, from + random.nextInt(i));
+    }
+  }
+
+  /**
+   * Writes genes to the given list. Only changed genes are set,
+   * so unchanged values are not boxed again.
+   */
+  public void copyTo(List<Integer> target) {
+    for (int i = 0; i < genes.length; ++i) {
+      if (target.get(i) != genes[i]) {
+        target.set(i, genes[i]);
+      }
+    }
+  }
+
+}
@@ -10,49 +10,20 @@ import java.util.stream.Collectors;
  */
 public class NondominatedSorter<T extends BaseIndividual> {
 
-  public void nondominatedSorting(List<T> population) {
-    for (T individual : population) {
-      individual.setNumOfDominatingSolutions(0);
-      individual.getDominatedSolutions().clear();
-    }
+  private final NondominatedSortingEngine engine;
 
-    BaseIndividual[] array = population.toArray(new BaseIndividual[0]);
-    int rank;
+  public NondominatedSorter() {
+    this(NondominatedSortingType.AUTO);
+  }
 
-    for (int i = 0; i < array.length; i++) {
-      for(int j = i + 1; j < array.length; j++)
-      {
-        if(array[i].dominates(array[j])){
-          array[i].getDominatedSolutions().add(array[j]);
-          array[j].incrementNumOfDominatingSolutions();
-        }
-        else if(array[j].dominates(array[i])){
-          array[j].getDominatedSolutions().add(array[i]);
-          array[i].incrementNumOfDominatingSolutions();
-        }
-      }
-      if (array[i].getNumOfDominatingSolutions() == 0) {
-        array[i].setRank(1);
-      }
-    }
+  public NondominatedSorter(NondominatedSortingType sortingType) {
+    this.engine = new NondominatedSortingEngine(sortingType);
+  }
 
-    boolean loop = true;
-    rank = 1;
-    while (loop) {
-      loop = false;
-      for (T individual : population) {
-        if (individual.getRank() == rank) {
-          List<BaseIndividual> dominatedSolutions = individual.getDominatedSolutions();
-          for (BaseIndividual dominated : dominatedSolutions) {
-            dominated.decrementNumOfDominatingSolutions();
-            if (dominated.getNumOfDominatingSolutions() == 0) {
-              dominated.setRank(rank + 1);
-              loop = true;
-            }
-          }
-        }
-      }
-      rank++;
+  public void nondominatedSorting(List<T> population) {
+    int[] ranks = engine.getRanks(population);
+    for (int i = 0; i < ranks.length; ++i) {
+      population.get(i).setRank(ranks[i]);
     }
   }
 
@@ -0,0 +1,244 @@
+package algorithms.evolutionary_algorithms.util;
+
+import algorithms.problem.BaseIndividual;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Assigns ranks of non-dominated sorting, starting with 1 for the nondominated
+ * individuals. Ranks are returned in a primitive array and neither ranks nor
+ * domination lists of the individuals are modified.
+ * Available algorithms:
+ * <ul>
+ *   <li>DEB - fast non-dominated sort from NSGA-II, O(MN^2) time and O(N^2) memory,</li>
+ *   <li>ENS_SEQUENTIAL_SEARCH, ENS_BINARY_SEARCH - Efficient Non-dominated Sort,
+ *   individuals are processed in the lexicographic order, so a front is only
+ *   compared with individuals that may be dominated by it,</li>
+ *   <li>SWEEP_2D - O(N log N) sweep for bi-objective problems,</li>
+ *   <li>AUTO - SWEEP_2D for two objectives, ENS_BINARY_SEARCH otherwise.</li>
+ * </ul>
+ */
+public class NondominatedSortingEngine {
+
+  private final NondominatedSortingType type;
+
+  public NondominatedSortingEngine() {
+    this(NondominatedSortingType.AUTO);
+  }
+
+  public NondominatedSortingEngine(NondominatedSortingType type) {
+    this.type = type;
+  }
+
+  public int[] getRanks(List<? extends BaseIndividual> population) {
+    double[][] objectives = new double[population.size()][];
+    for (int i = 0; i < objectives.length; ++i) {
+      objectives[i] = population.get(i).getObjectives();
+    }
+    return getRanks(objectives);
+  }
+
+  /**
+   * Calculates ranks for given objective vectors. All objectives are minimised.
+   *
+   * @param objectives objective vectors of the individuals
+   * @return rank of every individual, 1 for the first front
+   */
+  public int[] getRanks(double[][] objectives) {
+    if (objectives.length == 0) {
+      return new int[0];
+    }
+    switch (getEffectiveType(objectives)) {
+      case DEB:
+        return debSort(objectives);
+      case ENS_SEQUENTIAL_SEARCH:
+        return efficientNondominatedSort(objectives, false);
+      case SWEEP_2D:
+        return sweep2D(objectives);
+      default:
+        return efficientNondominatedSort(objectives, true);
+    }
+  }
+
+  private NondominatedSortingType getEffectiveType(double[][] objectives) {
+    if (type != NondominatedSortingType.AUTO && type != NondominatedSortingType.SWEEP_2D) {
+      return type;
+    }
+    for (double[] vector : objectives) {
+      if (vector.length != 2) {
+        return NondominatedSortingType.ENS_BINARY_SEARCH;
+      }
+    }
+    return NondominatedSortingType.SWEEP_2D;
+  }
+
+  private int[] debSort(double[][] objectives) {
+    int n = objectives.length;
+    int[] ranks = new int[n];
+    int[] numOfDominatingSolutions = new int[n];
+    int[][] dominatedSolutions = new int[n][];
+    int[] numOfDominatedSolutions = new int[n];
+    for (int i = 0; i < n; ++i) {
+      for (int j = i + 1; j < n; ++j) {
+        if (dominates(objectives[i], objectives[j])) {
+          dominatedSolutions[i] = append(dominatedSolutions[i], numOfDominatedSolutions[i]++, j);
+          numOfDominatingSolutions[j]++;
+        } else if (dominates(objectives[j], objectives[i])) {
+          dominatedSolutions[j] = append(dominatedSolutions[j], numOfDominatedSolutions[j]++, i);
+          numOfDominatingSolutions[i]++;
+        }
+      }
+    }
+
+    int[] currentFront = new int[n];
+    int currentFrontSize = 0;
+    for (int i = 0; i < n; ++i) {
+      if (numOfDominatingSolutions[i] == 0) {
+        ranks[i] = 1;
+        currentFront[currentFrontSize++] = i;
+      }
+    }
+    int[] nextFront = new int[n];
+    for (int rank = 2; currentFrontSize > 0; ++rank) {
+      int nextFrontSize = 0;
+      for (int i = 0; i < currentFrontSize; ++i) {
+        int individual = currentFront[i];
+        for (int j = 0; j < numOfDominatedSolutions[individual]; ++j) {
+          int dominated = dominatedSolutions[individual][j];
+          if (--numOfDominatingSolutions[dominated] == 0) {
+            ranks[dominated] = rank;
+            nextFront[nextFrontSize++] = dominated;
+          }
+        }
+      }
+      int[] tmp = currentFront;
+      currentFront = nextFront;
+      nextFront = tmp;
+      currentFrontSize = nextFrontSize;
+    }
+    return ranks;
+  }
+
+  private int[] efficientNondominatedSort(double[][] objectives, boolean binarySearch) {
+    int n = objectives.length;
+    int[] ranks = new int[n];
+    int[][] fronts = new int[n][];
+    int[] frontSizes = new int[n];
+    int numberOfFronts = 0;
+
+    for (int individual : getLexicographicOrder(objectives)) {
+      int front;
+      if (binarySearch) {
+        int low = 0;
+        int high = numberOfFronts;
+        while (low < high) {
+          int middle = (low + high) >>> 1;
+          if (isDominatedByFront(objectives, fronts[middle], frontSizes[middle], individual)) {
+            low = middle + 1;
+          } else {
+            high = middle;
+          }
+        }
+        front = low;
+      } else {
+        front = 0;
+        while (front < numberOfFronts && isDominatedByFront(objectives, fronts[front], frontSizes[front], individual)) {
+          ++front;
+        }
+      }
+      if (front == numberOfFronts) {
+        ++numberOfFronts;
+      }
+      fronts[front] = append(fronts[front], frontSizes[front]++, individual);
+      ranks[individual] = front + 1;
+    }
+    return ranks;
+  }
+
+  /**
+   * Bi-objective fronts sorted by the first objective are staircases, so only
+   * the last individual added to a front has to be checked. Dominance by the fronts
+   * is monotone, the first front which does not dominate is found by a binary search.
+   */
+  private int[] sweep2D(double[][] objectives) {
+    int n = objectives.length;
+    int[] ranks = new int[n];
+    double[] lastFirstObjective = new double[n];
+    double[] lastSecondObjective = new double[n];
+    int numberOfFronts = 0;
+
+    for (int individual : getLexicographicOrder(objectives)) {
+      double first = objectives[individual][0];
+      double second = objectives[individual][1];
+      int low = 0;
+      int high = numberOfFronts;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (lastSecondObjective[middle] < second
+            || (lastSecondObjective[middle] == second && lastFirstObjective[middle] < first)) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      if (low == numberOfFronts) {
+        ++numberOfFronts;
+      }
+      lastFirstObjective[low] = first;
+      lastSecondObjective[low] = second;
+      ranks[individual] = low + 1;
+    }
+    return ranks;
+  }
+
+  private static boolean isDominatedByFront(double[][] objectives, int[] front, int frontSize, int individual) {
+    // the latest members are the closest to the individual in the lexicographic order
+    for (int i = frontSize - 1; i >= 0; --i) {
+      if (dominates(objectives[front[i]], objectives[individual])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int[] getLexicographicOrder(double[][] objectives) {
+    Integer[] order = new Integer[objectives.length];
+    for (int i = 0; i < order.length; ++i) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (i, j) -> {
+      for (int k = 0; k < objectives[i].length; ++k) {
+        if (objectives[i][k] < objectives[j][k]) {
+          return -1;
+        }
+        if (objectives[i][k] > objectives[j][k]) {
+          return 1;
+        }
+      }
+      return 0;
+    });
+    return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+  }
+
+  private static boolean dominates(double[] first, double[] second) {
+    boolean better = false;
+    for (int i = 0; i < first.length; ++i) {
+      if (second[i] < first[i]) {
+        return false;
+      }
+      better |= first[i] < second[i];
+    }
+    return better;
+  }
+
+  private static int[] append(int[] array, int size, int value) {
+    if (array == null) {
+      array = new int[4];
+    } else if (size == array.length) {
+      array = Arrays.copyOf(array, 2 * size);
+    }
+    array[size] = value;
+    return array;
+  }
+}
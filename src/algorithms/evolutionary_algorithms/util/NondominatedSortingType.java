@@ -0,0 +1,12 @@
+package algorithms.evolutionary_algorithms.util;
+
+
+public enum NondominatedSortingType {
+
+  DEB,
+  ENS_SEQUENTIAL_SEARCH,
+  ENS_BINARY_SEARCH,
+  SWEEP_2D,
+  AUTO,
+
+}
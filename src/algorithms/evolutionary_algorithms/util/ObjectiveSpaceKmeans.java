@@ -0,0 +1,362 @@
+package algorithms.evolutionary_algorithms.util;
+
+import util.random.RandomBase;
+
+import java.util.Arrays;
+
+/**
+ * K-means clustering of solutions in the objective space. Points are rows of a flat
+ * matrix of objectives and clusters are kept as centroids and assignments of points.
+ * Objectives are scaled to [0, 1] by the bounds of the points, which are kept for the
+ * points added to the clustering later. Sizes, minima of objectives and dispersions are
+ * calculated in one pass over the points after the last iteration. Clusters without points
+ * are removed.
+ */
+public class ObjectiveSpaceKmeans {
+
+    private final int numObjectives;
+    private final double[] lowerBounds;
+    private final double[] ranges;
+
+    private int numPoints;
+    private double[] objectives;
+    // scaled objectives
+    private double[] points;
+    private int numClusters;
+    private double[] centroids;
+    private int[] assignments;
+    private int iterations;
+
+    private int[] sizes;
+    // points of cluster c are members[memberOffsets[c]] .. members[memberOffsets[c + 1] - 1]
+    private int[] memberOffsets;
+    private int[] members;
+    private double[] minima;
+    private double[] dispersions;
+    private double[] distances;
+
+    private ObjectiveSpaceKmeans(int numObjectives, double[] lowerBounds, double[] ranges) {
+        this.numObjectives = numObjectives;
+        this.lowerBounds = lowerBounds;
+        this.ranges = ranges;
+    }
+
+    /**
+     * Clusters the points starting from centroids chosen by k-means++.
+     *
+     * @param objectives objectives of points, one row of numObjectives values per point
+     * @param numObjectives number of objectives
+     * @param numClusters maximum number of clusters, fewer if there are fewer distinct points
+     * @param maxIterations maximum number of iterations updating centroids and reassigning points
+     * @param random generator choosing initial centroids
+     * @return clustering of the points
+     */
+    public static ObjectiveSpaceKmeans cluster(double[] objectives, int numObjectives, int numClusters,
+                                               int maxIterations, RandomBase<?> random) {
+        double[] lowerBounds = new double[numObjectives];
+        double[] ranges = new double[numObjectives];
+        Arrays.fill(lowerBounds, Double.POSITIVE_INFINITY);
+        Arrays.fill(ranges, Double.NEGATIVE_INFINITY);
+        for (int i = 0; i < objectives.length; ++i) {
+            lowerBounds[i % numObjectives] = Math.min(lowerBounds[i % numObjectives], objectives[i]);
+            ranges[i % numObjectives] = Math.max(ranges[i % numObjectives], objectives[i]);
+        }
+        for (int o = 0; o < numObjectives; ++o) {
+            ranges[o] -= lowerBounds[o];
+            // objectives with a single value are not scaled
+            if (!(ranges[o] > 0)) {
+                ranges[o] = 1.0;
+            }
+        }
+
+        ObjectiveSpaceKmeans kmeans = new ObjectiveSpaceKmeans(numObjectives, lowerBounds, ranges);
+        kmeans.setPoints(objectives);
+        kmeans.seedCentroids(Math.max(1, Math.min(numClusters, kmeans.numPoints)), random);
+        kmeans.run(maxIterations);
+        return kmeans;
+    }
+
+    /**
+     * Removes clusters together with their points, which are no longer assigned.
+     *
+     * @param isRemoved flags of clusters to remove
+     * @return clustering without the clusters
+     */
+    public ObjectiveSpaceKmeans removeClusters(boolean[] isRemoved) {
+        ObjectiveSpaceKmeans kmeans = new ObjectiveSpaceKmeans(numObjectives, lowerBounds, ranges);
+        kmeans.numPoints = numPoints;
+        kmeans.objectives = objectives;
+        kmeans.points = points;
+        kmeans.iterations = iterations;
+        kmeans.assignments = assignments.clone();
+        kmeans.centroids = centroids.clone();
+        kmeans.numClusters = numClusters;
+        for (int i = 0; i < numPoints; ++i) {
+            if (assignments[i] >= 0 && isRemoved[assignments[i]]) {
+                kmeans.assignments[i] = -1;
+            }
+        }
+        kmeans.calculateStatistics();
+        return kmeans;
+    }
+
+    private void setPoints(double[] objectives) {
+        this.objectives = objectives;
+        numPoints = objectives.length / numObjectives;
+        points = new double[objectives.length];
+        for (int i = 0; i < objectives.length; ++i) {
+            points[i] = scale(objectives[i], i % numObjectives);
+        }
+        assignments = new int[numPoints];
+    }
+
+    /**
+     * K-means++: the first centroid is a random point, every next one is a point drawn with
+     * probability proportional to the squared distance to its nearest centroid.
+     */
+    private void seedCentroids(int maxClusters, RandomBase<?> random) {
+        centroids = new double[maxClusters * numObjectives];
+        double[] nearestDistances = new double[numPoints];
+        Arrays.fill(nearestDistances, Double.POSITIVE_INFINITY);
+        int point = numPoints > 0 ? random.nextInt(numPoints) : 0;
+        numClusters = 0;
+        while (numPoints > 0) {
+            System.arraycopy(points, point * numObjectives, centroids, numClusters * numObjectives, numObjectives);
+            ++numClusters;
+            if (numClusters == maxClusters) {
+                break;
+            }
+            double sum = 0.0;
+            for (int i = 0; i < numPoints; ++i) {
+                nearestDistances[i] = Math.min(nearestDistances[i], squaredDistance(i, numClusters - 1));
+                sum += nearestDistances[i];
+            }
+            if (sum == 0.0) {
+                // every point is already a centroid
+                break;
+            }
+            double threshold = random.nextDouble() * sum;
+            point = 0;
+            while (point < numPoints - 1 && (threshold -= nearestDistances[point]) >= 0) {
+                ++point;
+            }
+            while (nearestDistances[point] == 0.0) {
+                --point;
+            }
+        }
+    }
+
+    private void run(int maxIterations) {
+        assignPoints();
+        double[] sums = new double[numClusters * numObjectives];
+        int[] counts = new int[numClusters];
+        boolean isChanged = true;
+        iterations = 0;
+        while (isChanged && iterations < maxIterations) {
+            updateCentroids(sums, counts);
+            isChanged = assignPoints();
+            ++iterations;
+        }
+        calculateStatistics();
+    }
+
+    /**
+     * @return true if some point changed its cluster
+     */
+    private boolean assignPoints() {
+        boolean isChanged = false;
+        for (int i = 0; i < numPoints; ++i) {
+            int nearest = 0;
+            double nearestDistance = Double.POSITIVE_INFINITY;
+            for (int c = 0; c < numClusters; ++c) {
+                double distance = squaredDistance(i, c);
+                if (distance < nearestDistance) {
+                    nearestDistance = distance;
+                    nearest = c;
+                }
+            }
+            isChanged |= assignments[i] != nearest;
+            assignments[i] = nearest;
+        }
+        return isChanged;
+    }
+
+    /**
+     * Moves centroids to the means of their points. Centroids without points stay in place.
+     */
+    private void updateCentroids(double[] sums, int[] counts) {
+        Arrays.fill(sums, 0.0);
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < numPoints; ++i) {
+            int c = assignments[i];
+            ++counts[c];
+            for (int o = 0; o < numObjectives; ++o) {
+                sums[c * numObjectives + o] += points[i * numObjectives + o];
+            }
+        }
+        for (int c = 0; c < numClusters; ++c) {
+            if (counts[c] > 0) {
+                for (int o = 0; o < numObjectives; ++o) {
+                    centroids[c * numObjectives + o] = sums[c * numObjectives + o] / counts[c];
+                }
+            }
+        }
+    }
+
+    private void calculateStatistics() {
+        removeEmptyClusters();
+
+        sizes = new int[numClusters];
+        minima = new double[numClusters * numObjectives];
+        Arrays.fill(minima, Double.POSITIVE_INFINITY);
+        dispersions = new double[numClusters];
+        distances = new double[numPoints];
+        for (int i = 0; i < numPoints; ++i) {
+            int c = assignments[i];
+            if (c < 0) {
+                distances[i] = Double.NaN;
+                continue;
+            }
+            ++sizes[c];
+            double squaredDistance = squaredDistance(i, c);
+            distances[i] = Math.sqrt(squaredDistance);
+            dispersions[c] += squaredDistance;
+            for (int o = 0; o < numObjectives; ++o) {
+                minima[c * numObjectives + o] = Math.min(minima[c * numObjectives + o], objectives[i * numObjectives + o]);
+            }
+        }
+
+        memberOffsets = new int[numClusters + 1];
+        for (int c = 0; c < numClusters; ++c) {
+            // average variance of the scaled objectives
+            dispersions[c] /= (double) sizes[c] * numObjectives;
+            memberOffsets[c + 1] = memberOffsets[c] + sizes[c];
+        }
+        members = new int[memberOffsets[numClusters]];
+        int[] nextMember = Arrays.copyOf(memberOffsets, numClusters);
+        for (int i = 0; i < numPoints; ++i) {
+            if (assignments[i] >= 0) {
+                members[nextMember[assignments[i]]++] = i;
+            }
+        }
+    }
+
+    private void removeEmptyClusters() {
+        int[] counts = new int[numClusters];
+        for (int i = 0; i < numPoints; ++i) {
+            if (assignments[i] >= 0) {
+                ++counts[assignments[i]];
+            }
+        }
+        int[] newIndices = new int[numClusters];
+        int numNonEmpty = 0;
+        for (int c = 0; c < numClusters; ++c) {
+            if (counts[c] > 0) {
+                System.arraycopy(centroids, c * numObjectives, centroids, numNonEmpty * numObjectives, numObjectives);
+                newIndices[c] = numNonEmpty++;
+            }
+        }
+        if (numNonEmpty == numClusters) {
+            return;
+        }
+        for (int i = 0; i < numPoints; ++i) {
+            if (assignments[i] >= 0) {
+                assignments[i] = newIndices[assignments[i]];
+            }
+        }
+        numClusters = numNonEmpty;
+        centroids = Arrays.copyOf(centroids, numClusters * numObjectives);
+    }
+
+    private double squaredDistance(int point, int cluster) {
+        double distance = 0.0;
+        for (int o = 0; o < numObjectives; ++o) {
+            double difference = points[point * numObjectives + o] - centroids[cluster * numObjectives + o];
+            distance += difference * difference;
+        }
+        return distance;
+    }
+
+    public int getNumObjectives() {
+        return numObjectives;
+    }
+
+    /**
+     * @return not scaled objective of the point
+     */
+    public double getObjective(int point, int objective) {
+        return objectives[point * numObjectives + objective];
+    }
+
+    /**
+     * @return objective scaled like the points of this clustering
+     */
+    public double scale(double objective, int index) {
+        return (objective - lowerBounds[index]) / ranges[index];
+    }
+
+    public int getNumClusters() {
+        return numClusters;
+    }
+
+    public int getNumPoints() {
+        return numPoints;
+    }
+
+    /**
+     * @return number of iterations done before the assignments became stable or the limit was reached
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @param point index of the point
+     * @return index of its cluster, -1 if the cluster was removed
+     */
+    public int getAssignment(int point) {
+        return assignments[point];
+    }
+
+    public int getSize(int cluster) {
+        return sizes[cluster];
+    }
+
+    /**
+     * @param cluster index of the cluster
+     * @param member index between 0 and the size of the cluster
+     * @return index of the point, points of a cluster are in ascending order
+     */
+    public int getMember(int cluster, int member) {
+        return members[memberOffsets[cluster] + member];
+    }
+
+    /**
+     * @return minimal, not scaled value of the objective in the cluster
+     */
+    public double getMinimum(int cluster, int objective) {
+        return minima[cluster * numObjectives + objective];
+    }
+
+    /**
+     * @return average variance of the scaled objectives of points in the cluster
+     */
+    public double getDispersion(int cluster) {
+        return dispersions[cluster];
+    }
+
+    /**
+     * @return distance of the point to the centroid of its cluster, in the scaled objectives
+     */
+    public double getDistance(int point) {
+        return distances[point];
+    }
+
+    /**
+     * @return scaled objective of the centroid
+     */
+    public double getCentroid(int cluster, int objective) {
+        return centroids[cluster * numObjectives + objective];
+    }
+
+}
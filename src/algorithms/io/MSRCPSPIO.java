@@ -1,6 +1,7 @@
 package algorithms.io;
 
 import algorithms.problem.scheduling.Resource;
+import algorithms.problem.scheduling.CompiledSchedule;
 import algorithms.problem.scheduling.Schedule;
 import algorithms.problem.scheduling.Skill;
 import algorithms.problem.scheduling.Task;
@@ -47,6 +48,7 @@ public class MSRCPSPIO extends BaseIO {
       tasks = readTasks(reader, numTasks);
 
       schedule = new Schedule(tasks, resources);
+      schedule.setCompiled(new CompiledSchedule(tasks, resources));
 
     } catch (IOException e) {
       LOGGER.log(Level.FINE, e.toString());
@@ -0,0 +1,165 @@
+package algorithms.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Scans numbers of an ASCII file straight from its (memory-mapped) bytes,
+ * without creating lines, tokens or boxed numbers.
+ */
+class MappedTextScanner {
+
+  // powers of ten represented exactly as doubles
+  private static final double[] POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+      1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  // larger mantissas may not be exact doubles
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+  private final ByteBuffer buffer;
+  private int position;
+  private final int limit;
+
+  MappedTextScanner(ByteBuffer buffer) {
+    this.buffer = buffer;
+    this.position = buffer.position();
+    this.limit = buffer.limit();
+  }
+
+  void skipLine() throws IOException {
+    while (position < limit && buffer.get(position) != '\n') {
+      ++position;
+    }
+    if (position == limit) {
+      throw new IOException("Unexpected end of file");
+    }
+    ++position;
+  }
+
+  /**
+   * Reads an int after the colon of a header line and moves to the next line.
+   */
+  int readHeaderInt() throws IOException {
+    skipPast(':');
+    int value = nextInt();
+    skipLine();
+    return value;
+  }
+
+  /**
+   * Reads a double after the colon of a header line and moves to the next line.
+   */
+  double readHeaderDouble() throws IOException {
+    skipPast(':');
+    double value = nextDouble();
+    skipLine();
+    return value;
+  }
+
+  int nextInt() throws IOException {
+    skipWhitespace();
+    boolean isNegative = false;
+    if (position < limit && (buffer.get(position) == '-' || buffer.get(position) == '+')) {
+      isNegative = buffer.get(position) == '-';
+      ++position;
+    }
+    int start = position;
+    long value = 0;
+    while (position < limit) {
+      int digit = buffer.get(position) - '0';
+      if (digit < 0 || digit > 9) {
+        break;
+      }
+      value = value * 10 + digit;
+      if (value > (long)Integer.MAX_VALUE + 1) {
+        throw new IOException("Number out of range at byte " + start);
+      }
+      ++position;
+    }
+    if (start == position) {
+      throw new IOException("Expected a number at byte " + start);
+    }
+    value = isNegative ? -value : value;
+    if (value > Integer.MAX_VALUE) {
+      throw new IOException("Number out of range at byte " + start);
+    }
+    return (int)value;
+  }
+
+  /**
+   * Reads a decimal number. Numbers with up to 15 significant digits and small
+   * exponents are exact doubles divided or multiplied by an exact power of ten,
+   * which IEEE arithmetic rounds correctly, so the result equals Double.parseDouble.
+   * Other numbers are parsed by Double.parseDouble.
+   */
+  double nextDouble() throws IOException {
+    skipWhitespace();
+    int start = position;
+    boolean isNegative = false;
+    if (position < limit && (buffer.get(position) == '-' || buffer.get(position) == '+')) {
+      isNegative = buffer.get(position) == '-';
+      ++position;
+    }
+    long mantissa = 0;
+    int exponent = 0;
+    int digits = 0;
+    boolean isExact = true;
+    boolean isFraction = false;
+    while (position < limit) {
+      byte character = buffer.get(position);
+      if (character >= '0' && character <= '9') {
+        if (mantissa < MAX_EXACT_MANTISSA / 10) {
+          mantissa = mantissa * 10 + (character - '0');
+          if (isFraction) {
+            --exponent;
+          }
+        } else {
+          isExact = false;
+        }
+        ++digits;
+      } else if (character == '.' && !isFraction) {
+        isFraction = true;
+      } else {
+        break;
+      }
+      ++position;
+    }
+    if (digits == 0) {
+      throw new IOException("Expected a number at byte " + start);
+    }
+    if (position < limit && (buffer.get(position) == 'e' || buffer.get(position) == 'E')) {
+      ++position;
+      exponent += nextInt();
+    }
+    if (!isExact || exponent < -POWERS_OF_TEN.length + 1 || exponent >= POWERS_OF_TEN.length) {
+      return parseDouble(start);
+    }
+    double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+    return isNegative ? -value : value;
+  }
+
+  private double parseDouble(int start) {
+    byte[] token = new byte[position - start];
+    buffer.get(start, token);
+    return Double.parseDouble(new String(token, StandardCharsets.US_ASCII));
+  }
+
+  private void skipPast(char character) throws IOException {
+    while (position < limit && buffer.get(position) != character && buffer.get(position) != '\n') {
+      ++position;
+    }
+    if (position == limit || buffer.get(position) != character) {
+      throw new IOException("Expected '" + character + "' before byte " + position);
+    }
+    ++position;
+  }
+
+  private void skipWhitespace() {
+    while (position < limit && buffer.get(position) <= ' ') {
+      ++position;
+    }
+  }
+
+}
@@ -0,0 +1,333 @@
+package algorithms.io;
+
+import algorithms.problem.TTP;
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+import algorithms.problem.mtsp.City;
+import algorithms.problem.mtsp.DistanceMatrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * Directory of TTP instances compiled from .ttp files, stored in a binary form
+ * together with their distance matrices and bounds of objectives. An instance is
+ * stored under the SHA-256 digest of its definition, which is also kept in the header
+ * and compared on load, so a changed definition never loads a stale instance.
+ * Instances are loaded through memory-mapped files.
+ * Every entry holds a checksum of its own contents and its length follows from
+ * its header, so truncated or damaged entries are never loaded.
+ * The directory is used only if it is private to the current user, and the least
+ * recently used entries are deleted when the entries exceed the size limit.
+ */
+class TTPCache {
+
+  private static final Logger LOGGER = Logger.getLogger(TTPCache.class.getName());
+
+  private static final int MAGIC = 0x54545043; // "TTPC"
+  private static final int VERSION = 3;
+  // order of common processors, so distances are copied without swapping bytes
+  private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+  // larger distance matrices are calculated again, as reading them is not faster
+  private static final long MAX_CACHED_DISTANCES = 1L << 25;
+  private static final String KEY_ALGORITHM = "SHA-256";
+  private static final int KEY_BYTES = 32;
+  // magic, version, key and checksum of the rest of the entry
+  private static final int PREFIX_BYTES = 4 + 4 + KEY_BYTES + 8;
+  private static final int HEADER_BYTES = PREFIX_BYTES + 4 * 4 + 6 * 8;
+  private static final int CITY_BYTES = 4 + 8 + 8;
+  private static final int ITEM_BYTES = 4 * 4;
+
+  private static final String ENTRY_SUFFIX = ".ttpc";
+
+  private final Path directory;
+  private final long maxBytes;
+
+  /**
+   * @param directory directory of entries, created if it does not exist
+   * @param maxBytes maximal total size of entries
+   */
+  TTPCache(Path directory, long maxBytes) {
+    this.directory = directory;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Calculates the key of a definition from its contents.
+   *
+   * @param definition contents of the definition file
+   * @return digest of the contents
+   */
+  static byte[] getKey(ByteBuffer definition) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance(KEY_ALGORITHM);
+      digest.update(definition.duplicate());
+      return digest.digest();
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform supports SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * @param key key of the definition
+   * @return compiled instance or null if it is not cached
+   */
+  TTP load(byte[] key) {
+    Path file = getFile(key);
+    if (!Files.exists(file) || !isPrivate()) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_BYTES) {
+        return null;
+      }
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ORDER);
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        return null;
+      }
+      byte[] entryKey = new byte[KEY_BYTES];
+      buffer.get(entryKey);
+      if (!Arrays.equals(entryKey, key)) {
+        LOGGER.log(Level.FINE, "Entry " + file + " belongs to another definition");
+        return null;
+      }
+      long checksum = buffer.getLong();
+      int numCities = buffer.getInt();
+      int numItems = buffer.getInt();
+      int capacity = buffer.getInt();
+      boolean hasDistances = buffer.getInt() != 0;
+      if (numCities <= 0 || numItems < 0
+          || channel.size() != getEntryBytes(numCities, numItems, hasDistances)
+          || getChecksum(buffer.duplicate().position(PREFIX_BYTES)) != checksum) {
+        LOGGER.log(Level.FINE, "Damaged entry " + file);
+        return null;
+      }
+      double minSpeed = buffer.getDouble();
+      double maxSpeed = buffer.getDouble();
+      double rentingRatio = buffer.getDouble();
+      double maxProfit = buffer.getDouble();
+      double maxTravellingTime = buffer.getDouble();
+      double minTravellingTime = buffer.getDouble();
+
+      City[] cities = new City[numCities];
+      for (int i = 0; i < numCities; ++i) {
+        cities[i] = new City(buffer.getInt(), buffer.getDouble(), buffer.getDouble());
+      }
+      List<Item> items = new ArrayList<>(numItems);
+      for (int i = 0; i < numItems; ++i) {
+        Item item = new Item(buffer.getInt(), buffer.getInt(), buffer.getInt());
+        item.addAvailabitliy(buffer.getInt());
+        items.add(item);
+      }
+      Knapsack knapsack = new Knapsack(capacity, items);
+
+      TTP ttp;
+      if (hasDistances) {
+        double[][] distances = new double[numCities][numCities];
+        DoubleBuffer doubles = buffer.asDoubleBuffer();
+        for (double[] row : distances) {
+          doubles.get(row);
+        }
+        DistanceMatrix distanceMatrix = new DistanceMatrix();
+        distanceMatrix.setDistances(distances);
+        ttp = new TTP(knapsack, distanceMatrix, minSpeed, maxSpeed, rentingRatio, maxProfit,
+            maxTravellingTime, minTravellingTime);
+      } else {
+        ttp = new TTP(knapsack, cities, minSpeed, maxSpeed, rentingRatio);
+      }
+      TTPIO.setItemAvailabilities(ttp, knapsack, numCities);
+      touch(file);
+      return ttp;
+    } catch (IOException | RuntimeException e) {
+      // damaged entries are treated as missing and written again
+      LOGGER.log(Level.FINE, e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * Stores the compiled instance. Entries are written to a temporary file and then moved,
+   * so concurrent runs never read a partially written entry.
+   *
+   * @param key key of the definition
+   * @param ttp instance compiled from the definition, with one availability per item
+   * @param cities cities of the instance
+   */
+  void store(byte[] key, TTP ttp, City[] cities) {
+    List<Item> items = ttp.getKnapsack().getItems();
+    boolean hasDistances = (long)cities.length * cities.length <= MAX_CACHED_DISTANCES;
+    if (getEntryBytes(cities.length, items.size(), hasDistances) > maxBytes) {
+      return;
+    }
+    Path temporaryFile = null;
+    try {
+      if (!Files.exists(directory)) {
+        createPrivateDirectory();
+      }
+      if (!isPrivate()) {
+        LOGGER.log(Level.WARNING, "TTP cache " + directory + " is not private to the user, instances are not cached");
+        return;
+      }
+      temporaryFile = Files.createTempFile(directory, "ttp", ".tmp");
+      double[][] distances = ttp.getDistanceMatrix().getDistances();
+
+      ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + CITY_BYTES * cities.length + ITEM_BYTES * items.size())
+          .order(ORDER);
+      // the checksum is written when the rest of the entry is known
+      buffer.putInt(MAGIC).putInt(VERSION).put(key).putLong(0);
+      buffer.putInt(cities.length).putInt(items.size()).putInt(ttp.getKnapsack().getCapacity()).putInt(hasDistances ? 1 : 0);
+      buffer.putDouble(ttp.getMinSpeed()).putDouble(ttp.getMaxSpeed()).putDouble(ttp.getRentingRatio());
+      buffer.putDouble(ttp.getMaxProfit()).putDouble(ttp.getMaxTravellingTime()).putDouble(ttp.getMinTravellingTime());
+      for (City city : cities) {
+        buffer.putInt(city.getId()).putDouble(city.getX()).putDouble(city.getY());
+      }
+      for (Item item : items) {
+        buffer.putInt(item.getId()).putInt(item.getProfit()).putInt(item.getWeight()).putInt(item.getAvailability().get(0));
+      }
+
+      CRC32C checksum = new CRC32C();
+      try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+        buffer.flip();
+        checksum.update(buffer.duplicate().position(PREFIX_BYTES));
+        write(channel, buffer);
+        if (hasDistances) {
+          ByteBuffer row = ByteBuffer.allocate(Double.BYTES * cities.length).order(ORDER);
+          for (double[] distancesFromCity : distances) {
+            row.clear();
+            row.asDoubleBuffer().put(distancesFromCity);
+            checksum.update(row.duplicate());
+            write(channel, row);
+          }
+        }
+        ByteBuffer checksumBytes = ByteBuffer.allocate(Long.BYTES).order(ORDER).putLong(0, checksum.getValue());
+        while (checksumBytes.hasRemaining()) {
+          channel.write(checksumBytes, PREFIX_BYTES - Long.BYTES + checksumBytes.position());
+        }
+      }
+      Files.move(temporaryFile, getFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      evict(getFile(key));
+    } catch (IOException | RuntimeException e) {
+      // the cache only speeds up reading, so the instance is still used
+      LOGGER.log(Level.FINE, e.toString());
+      try {
+        if (temporaryFile != null) {
+          Files.deleteIfExists(temporaryFile);
+        }
+      } catch (IOException deleteException) {
+        LOGGER.log(Level.FINE, deleteException.toString());
+      }
+    }
+  }
+
+  /**
+   * Deletes the least recently used entries until the entries fit the size limit.
+   *
+   * @param kept entry which is not deleted
+   */
+  private void evict(Path kept) throws IOException {
+    Map<Path, FileTime> lastUses = new HashMap<>();
+    long totalBytes = 0;
+    try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "*" + ENTRY_SUFFIX)) {
+      for (Path file : entries) {
+        lastUses.put(file, Files.getLastModifiedTime(file));
+        totalBytes += Files.size(file);
+      }
+    }
+    List<Path> files = new ArrayList<>(lastUses.keySet());
+    files.sort(Comparator.comparing(lastUses::get));
+    for (int i = 0; i < files.size() && totalBytes > maxBytes; ++i) {
+      Path file = files.get(i);
+      if (!file.equals(kept)) {
+        long size = Files.size(file);
+        Files.deleteIfExists(file);
+        totalBytes -= size;
+      }
+    }
+  }
+
+  // recently used entries are evicted last
+  private static void touch(Path file) {
+    try {
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, e.toString());
+    }
+  }
+
+  private void createPrivateDirectory() throws IOException {
+    try {
+      Files.createDirectories(directory,
+          PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+    } catch (UnsupportedOperationException e) {
+      Files.createDirectories(directory);
+    }
+  }
+
+  /**
+   * Checks that the directory belongs to the current user and others cannot write to it,
+   * so they cannot plant entries. File systems without POSIX permissions are trusted.
+   */
+  private boolean isPrivate() {
+    try {
+      PosixFileAttributeView view = Files.getFileAttributeView(directory, PosixFileAttributeView.class);
+      if (view == null) {
+        return true;
+      }
+      Set<PosixFilePermission> permissions = view.readAttributes().permissions();
+      return view.getOwner().getName().equals(System.getProperty("user.name"))
+          && !permissions.contains(PosixFilePermission.GROUP_WRITE)
+          && !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+    } catch (IOException | UnsupportedOperationException e) {
+      LOGGER.log(Level.FINE, e.toString());
+      return false;
+    }
+  }
+
+  private static long getEntryBytes(int numCities, int numItems, boolean hasDistances) {
+    return HEADER_BYTES + (long)CITY_BYTES * numCities + (long)ITEM_BYTES * numItems
+        + (hasDistances ? (long)Double.BYTES * numCities * numCities : 0);
+  }
+
+  private static long getChecksum(ByteBuffer contents) {
+    CRC32C checksum = new CRC32C();
+    checksum.update(contents);
+    return checksum.getValue();
+  }
+
+  private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private Path getFile(byte[] key) {
+    return directory.resolve(HexFormat.of().formatHex(key) + ENTRY_SUFFIX);
+  }
+
+}
@@ -5,9 +5,11 @@ import algorithms.problem.mkp.Item;
 import algorithms.problem.mkp.Knapsack;
 import algorithms.problem.mtsp.City;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -18,98 +20,140 @@ import java.util.logging.Level;
  */
 public class TTPIO extends BaseIO {
 
+  /**
+   * System property with the cache directory of the default reader
+   */
+  public static final String CACHE_DIRECTORY_PROPERTY = "ttp.cache.directory";
+  /**
+   * System property with the size limit of the cache of the default reader, in megabytes
+   */
+  public static final String CACHE_MEGABYTES_PROPERTY = "ttp.cache.megabytes";
+  public static final long DEFAULT_CACHE_MEGABYTES = 1024;
+
+  private final TTPCache cache;
+  private int cacheHits;
+
+  /**
+   * Reader caching compiled instances only if the cache directory is given
+   * by the <code>ttp.cache.directory</code> system property, with the size limit
+   * given by <code>ttp.cache.megabytes</code>.
+   */
+  public TTPIO() {
+    this(System.getProperty(CACHE_DIRECTORY_PROPERTY),
+        Long.getLong(CACHE_MEGABYTES_PROPERTY, DEFAULT_CACHE_MEGABYTES) << 20);
+  }
+
+  /**
+   * @param cacheDirectory directory of compiled instances, null to always parse the definitions
+   */
+  public TTPIO(String cacheDirectory) {
+    this(cacheDirectory, DEFAULT_CACHE_MEGABYTES << 20);
+  }
+
+  /**
+   * @param cacheDirectory directory of compiled instances, null to always parse the definitions.
+   *                       It is created private to the user and is not used if other users can write to it
+   * @param maxCacheBytes size limit of the cache, the least recently used instances are deleted above it
+   */
+  public TTPIO(String cacheDirectory, long maxCacheBytes) {
+    cache = cacheDirectory == null ? null : new TTPCache(Paths.get(cacheDirectory), maxCacheBytes);
+  }
+
+  /**
+   * @return number of definitions loaded from the cache by this reader
+   */
+  public int getCacheHits() {
+    return cacheHits;
+  }
+
+  /**
+   * Reads a .ttp file and builds a problem from it. The file is mapped into memory
+   * and, if the cache has an instance compiled from the same contents,
+   * the instance is loaded from the cache instead of parsing the file.
+   *
+   * @param definitionFile path to the file
+   * @return TTP build from the file, null if it could not be read
+   */
   public TTP readDefinition(String definitionFile) {
-    BufferedReader reader = null;
-    try {
-      reader = new BufferedReader(new FileReader(definitionFile));
-
-      String line;
-      int numCities;
-      int numItems;
-      int capacity;
-      double minSpeed;
-      double maxSpeed;
-      double rentingRatio;
-      String[] parts;
-
-      // header
-      reader.readLine(); // problem name
-      reader.readLine(); // knapsack data type
-      // number of cities
-      line = reader.readLine();
-      parts = line.split(":\\s+");
-      numCities = Integer.parseInt(parts[1]);
-      // number of items
-      line = reader.readLine();
-      parts = line.split(":\\s+");
-      numItems = Integer.parseInt(parts[1]);
-      // capacity
-      line = reader.readLine();
-      parts = line.split(":\\s+");
-      capacity = Integer.parseInt(parts[1]);
-      // min speed
-      line = reader.readLine();
-      parts = line.split(":\\s+");
-      minSpeed = Double.parseDouble(parts[1]);
-      // max speed
-      line = reader.readLine();
-      parts = line.split(":\\s+");
-      maxSpeed = Double.parseDouble(parts[1]);
-      // renting ratio
-      line = reader.readLine();
-      parts = line.split(":\\s+");
-      rentingRatio = Double.parseDouble(parts[1]);
-      reader.readLine(); // edge weigh type
-
-      reader.readLine(); // tsp header
-
-      City[] cities = readCities(reader, line, parts, numCities);
-
-      reader.readLine(); // kp header
-
-      Knapsack knapsack = readKnapsack(reader, line, parts, numItems, capacity);
-
-      TTP ttp = new TTP(knapsack, cities, minSpeed, maxSpeed, rentingRatio);
-      List<List<Integer>> itemAvailabilities = new ArrayList<>(numCities);
-      for (int i = 0; i < numCities; ++i) {
-        itemAvailabilities.add(new ArrayList<>());
-      }
-      for (Item item : knapsack.getItems()) {
-        for (Integer availability : item.getAvailability()) {
-          itemAvailabilities.get(availability).add(item.getId() - 1);
+    try (FileChannel channel = FileChannel.open(Paths.get(definitionFile), StandardOpenOption.READ)) {
+      MappedByteBuffer definition = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+      byte[] key = null;
+      if (cache != null) {
+        key = TTPCache.getKey(definition);
+        TTP ttp = cache.load(key);
+        if (ttp != null) {
+          ++cacheHits;
+          return ttp;
         }
       }
-      ttp.setItemAvailabilities(itemAvailabilities);
 
-      return ttp;
+      return parseDefinition(new MappedTextScanner(definition), key);
     } catch (IOException e) {
       LOGGER.log(Level.FINE, e.toString());
       return null;
-    } finally {
-      closeReader(reader);
     }
   }
 
-  private City[] readCities(BufferedReader reader, String line, String[] parts, int numCities) throws IOException {
+  private TTP parseDefinition(MappedTextScanner scanner, byte[] key) throws IOException {
+    // header
+    scanner.skipLine(); // problem name
+    scanner.skipLine(); // knapsack data type
+    int numCities = scanner.readHeaderInt();
+    int numItems = scanner.readHeaderInt();
+    int capacity = scanner.readHeaderInt();
+    double minSpeed = scanner.readHeaderDouble();
+    double maxSpeed = scanner.readHeaderDouble();
+    double rentingRatio = scanner.readHeaderDouble();
+    scanner.skipLine(); // edge weigh type
+
+    scanner.skipLine(); // tsp header
+
+    City[] cities = readCities(scanner, numCities);
+
+    scanner.skipLine(); // rest of the last city line
+    scanner.skipLine(); // kp header
+
+    Knapsack knapsack = readKnapsack(scanner, numItems, capacity);
+
+    TTP ttp = new TTP(knapsack, cities, minSpeed, maxSpeed, rentingRatio);
+    setItemAvailabilities(ttp, knapsack, numCities);
+    if (cache != null) {
+      cache.store(key, ttp, cities);
+    }
+    return ttp;
+  }
+
+  /**
+   * Lists items available in every city.
+   */
+  static void setItemAvailabilities(TTP ttp, Knapsack knapsack, int numCities) {
+    List<List<Integer>> itemAvailabilities = new ArrayList<>(numCities);
+    for (int i = 0; i < numCities; ++i) {
+      itemAvailabilities.add(new ArrayList<>());
+    }
+    for (Item item : knapsack.getItems()) {
+      for (Integer availability : item.getAvailability()) {
+        itemAvailabilities.get(availability).add(item.getId() - 1);
+      }
+    }
+    ttp.setItemAvailabilities(itemAvailabilities);
+  }
+
+  private City[] readCities(MappedTextScanner scanner, int numCities) throws IOException {
     City[] cities = new City[numCities];
-    City city;
     for (int i = 0; i < numCities; ++i) {
-      line = reader.readLine();
-      parts = line.split("\\s");
-      city = new City(Integer.parseInt(parts[0]), Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
-      cities[i] = city;
+      cities[i] = new City(scanner.nextInt(), scanner.nextDouble(), scanner.nextDouble());
     }
     return cities;
   }
 
-  private Knapsack readKnapsack(BufferedReader reader, String line, String[] parts, int numItems, int capacity) throws IOException {
+  private Knapsack readKnapsack(MappedTextScanner scanner, int numItems, int capacity) throws IOException {
     List<Item> items = new ArrayList<>(numItems);
     Item item;
     for (int i = 0; i < numItems; ++i) {
-      line = reader.readLine();
-      parts = line.split("\\s");
-      item = new Item(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
-      item.addAvailabitliy(Integer.parseInt(parts[3]) - 1);
+      item = new Item(scanner.nextInt(), scanner.nextInt(), scanner.nextInt());
+      item.addAvailabitliy(scanner.nextInt() - 1);
       items.add(item);
     }
     return new Knapsack(capacity, items);
@@ -21,6 +21,7 @@ public class BaseIndividual<GENE extends Number, PROBLEM extends BaseProblemRepr
   protected double evalValue;
   private List<GENE> genes;
   private int hashCode;
+  private long fingerprint;
 
   protected double[] objectives;
   protected double[] normalObjectives;
@@ -94,7 +95,11 @@ public class BaseIndividual<GENE extends Number, PROBLEM extends BaseProblemRepr
     }
 
 	public BaseIndividual(PROBLEM problem, BaseEvaluator<GENE, PROBLEM> evaluator) {
-		this.problem = (PROBLEM)problem.cloneDeep();
+		this(problem, evaluator, true);
+	}
+
+  private BaseIndividual(PROBLEM problem, BaseEvaluator<GENE, PROBLEM> evaluator, boolean cloneProblem) {
+		this.problem = cloneProblem ? (PROBLEM)problem.cloneDeep() : problem;
 		this.setEvaluator(evaluator.getCopy(this));
     this.getEvaluator().setIndividual(this);
 		this.setEvalValue(-1);
@@ -113,6 +118,25 @@ public class BaseIndividual<GENE extends Number, PROBLEM extends BaseProblemRepr
     setHashCode();
   }
 
+  /**
+   * Creates a lightweight individual which decodes its genes into the given problem
+   * instead of its own deep copy. The problem works as a scratch buffer of the caller:
+   * building another individual on it overwrites the phenotype, so only genes and
+   * cached objectives of this individual remain valid afterwards.
+   *
+   * @param scratchProblem problem reused for decoding, not shared between threads
+   * @param genes genes of the individual
+   * @param evaluator evaluator to copy
+   * @return individual that is not built yet
+   */
+  public static <GENE extends Number, PROBLEM extends BaseProblemRepresentation> BaseIndividual<GENE, PROBLEM> withSharedProblem(
+      PROBLEM scratchProblem, List<GENE> genes, BaseEvaluator<GENE, PROBLEM> evaluator) {
+    BaseIndividual<GENE, PROBLEM> individual = new BaseIndividual<>(scratchProblem, evaluator, false);
+    individual.genes = new ArrayList<>(genes);
+    individual.setHashCode();
+    return individual;
+  }
+
   /**
    * Builds solution for given problem based on the genes.
    *
@@ -122,12 +146,22 @@ public class BaseIndividual<GENE extends Number, PROBLEM extends BaseProblemRepr
     problem.buildSolution(genes, parameters);
     problem.fixGenes((List<Number>)genes);
     setObjectives();
-    setNormalObjectives();
+    setNormalObjectives(evaluator.getNormalObjectives(objectives));
     setEvalValue(evaluate()); // TODO: maybe skip for multi-objective?
     setHashCode();
     return this;
   }
 
+  /**
+   * Repairs the genes the same way <code>buildSolution</code> does, without
+   * building the solution, so the hash code is already the one of the built
+   * individual.
+   */
+  public void fixGenes() {
+    problem.fixGenes((List<Number>)genes);
+    setHashCode();
+  }
+
   /**
    * Returns an array of objective values. First objective
    * is the duration and the second is the cost.
@@ -273,6 +307,34 @@ public class BaseIndividual<GENE extends Number, PROBLEM extends BaseProblemRepr
         } else {
             this.hashCode = genes.hashCode();
         }
+        setFingerprint();
+  }
+
+  /**
+   * Returns a 64-bit hash of the genes, kept up to date whenever the genes are
+   * set or repaired. Every gene is folded in with the SplitMix64 finalizer, so
+   * genes differing only in a few bits change all bits of the fingerprint.
+   * Unlike <code>getHashCode()</code> it rarely collides, so it is used to index
+   * populations for clone detection.
+   *
+   * @return fingerprint of the genes
+   */
+  public long getFingerprint() {
+    return fingerprint;
+  }
+
+  private void setFingerprint() {
+    long hash = genes.size();
+    for (GENE gene : genes) {
+      hash = mix64(hash * 0x9E3779B97F4A7C15L + Double.doubleToLongBits(gene.doubleValue()));
+    }
+    this.fingerprint = hash;
+  }
+
+  private static long mix64(long value) {
+    value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+    value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+    return value ^ (value >>> 31);
   }
 
   public int getNumOfDominatingSolutions() {
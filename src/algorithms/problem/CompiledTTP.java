@@ -0,0 +1,163 @@
+package algorithms.problem;
+
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable flat representation of a TTP instance used in the evaluation.
+ * Distances are kept in a single row-major array, item properties in primitive
+ * arrays and both item-to-city and city-to-item relations in compressed
+ * (offsets and values) arrays, so evaluating a tour does not touch any list
+ * or boxed number. Shared by all copies of a problem.
+ */
+public final class CompiledTTP {
+
+  private final int numCities;
+  private final double[] distances;
+  private final double capacity;
+  private final double[] weights;
+  private final double[] profits;
+
+  // cities where the item is available, availableCities[availabilityOffsets[item] + gene - 1]
+  private final int[] availabilityOffsets;
+  private final int[] availableCities;
+
+  // items available in the city, cityItems[cityItemOffsets[city]] to cityItems[cityItemOffsets[city + 1] - 1]
+  private final int[] cityItemOffsets;
+  private final int[] cityItems;
+
+  // items in ascending order of profit to weight ratio, the order in which they are dropped
+  private final int[] ratioOrder;
+
+  /**
+   * @param knapsack knapsack with items and their availabilities
+   * @param distances distances between cities
+   * @param itemAvailabilities ids of items available in each city; if null
+   *                           it is derived from the availabilities of items
+   */
+  public CompiledTTP(Knapsack knapsack, double[][] distances, List<List<Integer>> itemAvailabilities) {
+    numCities = distances.length;
+    this.distances = new double[numCities * numCities];
+    for (int i = 0; i < numCities; ++i) {
+      System.arraycopy(distances[i], 0, this.distances, i * numCities, numCities);
+    }
+
+    List<Item> items = knapsack.getItems();
+    int numItems = items.size();
+    capacity = knapsack.getCapacity();
+    weights = new double[numItems];
+    profits = new double[numItems];
+    availabilityOffsets = new int[numItems + 1];
+    for (int i = 0; i < numItems; ++i) {
+      weights[i] = items.get(i).getWeight();
+      profits[i] = items.get(i).getProfit();
+      availabilityOffsets[i + 1] = availabilityOffsets[i] + items.get(i).getAvailability().size();
+    }
+    availableCities = new int[availabilityOffsets[numItems]];
+    for (int i = 0; i < numItems; ++i) {
+      List<Integer> availability = items.get(i).getAvailability();
+      for (int j = 0; j < availability.size(); ++j) {
+        availableCities[availabilityOffsets[i] + j] = availability.get(j);
+      }
+    }
+
+    cityItemOffsets = new int[numCities + 1];
+    if (itemAvailabilities != null) {
+      for (int city = 0; city < numCities; ++city) {
+        cityItemOffsets[city + 1] = cityItemOffsets[city] + itemAvailabilities.get(city).size();
+      }
+      cityItems = new int[cityItemOffsets[numCities]];
+      for (int city = 0; city < numCities; ++city) {
+        List<Integer> cityItemList = itemAvailabilities.get(city);
+        for (int j = 0; j < cityItemList.size(); ++j) {
+          cityItems[cityItemOffsets[city] + j] = cityItemList.get(j);
+        }
+      }
+    } else {
+      for (int city : availableCities) {
+        cityItemOffsets[city + 1]++;
+      }
+      for (int city = 0; city < numCities; ++city) {
+        cityItemOffsets[city + 1] += cityItemOffsets[city];
+      }
+      cityItems = new int[availableCities.length];
+      int[] next = cityItemOffsets.clone();
+      for (int item = 0; item < numItems; ++item) {
+        for (int j = availabilityOffsets[item]; j < availabilityOffsets[item + 1]; ++j) {
+          cityItems[next[availableCities[j]]++] = item;
+        }
+      }
+    }
+
+    // the same integer ratio and stable order as the former per-call sort
+    ratioOrder = IntStream.range(0, numItems)
+        .boxed().sorted((i, j) -> Integer.compare(items.get(i).getProfit() / items.get(i).getWeight(),
+            items.get(j).getProfit() / items.get(j).getWeight()))
+        .mapToInt(ele -> ele).toArray();
+  }
+
+  public int getNumCities() {
+    return numCities;
+  }
+
+  public int getNumItems() {
+    return weights.length;
+  }
+
+  public double getDistance(int from, int to) {
+    return distances[from * numCities + to];
+  }
+
+  public double getCapacity() {
+    return capacity;
+  }
+
+  public double getWeight(int item) {
+    return weights[item];
+  }
+
+  public double getProfit(int item) {
+    return profits[item];
+  }
+
+  /**
+   * @param item item id
+   * @param gene value of the item's gene, greater than 0
+   * @return city where the item is picked
+   */
+  public int getPickupCity(int item, int gene) {
+    return availableCities[availabilityOffsets[item] + gene - 1];
+  }
+
+  public int getNumAvailableCities(int item) {
+    return availabilityOffsets[item + 1] - availabilityOffsets[item];
+  }
+
+  public int getCityItemsFrom(int city) {
+    return cityItemOffsets[city];
+  }
+
+  public int getCityItemsTo(int city) {
+    return cityItemOffsets[city + 1];
+  }
+
+  /**
+   * @param index index between <code>getCityItemsFrom(city)</code> and
+   *              <code>getCityItemsTo(city)</code> of some city
+   * @return id of the item
+   */
+  public int getCityItem(int index) {
+    return cityItems[index];
+  }
+
+  /**
+   * @param rank position in the ascending order of profit to weight ratio
+   * @return id of the item
+   */
+  public int getItemByRatio(int rank) {
+    return ratioOrder[rank];
+  }
+}
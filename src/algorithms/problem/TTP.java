@@ -5,8 +5,8 @@ import algorithms.problem.mkp.Knapsack;
 import algorithms.problem.mtsp.City;
 import algorithms.problem.mtsp.DistanceMatrix;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.IntStream;
 
 /**
  * Implementation of a Travelling Thief Problem
@@ -28,6 +28,18 @@ public class TTP extends BaseProblemRepresentation {
 
   // first index is the city, inner list contains id's of available items
   private List<List<Integer>> itemAvailabilities;
+  // flat arrays of the instance, compiled on first use and shared by clones
+  private CompiledTTP compiled;
+
+  // delta evaluation cache, i-th element describes the state after leaving i-th city of the tour
+  private double[] positionWeights;
+  private double[] positionTimes;
+  // path and selection for which the cache above was calculated
+  private int[] evaluatedPath;
+  private int[] evaluatedSelection;
+  // reusable buffers: positions of cities in the tour and counts for the hash
+  private int[] cityPositions;
+  private int[] cityCounts;
 
   public TTP(Knapsack k, City[] cities, double mnSpeed, double mxSpeed, double rr) {
     selection = new int[k.getItems().size()];
@@ -71,16 +83,14 @@ public class TTP extends BaseProblemRepresentation {
       selection[i] = genes.get(path.length + i).intValue();
     }
     // TODO: create a constraint preserver
-    int[] sortedIndices = IntStream.range(0, selection.length)
-            .boxed().sorted((i, j) -> Integer.compare(knapsack.getItem(i).getProfit() / knapsack.getItem(i).getWeight(),
-                    knapsack.getItem(j).getProfit() / knapsack.getItem(j).getWeight()) )
-            .mapToInt(ele -> ele).toArray();
+    CompiledTTP instance = getCompiled();
     double currentWeight = getCurrentWeight();
     int index = 0;
-    while (currentWeight > knapsack.getCapacity()) {
-      if (selection[sortedIndices[index]] > 0) {
-        selection[sortedIndices[index]] = 0;
-        currentWeight -= knapsack.getItem(sortedIndices[index]).getWeight();
+    while (currentWeight > instance.getCapacity()) {
+      int item = instance.getItemByRatio(index);
+      if (selection[item] > 0) {
+        selection[item] = 0;
+        currentWeight -= instance.getWeight(item);
       }
       ++index;
     }
@@ -90,71 +100,160 @@ public class TTP extends BaseProblemRepresentation {
 
   @Override
   public void fixGenes(List<Number> genes) {
-    int[] sortedIndices = IntStream.range(0, selection.length)
-            .boxed().sorted((i, j) -> Integer.compare(knapsack.getItem(i).getProfit() / knapsack.getItem(i).getWeight(),
-                    knapsack.getItem(j).getProfit() / knapsack.getItem(j).getWeight()) )
-            .mapToInt(ele -> ele).toArray();
-
+    CompiledTTP instance = getCompiled();
     double currentWeight = 0d;
     for (int i = 0; i < selection.length; ++i) {
       if ((int)genes.get(i + path.length) > 0) {
-        currentWeight += knapsack.getItem(i).getWeight();
+        currentWeight += instance.getWeight(i);
       }
     }
 
     int index = 0;
-    while (currentWeight > knapsack.getCapacity()) {
-      if ((int)genes.get(path.length + sortedIndices[index]) > 0) {
-        genes.set(path.length + sortedIndices[index], 0);
-        currentWeight -= knapsack.getItem(sortedIndices[index]).getWeight();
+    while (currentWeight > instance.getCapacity()) {
+      int item = instance.getItemByRatio(index);
+      if ((int)genes.get(path.length + item) > 0) {
+        genes.set(path.length + item, 0);
+        currentWeight -= instance.getWeight(item);
       }
       ++index;
     }
   }
 
+  /**
+   * Calculates travelling time of the current path and selection.
+   * Weights and times of the last evaluated tour are cached per tour position,
+   * so only the suffix starting from the first position affected by
+   * a change (reverse, swap, insertion, displacement or a different item
+   * selection) is recalculated.
+   *
+   * @return travelling time of the tour
+   */
   public double getTravellingTime() {
-    double[][] distances = distanceMatrix.getDistances();
+    int firstAffectedPosition = getFirstAffectedPosition();
+    if (firstAffectedPosition < path.length) {
+      updateTravellingTime(firstAffectedPosition);
+    }
+    return positionTimes[path.length - 1];
+  }
+
+  /**
+   * Recalculates cached weights and times from the given tour position
+   * to the end of the tour.
+   *
+   * @param firstPosition first tour position to recalculate
+   */
+  private void updateTravellingTime(int firstPosition) {
+    CompiledTTP instance = getCompiled();
+    if (positionTimes == null || positionTimes.length != path.length) {
+      positionWeights = new double[path.length];
+      positionTimes = new double[path.length];
+      evaluatedPath = new int[path.length];
+      evaluatedSelection = new int[selection.length];
+      firstPosition = 0;
+    }
 
-    double time = 0d;
+    double time = firstPosition > 0 ? positionTimes[firstPosition - 1] : 0d;
+    double currentWeight = firstPosition > 0 ? positionWeights[firstPosition - 1] : 0d;
     double velocity;
-    double currentWeight = 0d;
-    List<Integer> availableItemsInCity;
+    for (int i = firstPosition; i < path.length; ++i) {
+      currentWeight += getPickedWeight(instance, path[i]);
+      velocity = maxSpeed - (currentWeight * ( (maxSpeed - minSpeed)  / instance.getCapacity() ));
+      velocity = Math.max(velocity, minSpeed);
+      // last leg goes back to the first city
+      time += instance.getDistance(path[i], path[(i + 1) % path.length]) / velocity;
+      positionWeights[i] = currentWeight;
+      positionTimes[i] = time;
+    }
+
+    System.arraycopy(path, 0, evaluatedPath, 0, path.length);
+    System.arraycopy(selection, 0, evaluatedSelection, 0, selection.length);
+  }
 
-    for (int i = 0; i < path.length - 1; ++i) {
-      availableItemsInCity = itemAvailabilities.get(path[i]);
-      for (int item : availableItemsInCity) {
-        if (selection[item] > 0 && path[i] == knapsack.getItem(item).getAvailability().get(selection[item] - 1)) {
-          currentWeight += knapsack.getItem(item).getWeight();
+  /**
+   * Finds the first tour position whose cached weight or time is no longer valid.
+   * It is the position preceding the first city that differs from the evaluated path,
+   * or an earlier position of a city where a different set of items is picked.
+   *
+   * @return first affected position, path length if the cache is up to date
+   */
+  private int getFirstAffectedPosition() {
+    if (evaluatedPath == null || evaluatedPath.length != path.length
+        || evaluatedSelection.length != selection.length) {
+      return 0;
+    }
+    int firstChangedCity = 0;
+    while (firstChangedCity < path.length && path[firstChangedCity] == evaluatedPath[firstChangedCity]) {
+      ++firstChangedCity;
+    }
+    // the leg leading to the first changed city has to be recalculated as well
+    int firstPosition = firstChangedCity < path.length ? Math.max(0, firstChangedCity - 1) : path.length;
+    if (firstPosition == 0) {
+      return 0;
+    }
+
+    CompiledTTP instance = getCompiled();
+    boolean positionsSet = false;
+    for (int item = 0; item < selection.length; ++item) {
+      if (selection[item] == evaluatedSelection[item]) {
+        continue;
+      }
+      if (!positionsSet) {
+        // prefix before firstChangedCity is shared by both paths, so positions there are valid for both
+        if (cityPositions == null || cityPositions.length != path.length) {
+          cityPositions = new int[path.length];
         }
+        for (int i = 0; i < path.length; ++i) {
+          cityPositions[path[i]] = i;
+        }
+        positionsSet = true;
+      }
+      if (evaluatedSelection[item] > 0) {
+        firstPosition = Math.min(firstPosition, cityPositions[instance.getPickupCity(item, evaluatedSelection[item])]);
+      }
+      if (selection[item] > 0) {
+        firstPosition = Math.min(firstPosition, cityPositions[instance.getPickupCity(item, selection[item])]);
+      }
+      if (firstPosition == 0) {
+        return 0;
       }
-      velocity = maxSpeed - (currentWeight * ( (maxSpeed - minSpeed)  / knapsack.getCapacity() ));
-      velocity = Math.max(velocity, minSpeed);
-      time += distances[path[i]][path[i+1]] / velocity;
     }
+    return firstPosition;
+  }
 
-    //Traveling time between last and first city
-    availableItemsInCity = itemAvailabilities.get(path[path.length - 1]);
-    for (int item : availableItemsInCity) {
-      if (selection[item] > 0 && path[path.length - 1] == knapsack.getItem(item).getAvailability().get(selection[item] - 1)) {
-        currentWeight += knapsack.getItem(item).getWeight();
+  private double getPickedWeight(CompiledTTP instance, int city) {
+    double weight = 0d;
+    for (int i = instance.getCityItemsFrom(city); i < instance.getCityItemsTo(city); ++i) {
+      int item = instance.getCityItem(i);
+      if (selection[item] > 0 && city == instance.getPickupCity(item, selection[item])) {
+        weight += instance.getWeight(item);
       }
     }
-    velocity = maxSpeed - (currentWeight * ( (maxSpeed - minSpeed)  / knapsack.getCapacity() ));
-    velocity = Math.max(velocity, minSpeed);
-    time += distances[path[path.length - 1]][path[0]] / velocity;
-    return time;
+    return weight;
   }
 
   public double getCurrentWeight() {
+    CompiledTTP instance = getCompiled();
     double currentWeight = 0d;
     for (int i = 0; i < selection.length; ++i) {
       if (selection[i] > 0) {
-        currentWeight += knapsack.getItem(i).getWeight();
+        currentWeight += instance.getWeight(i);
       }
     }
     return currentWeight;
   }
 
+  /**
+   * Returns the flat representation of the instance, compiling it on the first call.
+   *
+   * @return compiled instance
+   */
+  public CompiledTTP getCompiled() {
+    if (compiled == null) {
+      compiled = new CompiledTTP(knapsack, distanceMatrix.getDistances(), itemAvailabilities);
+    }
+    return compiled;
+  }
+
   public double calculateMaxTravellingTime() {
     double maxDistance = getMaxDistance();
     return maxDistance / minSpeed;
@@ -234,6 +333,13 @@ public class TTP extends BaseProblemRepresentation {
     ttp.setSelection(selection.clone());
     ttp.setPath(path.clone());
     ttp.setItemAvailabilities(itemAvailabilities);
+    ttp.compiled = getCompiled();
+    if (evaluatedPath != null) {
+      ttp.positionWeights = positionWeights.clone();
+      ttp.positionTimes = positionTimes.clone();
+      ttp.evaluatedPath = evaluatedPath.clone();
+      ttp.evaluatedSelection = evaluatedSelection.clone();
+    }
     return ttp;
   }
 
@@ -246,10 +352,24 @@ public class TTP extends BaseProblemRepresentation {
   public void setHashCode() {
     long hash = 0xCBF29CE484222325L;
     long prime = 0x100000001B3L;
-    int[] sortedIndices = IntStream.range(0, path.length)
-            .boxed().sorted((i, j) -> Integer.compare(path[i], path[j]) )
-            .mapToInt(ele -> ele).toArray();
-    for(int p : sortedIndices)
+    // positions of the tour in the order of cities, stable counting sort
+    if (cityCounts == null || cityCounts.length != path.length + 1) {
+      cityCounts = new int[path.length + 1];
+    }
+    if (cityPositions == null || cityPositions.length != path.length) {
+      cityPositions = new int[path.length];
+    }
+    Arrays.fill(cityCounts, 0);
+    for (int city : path) {
+      cityCounts[city + 1]++;
+    }
+    for (int i = 1; i < cityCounts.length; ++i) {
+      cityCounts[i] += cityCounts[i - 1];
+    }
+    for (int i = 0; i < path.length; ++i) {
+      cityPositions[cityCounts[path[i]]++] = i;
+    }
+    for(int p : cityPositions)
     {
       hash ^= Integer.hashCode(p);
       hash *= prime;
@@ -288,6 +408,7 @@ public class TTP extends BaseProblemRepresentation {
 
   public void setItemAvailabilities(List<List<Integer>> itemAvailabilities) {
     this.itemAvailabilities = itemAvailabilities;
+    this.compiled = null;
   }
 
   public Knapsack getKnapsack() {
@@ -296,6 +417,7 @@ public class TTP extends BaseProblemRepresentation {
 
   public void setKnapsack(Knapsack knapsack) {
     this.knapsack = knapsack;
+    this.compiled = null;
   }
 
   public double getMinSpeed() {
@@ -0,0 +1,262 @@
+package algorithms.problem.scheduling;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, id-indexed representation of an MS-RCPSP instance, built once
+ * when the definition is read and shared by all copies of a schedule.
+ * Tasks and resources are looked up by id in constant time, predecessors
+ * are kept as a compressed graph (offsets and values) and capabilities
+ * as bitsets of resources per task, so no skill type is compared as a
+ * string while building or evaluating schedules.
+ * Task and resource indices are positions in the arrays of the definition.
+ */
+public final class CompiledSchedule {
+
+  private final int[] taskIndexById;
+  private final int[] resourceIndexById;
+  private final int[] taskIds;
+  private final int[] resourceIds;
+  private final int[] durations;
+  private final double[] salaries;
+
+  // predecessors of task i are predecessors[predecessorOffsets[i]] to predecessors[predecessorOffsets[i + 1] - 1]
+  private final int[] predecessorOffsets;
+  private final int[] predecessors;
+  private final boolean[] hasSuccessors;
+
+  // capable resources of task i, as a bitset and as a list in the order of resources
+  private final long[][] capableBitsets;
+  private final int[] capableOffsets;
+  private final int[] capableResources;
+
+  // skill types are numbered in the order of appearance
+  private final int[][] requiredSkillTypes;
+  private final int[][] requiredSkillLevels;
+  // level of the first skill of the type owned by the resource, -1 if there is none
+  private final int[][] firstSkillLevels;
+  private final int maxSkillOveruse;
+
+  public CompiledSchedule(Task[] tasks, Resource[] resources) {
+    int numTasks = tasks.length;
+    int numResources = resources.length;
+    taskIds = new int[numTasks];
+    resourceIds = new int[numResources];
+    durations = new int[numTasks];
+    salaries = new double[numResources];
+    for (int i = 0; i < numTasks; ++i) {
+      taskIds[i] = tasks[i].getId();
+      durations[i] = tasks[i].getDuration();
+    }
+    for (int i = 0; i < numResources; ++i) {
+      resourceIds[i] = resources[i].getId();
+      salaries[i] = resources[i].getSalary();
+    }
+    taskIndexById = getIndexById(taskIds);
+    resourceIndexById = getIndexById(resourceIds);
+
+    predecessorOffsets = new int[numTasks + 1];
+    for (int i = 0; i < numTasks; ++i) {
+      predecessorOffsets[i + 1] = predecessorOffsets[i] + tasks[i].getPredecessors().length;
+    }
+    predecessors = new int[predecessorOffsets[numTasks]];
+    hasSuccessors = new boolean[numTasks];
+    for (int i = 0; i < numTasks; ++i) {
+      int[] taskPredecessors = tasks[i].getPredecessors();
+      for (int j = 0; j < taskPredecessors.length; ++j) {
+        int predecessor = getTaskIndex(taskPredecessors[j]);
+        predecessors[predecessorOffsets[i] + j] = predecessor;
+        hasSuccessors[predecessor] = true;
+      }
+    }
+
+    Map<String, Integer> skillTypes = new HashMap<>();
+    requiredSkillTypes = new int[numTasks][];
+    requiredSkillLevels = new int[numTasks][];
+    for (int i = 0; i < numTasks; ++i) {
+      Skill[] skills = tasks[i].getRequiredSkills();
+      requiredSkillTypes[i] = new int[skills.length];
+      requiredSkillLevels[i] = new int[skills.length];
+      for (int j = 0; j < skills.length; ++j) {
+        requiredSkillTypes[i][j] = skillTypes.computeIfAbsent(skills[j].getType(), type -> skillTypes.size());
+        requiredSkillLevels[i][j] = skills[j].getLevel();
+      }
+    }
+    for (Resource resource : resources) {
+      for (Skill skill : resource.getSkills()) {
+        skillTypes.computeIfAbsent(skill.getType(), type -> skillTypes.size());
+      }
+    }
+
+    firstSkillLevels = new int[numResources][skillTypes.size()];
+    // a resource has a skill if any of its skills of the type is on a high enough level
+    int[][] maxSkillLevels = new int[numResources][skillTypes.size()];
+    for (int r = 0; r < numResources; ++r) {
+      Arrays.fill(firstSkillLevels[r], -1);
+      Arrays.fill(maxSkillLevels[r], -1);
+      for (Skill skill : resources[r].getSkills()) {
+        int type = skillTypes.get(skill.getType());
+        if (firstSkillLevels[r][type] == -1) {
+          firstSkillLevels[r][type] = skill.getLevel();
+        }
+        maxSkillLevels[r][type] = Math.max(maxSkillLevels[r][type], skill.getLevel());
+      }
+    }
+
+    int maxOveruse = 0;
+    for (int i = 0; i < numTasks; ++i) {
+      for (int j = 0; j < requiredSkillTypes[i].length; ++j) {
+        int maxLevel = 0;
+        for (int r = 0; r < numResources; ++r) {
+          maxLevel = Math.max(maxLevel, firstSkillLevels[r][requiredSkillTypes[i][j]]);
+        }
+        maxOveruse += maxLevel - requiredSkillLevels[i][j];
+      }
+    }
+    maxSkillOveruse = maxOveruse;
+
+    capableBitsets = new long[numTasks][(numResources + 63) >>> 6];
+    capableOffsets = new int[numTasks + 1];
+    int[] capable = new int[numTasks * numResources];
+    int numCapable = 0;
+    for (int i = 0; i < numTasks; ++i) {
+      for (int r = 0; r < numResources; ++r) {
+        boolean canDo = true;
+        for (int j = 0; j < requiredSkillTypes[i].length && canDo; ++j) {
+          canDo = maxSkillLevels[r][requiredSkillTypes[i][j]] >= requiredSkillLevels[i][j];
+        }
+        if (canDo) {
+          capableBitsets[i][r >>> 6] |= 1L << r;
+          capable[numCapable++] = r;
+        }
+      }
+      capableOffsets[i + 1] = numCapable;
+    }
+    capableResources = Arrays.copyOf(capable, numCapable);
+  }
+
+  private static int[] getIndexById(int[] ids) {
+    int maxId = -1;
+    for (int id : ids) {
+      maxId = Math.max(maxId, id);
+    }
+    int[] indexById = new int[maxId + 1];
+    Arrays.fill(indexById, -1);
+    for (int i = 0; i < ids.length; ++i) {
+      if (ids[i] >= 0) {
+        indexById[ids[i]] = i;
+      }
+    }
+    return indexById;
+  }
+
+  public int getNumTasks() {
+    return taskIds.length;
+  }
+
+  public int getNumResources() {
+    return resourceIds.length;
+  }
+
+  /**
+   * @param taskId task id
+   * @return index of the task or -1 if there is no such task
+   */
+  public int getTaskIndex(int taskId) {
+    return taskId >= 0 && taskId < taskIndexById.length ? taskIndexById[taskId] : -1;
+  }
+
+  /**
+   * @param resourceId resource id
+   * @return index of the resource or -1 if there is no such resource
+   */
+  public int getResourceIndex(int resourceId) {
+    return resourceId >= 0 && resourceId < resourceIndexById.length ? resourceIndexById[resourceId] : -1;
+  }
+
+  public int getTaskId(int taskIndex) {
+    return taskIds[taskIndex];
+  }
+
+  public int getResourceId(int resourceIndex) {
+    return resourceIds[resourceIndex];
+  }
+
+  public int getDuration(int taskIndex) {
+    return durations[taskIndex];
+  }
+
+  public double getSalary(int resourceIndex) {
+    return salaries[resourceIndex];
+  }
+
+  public int getPredecessorsFrom(int taskIndex) {
+    return predecessorOffsets[taskIndex];
+  }
+
+  public int getPredecessorsTo(int taskIndex) {
+    return predecessorOffsets[taskIndex + 1];
+  }
+
+  /**
+   * @param index index between <code>getPredecessorsFrom(task)</code> and
+   *              <code>getPredecessorsTo(task)</code> of some task
+   * @return index of the predecessor
+   */
+  public int getPredecessor(int index) {
+    return predecessors[index];
+  }
+
+  public boolean hasSuccessors(int taskIndex) {
+    return hasSuccessors[taskIndex];
+  }
+
+  public boolean canDoTask(int taskIndex, int resourceIndex) {
+    return (capableBitsets[taskIndex][resourceIndex >>> 6] & (1L << resourceIndex)) != 0;
+  }
+
+  public int getNumCapableResources(int taskIndex) {
+    return capableOffsets[taskIndex + 1] - capableOffsets[taskIndex];
+  }
+
+  /**
+   * @param taskIndex task index
+   * @param number number of the capable resource, starting from 0, in the order of resources
+   * @return index of the resource
+   */
+  public int getCapableResource(int taskIndex, int number) {
+    return capableResources[capableOffsets[taskIndex] + number];
+  }
+
+  /**
+   * @return skill overuse if every task was done by the resource with the
+   *         highest level of each required skill
+   */
+  public int getMaxSkillOveruse() {
+    return maxSkillOveruse;
+  }
+
+  /**
+   * Sum of differences between the level of the resource's skill and the
+   * required level over all skills required by the task. The first skill
+   * of each type owned by the resource is taken.
+   *
+   * @param taskIndex task index
+   * @param resourceIndex resource index
+   * @return skill overuse of the assignment
+   * @throws IllegalStateException if the resource lacks a required skill type
+   */
+  public int getSkillOveruse(int taskIndex, int resourceIndex) {
+    int overuse = 0;
+    for (int j = 0; j < requiredSkillTypes[taskIndex].length; ++j) {
+      int level = firstSkillLevels[resourceIndex][requiredSkillTypes[taskIndex][j]];
+      if (level == -1) {
+        throw new IllegalStateException("Incorrect task - resource assignment");
+      }
+      overuse += level - requiredSkillLevels[taskIndex][j];
+    }
+    return overuse;
+  }
+}
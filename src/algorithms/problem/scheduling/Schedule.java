@@ -2,7 +2,9 @@ package algorithms.problem.scheduling;
 
 import algorithms.evolutionary_algorithms.ParameterSet;
 import algorithms.problem.BaseProblemRepresentation;
+import algorithms.problem.scheduling.schedule_builders.ScheduleBuilder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -16,6 +18,10 @@ public class Schedule extends BaseProblemRepresentation {
 
   private Task[] tasks;
   private Resource[] resources;
+  // id-indexed instance data, shared by copies; null for schedules built by hand
+  private CompiledSchedule compiled;
+  // builder which set the current timestamps, null if they are not built
+  private ScheduleBuilder timestampsBuilder;
 
   public Schedule() { }
 
@@ -33,6 +39,14 @@ public class Schedule extends BaseProblemRepresentation {
 
   @Override
   public Schedule buildSolution(List<? extends Number> genes, ParameterSet<? extends Number, ? extends BaseProblemRepresentation> parameters) {
+    // timestamps built before by the same builder are only updated where the assignments changed
+    int[] previousResourceIds = null;
+    if (timestampsBuilder != null && timestampsBuilder == parameters.scheduleBuilder) {
+      previousResourceIds = new int[tasks.length];
+      for (int i = 0; i < tasks.length; ++i) {
+        previousResourceIds[i] = tasks[i].getResourceId();
+      }
+    }
     if (parameters.converter != null) {
       parameters.converter.convertToInteger(this.getTasks(), genes);
     }
@@ -40,7 +54,15 @@ public class Schedule extends BaseProblemRepresentation {
       parameters.constraintPreserver.repair(this);
     }
     buildTaskResourceAssignments();
-    parameters.scheduleBuilder.buildTimestamps(this);
+    if (previousResourceIds != null) {
+      parameters.scheduleBuilder.updateTimestamps(this, previousResourceIds);
+    } else {
+      if (timestampsBuilder != null) {
+        clear(false);
+      }
+      parameters.scheduleBuilder.buildTimestamps(this);
+    }
+    timestampsBuilder = parameters.scheduleBuilder;
     this.setHashCode();
     return this;
   }
@@ -70,8 +92,12 @@ public class Schedule extends BaseProblemRepresentation {
       t.setResourceId(this.getTask(t.getId()).getResourceId());
     }
     for (Resource r : schedule.getResources()) {
-      r.setFinish(this.getResource(r.getId()).getFinish());
+      Resource org = this.getResource(r.getId());
+      r.setFinish(org.getFinish());
+      r.setWorkingTime(org.getWorkingTime());
     }
+    schedule.setCompiled(compiled);
+    schedule.timestampsBuilder = timestampsBuilder;
     return schedule;
   }
 
@@ -93,7 +119,9 @@ public class Schedule extends BaseProblemRepresentation {
     int numTasks = tasks.length;
     int[] upperBounds = new int[numTasks];
     for (int i = 0; i < numTasks; ++i) {
-      upperBounds[i] = this.getCapableResources(this.getTasks()[i]).size();
+      int taskIndex = getCompiledIndex(tasks[i]);
+      upperBounds[i] = taskIndex != -1 ? compiled.getNumCapableResources(taskIndex)
+          : this.getCapableResources(this.getTasks()[i]).size();
     }
     return upperBounds;
   }
@@ -108,6 +136,7 @@ public class Schedule extends BaseProblemRepresentation {
    * @param timestamp start time of the task <code>t</code>
    */
   public void assign(Task t, Resource r, int timestamp) {
+    timestampsBuilder = null;
     t.setResourceId(r.getId());
     t.setStart(timestamp);
     r.setFinish(timestamp + t.getDuration());
@@ -135,6 +164,7 @@ public class Schedule extends BaseProblemRepresentation {
    * @param timestamp start of work
    */
   public void assign(Task t, int timestamp) {
+    timestampsBuilder = null;
     t.setStart(timestamp);
     int resourceId = t.getResourceId();
     if (-1 != resourceId) {
@@ -150,6 +180,7 @@ public class Schedule extends BaseProblemRepresentation {
    * @param r resource to assign
    */
   public void assign(Task t, Resource r) {
+    timestampsBuilder = null;
     t.setResourceId(r.getId());
   }
 
@@ -158,7 +189,12 @@ public class Schedule extends BaseProblemRepresentation {
    */
   public void buildTaskResourceAssignments() {
     for (Task task : this.getTasks()) {
-      task.setResourceId(this.getCapableResources(task).get(task.getResourceId()-1).getId());
+      int taskIndex = getCompiledIndex(task);
+      if (taskIndex != -1) {
+        task.setResourceId(compiled.getResourceId(compiled.getCapableResource(taskIndex, task.getResourceId() - 1)));
+      } else {
+        task.setResourceId(this.getCapableResources(task).get(task.getResourceId()-1).getId());
+      }
     }
   }
 
@@ -169,6 +205,12 @@ public class Schedule extends BaseProblemRepresentation {
   public boolean[] getSuccesors() {
     Task[] tasks = this.getTasks();
     boolean[] hasSuccesors = new boolean[tasks.length];
+    if (compiled != null) {
+      for (int i = 0; i < tasks.length; ++i) {
+        hasSuccesors[i] = compiled.hasSuccessors(compiled.getTaskIndex(tasks[i].getId()));
+      }
+      return hasSuccesors;
+    }
     Task predecessorTask;
     int tempId;
     for (Task task : tasks) {
@@ -228,7 +270,9 @@ public class Schedule extends BaseProblemRepresentation {
     }
     for (Resource r : resources) {
       r.setFinish(-1);
+      r.setWorkingTime(0);
     }
+    timestampsBuilder = null;
   }
 
   /**
@@ -239,6 +283,12 @@ public class Schedule extends BaseProblemRepresentation {
    * does not exist.
    */
   public Task getTask(int taskId) {
+    if (compiled != null) {
+      int index = compiled.getTaskIndex(taskId);
+      if (index != -1 && index < tasks.length && tasks[index].getId() == taskId) {
+        return tasks[index];
+      }
+    }
     for (Task t : tasks) {
       if (t.getId() == taskId) {
         return t;
@@ -255,6 +305,12 @@ public class Schedule extends BaseProblemRepresentation {
    * does not exist.
    */
   public Resource getResource(int resourceId) {
+    if (compiled != null) {
+      int index = compiled.getResourceIndex(resourceId);
+      if (index != -1 && index < resources.length && resources[index].getId() == resourceId) {
+        return resources[index];
+      }
+    }
     for (Resource r : resources) {
       if (r.getId() == resourceId) {
         return r;
@@ -270,6 +326,14 @@ public class Schedule extends BaseProblemRepresentation {
    * @return list of resources capable of doing task <code>t</code>
    */
   public List<Resource> getCapableResources(Task t) {
+    int taskIndex = getCompiledIndex(t);
+    if (taskIndex != -1) {
+      List<Resource> result = new ArrayList<>(compiled.getNumCapableResources(taskIndex));
+      for (int i = 0; i < compiled.getNumCapableResources(taskIndex); ++i) {
+        result.add(getResource(compiled.getResourceId(compiled.getCapableResource(taskIndex, i))));
+      }
+      return result;
+    }
     List<Resource> result = new LinkedList<>();
     for (Resource r : resources) {
       if (canDoTask(t, r)) {
@@ -408,6 +472,11 @@ public class Schedule extends BaseProblemRepresentation {
     if (null == r) {
       return false;
     }
+    int taskIndex = getCompiledIndex(t);
+    int resourceIndex = compiled != null ? compiled.getResourceIndex(r.getId()) : -1;
+    if (taskIndex != -1 && resourceIndex != -1) {
+      return compiled.canDoTask(taskIndex, resourceIndex);
+    }
     for (Skill skill : t.getRequiredSkills()) {
       if (!r.hasSkill(skill)) {
         return false;
@@ -432,6 +501,16 @@ public class Schedule extends BaseProblemRepresentation {
     return num;
   }
 
+  /**
+   * Index of the task in the compiled instance.
+   *
+   * @param task task to look for
+   * @return index of the task or -1 if the schedule is not compiled
+   */
+  private int getCompiledIndex(Task task) {
+    return compiled != null ? compiled.getTaskIndex(task.getId()) : -1;
+  }
+
   public void setHashCode() {
     this.hashCode = Arrays.hashCode(Arrays.stream(tasks).mapToInt(Task::getResourceId).toArray());
   }
@@ -442,6 +521,7 @@ public class Schedule extends BaseProblemRepresentation {
 
   public void setTasks(Task[] tasks) {
     this.tasks = tasks;
+    timestampsBuilder = null;
   }
 
   public Resource[] getResources() {
@@ -450,6 +530,15 @@ public class Schedule extends BaseProblemRepresentation {
 
   public void setResources(Resource[] resources) {
     this.resources = resources;
+    timestampsBuilder = null;
+  }
+
+  public CompiledSchedule getCompiled() {
+    return compiled;
+  }
+
+  public void setCompiled(CompiledSchedule compiled) {
+    this.compiled = compiled;
   }
 
 }
@@ -1,10 +1,13 @@
 package algorithms.problem.scheduling.schedule_builders;
 
 
+import algorithms.problem.scheduling.CompiledSchedule;
 import algorithms.problem.scheduling.Resource;
 import algorithms.problem.scheduling.Schedule;
 import algorithms.problem.scheduling.Task;
 
+import java.util.Arrays;
+
 /**
  * Extension of ScheduleBuilder. Implements
  * forward problem building.
@@ -12,6 +15,8 @@ import algorithms.problem.scheduling.Task;
 public class ForwardScheduleBuilder extends ScheduleBuilder {
 
   protected boolean[] hasSuccessors;
+  // order of placing tasks of the last compiled instance, used to update timestamps
+  private Placement placement;
 
   public ForwardScheduleBuilder(boolean[] hasSuccessors) {
    setHasSuccessors(hasSuccessors);
@@ -60,6 +65,185 @@ public class ForwardScheduleBuilder extends ScheduleBuilder {
     return schedule;
   }
 
+  /**
+   * Updates timestamps after some tasks were assigned to other resources.
+   * Gives the same result as <code>buildTimestamps</code>, but starts from the
+   * first reassigned task in the order of placing and stops as soon as the
+   * rest of the tasks cannot be affected, so only the reassigned tasks,
+   * their successors and the later tasks of changed resources are placed again.
+   * Schedules without a compiled instance, or with a predecessor placed after
+   * its task, are built from scratch.
+   *
+   * @param schedule individual with timestamps built by this builder
+   *                 and new task / resource assignments
+   * @param previousResourceIds ids of resources assigned to the tasks
+   *                            when the timestamps were built
+   * @return complete individual
+   */
+  @Override
+  public Schedule updateTimestamps(Schedule schedule, int[] previousResourceIds) {
+    Placement placement = getPlacement(schedule);
+    if (placement == null) {
+      return super.updateTimestamps(schedule, previousResourceIds);
+    }
+    CompiledSchedule compiled = schedule.getCompiled();
+    Task[] tasks = schedule.getTasks();
+    Resource[] resources = schedule.getResources();
+    int[] order = placement.order;
+    int[] positions = placement.positions;
+
+    int first = order.length;
+    // last position, up to which tasks may change
+    int horizon = -1;
+    // last position of a task done by each resource
+    int[] lastPositions = new int[resources.length];
+    Arrays.fill(lastPositions, -1);
+    for (int i = 0; i < tasks.length; ++i) {
+      if (tasks[i].getId() != compiled.getTaskId(i)) {
+        return super.updateTimestamps(schedule, previousResourceIds);
+      }
+      int resource = tasks[i].getResourceId() - 1;
+      lastPositions[resource] = Math.max(lastPositions[resource], positions[i]);
+      if (resource != previousResourceIds[i] - 1) {
+        first = Math.min(first, positions[i]);
+        horizon = Math.max(horizon, positions[i]);
+      }
+    }
+    if (horizon == -1) {
+      return schedule;
+    }
+
+    // finishes of resources before the current position, with previous and new assignments
+    int[] previousFinishes = new int[resources.length];
+    for (int position = 0; position < first; ++position) {
+      Task task = tasks[order[position]];
+      previousFinishes[task.getResourceId() - 1] = task.getStart() + task.getDuration();
+    }
+    int[] finishes = previousFinishes.clone();
+    boolean[] moved = new boolean[tasks.length];
+
+    for (int position = first; position <= horizon; ++position) {
+      int i = order[position];
+      Task task = tasks[i];
+      int previousResource = previousResourceIds[i] - 1;
+      int resource = task.getResourceId() - 1;
+      int previousStart = task.getStart();
+      boolean affected = resource != previousResource || finishes[resource] != previousFinishes[resource];
+      for (int k = compiled.getPredecessorsFrom(i); k < compiled.getPredecessorsTo(i) && !affected; ++k) {
+        affected = moved[compiled.getPredecessor(k)];
+      }
+      if (!affected) {
+        previousFinishes[resource] = previousStart + task.getDuration();
+        finishes[resource] = previousFinishes[resource];
+        continue;
+      }
+      int start = finishes[resource];
+      for (int k = compiled.getPredecessorsFrom(i); k < compiled.getPredecessorsTo(i); ++k) {
+        Task predecessor = tasks[compiled.getPredecessor(k)];
+        start = Math.max(start, predecessor.getStart() + predecessor.getDuration());
+      }
+      previousFinishes[previousResource] = previousStart + task.getDuration();
+      finishes[resource] = start + task.getDuration();
+      // later tasks of resources with changed finishes have to be placed again
+      if (previousFinishes[previousResource] != finishes[previousResource]) {
+        horizon = Math.max(horizon, lastPositions[previousResource]);
+      }
+      if (previousFinishes[resource] != finishes[resource]) {
+        horizon = Math.max(horizon, lastPositions[resource]);
+      }
+      if (start != previousStart) {
+        task.setStart(start);
+        moved[i] = true;
+        horizon = Math.max(horizon, placement.lastSuccessorPositions[i]);
+      }
+      if (resource != previousResource) {
+        resources[previousResource].setWorkingTime(resources[previousResource].getWorkingTime() - task.getDuration());
+        resources[resource].setWorkingTime(resources[resource].getWorkingTime() + task.getDuration());
+      }
+    }
+    // resources with changed finishes do no task after the horizon, others keep their finishes
+    for (int r = 0; r < resources.length; ++r) {
+      if (finishes[r] != previousFinishes[r]) {
+        resources[r].setFinish(finishes[r]);
+      }
+    }
+    return schedule;
+  }
+
+  /**
+   * Gets the order of placing tasks, if the schedule has a compiled instance
+   * matching its tasks and resources and every predecessor is placed before
+   * its task.
+   */
+  private Placement getPlacement(Schedule schedule) {
+    CompiledSchedule compiled = schedule.getCompiled();
+    if (compiled == null || hasSuccessors.length != compiled.getNumTasks()) {
+      return null;
+    }
+    Placement current = placement;
+    if (current == null || current.compiled != compiled || current.hasSuccessors != hasSuccessors) {
+      current = new Placement(compiled, hasSuccessors);
+      placement = current;
+    }
+    Resource[] resources = schedule.getResources();
+    if (!current.isTopological || schedule.getTasks().length != compiled.getNumTasks()
+        || resources.length != compiled.getNumResources()) {
+      return null;
+    }
+    for (int r = 0; r < resources.length; ++r) {
+      if (resources[r].getId() != r + 1) {
+        return null;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Order in which <code>buildTimestamps</code> places tasks of an instance.
+   */
+  private static final class Placement {
+
+    private final CompiledSchedule compiled;
+    private final boolean[] hasSuccessors;
+    private final int[] order;
+    private final int[] positions;
+    // position of the last successor of each task, -1 if it has none
+    private final int[] lastSuccessorPositions;
+    private final boolean isTopological;
+
+    private Placement(CompiledSchedule compiled, boolean[] hasSuccessors) {
+      this.compiled = compiled;
+      this.hasSuccessors = hasSuccessors;
+      int numTasks = compiled.getNumTasks();
+      order = new int[numTasks];
+      positions = new int[numTasks];
+      int position = 0;
+      for (int i = 0; i < numTasks; ++i) {
+        if (hasSuccessors[i]) {
+          positions[i] = position;
+          order[position++] = i;
+        }
+      }
+      for (int i = 0; i < numTasks; ++i) {
+        if (!hasSuccessors[i]) {
+          positions[i] = position;
+          order[position++] = i;
+        }
+      }
+      lastSuccessorPositions = new int[numTasks];
+      Arrays.fill(lastSuccessorPositions, -1);
+      boolean topological = true;
+      for (int i = 0; i < numTasks; ++i) {
+        for (int k = compiled.getPredecessorsFrom(i); k < compiled.getPredecessorsTo(i); ++k) {
+          int predecessor = compiled.getPredecessor(k);
+          lastSuccessorPositions[predecessor] = Math.max(lastSuccessorPositions[predecessor], positions[i]);
+          topological &= positions[predecessor] < positions[i];
+        }
+      }
+      isTopological = topological;
+    }
+  }
+
   public boolean[] getHasSuccessors() {
     return hasSuccessors;
   }
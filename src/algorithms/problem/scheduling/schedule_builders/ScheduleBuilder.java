@@ -109,4 +109,21 @@ public class ScheduleBuilder {
         "backward builder (ForwardScheduleBuilder / BackwardScheduleBuilder");
   }
 
+  /**
+   * Updates timestamps of a schedule built by this builder after some
+   * of its tasks were assigned to other resources. Builds them again
+   * from scratch, builders able to place only the affected tasks
+   * override it.
+   *
+   * @param schedule individual with timestamps built by this builder
+   *                 and new task / resource assignments
+   * @param previousResourceIds ids of resources assigned to the tasks
+   *                            when the timestamps were built
+   * @return complete individual
+   */
+  public Schedule updateTimestamps(Schedule schedule, int[] previousResourceIds) {
+    schedule.clear(false);
+    return buildTimestamps(schedule);
+  }
+
 }
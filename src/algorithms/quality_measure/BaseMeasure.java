@@ -14,6 +14,10 @@ abstract public class BaseMeasure {
   public BaseIndividual referencePoint;
   public double referenceValue;
 
+  // tree over the reference population, kept while it has the same points
+  private KdTree referenceIndex;
+  private double[][] referenceIndexPoints;
+
   abstract public <T extends BaseIndividual> double getMeasure(List<T> population);
 
   /**
@@ -59,6 +63,58 @@ abstract public class BaseMeasure {
     return getDistance(individual, closestIndividual);
   }
 
+  /**
+   * Same as <code>getMinDistance(individual, optimalParetoFront)</code>, with
+   * the closest individual found in a k-d tree over the front.
+   *
+   * @param individual individual to compare
+   * @param index tree over normalized objectives of <code>optimalParetoFront</code>
+   * @param optimalParetoFront list of individuals to compare
+   * @return minimal distance
+   */
+  protected double getMinDistance(BaseIndividual individual, KdTree index, List<? extends BaseIndividual> optimalParetoFront) {
+    return getDistance(individual, optimalParetoFront.get(index.getNearestManhattan(individual.getNormalObjectives())));
+  }
+
+  protected static KdTree buildIndex(List<? extends BaseIndividual> individuals) {
+    return new KdTree(getPoints(individuals));
+  }
+
+  /**
+   * Returns the tree of the last call if the reference population still holds
+   * the same arrays of normalized objectives, which takes linear time,
+   * otherwise builds a new one.
+   *
+   * @return tree over normalized objectives of <code>referencePopulation</code>
+   */
+  protected KdTree getReferenceIndex() {
+    if (referenceIndex == null || !isSamePoints(referencePopulation, referenceIndexPoints)) {
+      referenceIndexPoints = getPoints(referencePopulation);
+      referenceIndex = new KdTree(referenceIndexPoints);
+    }
+    return referenceIndex;
+  }
+
+  private static double[][] getPoints(List<? extends BaseIndividual> individuals) {
+    double[][] points = new double[individuals.size()][];
+    for (int i = 0; i < points.length; ++i) {
+      points[i] = individuals.get(i).getNormalObjectives();
+    }
+    return points;
+  }
+
+  private static boolean isSamePoints(List<? extends BaseIndividual> individuals, double[][] points) {
+    if (individuals.size() != points.length) {
+      return false;
+    }
+    for (int i = 0; i < points.length; ++i) {
+      if (individuals.get(i).getNormalObjectives() != points[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Checks whether given individual exist in an optimal
    * pareto front.
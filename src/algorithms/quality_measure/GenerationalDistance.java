@@ -23,9 +23,10 @@ public class GenerationalDistance extends BaseMeasure {
    */
   @Override
   public <T extends BaseIndividual> double getMeasure(List<T> population) {
+    KdTree index = getReferenceIndex();
     double sum = 0.0;
     for (BaseIndividual individual : population) {
-      sum += Math.pow(getMinDistance(individual, referencePopulation), 2);
+      sum += Math.pow(getMinDistance(individual, index, referencePopulation), 2);
     }
     return Math.sqrt(sum) / (double) population.size();
   }
@@ -14,8 +14,35 @@ public class HVMany extends BaseMeasure {
   }
 
 
+  /**
+   * Hypervolume of the population based on normalized objectives. Uses the exact
+   * <code>HypervolumeCalculator</code> when no point is worse than the reference
+   * point, the slicing algorithm otherwise. The population is not modified.
+   *
+   * @param population population to measure
+   * @return hypervolume of the population
+   */
   @Override
   public <T extends BaseIndividual> double getMeasure(List<T> population) {
+    if (population.isEmpty()) {
+      return 0.0;
+    }
+    double[] referenceObjectives = referencePoint.getNormalObjectives();
+    double[][] points = new double[population.size()][];
+    boolean insideReferenceBox = true;
+    for (int i = 0; i < points.length; ++i) {
+      points[i] = population.get(i).getNormalObjectives();
+      for (int j = 0; j < points[i].length && insideReferenceBox; ++j) {
+        insideReferenceBox = points[i][j] <= referenceObjectives[j];
+      }
+    }
+    if (insideReferenceBox) {
+      return HypervolumeCalculator.getHypervolume(points, referenceObjectives);
+    }
+    return getSlicedMeasure(new ArrayList<>(population));
+  }
+
+  private <T extends BaseIndividual> double getSlicedMeasure(List<T> population) {
     double hyperVolume = 0.0;
     int numObjectives = population.get(0).getNormalObjectives().length;
     Collections.sort(population);
@@ -0,0 +1,148 @@
+package algorithms.quality_measure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Exact hypervolume of a set of points with minimised objectives, bounded by
+ * a reference point. Points which are not better than the reference point in
+ * every objective do not contribute. Uses O(n log n) sweeps for two and three
+ * objectives and the WFG algorithm (While, Bradstreet, Barone) for more.
+ * Dominated points and duplicates are allowed.
+ */
+public class HypervolumeCalculator {
+
+  private HypervolumeCalculator() { }
+
+  public static double getHypervolume(double[][] points, double[] referencePoint) {
+    List<double[]> inside = new ArrayList<>(points.length);
+    for (double[] point : points) {
+      if (isInside(point, referencePoint)) {
+        inside.add(point);
+      }
+    }
+    if (inside.isEmpty()) {
+      return 0.0;
+    }
+    if (referencePoint.length == 1) {
+      return referencePoint[0] - inside.stream().mapToDouble(point -> point[0]).min().getAsDouble();
+    }
+    if (referencePoint.length == 2) {
+      return sweep2D(inside.toArray(new double[0][]), referencePoint);
+    }
+    if (referencePoint.length == 3) {
+      return sweep3D(inside.toArray(new double[0][]), referencePoint);
+    }
+    double[][] nondominated = getNondominated(inside);
+    // processing points from the worst in the first objective keeps limit sets small
+    Arrays.sort(nondominated, Comparator.comparingDouble((double[] point) -> point[0]).reversed());
+    return wfg(nondominated, referencePoint);
+  }
+
+  /**
+   * Sweeps points sorted by the first objective, each slice is bounded by
+   * the best second objective seen so far.
+   */
+  private static double sweep2D(double[][] points, double[] referencePoint) {
+    double[][] sorted = points.clone();
+    Arrays.sort(sorted, (first, second) -> first[0] != second[0]
+        ? Double.compare(first[0], second[0]) : Double.compare(first[1], second[1]));
+    double hypervolume = 0.0;
+    double bestSecond = referencePoint[1];
+    for (int i = 0; i < sorted.length; ++i) {
+      bestSecond = Math.min(bestSecond, sorted[i][1]);
+      double nextFirst = i + 1 < sorted.length ? sorted[i + 1][0] : referencePoint[0];
+      hypervolume += (nextFirst - sorted[i][0]) * (referencePoint[1] - bestSecond);
+    }
+    return hypervolume;
+  }
+
+  /**
+   * Sweeps points sorted by the third objective and keeps the area of the
+   * bi-objective front of the points seen so far, O(n log n) in total.
+   * All points have to be inside the reference box.
+   */
+  static double sweep3D(double[][] points, double[] referencePoint) {
+    double[][] sorted = points.clone();
+    Arrays.sort(sorted, Comparator.comparingDouble((double[] point) -> point[2]));
+    IncrementalHypervolume2D area = new IncrementalHypervolume2D(new double[] {referencePoint[0], referencePoint[1]});
+    double hypervolume = 0.0;
+    for (int i = 0; i < sorted.length; ++i) {
+      area.add(sorted[i][0], sorted[i][1]);
+      double nextThird = i + 1 < sorted.length ? sorted[i + 1][2] : referencePoint[2];
+      hypervolume += area.getHypervolume() * (nextThird - sorted[i][2]);
+    }
+    return hypervolume;
+  }
+
+  private static double wfg(double[][] points, double[] referencePoint) {
+    if (points.length == 0) {
+      return 0.0;
+    }
+    if (referencePoint.length == 2) {
+      return sweep2D(points, referencePoint);
+    }
+    double hypervolume = 0.0;
+    for (int i = 0; i < points.length; ++i) {
+      hypervolume += getExclusiveHypervolume(points, i, referencePoint);
+    }
+    return hypervolume;
+  }
+
+  /**
+   * Volume dominated only by the point <code>index</code> and not by any
+   * of the points after it.
+   */
+  private static double getExclusiveHypervolume(double[][] points, int index, double[] referencePoint) {
+    double[] point = points[index];
+    double inclusive = 1.0;
+    for (int j = 0; j < point.length; ++j) {
+      inclusive *= referencePoint[j] - point[j];
+    }
+
+    List<double[]> limitSet = new ArrayList<>(points.length - index - 1);
+    for (int i = index + 1; i < points.length; ++i) {
+      double[] limited = new double[point.length];
+      for (int j = 0; j < point.length; ++j) {
+        limited[j] = Math.max(point[j], points[i][j]);
+      }
+      limitSet.add(limited);
+    }
+    return inclusive - wfg(getNondominated(limitSet), referencePoint);
+  }
+
+  private static double[][] getNondominated(List<double[]> points) {
+    List<double[]> nondominated = new ArrayList<>(points.size());
+    for (double[] point : points) {
+      boolean dominated = false;
+      for (int i = 0; i < nondominated.size() && !dominated; ++i) {
+        dominated = weaklyDominates(nondominated.get(i), point);
+      }
+      if (!dominated) {
+        nondominated.removeIf(other -> weaklyDominates(point, other));
+        nondominated.add(point);
+      }
+    }
+    return nondominated.toArray(new double[0][]);
+  }
+
+  private static boolean weaklyDominates(double[] first, double[] second) {
+    for (int i = 0; i < first.length; ++i) {
+      if (second[i] < first[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static boolean isInside(double[] point, double[] referencePoint) {
+    for (int i = 0; i < point.length; ++i) {
+      if (point[i] >= referencePoint[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,299 @@
+package algorithms.quality_measure;
+
+import algorithms.problem.BaseIndividual;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Exclusive hypervolume contributions of archived individuals, based on their
+ * normalized objectives. Individuals dominated by the archive are not accepted
+ * and the ones dominated by a new individual are dropped.
+ * For two objectives a contribution depends only on the neighbours on the front,
+ * so insertions and removals update the contributions in logarithmic time.
+ * For three objectives the exclusive volume of a point is swept directly inside
+ * its own box, O(n log n). A change of the archive recomputes only the points
+ * whose exclusive volume it can reach: the minimal ones among the other points
+ * clipped to the box of the changed point.
+ *
+ * @param <T> type of archived individuals
+ */
+public class HypervolumeContributionIndex<T extends BaseIndividual> {
+
+  private static class Entry<T extends BaseIndividual> {
+    private final T individual;
+    private final double[] objectives;
+    private final long id;
+    private double contribution;
+
+    private Entry(T individual, long id) {
+      this.individual = individual;
+      this.objectives = individual.getNormalObjectives();
+      this.id = id;
+    }
+  }
+
+  private final double[] referencePoint;
+  private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+  private final TreeSet<Entry<T>> byContribution = new TreeSet<>(
+      Comparator.<Entry<T>>comparingDouble(entry -> entry.contribution).thenComparingLong(entry -> entry.id));
+  private final TreeMap<Double, Entry<T>> front2D = new TreeMap<>();
+  private IncrementalHypervolume2D hypervolume2D;
+  private double hypervolume3D;
+  private boolean isHypervolumeOutdated;
+  private long nextId = 0;
+
+  /**
+   * @param referencePoint normalized objectives of the reference point
+   * @throws IllegalArgumentException if the number of objectives is not 2 or 3
+   */
+  public HypervolumeContributionIndex(double[] referencePoint) {
+    if (referencePoint.length != 2 && referencePoint.length != 3) {
+      throw new IllegalArgumentException("Hypervolume contributions are supported for 2 and 3 objectives");
+    }
+    this.referencePoint = referencePoint.clone();
+    if (referencePoint.length == 2) {
+      hypervolume2D = new IncrementalHypervolume2D(referencePoint);
+    }
+  }
+
+  /**
+   * Adds an individual to the archive.
+   *
+   * @param individual individual to add
+   * @return true if the individual is inside the reference box and is not
+   *         weakly dominated by the archive
+   */
+  public boolean add(T individual) {
+    if (entries.containsKey(individual)
+        || !HypervolumeCalculator.isInside(individual.getNormalObjectives(), referencePoint)) {
+      return false;
+    }
+    Entry<T> entry = new Entry<>(individual, nextId++);
+    return referencePoint.length == 2 ? add2D(entry) : add3D(entry);
+  }
+
+  public boolean remove(T individual) {
+    Entry<T> entry = entries.remove(individual);
+    if (entry == null) {
+      return false;
+    }
+    if (referencePoint.length == 2) {
+      byContribution.remove(entry);
+      hypervolume2D.remove(entry.objectives[0], entry.objectives[1]);
+      front2D.remove(entry.objectives[0]);
+      updateNeighbours(entry.objectives[0]);
+    } else {
+      byContribution.remove(entry);
+      isHypervolumeOutdated = true;
+      List<Entry<T>> neighbours = new ArrayList<>();
+      sweep3D(entry, neighbours);
+      updateContributions3D(neighbours);
+    }
+    return true;
+  }
+
+  /**
+   * Removes the least contributing individuals until the archive fits the budget.
+   *
+   * @param budget maximal number of individuals
+   * @return removed individuals
+   */
+  public List<T> truncate(int budget) {
+    List<T> removed = new ArrayList<>();
+    while (entries.size() > budget) {
+      T leastContributor = getLeastContributor();
+      remove(leastContributor);
+      removed.add(leastContributor);
+    }
+    return removed;
+  }
+
+  public T getLeastContributor() {
+    return byContribution.isEmpty() ? null : byContribution.first().individual;
+  }
+
+  /**
+   * @return exclusive contribution of the individual or 0 if it is not archived
+   */
+  public double getContribution(T individual) {
+    Entry<T> entry = entries.get(individual);
+    return entry == null ? 0.0 : entry.contribution;
+  }
+
+  public double getHypervolume() {
+    if (referencePoint.length == 2) {
+      return hypervolume2D.getHypervolume();
+    }
+    if (isHypervolumeOutdated) {
+      double[][] points = new double[entries.size()][];
+      int i = 0;
+      for (Entry<T> entry : entries.values()) {
+        points[i++] = entry.objectives;
+      }
+      hypervolume3D = HypervolumeCalculator.sweep3D(points, referencePoint);
+      isHypervolumeOutdated = false;
+    }
+    return hypervolume3D;
+  }
+
+  public boolean contains(T individual) {
+    return entries.containsKey(individual);
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public List<T> getIndividuals() {
+    List<T> individuals = new ArrayList<>(entries.size());
+    for (Entry<T> entry : entries.values()) {
+      individuals.add(entry.individual);
+    }
+    return individuals;
+  }
+
+  private boolean add2D(Entry<T> entry) {
+    double first = entry.objectives[0];
+    double second = entry.objectives[1];
+    Map.Entry<Double, Entry<T>> floor = front2D.floorEntry(first);
+    if (floor != null && floor.getValue().objectives[1] <= second) {
+      return false;
+    }
+    Map.Entry<Double, Entry<T>> dominated = front2D.ceilingEntry(first);
+    while (dominated != null && dominated.getValue().objectives[1] >= second) {
+      Entry<T> dominatedEntry = dominated.getValue();
+      entries.remove(dominatedEntry.individual);
+      byContribution.remove(dominatedEntry);
+      front2D.remove(dominated.getKey());
+      dominated = front2D.higherEntry(dominated.getKey());
+    }
+    hypervolume2D.add(first, second);
+    entries.put(entry.individual, entry);
+    front2D.put(first, entry);
+    updateContribution2D(entry);
+    updateNeighbours(first);
+    return true;
+  }
+
+  private void updateNeighbours(double first) {
+    Map.Entry<Double, Entry<T>> predecessor = front2D.lowerEntry(first);
+    if (predecessor != null) {
+      updateContribution2D(predecessor.getValue());
+    }
+    Map.Entry<Double, Entry<T>> successor = front2D.higherEntry(first);
+    if (successor != null) {
+      updateContribution2D(successor.getValue());
+    }
+  }
+
+  private void updateContribution2D(Entry<T> entry) {
+    byContribution.remove(entry);
+    entry.contribution = hypervolume2D.getContribution(entry.objectives[0], entry.objectives[1]);
+    byContribution.add(entry);
+  }
+
+  /**
+   * Individuals dominated by the new one lie inside its box, so dropping them
+   * changes no other contribution once the new one is added.
+   */
+  private boolean add3D(Entry<T> entry) {
+    List<Entry<T>> dominated = new ArrayList<>();
+    for (Entry<T> archived : entries.values()) {
+      if (weaklyDominates(archived.objectives, entry.objectives)) {
+        return false;
+      }
+      if (weaklyDominates(entry.objectives, archived.objectives)) {
+        dominated.add(archived);
+      }
+    }
+    for (Entry<T> archived : dominated) {
+      entries.remove(archived.individual);
+      byContribution.remove(archived);
+    }
+    isHypervolumeOutdated = true;
+    entries.put(entry.individual, entry);
+    List<Entry<T>> neighbours = new ArrayList<>();
+    entry.contribution = sweep3D(entry, neighbours);
+    byContribution.add(entry);
+    updateContributions3D(neighbours);
+    return true;
+  }
+
+  private void updateContributions3D(List<Entry<T>> changed) {
+    for (Entry<T> entry : changed) {
+      byContribution.remove(entry);
+      entry.contribution = sweep3D(entry, null);
+      byContribution.add(entry);
+    }
+  }
+
+  /**
+   * Sweeps the box of the entry along the third objective. The other archived
+   * points are clipped to the box, and in every slab the exclusive volume grows
+   * by the part of the box base not covered by the clipped points below the slab.
+   * A clipped point which is not weakly dominated by another clipped point marks
+   * a neighbour, whose exclusive volume overlaps the box of the entry.
+   *
+   * @param neighbours collects the neighbours, if not null
+   * @return exclusive volume of the entry
+   */
+  private double sweep3D(Entry<T> entry, List<Entry<T>> neighbours) {
+    double[] point = entry.objectives;
+    List<double[]> clipped = new ArrayList<>();
+    List<Entry<T>> owners = new ArrayList<>();
+    for (Entry<T> archived : entries.values()) {
+      if (archived == entry) {
+        continue;
+      }
+      double[] corner = new double[3];
+      for (int i = 0; i < 3; ++i) {
+        corner[i] = Math.max(point[i], archived.objectives[i]);
+      }
+      // overlaps on the border of the reference box have no volume
+      if (HypervolumeCalculator.isInside(corner, referencePoint)) {
+        clipped.add(corner);
+        owners.add(archived);
+      }
+    }
+    Integer[] order = new Integer[clipped.size()];
+    for (int i = 0; i < order.length; ++i) {
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> clipped.get(i)[2])
+        .thenComparingDouble(i -> clipped.get(i)[0]).thenComparingDouble(i -> clipped.get(i)[1]));
+
+    double baseArea = (referencePoint[0] - point[0]) * (referencePoint[1] - point[1]);
+    IncrementalHypervolume2D covered = new IncrementalHypervolume2D(new double[] {referencePoint[0], referencePoint[1]});
+    double volume = 0.0;
+    double third = point[2];
+    for (int i : order) {
+      double[] corner = clipped.get(i);
+      volume += Math.max(0.0, baseArea - covered.getHypervolume()) * (corner[2] - third);
+      third = corner[2];
+      if (covered.add(corner[0], corner[1]) && neighbours != null) {
+        neighbours.add(owners.get(i));
+      }
+      if (corner[0] == point[0] && corner[1] == point[1]) {
+        // the whole base is covered, the remaining points are dominated
+        return volume;
+      }
+    }
+    return volume + Math.max(0.0, baseArea - covered.getHypervolume()) * (referencePoint[2] - third);
+  }
+
+  private static boolean weaklyDominates(double[] first, double[] second) {
+    for (int i = 0; i < first.length; ++i) {
+      if (second[i] < first[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,93 @@
+package algorithms.quality_measure;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hypervolume of a bi-objective front which is updated as points enter or
+ * leave the archive. The front is kept as a staircase sorted by the first
+ * objective, so an update costs a logarithmic lookup plus the number of
+ * points removed from the front. Both objectives are minimised.
+ */
+public class IncrementalHypervolume2D {
+
+  private final double[] referencePoint;
+  private final TreeMap<Double, Double> front = new TreeMap<>();
+  private double hypervolume = 0.0;
+
+  public IncrementalHypervolume2D(double[] referencePoint) {
+    this.referencePoint = referencePoint.clone();
+  }
+
+  /**
+   * Adds a point to the front, points dominated by it are dropped.
+   *
+   * @return true if the point is inside the reference box and is not
+   *         weakly dominated by the front
+   */
+  public boolean add(double first, double second) {
+    if (!HypervolumeCalculator.isInside(new double[] {first, second}, referencePoint)) {
+      return false;
+    }
+    Map.Entry<Double, Double> floor = front.floorEntry(first);
+    if (floor != null && floor.getValue() <= second) {
+      return false;
+    }
+
+    Map.Entry<Double, Double> predecessor = front.lowerEntry(first);
+    double previousFirst = first;
+    double previousHeight = predecessor == null ? 0.0 : referencePoint[1] - predecessor.getValue();
+    double height = referencePoint[1] - second;
+    Iterator<Map.Entry<Double, Double>> tail = front.tailMap(first, true).entrySet().iterator();
+    double nextFirst = referencePoint[0];
+    while (tail.hasNext()) {
+      Map.Entry<Double, Double> entry = tail.next();
+      if (entry.getValue() < second) {
+        nextFirst = entry.getKey();
+        break;
+      }
+      hypervolume += (entry.getKey() - previousFirst) * (height - previousHeight);
+      previousFirst = entry.getKey();
+      previousHeight = referencePoint[1] - entry.getValue();
+      tail.remove();
+    }
+    hypervolume += (nextFirst - previousFirst) * (height - previousHeight);
+    front.put(first, second);
+    return true;
+  }
+
+  /**
+   * Removes a point of the front.
+   *
+   * @return true if the point was a part of the front
+   */
+  public boolean remove(double first, double second) {
+    Double current = front.get(first);
+    if (current == null || current != second) {
+      return false;
+    }
+    hypervolume -= getContribution(first, second);
+    front.remove(first);
+    return true;
+  }
+
+  /**
+   * Volume dominated only by the given point of the front.
+   */
+  public double getContribution(double first, double second) {
+    Double next = front.higherKey(first);
+    Map.Entry<Double, Double> predecessor = front.lowerEntry(first);
+    double nextFirst = next == null ? referencePoint[0] : next;
+    double previousSecond = predecessor == null ? referencePoint[1] : predecessor.getValue();
+    return (nextFirst - first) * (previousSecond - second);
+  }
+
+  public double getHypervolume() {
+    return hypervolume;
+  }
+
+  public int size() {
+    return front.size();
+  }
+}
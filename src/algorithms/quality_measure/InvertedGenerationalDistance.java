@@ -24,9 +24,10 @@ public class InvertedGenerationalDistance extends BaseMeasure {
    */
   @Override
   public <T extends BaseIndividual> double getMeasure(List<T> population) {
+    KdTree index = buildIndex(population);
     double sum = 0.0;
     for (BaseIndividual individual : referencePopulation) {
-      sum += Math.pow(getMinDistance(individual, population), 2);
+      sum += Math.pow(getMinDistance(individual, index, population), 2);
     }
     return Math.sqrt(sum) / (double) referencePopulation.size();
   }
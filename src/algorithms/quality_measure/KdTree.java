@@ -0,0 +1,219 @@
+package algorithms.quality_measure;
+
+/**
+ * Static k-d tree over a set of points, built once in O(n log n) time.
+ * The tree is implicit: a subtree is a range of the point order with its
+ * splitting point in the middle, so every point has a bounding box of its
+ * subtree. Searches descend into the closer child first and skip subtrees
+ * whose bounding box cannot contain a better point, which takes logarithmic
+ * time on average for fronts of a few objectives.
+ */
+public class KdTree {
+
+  private enum Metric { MANHATTAN, DISTANCE_PLUS, EPSILON }
+
+  private final double[][] points;
+  private final int[] order;
+  private final int dimension;
+  // coordinates and bounding boxes of the tree nodes, dimension values per node
+  private final double[] coordinates;
+  private final double[] boxMin;
+  private final double[] boxMax;
+
+  private int bestIndex;
+  private double bestDistance;
+
+  /**
+   * @param points points to index, all of the same dimension; the array
+   *               is not copied and must not be modified
+   */
+  public KdTree(double[][] points) {
+    this.points = points;
+    this.order = new int[points.length];
+    for (int i = 0; i < order.length; ++i) {
+      order[i] = i;
+    }
+    this.dimension = points.length == 0 ? 0 : points[0].length;
+    this.coordinates = new double[points.length * dimension];
+    this.boxMin = new double[points.length * dimension];
+    this.boxMax = new double[points.length * dimension];
+    build(0, points.length, 0);
+  }
+
+  public int size() {
+    return points.length;
+  }
+
+  /**
+   * Finds the point with the minimal sum of absolute differences to the query.
+   * Among equally close points the one with the lowest index is returned.
+   *
+   * @param query query point
+   * @return index of the nearest point or -1 if the tree is empty
+   */
+  public int getNearestManhattan(double[] query) {
+    search(query, Metric.MANHATTAN);
+    return bestIndex;
+  }
+
+  /**
+   * Minimal IGD+ distance from the reference point to the indexed points, i.e.
+   * the euclidean distance counting only objectives in which the indexed point
+   * is worse than the reference point. All objectives are minimised.
+   *
+   * @param referencePoint point of the reference front
+   * @return minimal distance or positive infinity if the tree is empty
+   */
+  public double getMinDistancePlus(double[] referencePoint) {
+    search(referencePoint, Metric.DISTANCE_PLUS);
+    return Math.sqrt(bestDistance);
+  }
+
+  /**
+   * Minimal value by which an indexed point has to be shifted in every
+   * objective to weakly dominate the reference point. All objectives
+   * are minimised.
+   *
+   * @param referencePoint point of the reference front
+   * @return minimal additive epsilon or positive infinity if the tree is empty
+   */
+  public double getMinEpsilon(double[] referencePoint) {
+    search(referencePoint, Metric.EPSILON);
+    return bestDistance;
+  }
+
+  private void build(int from, int to, int depth) {
+    if (from >= to) {
+      return;
+    }
+    int middle = (from + to) >>> 1;
+    select(from, to - 1, middle, depth % dimension);
+    build(from, middle, depth + 1);
+    build(middle + 1, to, depth + 1);
+
+    int offset = middle * dimension;
+    System.arraycopy(points[order[middle]], 0, coordinates, offset, dimension);
+    System.arraycopy(coordinates, offset, boxMin, offset, dimension);
+    System.arraycopy(coordinates, offset, boxMax, offset, dimension);
+    includeBox(offset, (from + middle) >>> 1, from < middle);
+    includeBox(offset, (middle + 1 + to) >>> 1, middle + 1 < to);
+  }
+
+  private void includeBox(int offset, int child, boolean exists) {
+    if (!exists) {
+      return;
+    }
+    for (int k = 0; k < dimension; ++k) {
+      boxMin[offset + k] = Math.min(boxMin[offset + k], boxMin[child * dimension + k]);
+      boxMax[offset + k] = Math.max(boxMax[offset + k], boxMax[child * dimension + k]);
+    }
+  }
+
+  /**
+   * Quickselect, puts the point with the given rank in the dimension at
+   * <code>rank</code>, smaller ones before it and greater ones after it.
+   */
+  private void select(int left, int right, int rank, int dimension) {
+    while (left < right) {
+      double pivot = points[order[(left + right) >>> 1]][dimension];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (points[order[i]][dimension] < pivot) {
+          ++i;
+        }
+        while (points[order[j]][dimension] > pivot) {
+          --j;
+        }
+        if (i <= j) {
+          int tmp = order[i];
+          order[i++] = order[j];
+          order[j--] = tmp;
+        }
+      }
+      if (rank <= j) {
+        right = j;
+      } else if (rank >= i) {
+        left = i;
+      } else {
+        return;
+      }
+    }
+  }
+
+  private void search(double[] query, Metric metric) {
+    bestIndex = -1;
+    bestDistance = Double.POSITIVE_INFINITY;
+    search(query, metric, 0, points.length, 0);
+  }
+
+  private void search(double[] query, Metric metric, int from, int to, int depth) {
+    if (from >= to) {
+      return;
+    }
+    int middle = (from + to) >>> 1;
+    int offset = middle * dimension;
+    double bound = getLowerBound(query, metric, offset);
+    // equally close points are visited to keep the lowest index among them
+    if (bound > bestDistance || (bound == bestDistance && metric != Metric.MANHATTAN)) {
+      return;
+    }
+    int index = order[middle];
+    double distance = getDistance(query, metric, coordinates, offset);
+    if (distance < bestDistance || (distance == bestDistance && index < bestIndex)) {
+      bestDistance = distance;
+      bestIndex = index;
+    }
+
+    int split = depth % dimension;
+    if (query[split] < coordinates[offset + split]) {
+      search(query, metric, from, middle, depth + 1);
+      search(query, metric, middle + 1, to, depth + 1);
+    } else {
+      search(query, metric, middle + 1, to, depth + 1);
+      search(query, metric, from, middle, depth + 1);
+    }
+  }
+
+  private static double getDistance(double[] query, Metric metric, double[] point, int offset) {
+    double distance = 0.0;
+    switch (metric) {
+      case MANHATTAN:
+        for (int k = 0; k < query.length; ++k) {
+          distance += Math.abs(query[k] - point[offset + k]);
+        }
+        return distance;
+      case DISTANCE_PLUS:
+        for (int k = 0; k < query.length; ++k) {
+          double worse = Math.max(point[offset + k] - query[k], 0.0);
+          distance += worse * worse;
+        }
+        return distance;
+      default:
+        distance = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < query.length; ++k) {
+          distance = Math.max(distance, point[offset + k] - query[k]);
+        }
+        return distance;
+    }
+  }
+
+  private double getLowerBound(double[] query, Metric metric, int offset) {
+    double bound = 0.0;
+    switch (metric) {
+      case MANHATTAN:
+        for (int k = 0; k < query.length; ++k) {
+          bound += Math.max(0.0, Math.max(boxMin[offset + k] - query[k], query[k] - boxMax[offset + k]));
+        }
+        return bound;
+      case DISTANCE_PLUS:
+        for (int k = 0; k < query.length; ++k) {
+          double worse = Math.max(boxMin[offset + k] - query[k], 0.0);
+          bound += worse * worse;
+        }
+        return bound;
+      default:
+        return getDistance(query, metric, boxMin, offset);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package algorithms.quality_measure;
+
+import algorithms.problem.BaseIndividual;
+
+import java.util.List;
+
+/**
+ * Distance based measures of a population against a reference front,
+ * calculated together from normalized objectives. The reference front is
+ * indexed once in the constructor and each population once per
+ * <code>calculate</code>, so every nearest neighbour is found in a k-d tree.
+ * IGD and GD are the same as in <code>InvertedGenerationalDistance</code>
+ * and <code>GenerationalDistance</code>.
+ */
+public class ReferenceFrontDistances {
+
+  private final double[][] referencePoints;
+  private final KdTree referenceIndex;
+
+  private double invertedGenerationalDistance;
+  private double generationalDistance;
+  private double invertedGenerationalDistancePlus;
+  private double epsilon;
+
+  public ReferenceFrontDistances(List<? extends BaseIndividual> referenceFront) {
+    this.referencePoints = getNormalObjectives(referenceFront);
+    this.referenceIndex = new KdTree(referencePoints);
+  }
+
+  /**
+   * Calculates all measures of the population, available through the getters.
+   *
+   * @param population potential pareto front
+   */
+  public <T extends BaseIndividual> void calculate(List<T> population) {
+    double[][] points = getNormalObjectives(population);
+    KdTree index = new KdTree(points);
+
+    double sum = 0.0;
+    double sumPlus = 0.0;
+    double maxEpsilon = Double.NEGATIVE_INFINITY;
+    for (double[] referencePoint : referencePoints) {
+      int nearest = index.getNearestManhattan(referencePoint);
+      sum += Math.pow(nearest < 0 ? Double.NaN : getDistance(referencePoint, points[nearest]), 2);
+      sumPlus += index.getMinDistancePlus(referencePoint);
+      maxEpsilon = Math.max(maxEpsilon, index.getMinEpsilon(referencePoint));
+    }
+    invertedGenerationalDistance = Math.sqrt(sum) / (double) referencePoints.length;
+    invertedGenerationalDistancePlus = sumPlus / (double) referencePoints.length;
+    epsilon = maxEpsilon;
+
+    sum = 0.0;
+    for (double[] point : points) {
+      int nearest = referenceIndex.getNearestManhattan(point);
+      sum += Math.pow(nearest < 0 ? Double.NaN : getDistance(point, referencePoints[nearest]), 2);
+    }
+    generationalDistance = Math.sqrt(sum) / (double) points.length;
+  }
+
+  public double getInvertedGenerationalDistance() {
+    return invertedGenerationalDistance;
+  }
+
+  public double getGenerationalDistance() {
+    return generationalDistance;
+  }
+
+  /**
+   * Average over the reference front of the distance to the closest individual,
+   * counting only objectives in which the individual is worse (IGD+).
+   */
+  public double getInvertedGenerationalDistancePlus() {
+    return invertedGenerationalDistancePlus;
+  }
+
+  /**
+   * Additive epsilon indicator, the minimal value which subtracted from every
+   * objective of the population makes it weakly dominate the reference front.
+   */
+  public double getEpsilon() {
+    return epsilon;
+  }
+
+  private static double getDistance(double[] first, double[] second) {
+    double distance = 0.0d;
+    for (int i = 0; i < first.length; ++i) {
+      distance += Math.pow(first[i] - second[i], 2);
+    }
+    return Math.sqrt(distance);
+  }
+
+  private static double[][] getNormalObjectives(List<? extends BaseIndividual> individuals) {
+    double[][] points = new double[individuals.size()][];
+    for (int i = 0; i < points.length; ++i) {
+      points[i] = individuals.get(i).getNormalObjectives();
+    }
+    return points;
+  }
+}
@@ -0,0 +1,101 @@
+package algorithms.visualization;
+
+import util.TelemetryWriter;
+import utils.Constans;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams the evolution history to ArchHist files through the telemetry writer,
+ * so only a chunk of rows is kept in memory. A file holds at most historySize rows,
+ * then the history rolls over to the next one.
+ * Positive cluster ids are numbered from 1 in the order they appear in a generation of a file.
+ */
+public class EvolutionHistoryWriter {
+    private static final int historySize = 150_000;
+    private static final int chunkSize = 4096;
+    private static final AtomicInteger fileCounter = new AtomicInteger();
+    private final TelemetryWriter telemetry;
+    private final String clusteringResultFilePath;
+    private String filePath;
+    private int fileRows;
+    private final StringBuilder chunk = new StringBuilder();
+    private int chunkRows;
+    private int mappedGeneration = -1;
+    private final HashMap<Integer, Integer> clusterIdMapping = new HashMap<>();
+
+    public EvolutionHistoryWriter(TelemetryWriter telemetry, String clusteringResultFilePath) {
+        this.telemetry = telemetry;
+        this.clusteringResultFilePath = clusteringResultFilePath;
+    }
+
+    public void add(int generationNumber, double x, double y, int mut, double p1x, double p1y, double p2x, double p2y) {
+        if(filePath == null) {
+            startFile();
+        }
+        if(mut > 0) {
+            if(generationNumber != mappedGeneration) {
+                mappedGeneration = generationNumber;
+                clusterIdMapping.clear();
+            }
+            mut = clusterIdMapping.computeIfAbsent(mut, id -> clusterIdMapping.size() + 1);
+        }
+
+        chunk.append(generationNumber);
+        chunk.append(Constans.delimiter);
+        chunk.append(x);
+        chunk.append(Constans.delimiter);
+        chunk.append(y);
+        chunk.append(Constans.delimiter);
+        chunk.append(mut);
+        chunk.append(Constans.delimiter);
+        chunk.append(p1x);
+        chunk.append(Constans.delimiter);
+        chunk.append(p1y);
+        chunk.append(Constans.delimiter);
+        chunk.append(p2x);
+        chunk.append(Constans.delimiter);
+        chunk.append(p2y);
+        chunk.append("\n");
+        ++chunkRows;
+        ++fileRows;
+
+        if(fileRows >= historySize) {
+            writeChunk();
+            telemetry.closeFile(filePath);
+            filePath = null;
+        } else if(chunkRows >= chunkSize) {
+            writeChunk();
+        }
+    }
+
+    /**
+     * Writes the buffered rows and closes the current file, which is created even if it is empty.
+     */
+    public void close() {
+        if(filePath == null) {
+            startFile();
+        }
+        writeChunk();
+        telemetry.closeFile(filePath);
+        filePath = null;
+    }
+
+    private void startFile() {
+        filePath = clusteringResultFilePath + File.separator + "ArchHist" + fileCounter.getAndIncrement() + ".csv";
+        fileRows = 0;
+        mappedGeneration = -1;
+    }
+
+    private void writeChunk() {
+        if(fileRows == chunkRows) {
+            telemetry.write(filePath, chunk.toString());
+        } else {
+            telemetry.append(filePath, chunk.toString());
+        }
+        chunk.setLength(0);
+        chunkRows = 0;
+    }
+}
@@ -3,8 +3,10 @@ package algorithms.visualization;
 import algorithms.Kmeans;
 import algorithms.evolutionary_algorithms.ParameterSet;
 import algorithms.evolutionary_algorithms.util.ClusteringResult;
+import algorithms.evolutionary_algorithms.util.IncrementalObjectiveClusters;
 import algorithms.evolutionary_algorithms.util.IndividualCluster;
 import algorithms.evolutionary_algorithms.util.IndividualWithDstToItsCentre;
+import algorithms.evolutionary_algorithms.util.ObjectiveSpaceKmeans;
 import algorithms.problem.BaseIndividual;
 import algorithms.problem.BaseProblemRepresentation;
 import algorithms.problem.TTP;
@@ -26,9 +28,41 @@ public class KmeansClusterisation<PROBLEM extends BaseProblemRepresentation> {
     private boolean disableCostEdgePromotion;
 
     private boolean disableTravelEdgePromotion;
+
+    private final double driftThreshold;
+    // wrappers of the incremental clusters, kept while their members do not change
+    private Cluster[] clusterWrappers;
+    private IndividualCluster[] individualClusterWrappers;
+    // hkplusplus keeps its settings (measure, centre method) in static fields, which are set once
+    private static final Object HKPLUSPLUS_LOCK = new Object();
+    private static final L2Norm MEASURE = new L2Norm();
+    private static final Centroid CENTRE_METHOD = new Centroid();
+    private static final HashMap<Integer, String> DIMENSION_NAMES = new HashMap<>();
+    public static final double DEFAULT_DRIFT_THRESHOLD = 0.05;
+
+    static {
+        Parameters.setClassAttribute(false);
+        Parameters.setInstanceName(true);
+        Kmeans.setMeasure(MEASURE);
+        Kmeans.setCenterMethod(CENTRE_METHOD);
+        Cluster.setAlgorithm(new Kmeans());
+        DIMENSION_NAMES.put(0, "TravellingTime");
+        DIMENSION_NAMES.put(1, "KnapsackProfit");
+    }
+
     public KmeansClusterisation(boolean disableCostEdgePromotion, boolean disableTravelEdgePromotion) {
+        this(disableCostEdgePromotion, disableTravelEdgePromotion, DEFAULT_DRIFT_THRESHOLD);
+    }
+
+    /**
+     * @param driftThreshold distance, in objectives scaled to [0, 1], by which a cluster mean may move
+     *                       away from its k-means centroid before the archive is clustered again
+     */
+    public KmeansClusterisation(boolean disableCostEdgePromotion, boolean disableTravelEdgePromotion,
+                                double driftThreshold) {
         this.disableCostEdgePromotion = disableCostEdgePromotion;
         this.disableTravelEdgePromotion = disableTravelEdgePromotion;
+        this.driftThreshold = driftThreshold;
     }
 
     public ClusteringResult clustering(
@@ -48,56 +82,83 @@ public class KmeansClusterisation<PROBLEM extends BaseProblemRepresentation> {
             boolean isClusterinRun,
             boolean isRecalculateCentres,
             String clusteringResultFilePath) {
-
-        Parameters.setNumberOfClusterisationAlgIterations(clusterIterLimit);
-        Parameters.setClassAttribute(false);
-        Parameters.setInstanceName(true);
-        var measure = new L2Norm();
-        Kmeans.setMeasure(measure);
-        Centroid centreMethod = new Centroid();
-        Kmeans.setCenterMethod(centreMethod);
-        Cluster.setAlgorithm(new Kmeans());
-        List<BaseIndividual<Integer, PROBLEM>> dataToConsider = null;
-        if(isClusterinRun) {
-            dataToConsider = archive;
-        } else {
-            dataToConsider = new ArrayList<>(archive);
+        List<BaseIndividual<Integer, PROBLEM>> dataToConsider = new ArrayList<>(archive);
+        if(!isClusterinRun) {
             dataToConsider.addAll(population);
         }
-        int dataLength = dataToConsider.size();
-        var populationMapping = new HashMap<String, BaseIndividual<Integer, PROBLEM>>(dataLength);
-        DataPoint[] dataToCluster = new DataPoint[dataLength];
-        for (int i = 0; i < dataLength; i++) {
-            var ind = dataToConsider.get(i);
-            int indUsage = ind.getAdjustedUsageCounter();
-            var individualName = ((i < archive.size())? "ParetoFront_": "Population_") + i;
-            dataToCluster[i] = new DataPoint(ind.getObjectives(), ind.getObjectives(), individualName, null);
-            dataToCluster[i].setGlobalUsageCounter(indUsage);
-            populationMapping.put(individualName, ind);
-        }
+        int numObjectives = dataToConsider.get(0).getObjectives().length;
 
-        HashMap<Integer, String> dimensionNumberAndItsName = new HashMap<>();
-        dimensionNumberAndItsName.put(0, "TravellingTime");
-        dimensionNumberAndItsName.put(1, "KnapsackProfit");
-
-        ClustersAndTheirStatistics clustering = null;
-        DataStatistics dataStats = null;
-        Data data = null;
-        if(isClusterinRun || gaClusteringResults == null) {
-            dataStats = DataReader.calculateDataStatistics(dataToCluster, archive.get(0).getObjectives().length, null);
-            data = new Data(dataToCluster, dataToCluster.length, archive.get(0).getObjectives().length, dataStats, dimensionNumberAndItsName);
-            Cluster dataCluster = centreMethod.makeCluster(data, measure);
+        // between full clusterings only the changes of the archive and population are clustered
+        IncrementalObjectiveClusters<BaseIndividual<Integer, PROBLEM>> clusters = null;
+        if(!isClusterinRun && gaClusteringResults != null) {
+            clusters = (IncrementalObjectiveClusters<BaseIndividual<Integer, PROBLEM>>) gaClusteringResults.getIncrementalClusters();
+            clusters.update(dataToConsider, BaseIndividual::getObjectives);
+            if(clusters.isDrifted()) {
+                clusters = null;
+            }
+        }
+        boolean isNewClustering = clusters == null;
+        if(isNewClustering) {
+            int dataLength = dataToConsider.size();
+            double[] objectives = new double[dataLength * numObjectives];
+            for (int i = 0; i < dataLength; i++) {
+                System.arraycopy(dataToConsider.get(i).getObjectives(), 0, objectives, i * numObjectives, numObjectives);
+            }
             int dynamicClusterSize = Integer.max(1, (int) (archive.size() / (double) clusterSize));
-            clustering = dataCluster.performSplit(dynamicClusterSize, -1);
-            clustering = updateArchiveAndExcludedIndividualsBasedOnClusters(clustering, populationMapping, indExclusionUsageLimit, indExclusionGenDuration, archive, excludedPopulation);
-        } else {
-            dataStats = gaClusteringResults.getDataStats(); // we'll use the initial normalised coordinates, but it should be ok as most of the points should be covered by the pareto front area
-            data = new Data(dataToCluster, dataToCluster.length, dataToConsider.get(0).getObjectives().length, dataStats, dimensionNumberAndItsName);
-            Cluster dataCluster = centreMethod.makeCluster(data, measure);
-            clustering = dataCluster.assignPointsToClustersAndUpdateCentres(gaClusteringResults.getClustersAndTheirStatistics().getClusters(), isRecalculateCentres);
+            ObjectiveSpaceKmeans kmeans = ObjectiveSpaceKmeans.cluster(objectives, numObjectives, dynamicClusterSize,
+                    clusterIterLimit, parameters.random);
+            if(isClusterinRun || gaClusteringResults == null) {
+                kmeans = updateArchiveAndExcludedIndividualsBasedOnClusters(kmeans, dataToConsider,
+                        indExclusionUsageLimit, indExclusionGenDuration, archive, excludedPopulation);
+            }
+            clusters = new IncrementalObjectiveClusters<>(kmeans, dataToConsider, driftThreshold, isRecalculateCentres);
+            clusterWrappers = new Cluster[clusters.getNumClusters()];
+            individualClusterWrappers = new IndividualCluster[clusters.getNumClusters()];
         }
 
-        clustering.calculateInternalMeasures(clusterWeightMeasure, parameters);
+        ClustersAndTheirStatistics clustering;
+        DataStatistics dataStats;
+        List<Integer> clusterIndices = new ArrayList<>(clusters.getNumClusters());
+        synchronized (HKPLUSPLUS_LOCK) {
+            if(isNewClustering) {
+                DataPoint[] dataToCluster = new DataPoint[dataToConsider.size()];
+                for (int i = 0; i < dataToCluster.length; i++) {
+                    dataToCluster[i] = createDataPoint(dataToConsider.get(i),
+                            ((i < archive.size())? "ParetoFront_": "Population_") + i);
+                }
+                dataStats = DataReader.calculateDataStatistics(dataToCluster, numObjectives, null);
+            } else {
+                // we'll use the initial normalised coordinates, but it should be ok as most of the points should be covered by the pareto front area
+                dataStats = gaClusteringResults.getDataStats();
+            }
+
+            // clusters are wrapped for reporting and for the measure of their weights, again only if they changed
+            List<Cluster> nonEmptyClusters = new ArrayList<>(clusters.getNumClusters());
+            for (int c = 0; c < clusters.getNumClusters(); c++) {
+                if (clusters.getSize(c) == 0) {
+                    continue;
+                }
+                if (clusters.isChanged(c) || clusterWrappers[c] == null) {
+                    DataPoint[] clusterPoints = new DataPoint[clusters.getSize(c)];
+                    List<IndividualWithDstToItsCentre> individualCluster = new ArrayList<>(clusterPoints.length);
+                    for (int j = 0; j < clusterPoints.length; j++) {
+                        var ind = clusters.getMember(c, j);
+                        clusterPoints[j] = createDataPoint(ind, "Cluster_" + c + "_" + j);
+                        individualCluster.add(new IndividualWithDstToItsCentre(clusters.getDistance(c, j), ind));
+                    }
+                    Data clusterData = new Data(clusterPoints, clusterPoints.length, numObjectives, dataStats,
+                            DIMENSION_NAMES);
+                    clusterWrappers[c] = CENTRE_METHOD.makeCluster(clusterData, MEASURE);
+                    individualClusterWrappers[c] = new IndividualCluster(individualCluster, clusterWrappers[c].getClusterId());
+                }
+                nonEmptyClusters.add(clusterWrappers[c]);
+                clusterIndices.add(c);
+            }
+            clusters.clearChanges();
+            Cluster[] clusterArray = nonEmptyClusters.toArray(new Cluster[0]);
+            clustering = new ClustersAndTheirStatistics(clusterArray, MEASURE.calculateClusterisationStatistic(clusterArray), true);
+            clustering.calculateInternalMeasures(clusterWeightMeasure, parameters);
+        }
 
         int minTravellingTimeClusterNumber = -1;
         double minTravellingTimeVal = Double.MAX_VALUE;
@@ -108,7 +169,7 @@ public class KmeansClusterisation<PROBLEM extends BaseProblemRepresentation> {
         int maxTravellingTimeClusterId = -1;
 
         double maxClusteringDispersion = -1.0;
-        List<Double> clustersDispersion = new ArrayList<>(clustering.getClusters().length);
+        List<Double> clustersDispersion = new ArrayList<>(clusterIndices.size());
 
         double extremeClusterWeight;
         if(!clusterWeightMeasure.shouldMeasureBeMaximised()) { // we want worse clustering to get better weight
@@ -116,19 +177,14 @@ public class KmeansClusterisation<PROBLEM extends BaseProblemRepresentation> {
         } else {
             extremeClusterWeight = Double.MAX_VALUE;
         }
-        List<Double> clusterWeights = new ArrayList<>(clustering.getClusters().length);
+        List<Double> clusterWeights = new ArrayList<>(clusterIndices.size());
 
-        List<IndividualCluster> individualClusters = new ArrayList<>(clustering.getClusters().length);
-        for(int i = 0; i < clustering.getClusters().length; i++) {
+        List<IndividualCluster> individualClusters = new ArrayList<>(clusterIndices.size());
+        for(int i = 0; i < clusterIndices.size(); i++) {
+            int clusterIndex = clusterIndices.get(i);
             var cluster = clustering.getClusters()[i];
-            double travellingTime = Arrays.stream(cluster.getPoints())
-                    .mapToDouble(pts -> pts.getCoordinate(0))  // Map each person to their age
-                    .min()                     // Get the minimum value
-                    .orElseThrow(() -> new IllegalArgumentException("Array is empty"));
-            double profit = Arrays.stream(cluster.getPoints())
-                    .mapToDouble(pts -> pts.getCoordinate(1))  // Map each person to their age
-                    .min()                     // Get the minimum value
-                    .orElseThrow(() -> new IllegalArgumentException("Array is empty"));
+            double travellingTime = clusters.getMinimum(clusterIndex, 0);
+            double profit = clusters.getMinimum(clusterIndex, 1);
 
             if(travellingTime < minTravellingTimeVal) {
                 minTravellingTimeVal = travellingTime;
@@ -142,7 +198,7 @@ public class KmeansClusterisation<PROBLEM extends BaseProblemRepresentation> {
                 maxTravellingTimeClusterId = cluster.getClusterId();
             }
 
-            var clusterDispersion = clustering.getClustersAvgVariances()[i];
+            var clusterDispersion = clusters.getDispersion(clusterIndex);
             clustersDispersion.add(clusterDispersion);
             maxClusteringDispersion = Math.max(maxClusteringDispersion, clusterDispersion);
 
@@ -154,13 +210,7 @@ public class KmeansClusterisation<PROBLEM extends BaseProblemRepresentation> {
                 extremeClusterWeight = Math.min(extremeClusterWeight, clusterWeight);
             }
 
-            List<IndividualWithDstToItsCentre> individualCluster = new ArrayList<>(cluster.getNumberOfPoints());
-            for(var point: cluster.getPoints()) {
-                var ind = populationMapping.get(point.getInstanceName());
-                double indDistToTheCentre = measure.distance(cluster, point);
-                individualCluster.add(new IndividualWithDstToItsCentre(indDistToTheCentre, ind));
-            }
-            individualClusters.add(new IndividualCluster(individualCluster, cluster.getClusterId()));
+            individualClusters.add(individualClusterWrappers[clusterIndex]);
         }
 
         double weightsMultiplier = (!clusterWeightMeasure.shouldMeasureBeMaximised()? edgeClustersWeightMultiplier: 1/edgeClustersWeightMultiplier); // we want worse clustering to get better weight
@@ -177,54 +227,57 @@ public class KmeansClusterisation<PROBLEM extends BaseProblemRepresentation> {
         }
 
         String clusteringResultFileName = "clusteringRes_" + generationNum + ".csv";
-        return new ClusteringResult(clustering, clustersDispersion, clusterWeights, individualClusters,
+        return new ClusteringResult(clustering, clusters, clustersDispersion, clusterWeights, individualClusters,
                 clusteringResultFilePath, clusteringResultFileName, minTravellingTimeClusterId, maxTravellingTimeClusterId,
                 saveResultFiles, dataStats);
     }
 
-    private ClustersAndTheirStatistics updateArchiveAndExcludedIndividualsBasedOnClusters(ClustersAndTheirStatistics clustering,
-                                                                    HashMap<String, BaseIndividual<Integer, PROBLEM>> populationMapping,
+    private static DataPoint createDataPoint(BaseIndividual<Integer, ?> individual, String name) {
+        DataPoint point = new DataPoint(individual.getObjectives(), individual.getObjectives(), name, null);
+        point.setGlobalUsageCounter(individual.getAdjustedUsageCounter());
+        return point;
+    }
+
+    private ObjectiveSpaceKmeans updateArchiveAndExcludedIndividualsBasedOnClusters(ObjectiveSpaceKmeans kmeans,
+                                                                    List<BaseIndividual<Integer, PROBLEM>> clusteredIndividuals,
                                                                     int indExclusionUsageLimit,
                                                                     int indExclusionGenDuration,
                                                                     List<BaseIndividual<Integer, PROBLEM>> population,
                                                                     List<BaseIndividual<Integer, PROBLEM>> excludedPopulation) {
 
         // Step 1: Filter clusters whose avg usageCounter exceeds the indExclusionUsageLimit
-        ArrayList<Integer> clusterIndicesToExclude = new ArrayList<>();
-        for(int i = 0; i < clustering.getClusters().length; i++) {
-            Cluster cls = clustering.getClusters()[i];
+        boolean[] isExcluded = new boolean[kmeans.getNumClusters()];
+        int numExcluded = 0;
+        for(int i = 0; i < kmeans.getNumClusters(); i++) {
             double avgUnsucUsageCnt = 0.0;
-            for(DataPoint point: cls.getPoints()) {
-                var ind = populationMapping.get(point.getInstanceName());
-                avgUnsucUsageCnt += ind.getAdjusterUnsuccessfulUsageCounter();
+            for(int j = 0; j < kmeans.getSize(i); j++) {
+                avgUnsucUsageCnt += clusteredIndividuals.get(kmeans.getMember(i, j)).getAdjusterUnsuccessfulUsageCounter();
             }
-            avgUnsucUsageCnt /= (double) cls.getNumberOfPoints();
+            avgUnsucUsageCnt /= (double) kmeans.getSize(i);
             if(avgUnsucUsageCnt > indExclusionUsageLimit) {
-                clusterIndicesToExclude.add(i);
+                isExcluded[i] = true;
+                numExcluded++;
             }
         }
 
-        if(clusterIndicesToExclude.size() >= clustering.getClusters().length) {
+        if(numExcluded >= kmeans.getNumClusters()) {
             System.err.println("Method decided to exclude ALL clusters as they exceed the exclusion thresholds. Consider tuning the exclusion parameters!");
-        } else {
-            ArrayList<Cluster> newClusters = new ArrayList<>();
-            for (int i = 0; i < clustering.getClusters().length; i++) {
-                Cluster cls = clustering.getClusters()[i];
-                if (!clusterIndicesToExclude.contains(i)) {
-                    newClusters.add(cls); // Keep this cluster
-                } else {
-                    // Remove individuals in the excluded clusters from the population
-                    for (DataPoint point : cls.getPoints()) {
-                        BaseIndividual<Integer, PROBLEM> individual = populationMapping.get(point.getInstanceName());
-                        individual.excludeFromArchive(indExclusionGenDuration);
-                        population.remove(individual);
-                        excludedPopulation.add(individual);
-                    }
+            return kmeans;
+        }
+        if(numExcluded == 0) {
+            return kmeans;
+        }
+        // Remove individuals in the excluded clusters from the population
+        for (int i = 0; i < kmeans.getNumClusters(); i++) {
+            if (isExcluded[i]) {
+                for (int j = 0; j < kmeans.getSize(i); j++) {
+                    BaseIndividual<Integer, PROBLEM> individual = clusteredIndividuals.get(kmeans.getMember(i, j));
+                    individual.excludeFromArchive(indExclusionGenDuration);
+                    population.remove(individual);
+                    excludedPopulation.add(individual);
                 }
             }
-            Cluster[] newClusterClusters = newClusters.toArray(new Cluster[0]);
-            return new ClustersAndTheirStatistics(newClusterClusters, Kmeans.getMeasure().calculateClusterisationStatistic(newClusterClusters), true);
         }
-        return clustering;
+        return kmeans.removeClusters(isExcluded);
     }
 }
@@ -0,0 +1,169 @@
+package runners;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs repeats of experiment configurations as independent jobs on a bounded
+ * work-stealing pool. Every job gets its own seed derived from the master seed,
+ * the configuration number and the repeat number, so a sweep gives the same
+ * results regardless of the number of threads. When all repeats of
+ * a configuration are finished, their results are merged in the repeat order.
+ * Configurations are merged one at a time in the order they were submitted,
+ * so a configuration finished early waits for the merges of the earlier ones.
+ * A configuration with a failed repeat is not merged and does not hold back the later ones.
+ *
+ * @param <RESULT> type of a single repeat result
+ */
+public class ExperimentScheduler<RESULT> {
+
+    /**
+     * Single repeat of an experiment configuration.
+     */
+    @FunctionalInterface
+    public interface RepeatJob<RESULT> {
+        RESULT run(int repeat, long seed);
+    }
+
+    private static class Configuration<RESULT> {
+        final Object[] results;
+        final Consumer<List<RESULT>> merge;
+        final AtomicInteger remainingRepeats;
+        volatile boolean isFailed;
+
+        Configuration(int numberOfRepeats, Consumer<List<RESULT>> merge) {
+            this.results = new Object[numberOfRepeats];
+            this.merge = merge;
+            this.remainingRepeats = new AtomicInteger(numberOfRepeats);
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final long masterSeed;
+    private final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+    private int configurationCounter = 0;
+
+    // guarded by mergeLock
+    private final Object mergeLock = new Object();
+    private final Map<Integer, Configuration<RESULT>> finishedConfigurations = new HashMap<>();
+    private int nextMergedConfiguration = 0;
+
+    public ExperimentScheduler(int parallelism, long masterSeed) {
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+        this.masterSeed = masterSeed;
+    }
+
+    /**
+     * Schedules all repeats of a single configuration.
+     *
+     * @param numberOfRepeats number of independent repeats
+     * @param job job executed for every repeat
+     * @param merge called once with results of all repeats, ordered by the repeat number
+     */
+    public void submit(int numberOfRepeats, RepeatJob<RESULT> job, Consumer<List<RESULT>> merge) {
+        int configurationNumber = configurationCounter++;
+        Configuration<RESULT> configuration = new Configuration<>(numberOfRepeats, merge);
+        if (numberOfRepeats == 0) {
+            finish(configurationNumber, configuration);
+            return;
+        }
+        for (int repeat = 0; repeat < numberOfRepeats; ++repeat) {
+            int currentRepeat = repeat;
+            long seed = getSeed(configurationNumber, repeat);
+            tasks.add(pool.submit(() -> {
+                try {
+                    configuration.results[currentRepeat] = job.run(currentRepeat, seed);
+                } catch (RuntimeException | Error e) {
+                    configuration.isFailed = true;
+                    throw e;
+                } finally {
+                    if (configuration.remainingRepeats.decrementAndGet() == 0) {
+                        finish(configurationNumber, configuration);
+                    }
+                }
+            }));
+        }
+    }
+
+    /**
+     * Waits until all scheduled jobs and merges are finished and shuts the pool down.
+     *
+     * @throws RuntimeException with the cause of the first failed job or merge,
+     *         in the order of submission
+     */
+    public void awaitCompletion() {
+        RuntimeException failure = null;
+        try {
+            for (ForkJoinTask<?> task : tasks) {
+                try {
+                    task.join();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        } finally {
+            tasks.clear();
+            pool.shutdown();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Derives an independent seed for a job, mixes the bits with the SplitMix64 finalizer
+     * so neighbouring configurations and repeats get unrelated seeds.
+     */
+    public long getSeed(int configuration, int repeat) {
+        return getSeed(masterSeed, configuration, repeat);
+    }
+
+    /**
+     * Same as <code>getSeed</code> of a scheduler with the given master seed.
+     */
+    public static long getSeed(long masterSeed, int configuration, int repeat) {
+        long seed = masterSeed + 0x9E3779B97F4A7C15L * (((long)configuration << 32) + repeat + 1);
+        seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+        return seed ^ (seed >>> 31);
+    }
+
+    /**
+     * Merges the finished configuration and the following ones which are already finished,
+     * in the order of submission. A failed merge fails the job which ran it, after the
+     * remaining finished configurations are merged.
+     */
+    @SuppressWarnings("unchecked")
+    private void finish(int configurationNumber, Configuration<RESULT> configuration) {
+        RuntimeException failure = null;
+        synchronized (mergeLock) {
+            finishedConfigurations.put(configurationNumber, configuration);
+            Configuration<RESULT> next;
+            while ((next = finishedConfigurations.remove(nextMergedConfiguration)) != null) {
+                ++nextMergedConfiguration;
+                if (next.isFailed) {
+                    continue;
+                }
+                try {
+                    next.merge.accept((List<RESULT>) Arrays.asList(next.results));
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
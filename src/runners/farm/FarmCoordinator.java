@@ -0,0 +1,412 @@
+package runners.farm;
+
+import runners.ExperimentScheduler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Distributes repeats of experiment configurations to worker JVMs connected over TCP,
+ * the same way <code>ExperimentScheduler</code> runs them on local threads: every
+ * job gets the seed the scheduler would give it, and when all repeats of a configuration
+ * are finished, their results are merged in the repeat order, one configuration at a time.
+ * A job is leased to a single worker, which renews the lease with heartbeats. Jobs of
+ * expired leases, lost connections and failed runs are run again, up to the limit of attempts.
+ * A late result of a job given to another worker is still accepted, the second one is ignored,
+ * as well as results of unknown jobs. A result which cannot be stored fails its job.
+ * A configuration with a failed job is not merged, its failure callback is called instead.
+ */
+public class FarmCoordinator implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(FarmCoordinator.class.getName());
+    // how long an idle worker waits before asking again while all jobs are leased
+    private static final long WAIT_MILLIS = 200;
+
+    private final ServerSocket serverSocket;
+    private final long masterSeed;
+    private final long leaseMillis;
+    private final int maxAttempts;
+    private final Object mergeLock = new Object();
+
+    // guarded by this
+    private final ArrayDeque<FarmJob> pendingJobs = new ArrayDeque<>();
+    private final Map<Long, Lease> leases = new HashMap<>();
+    private final List<Configuration> configurations = new ArrayList<>();
+    private final Map<Long, FarmJob> unfinishedJobs = new HashMap<>();
+    private final List<String> failures = new ArrayList<>();
+    // failed configurations whose failure callbacks were not called yet
+    private final ArrayDeque<Configuration> failedConfigurations = new ArrayDeque<>();
+    private long jobCounter = 0;
+    private int remainingJobs = 0;
+    private boolean isShutdown;
+
+    private static class Configuration {
+        final FarmResult[] results;
+        final Consumer<List<FarmResult>> merge;
+        final Consumer<String> onFailure;
+        int remainingRepeats;
+        boolean isFailed;
+        String failureReason;
+
+        Configuration(int numberOfRepeats, Consumer<List<FarmResult>> merge, Consumer<String> onFailure) {
+            this.results = new FarmResult[numberOfRepeats];
+            this.merge = merge;
+            this.onFailure = onFailure;
+            this.remainingRepeats = numberOfRepeats;
+        }
+    }
+
+    private static class Lease {
+        final FarmJob job;
+        final Object connection;
+        long deadline;
+
+        Lease(FarmJob job, Object connection, long deadline) {
+            this.job = job;
+            this.connection = connection;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * Starts accepting workers of the same machine only.
+     *
+     * @see #FarmCoordinator(InetAddress, int, long, long, int)
+     */
+    public FarmCoordinator(int port, long masterSeed, long leaseMillis, int maxAttempts) throws IOException {
+        this(InetAddress.getLoopbackAddress(), port, masterSeed, leaseMillis, maxAttempts);
+    }
+
+    /**
+     * Starts accepting workers. Any worker which reaches the address can take jobs
+     * and send results, so it should be reachable only from the machines of the farm.
+     *
+     * @param bindAddress address to listen on
+     * @param port port to listen on, 0 for any free port
+     * @param masterSeed master seed of job seeds
+     * @param leaseMillis time after the last heartbeat when a job is given to another worker
+     * @param maxAttempts number of attempts to run a job before it fails
+     */
+    public FarmCoordinator(InetAddress bindAddress, int port, long masterSeed, long leaseMillis, int maxAttempts)
+            throws IOException {
+        this.serverSocket = new ServerSocket(port, 0, bindAddress);
+        this.masterSeed = masterSeed;
+        this.leaseMillis = leaseMillis;
+        this.maxAttempts = maxAttempts;
+        Thread acceptThread = new Thread(this::accept, "farm-coordinator");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Schedules all repeats of a single configuration, nothing is called if a job fails.
+     *
+     * @see #submit(String, String, Map, int, Consumer, Consumer)
+     */
+    public void submit(String runner, String instance, Map<String, String> config, int numberOfRepeats,
+                       Consumer<List<FarmResult>> merge) {
+        submit(runner, instance, config, numberOfRepeats, merge, reason -> { });
+    }
+
+    /**
+     * Schedules all repeats of a single configuration. Either the merge or the failure
+     * callback is called once, by the thread waiting in <code>awaitCompletion</code>
+     * for the failure, and never at the same time as another callback.
+     *
+     * @param runner name of the <code>FarmJobRunner</code> class
+     * @param instance path of the problem instance, as seen by workers
+     * @param config parameter values of the configuration
+     * @param numberOfRepeats number of independent repeats
+     * @param merge called once with results of all repeats, ordered by the repeat number
+     * @param onFailure called with the reason if a job of the configuration failed in all attempts
+     */
+    public synchronized void submit(String runner, String instance, Map<String, String> config, int numberOfRepeats,
+                                    Consumer<List<FarmResult>> merge, Consumer<String> onFailure) {
+        if (isShutdown) {
+            throw new IllegalStateException("Coordinator is shut down");
+        }
+        int configurationNumber = configurations.size();
+        configurations.add(new Configuration(numberOfRepeats, merge, onFailure));
+        for (int repeat = 0; repeat < numberOfRepeats; ++repeat) {
+            FarmJob job = new FarmJob(jobCounter++, configurationNumber, repeat, runner, instance, config,
+                    ExperimentScheduler.getSeed(masterSeed, configurationNumber, repeat));
+            pendingJobs.add(job);
+            unfinishedJobs.put(job.getId(), job);
+        }
+        remainingJobs += numberOfRepeats;
+    }
+
+    /**
+     * Waits until all scheduled jobs and merges are finished, then tells workers
+     * to shut down and stops accepting new ones. Failure callbacks of configurations
+     * are called while waiting.
+     *
+     * @throws IllegalStateException with the jobs which failed in all attempts
+     */
+    public void awaitCompletion() {
+        while (true) {
+            Configuration failed;
+            synchronized (this) {
+                try {
+                    while (remainingJobs > 0 && failedConfigurations.isEmpty()) {
+                        requeueExpiredLeases();
+                        wait(Math.max(1, leaseMillis / 4));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for jobs", e);
+                }
+                failed = failedConfigurations.poll();
+                if (failed == null) {
+                    isShutdown = true;
+                    break;
+                }
+            }
+            notifyFailure(failed);
+        }
+        close();
+        synchronized (this) {
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException("Jobs failed: " + failures);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            isShutdown = true;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not close the server socket", e);
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread handler = new Thread(() -> handle(socket), "farm-connection-" + socket.getRemoteSocketAddress());
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    LOGGER.log(Level.WARNING, "Could not accept a worker", e);
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        Object connection = new Object();
+        String worker = socket.getRemoteSocketAddress().toString();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            if (in.readByte() != FarmProtocol.HELLO) {
+                throw new IOException("Worker did not introduce itself");
+            }
+            worker = in.readUTF();
+            out.writeByte(FarmProtocol.WELCOME);
+            out.writeLong(leaseMillis);
+            out.flush();
+
+            while (true) {
+                byte type = in.readByte();
+                switch (type) {
+                    case FarmProtocol.REQUEST:
+                        FarmJob job = takeJob(connection);
+                        if (job != null) {
+                            out.writeByte(FarmProtocol.JOB);
+                            FarmProtocol.writeJob(out, job);
+                        } else if (isShutdown()) {
+                            out.writeByte(FarmProtocol.SHUTDOWN);
+                            out.flush();
+                            return;
+                        } else {
+                            out.writeByte(FarmProtocol.WAIT);
+                            out.writeLong(WAIT_MILLIS);
+                        }
+                        out.flush();
+                        break;
+                    case FarmProtocol.HEARTBEAT:
+                        renewLease(in.readLong(), connection);
+                        break;
+                    case FarmProtocol.RESULT:
+                        complete(FarmProtocol.readResult(in), worker);
+                        break;
+                    case FarmProtocol.FAILURE:
+                        long jobId = in.readLong();
+                        fail(jobId, worker + ": " + in.readUTF(), connection);
+                        break;
+                    default:
+                        throw new IOException("Unknown message " + type);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.INFO, "Lost connection to " + worker, e);
+        } finally {
+            releaseLeases(connection);
+            try {
+                socket.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not close the connection to " + worker, e);
+            }
+        }
+    }
+
+    private synchronized boolean isShutdown() {
+        return isShutdown;
+    }
+
+    private synchronized FarmJob takeJob(Object connection) {
+        requeueExpiredLeases();
+        if (isShutdown) {
+            return null;
+        }
+        FarmJob job = pendingJobs.poll();
+        if (job != null) {
+            job.setAttempt(job.getAttempt() + 1);
+            leases.put(job.getId(), new Lease(job, connection, System.currentTimeMillis() + leaseMillis));
+        }
+        return job;
+    }
+
+    private synchronized void renewLease(long jobId, Object connection) {
+        Lease lease = leases.get(jobId);
+        if (lease != null && lease.connection == connection) {
+            lease.deadline = System.currentTimeMillis() + leaseMillis;
+        }
+    }
+
+    private void complete(FarmResult result, String worker) {
+        FarmJob job;
+        Configuration configuration;
+        synchronized (this) {
+            job = unfinishedJobs.remove(result.getJobId());
+            if (job == null) {
+                // the job was already finished by another worker or was never scheduled
+                LOGGER.log(Level.INFO, "Ignored result of job " + result.getJobId() + " from " + worker);
+                return;
+            }
+            configuration = configurations.get(job.getConfiguration());
+            try {
+                leases.remove(job.getId());
+                pendingJobs.remove(job);
+                configuration.results[job.getRepeat()] = result.ofJob(job);
+            } catch (RuntimeException e) {
+                markFailed(job, configuration, worker + ": " + e);
+                return;
+            }
+            if (--configuration.remainingRepeats > 0 || configuration.isFailed) {
+                --remainingJobs;
+                notifyAll();
+                return;
+            }
+        }
+        // the last job of a configuration is finished only after the merge
+        try {
+            synchronized (mergeLock) {
+                configuration.merge.accept(Arrays.asList(configuration.results));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not merge results", e);
+            synchronized (this) {
+                failures.add("merge of " + job + ": " + e);
+            }
+        } finally {
+            synchronized (this) {
+                --remainingJobs;
+                notifyAll();
+            }
+        }
+    }
+
+    private synchronized void fail(long jobId, String reason, Object connection) {
+        Lease lease = leases.get(jobId);
+        if (lease != null && lease.connection == connection) {
+            leases.remove(jobId);
+            requeue(lease.job, reason);
+        }
+    }
+
+    private synchronized void releaseLeases(Object connection) {
+        Iterator<Lease> iterator = leases.values().iterator();
+        while (iterator.hasNext()) {
+            Lease lease = iterator.next();
+            if (lease.connection == connection) {
+                iterator.remove();
+                requeue(lease.job, "connection lost");
+            }
+        }
+        notifyAll();
+    }
+
+    private void requeueExpiredLeases() {
+        long now = System.currentTimeMillis();
+        Iterator<Lease> iterator = leases.values().iterator();
+        while (iterator.hasNext()) {
+            Lease lease = iterator.next();
+            if (lease.deadline < now) {
+                iterator.remove();
+                requeue(lease.job, "lease expired");
+            }
+        }
+    }
+
+    private void requeue(FarmJob job, String reason) {
+        if (job.getAttempt() < maxAttempts) {
+            LOGGER.log(Level.WARNING, job + " is run again: " + reason);
+            pendingJobs.addFirst(job);
+            return;
+        }
+        if (unfinishedJobs.remove(job.getId()) != null) {
+            markFailed(job, configurations.get(job.getConfiguration()), reason);
+        }
+    }
+
+    private void notifyFailure(Configuration configuration) {
+        try {
+            synchronized (mergeLock) {
+                configuration.onFailure.accept(configuration.failureReason);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not handle a failed configuration", e);
+            synchronized (this) {
+                failures.add("failure callback: " + e);
+            }
+        }
+    }
+
+    private void markFailed(FarmJob job, Configuration configuration, String reason) {
+        LOGGER.log(Level.WARNING, job + " failed: " + reason);
+        if (!configuration.isFailed) {
+            configuration.isFailed = true;
+            configuration.failureReason = job + ": " + reason;
+            failedConfigurations.add(configuration);
+        }
+        failures.add(job + ": " + reason);
+        --remainingJobs;
+        notifyAll();
+    }
+}
@@ -0,0 +1,98 @@
+package runners.farm;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Single repeat of an experiment configuration run by a worker of the farm:
+ * the runner class, the problem instance, the parameter values and the seed.
+ */
+public class FarmJob {
+    private final long id;
+    private final int configuration;
+    private final int repeat;
+    private final String runner;
+    private final String instance;
+    private final Map<String, String> config;
+    private final long seed;
+    private int attempt;
+
+    public FarmJob(long id, int configuration, int repeat, String runner, String instance,
+                   Map<String, String> config, long seed) {
+        this.id = id;
+        this.configuration = configuration;
+        this.repeat = repeat;
+        this.runner = runner;
+        this.instance = instance;
+        this.config = Collections.unmodifiableMap(new TreeMap<>(config));
+        this.seed = seed;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getConfiguration() {
+        return configuration;
+    }
+
+    public int getRepeat() {
+        return repeat;
+    }
+
+    /**
+     * @return name of the <code>FarmJobRunner</code> class which runs the job
+     */
+    public String getRunner() {
+        return runner;
+    }
+
+    public String getInstance() {
+        return instance;
+    }
+
+    public Map<String, String> getConfig() {
+        return config;
+    }
+
+    public String get(String key, String defaultValue) {
+        return config.getOrDefault(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = config.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = config.get(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = config.get(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return number of the attempt to run the job, starting from 1
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    void setAttempt(int attempt) {
+        this.attempt = attempt;
+    }
+
+    @Override
+    public String toString() {
+        return "job " + id + " (" + runner + ", " + instance + ", configuration " + configuration
+                + ", repeat " + repeat + ", attempt " + attempt + ")";
+    }
+}
@@ -0,0 +1,10 @@
+package runners.farm;
+
+/**
+ * Runs jobs of the farm on a worker. Workers create runners by the class name
+ * given in the job, so an implementation needs a public constructor without
+ * parameters. A single runner instance runs jobs one by one.
+ */
+public interface FarmJobRunner {
+    FarmResult run(FarmJob job) throws Exception;
+}
@@ -0,0 +1,126 @@
+package runners.farm;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Messages exchanged over a TCP connection between a worker and the coordinator.
+ * Every message starts with its type byte. The worker sends HELLO once and then
+ * REQUEST whenever it is idle, the coordinator answers a request with JOB, WAIT
+ * or SHUTDOWN. While running a job the worker sends HEARTBEAT to renew its lease
+ * and then RESULT or FAILURE. Only requests are answered. A result carries only
+ * the job id, the coordinator takes everything else from the job it leased.
+ */
+final class FarmProtocol {
+
+    // worker to coordinator
+    static final byte HELLO = 1;
+    static final byte REQUEST = 2;
+    static final byte HEARTBEAT = 3;
+    static final byte RESULT = 4;
+    static final byte FAILURE = 5;
+    // coordinator to worker
+    static final byte WELCOME = 10;
+    static final byte JOB = 11;
+    static final byte WAIT = 12;
+    static final byte SHUTDOWN = 13;
+    // limit of lengths read from the connection, so a broken worker cannot exhaust the memory
+    private static final int MAX_LENGTH = 1 << 24;
+
+    private FarmProtocol() { }
+
+    static void writeJob(DataOutputStream out, FarmJob job) throws IOException {
+        out.writeLong(job.getId());
+        out.writeInt(job.getConfiguration());
+        out.writeInt(job.getRepeat());
+        out.writeUTF(job.getRunner());
+        out.writeUTF(job.getInstance());
+        out.writeInt(job.getConfig().size());
+        for (Map.Entry<String, String> entry : job.getConfig().entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF(entry.getValue());
+        }
+        out.writeLong(job.getSeed());
+        out.writeInt(job.getAttempt());
+    }
+
+    static FarmJob readJob(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        int configuration = in.readInt();
+        int repeat = in.readInt();
+        String runner = in.readUTF();
+        String instance = in.readUTF();
+        int size = in.readInt();
+        Map<String, String> config = new TreeMap<>();
+        for (int i = 0; i < size; ++i) {
+            config.put(in.readUTF(), in.readUTF());
+        }
+        FarmJob job = new FarmJob(id, configuration, repeat, runner, instance, config, in.readLong());
+        job.setAttempt(in.readInt());
+        return job;
+    }
+
+    static void writeResult(DataOutputStream out, FarmResult result) throws IOException {
+        out.writeLong(result.getJobId());
+        out.writeUTF(result.getWorker() == null ? "" : result.getWorker());
+        out.writeInt(result.getObjectives().size());
+        for (int i = 0; i < result.getObjectives().size(); ++i) {
+            double[] objectives = result.getObjectives().get(i);
+            out.writeInt(objectives.length);
+            for (double objective : objectives) {
+                out.writeDouble(objective);
+            }
+            int[] genes = i < result.getGenes().size() ? result.getGenes().get(i) : new int[0];
+            out.writeInt(genes.length);
+            for (int gene : genes) {
+                out.writeInt(gene);
+            }
+        }
+        out.writeInt(result.getMetrics().size());
+        for (Map.Entry<String, Double> metric : result.getMetrics().entrySet()) {
+            out.writeUTF(metric.getKey());
+            out.writeDouble(metric.getValue());
+        }
+    }
+
+    static FarmResult readResult(DataInputStream in) throws IOException {
+        long jobId = in.readLong();
+        String worker = in.readUTF();
+        int size = readLength(in);
+        List<double[]> objectives = new ArrayList<>(size);
+        List<int[]> genes = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            double[] individualObjectives = new double[readLength(in)];
+            for (int j = 0; j < individualObjectives.length; ++j) {
+                individualObjectives[j] = in.readDouble();
+            }
+            objectives.add(individualObjectives);
+            int[] individualGenes = new int[readLength(in)];
+            for (int j = 0; j < individualGenes.length; ++j) {
+                individualGenes[j] = in.readInt();
+            }
+            genes.add(individualGenes);
+        }
+        int numMetrics = readLength(in);
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (int i = 0; i < numMetrics; ++i) {
+            metrics.put(in.readUTF(), in.readDouble());
+        }
+        // the repeat is known only to the coordinator
+        return new FarmResult(jobId, -1, objectives, genes, metrics, worker);
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IOException("Invalid length " + length);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,89 @@
+package runners.farm;
+
+import algorithms.problem.BaseIndividual;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Front and summary metrics of a finished job, as sent back by a worker.
+ * Individuals are kept as their objectives and genes only, so they can be
+ * rebuilt on the problem instance of the coordinator if needed.
+ */
+public class FarmResult {
+    private final long jobId;
+    private final int repeat;
+    private final List<double[]> objectives;
+    private final List<int[]> genes;
+    private final Map<String, Double> metrics;
+    private String worker;
+
+    public FarmResult(FarmJob job, List<double[]> objectives, List<int[]> genes, Map<String, Double> metrics) {
+        this(job.getId(), job.getRepeat(), objectives, genes, metrics, null);
+    }
+
+    FarmResult(long jobId, int repeat, List<double[]> objectives, List<int[]> genes, Map<String, Double> metrics,
+               String worker) {
+        this.jobId = jobId;
+        this.repeat = repeat;
+        this.objectives = objectives;
+        this.genes = genes;
+        this.metrics = Collections.unmodifiableMap(new LinkedHashMap<>(metrics));
+        this.worker = worker;
+    }
+
+    /**
+     * Creates a result with objectives and genes of the front.
+     */
+    public static FarmResult fromFront(FarmJob job, List<? extends BaseIndividual<Integer, ?>> front,
+                                       Map<String, Double> metrics) {
+        List<double[]> objectives = new ArrayList<>(front.size());
+        List<int[]> genes = new ArrayList<>(front.size());
+        for (BaseIndividual<Integer, ?> individual : front) {
+            objectives.add(individual.getObjectives().clone());
+            genes.add(individual.getGenes().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return new FarmResult(job, objectives, genes, metrics);
+    }
+
+    public long getJobId() {
+        return jobId;
+    }
+
+    public int getRepeat() {
+        return repeat;
+    }
+
+    public List<double[]> getObjectives() {
+        return objectives;
+    }
+
+    public List<int[]> getGenes() {
+        return genes;
+    }
+
+    public Map<String, Double> getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return name of the worker which ran the job
+     */
+    public String getWorker() {
+        return worker;
+    }
+
+    /**
+     * @return the same result with the id and repeat of the job leased by the coordinator
+     */
+    FarmResult ofJob(FarmJob job) {
+        return new FarmResult(job.getId(), job.getRepeat(), objectives, genes, metrics, worker);
+    }
+
+    void setWorker(String worker) {
+        this.worker = worker;
+    }
+}
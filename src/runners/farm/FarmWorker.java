@@ -0,0 +1,178 @@
+package runners.farm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Worker of the farm. Connects to the coordinator, runs the jobs it gets one by one
+ * and sends back their results, until the coordinator has no more jobs.
+ * While a job runs, a background thread renews its lease.
+ */
+public class FarmWorker {
+    private static final Logger LOGGER = Logger.getLogger(FarmWorker.class.getName());
+    private static final int CONNECT_ATTEMPTS = 10;
+    private static final long CONNECT_DELAY_MILLIS = 1000;
+    // longest failure message sent to the coordinator, strings are limited by the protocol
+    private static final int MAX_MESSAGE_LENGTH = 4096;
+
+    private final String host;
+    private final int port;
+    private final String name;
+    private final Map<String, FarmJobRunner> runners = new HashMap<>();
+    private volatile long currentJobId = -1;
+
+    public FarmWorker(String host, int port, String name) {
+        this.host = host;
+        this.port = port;
+        this.name = name;
+    }
+
+    /**
+     * Usage: <code>FarmWorker host port [name]</code>
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: FarmWorker host port [name]");
+            System.exit(1);
+        }
+        String name = args.length > 2 ? args[2] : ManagementFactory.getRuntimeMXBean().getName();
+        new FarmWorker(args[0], Integer.parseInt(args[1]), name).run();
+    }
+
+    /**
+     * Runs jobs until the coordinator shuts the worker down.
+     *
+     * @throws IOException if the coordinator cannot be reached or the connection is lost
+     */
+    public void run() throws IOException {
+        ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "farm-heartbeat-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (Socket socket = connect();
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            synchronized (out) {
+                out.writeByte(FarmProtocol.HELLO);
+                out.writeUTF(name);
+                out.flush();
+            }
+            if (in.readByte() != FarmProtocol.WELCOME) {
+                throw new IOException("Coordinator did not accept the worker");
+            }
+            long heartbeatMillis = Math.max(1, in.readLong() / 3);
+            heartbeat.scheduleAtFixedRate(() -> sendHeartbeat(out), heartbeatMillis, heartbeatMillis,
+                    TimeUnit.MILLISECONDS);
+
+            while (true) {
+                synchronized (out) {
+                    out.writeByte(FarmProtocol.REQUEST);
+                    out.flush();
+                }
+                byte type = in.readByte();
+                if (type == FarmProtocol.SHUTDOWN) {
+                    return;
+                } else if (type == FarmProtocol.WAIT) {
+                    sleep(in.readLong());
+                } else if (type == FarmProtocol.JOB) {
+                    runJob(FarmProtocol.readJob(in), out);
+                } else {
+                    throw new IOException("Unknown message " + type);
+                }
+            }
+        } finally {
+            heartbeat.shutdownNow();
+        }
+    }
+
+    private Socket connect() throws IOException {
+        for (int attempt = 1; ; ++attempt) {
+            try {
+                return new Socket(host, port);
+            } catch (IOException e) {
+                if (attempt >= CONNECT_ATTEMPTS) {
+                    throw e;
+                }
+                sleep(CONNECT_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private void runJob(FarmJob job, DataOutputStream out) throws IOException {
+        currentJobId = job.getId();
+        FarmResult result = null;
+        String failure = null;
+        try {
+            result = getRunner(job.getRunner()).run(job);
+            result.setWorker(name);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, job + " failed", e);
+            failure = String.valueOf(e);
+        } finally {
+            currentJobId = -1;
+        }
+        synchronized (out) {
+            if (result != null) {
+                out.writeByte(FarmProtocol.RESULT);
+                FarmProtocol.writeResult(out, result);
+            } else {
+                out.writeByte(FarmProtocol.FAILURE);
+                out.writeLong(job.getId());
+                out.writeUTF(failure.length() > MAX_MESSAGE_LENGTH ? failure.substring(0, MAX_MESSAGE_LENGTH) : failure);
+            }
+            out.flush();
+        }
+    }
+
+    private FarmJobRunner getRunner(String runnerName) throws ReflectiveOperationException {
+        FarmJobRunner runner = runners.get(runnerName);
+        if (runner == null) {
+            // the class is checked before it is initialised, so a job cannot run arbitrary static code
+            Class<?> runnerClass = Class.forName(runnerName, false, FarmWorker.class.getClassLoader());
+            if (!FarmJobRunner.class.isAssignableFrom(runnerClass)) {
+                throw new IllegalArgumentException(runnerName + " is not a FarmJobRunner");
+            }
+            runner = runnerClass.asSubclass(FarmJobRunner.class).getDeclaredConstructor().newInstance();
+            runners.put(runnerName, runner);
+        }
+        return runner;
+    }
+
+    private void sendHeartbeat(DataOutputStream out) {
+        long jobId = currentJobId;
+        if (jobId < 0) {
+            return;
+        }
+        try {
+            synchronized (out) {
+                out.writeByte(FarmProtocol.HEARTBEAT);
+                out.writeLong(jobId);
+                out.flush();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Could not send a heartbeat", e);
+        }
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        }
+    }
+}
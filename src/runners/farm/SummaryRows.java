@@ -0,0 +1,56 @@
+package runners.farm;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Rows of a summary file, appended in the order of their reservation whatever
+ * the order in which they are set. Every reserved row has to be set, also for
+ * a failed configuration, as later rows wait for it.
+ */
+public class SummaryRows {
+    private static final Logger LOGGER = Logger.getLogger(SummaryRows.class.getName());
+
+    private final String summaryFile;
+    private final String[] rows;
+    private int reserved = 0;
+    private int written = 0;
+
+    public SummaryRows(String summaryFile, int numberOfRows) {
+        this.summaryFile = summaryFile;
+        this.rows = new String[numberOfRows];
+    }
+
+    /**
+     * @return index of the next row
+     */
+    public synchronized int reserve() {
+        return reserved++;
+    }
+
+    /**
+     * Sets the row and appends it, together with the rows after it which are set already,
+     * when all rows before it are written.
+     *
+     * @param index index of a reserved row
+     * @param row text of the row with its line separator
+     */
+    public synchronized void set(int index, String row) {
+        rows[index] = row;
+        while (written < rows.length && rows[written] != null) {
+            write(rows[written]);
+            rows[written++] = null;
+        }
+    }
+
+    private void write(String row) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(summaryFile, true))) {
+            writer.write(row);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not write to " + summaryFile, e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package runners.ttp;
+
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.evolutionary_algorithms.genetic_algorithm.CGA;
+import algorithms.evolutionary_algorithms.selection.IndividualsPairingMethod;
+import algorithms.io.TTPIO;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.TTP;
+import algorithms.quality_measure.HVMany;
+import distance_measures.Euclidean;
+import internal_measures.FlatWithinPlusBetweenIndex;
+import runners.farm.FarmJob;
+import runners.farm.FarmJobRunner;
+import runners.farm.FarmResult;
+import util.FILE_OUTPUT_LEVEL;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a single repeat of the CGA grid of <code>CGATTPRunner</code> on a farm worker.
+ * Keys of the job configuration are the names of <code>CGATTPRunner.getGrid()</code>,
+ * missing ones take the first values of its grid. An optional <code>apf</code>
+ * key gives the path of the approximated Pareto front used by CGA for its statistics.
+ * Result files are not written, the front is sent back to the coordinator.
+ */
+public class CGAFarmJobRunner implements FarmJobRunner {
+
+    @Override
+    public FarmResult run(FarmJob job) throws IOException {
+        TTP ttp = new TTPIO().readDefinition(job.getInstance());
+        if (ttp == null) {
+            throw new IOException("Could not read the Definition " + job.getInstance());
+        }
+        ParameterSet<Integer, TTP> parameters = CGATTPRunner.setParameters(ttp, job.getSeed());
+        parameters.KNAPmutationVersion = job.getInt("KNAPmutationVersion", CGATTPRunner.KNAP_MUTATION_VERSION_LIST[0]);
+        parameters.KNAPcrossoverVersion = job.getInt("KNAPcrossoverVersion", CGATTPRunner.KNAP_CROSSOVER_VERSION_LIST[0]);
+        parameters.TSPmutationVersion = job.getInt("TSPmutationVersion", CGATTPRunner.TSP_MUTATION_VERSION_LIST[0]);
+        parameters.TSPcrossoverVersion = job.getInt("TSPcrossoverVersion", CGATTPRunner.TSP_CROSSOVER_VERSION_LIST[0]);
+        List<BaseIndividual<Integer, TTP>> optimalParetoFront = job.getConfig().containsKey("apf")
+                ? CGATTPRunner.readAPF(job.get("apf", null), ttp, parameters.evaluator)
+                : new ArrayList<>();
+        int populationSize = job.getInt("populationSize", CGATTPRunner.POPULATION_SIZE_LIST[0]);
+
+        long start = System.nanoTime();
+        CGA<TTP> geneticAlgorithm = new CGA<>(
+                ttp,
+                new FlatWithinPlusBetweenIndex(new Euclidean()),
+                populationSize,
+                job.getInt("generationLimit", CGATTPRunner.GENERATION_LIMIT_LIST[0]),
+                parameters,
+                job.getDouble("TSPmutationProbability", CGATTPRunner.TSP_MUTATION_PROBABILITY_LIST[0]),
+                job.getDouble("KNAPmutationProbability", CGATTPRunner.KNAP_MUTATION_PROBABILITY_LIST[0]),
+                job.getDouble("TSPcrossoverProbability", CGATTPRunner.TSP_CROSSOVER_PROBABILITY_LIST[0]),
+                job.getDouble("KNAPcrossoverProbability", CGATTPRunner.KNAP_CROSSOVER_PROBABILITY_LIST[0]),
+                job.getInstance().split("\\.")[0],
+                job.getInt("numberOfClusters", CGATTPRunner.NUMBER_OF_CLUSTER_LIST[0]),
+                job.getInt("clusterIterLimit", CGATTPRunner.CLUSTERISATION_ALGORITHM_ITER_LIST[0]),
+                job.getDouble("edgeClustersDispersion", CGATTPRunner.EDGE_CLUSTERS_DISPERSION[0]),
+                job.getInt("tournamentSize", CGATTPRunner.TOURNAMENT_SIZE_LIST[0]),
+                populationSize / 2,
+                populationSize / 10,
+                job.getInt("populationTurProp", CGATTPRunner.POPULATION_TUR_PROP_LIST[0]),
+                -666,
+                true,
+                new HVMany(parameters.evaluator.getNadirPoint()),
+                optimalParetoFront,
+                "." + File.separator + "out",
+                FILE_OUTPUT_LEVEL.NONE,
+                job.getRepeat(),
+                job.getInt("indExclusionUsageLimit", CGATTPRunner.IND_EXCLUSION_USAGE_LIMIT_LIST[0]),
+                job.getInt("indExclusionGenDuration", CGATTPRunner.IND_EXCLUSION_GEN_DURATION_LIST[0]),
+                job.getDouble("turDecayParam", CGATTPRunner.TUR_DECAY_PARAM_LIST[0]),
+                job.getInt("minTournamentSize", CGATTPRunner.MIN_TOURNAMENT_SIZE_LIST[0]),
+                IndividualsPairingMethod.valueOf(job.get("indPairingMethod",
+                        CGATTPRunner.INDIVIDUALS_PAIRING_METHODS_LIST[0].name())),
+                job.getInt("clusteringRunFrequencyInCost", CGATTPRunner.CLUSTERING_RUN_FREQUENCY_IN_COST_LIST[0]),
+                job.getBoolean("isClusteringEveryXCost", CGATTPRunner.IS_CLUSTERING_EVERY_X_COST_LIST[0]),
+                job.getBoolean("isRecalculateCentres", CGATTPRunner.IS_RECALCULATE_CENTRES_LIST[0]),
+                job.getBoolean("isPopulationUsed", CGATTPRunner.IS_POPULATION_USED_LIST[0]),
+                job.getDouble("tspLocalSearchArchiveProp", CGATTPRunner.TSP_LOCAL_SEARCH_ARCHIVE_PROP_LIST[0]),
+                job.getDouble("knapLocalSearchArchiveProp", CGATTPRunner.KNAP_LOCAL_SEARCH_ARCHIVE_PROP_LIST[0]),
+                job.getDouble("localSearchProp", CGATTPRunner.LOCAL_SEARCH_PROP_LIST[0]),
+                job.getDouble("minMaArchChangesThreshold", CGATTPRunner.MIN_MA_ARCH_CHANGES_THRESHOLD_LIST[0]),
+                job.getDouble("maxMaArchChangesThreshold", CGATTPRunner.MAX_MA_ARCH_CHANGES_THRESHOLD_LIST[0]),
+                job.getInt("maArchChangesSize", CGATTPRunner.MA_ARCH_CHANGES_SIZE_LIST[0]));
+        List<BaseIndividual<Integer, TTP>> front = geneticAlgorithm.optimize();
+
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("hv", new HVMany(parameters.evaluator.getNadirPoint()).getMeasure(front));
+        metrics.put("frontSize", (double) front.size());
+        metrics.put("numberOfExtraPopulationTriggered", (double) geneticAlgorithm.getNumberOfExtraPopulationTriggered());
+        metrics.put("seconds", (System.nanoTime() - start) / 1e9);
+        return FarmResult.fromFront(job, front, metrics);
+    }
+}
@@ -2,14 +2,18 @@ package runners.ttp;
 
 import algorithms.evaluation.BaseEvaluator;
 import algorithms.evaluation.EvaluatorType;
+import algorithms.evolutionary_algorithms.EvolutionaryAlgorithm;
 import algorithms.evolutionary_algorithms.ParameterSet;
 import algorithms.evolutionary_algorithms.crossover.CrossoverType;
 import algorithms.evolutionary_algorithms.genetic_algorithm.CGA;
 import algorithms.evolutionary_algorithms.genetic_algorithm.utils.OptimisationResult;
 import algorithms.evolutionary_algorithms.initial_population.InitialPopulationType;
+import algorithms.evolutionary_algorithms.migration_scheme.IslandModel;
+import algorithms.evolutionary_algorithms.migration_scheme.MigrationTopology;
 import algorithms.evolutionary_algorithms.mutation.MutationType;
 import algorithms.evolutionary_algorithms.selection.IndividualsPairingMethod;
 import algorithms.evolutionary_algorithms.selection.SelectionType;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
 import algorithms.factories.*;
 import algorithms.io.TTPIO;
 import algorithms.problem.BaseIndividual;
@@ -19,12 +23,14 @@ import distance_measures.Euclidean;
 import interfaces.QualityMeasure;
 import internal_measures.FlatWithinPlusBetweenIndex;
 import javafx.util.Pair;
+import runners.ExperimentScheduler;
 import util.FILE_OUTPUT_LEVEL;
 import util.random.RandomBase;
 import util.random.RandomInt;
 
 import java.io.*;
 import java.util.*;
+import java.util.function.IntFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,6 +39,44 @@ public class CGATTPRunner {
     private static final String baseDir = "." + File.separator; //assets/definitions/TTP/selected_01/";
     private static final String problemPath = "." + File.separator + "problems" + File.separator;
     private static final String apfsPath = "." + File.separator + "apfs" + File.separator;
+    private static final int NUMBER_OF_THREADS = Runtime.getRuntime().availableProcessors();
+    // islands of a single repeat, each on its own thread, they share the budget of the repeat
+    private static final int NUMBER_OF_ISLANDS = 1;
+    private static final MigrationTopology MIGRATION_TOPOLOGY = MigrationTopology.RING;
+    private static final int MIGRATION_INTERVAL = 50;
+    private static final int MIGRATION_SIZE = 5;
+    // parameter grid, every combination of the values is run
+    static final int[] GENERATION_LIMIT_LIST = new int[] {250_000};//{50_000};//{250_000};//{5_000};//{5_000};//{25_000, 12_500, 5_000, 2_500, 1_666, 1_250, 500, 250};//500};
+    static final int[] POPULATION_SIZE_LIST = new int[] {700};//{50, 75, 100, 125, 150, 175, 200, 225, 250, 275, 300, 325, 350, 375, 400, 425, 450, 475, 500, 525, 550, 575, 600, 625, 650, 675, 700, 725, 750, 775, 800, 825, 850, 875, 900, 925, 950, 975, 1000};//{450, 550, 650, 750, 850, 1000};//{700};//{225, 300, 400, 550, 650, 750, 850}; //{10};//{5000, 6000, 7000}; //{10};//{10, 50, 100, 150, 500}; //{10};//{10};//{20};//{10, 100};//{20};//{10, 20, 50, 100};//{50};// 100};
+    static final double[] TSP_MUTATION_PROBABILITY_LIST = new double[] {0.6};//{0.0, 0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.0, 0.2, 0.4, 0.6, 0.8, 1.0};//{0.6};//{0.0, 0.001, 0.005, 0.01, 0.015, 0.02, 0.03, 0.05, 0.07, 0.1};//\0.5};//{0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.5};//{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.25};//{0.0, 0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.25};//{0.3};//{0.4};//}{0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, {0.4};//{0.4};//{0.1, 0.2, 0.3, 0.4, 0.5};//{0.01};//{0.007};//{0.002, 0.004, 0.006, 0.008};//{0.004};//{0.0, 0.0001, 0.05, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.9};//{0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.0, 0.0001, 0.05, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6}; //{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
+    static final double[] KNAP_MUTATION_PROBABILITY_LIST = new double[] {0.3};//{0.0, 0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.0, 0.2, 0.4, 0.6, 0.8, 1.0};//{0.3};//{0.6};//{1.0, 0.9, 0.8, 0.7, 0.6, 0.5, 0.4, 0.3, 0.2, 0.1};//{0.005};//{0.005, 0.01, 0.015, 0.02, 0.025, 0.03, 0.035, 0.04, 0.05, 0.06, 0.07, 0.08, 0.09, 0.1};//{0.0027};//{0.0001, 0.0002, 0.0003, 0.0004, 0.0005, 0.0006, 0.0007, 0.0008, 0.0009, 0.0011, 0.0012, 0.0013, 0.0014, 0.0015, 0.0016, 0.0017, 0.0018, 0.0019, 0.0021, 0.0022, 0.0023, 0.0024, 0.0025, 0.0026, 0.0027, 0.0028, 0.0029, 0.0031, 0.0032, 0.0033, 0.0034, 0.0035, 0.0036, 0.0037, 0.0038, 0.0039};//, 0.004, 0.005, 0.006, 0.007, 0.008, 0.009, 0.01, 0.011, 0.012, 0.013, 0.014, 0.015, 0.016, 0.017, 0.018, 0.019};//{0.0031};//{0.0001, 0.0003, 0.0005, 0.0007, 0.0009, 0.0011, 0.0013, 0.0015, 0.0017, 0.0019, 0.0021, 0.0023, 0.0025, 0.0027, 0.0029, 0.0031, 0.0033, 0.0035, 0.0037, 0.0039};//{0.0024};//0.04};//{0.001, 0.005, 0.01, 0.015, 0.02, 0.03, 0.04, 0.05, 0.1, 0.125, 0.15};//{0.006};//, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.034};//{0.006};//{0.006};//{0.006};//{0.8, 0.9, 1.0};//{0.01};//{0.006};//{0.004, 0.005, 0.006, 0.007};//{0.01};//{0.01, 0.02, 0.03, 0.04};//, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.0, 0.0025, 0.005, 0.0075}; //{0.005, 0.01, 0.015};//, 0.005, 0.015};
+    static final double[] TSP_CROSSOVER_PROBABILITY_LIST = new double[] {0.3};//{0.3};//{0.75};//{0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.75};//{0.3, 0.35};//{0.35, 0.4};//{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.6};//{0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.6};//{0.0, 0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.05, 0.15, 0.25, 0.35, 0.45, 0.55, 0.65, 0.75, 0.85, 0.95};//{0.4};//{0.0, 0.1, 0.3, 0.5, 0.7, 0.9};//{0.25, 0.35, 0.45, 0.55, 0.65, 0.75, 0.85, 0.95};//}{0.0, 0.15, 0.25, 0.35, 0.45, 0.55, 0.65, 0.75, 0.85, 0.95};//{0.45};{0.8};//}{0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.8};//{0.2};//{0.2};//{0.0, 0.05, 0.1, 0.15, 0.2}; //{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
+    static final double[] KNAP_CROSSOVER_PROBABILITY_LIST = new double[] {1.0};//{0.0, 0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{1.0};//{0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{1.0};//{1.0, 0.8, 0.6, 0.4, 0.2};//{0.8};//{0.6, 0.7, 0.8, 0.9, 1.0};//}{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.95};//{0.95};//{0.95};//{0.95};//{0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.95};//{0.95};//{0.75, 0.8, 0.85, 0.9, 0.95, 1.0, 1.5};//{0.7};//{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.05, 0.1, 0.2, 0.3, 0.4, 0.5};//{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
+    static final int[] NUMBER_OF_CLUSTER_LIST = new int[] {2};//{3}; //{11, 12, 13, 14, 16, 17, 18, 19, 21, 22, 23, 24, 25};//{2, 3, 4, 5, 6, 7, 8, 9, 10, 15, 20};//{5};//{2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 17, 20, 22, 25, 30};//{5};//{2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 17, 20, 22, 25, 30};//{2};//{2, 3, 4, 5, 10, 20};//{3};
+    static final int[] CLUSTERISATION_ALGORITHM_ITER_LIST = new int[]{50};//100};
+    /*if negative, it will disable that function */ static final int[] CLUSTERING_RUN_FREQUENCY_IN_COST_LIST = {250};//{5, 10, 50, 75, 100, 125, 150, 175, 200, 225, 250, 275, 300, 325, 350, 375, 400, 425, 450, 475, 500, 525, 550, 575, 600, 625, 650, 675, 700, 725, 750, 775, 800, 825, 850, 875, 900, 925, 950, 975, 1000, 1025, 1050, 1075, 1100, 1125, 1150, 1175, 1200, 1225, 1250, 1275, 1300, 1325, 1350, 1375, 1400, 1425, 1450, 1475, 1500, 1525, 1550, 1575, 1600, 1625, 1650, 1675, 1700, 1725, 1750, 1775, 1800, 1825, 1850, 1875, 1900, 1925, 1950, 1975, 2000};//{10, 75, 150, 200, 250, 300, 350, 450, 550, 650, 750, 850, 950};//{250};//{5, 20, 60, 100};//{10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60, 65, 70, 75, 80, 85, 90, 95, 100, 105, 110, 115, 120, 125, 130, 135, 140, 145, 150, 155, 160, 165, 170, 175, 180, 185, 190, 195, 200};//, 250, 500, 750, 1000, 2500, 5000, 7500, 10000, 15000, 20000, 30000, 50000};
+    static final boolean[] IS_RECALCULATE_CENTRES_LIST = {false};
+    static final boolean[] IS_CLUSTERING_EVERY_X_COST_LIST = {true};
+    static final boolean[] IS_POPULATION_USED_LIST = {false};
+    static final double[] EDGE_CLUSTERS_DISPERSION = new double[] {3};//{3, 3.5};//{3.0, 2.5, 3.5};//{/*0.5, 1.0, */2.0/*, 3.0, 5.0, 10.0*/};//3.5, 4.5, 5.5, 6.5, 7.5, 8.5, 9.5};//{2};//{0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10, 20, 50, 1000};//{2.5};//{0.0, 0.5, 1.5, 2.5, 3.5, 4.5, 7.0};//{4.0};//{0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10, 20, 50, 1000};//{4.0};//{0.5, 1.0, 1.5, 2.5, 3.5, 4.5, 5.5, 6.5, 7.5, 8.5, 9.5, 20, 50};//{4.0};//{0.5, 1.5, 2.5, 3.5, 4.5, 5.5, 6.5, 7.5, 8.5, 9.5, 20, 50};//{4};//{0.5};//{4};//{0.1, 0.5, 1, 2, 4, 10, 100};//{4}//{0.05, 0.1, 0.3, 0.5, 0.7, 0.9, 1, 4, 5, 10.0, 50, 100, 1_000, 5_000}; //{4};//, 10_000, 15_000, 20_000, 50_000, 100_000};//{0.1, 0.2, 0.3, 0.4, 0.5, 1.0, 1.5, 2.0};//{0.5, 1.0, 1.5, 2.0}; //}{0.1, 0.2, 0.3, 0.4, 0.5, 1.0, 1.5, 2.0};
+    static final int[] TOURNAMENT_SIZE_LIST = new int[] {10};//{2, 5, 10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60, 65, 70, 75, 80, 85, 90, 95, 100}; //{10, 30, 50, 70/*, 90, 100*/}; //{500};//{70}; // {50};//{10, 20, 30, 40, 50}; //{15};//{10, 5, 15}; //{100};//{60};//{20, 40, 60, 80, 100}; //{0.95};////{200};//{10, 30, 50, 70, 90, 120, 200}; //{150};//{60, 70, 80, 90, 100}; //{80};//{10};//{80};//{10, 20, 30, 40, 50, 60, 70, 80, 90, 100}; //{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 20, 30, 50, 100}; //{90};
+    static final int[] POPULATION_TUR_PROP_LIST = new int[]{100}; //{50};
+    static final int[] KNAP_MUTATION_VERSION_LIST = new int[] {2}; //{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27};//{2};//{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27};//{2}; // {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27};
+    static final int[] KNAP_CROSSOVER_VERSION_LIST = new int[] {1};//{1, 2, 3}; // {1}; // {1, 2, 3};
+    static final int[] TSP_MUTATION_VERSION_LIST = new int[] {1};// {3 9 10};//{1, 2, 4, 5, 6, 7, 8, 11};//{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}; // // {1};
+    static final int[] TSP_CROSSOVER_VERSION_LIST = new int[] {6};//{1, 2, 3, 4, 5, 6}; //{6};
+    static final int[] IND_EXCLUSION_USAGE_LIMIT_LIST = new int[] {50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750, 800, 850, 900, 950, 1000};//{250_000};//{750};//{300, 400, 500, 600, 700, 800, 900, 1000};//{250};//{100, 200, 300, 400, 500, 600, 700, 800, 900, 1000};//{550, 600, 650, 700, 750, 800, 850, 900, 950, 1000};//}{50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750, 800, 850, 900, 950, 1000};//{50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750, 800, 850, 900, 1000};//{25, 50, 75, 100, 125, 150, 175, 200, 225, 250, 275, 300, 325, 350, 375, 400, 425, 450, 475, 500, 525, 550, 575, 600, 625, 650, 675, 700};
+    static final int[] IND_EXCLUSION_GEN_DURATION_LIST = new int[] {50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750, 800, 850, 900, 950, 1000};//{250_000};//{650};//{50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750, 800, 850, 900, 950, 1000};//}{150};//{100, 300, 500, 700, 900};//{150};//{{550};//{520, 540, 560, 580, 600, 620, 640, 660, 680};//{50, 150, 250, 350, 450, 550, 650};//{50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600};
+    static final double[] TUR_DECAY_PARAM_LIST = new double[] {-5};//{-0.5, -1.5, -3, -4, -5, -6, -7, -8, -9, -10, -11, -12.5, -13  .5, -14.5, -15.5};//{-6, -8, -15, -100};
+    static final double[] LOCAL_SEARCH_PROP_LIST = {0.00};//{0.02, 0.03, 0.04, 0.05};//{0.001};//{0.001, 0.005, 0.01, 0.03, 0.06, 0.1};//{0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//
+    static final double[] KNAP_LOCAL_SEARCH_ARCHIVE_PROP_LIST = {0.0};//{1.0, 0.0};//{0.001};//{0.0, 0.1, 0.3, 0.6, 1.0};//
+    static final double[] TSP_LOCAL_SEARCH_ARCHIVE_PROP_LIST = {0.0};//{1.0, 0.0};//{0.0, 0.1, 0.3, 0.6, 1.0};//
+    /*if negative, no decay will be applied!*/ static final int[] MIN_TOURNAMENT_SIZE_LIST = new int[] {-666};//{-666};//{15};//{30, 40, 50, 60, 70};
+    static final IndividualsPairingMethod[] INDIVIDUALS_PAIRING_METHODS_LIST = new IndividualsPairingMethod[]{IndividualsPairingMethod.DISTANT_IMMEDIATE_NEIGHBOUR_PAIR_SIMPLIFIED};//, IndividualsPairingMethod.ALL_POSSIBLE_PAIRS, IndividualsPairingMethod.DISTANT_IMMEDIATE_NEIGHBOUR_PAIR, IndividualsPairingMethod.CROSS_CLUSTER_ALL_POSSIBLE_PAIRS};//ALL_POSSIBLE_PAIRS CROSS_CLUSTER_ALL_POSSIBLE_PAIRS DISTANT_IMMEDIATE_NEIGHBOUR_PAIR DISTANT_IMMEDIATE_NEIGHBOUR_PAIR_SIMPLIFIED
+    static final double[] MIN_MA_ARCH_CHANGES_THRESHOLD_LIST = {10};//{2, 5, 10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60, 65, 70, 75, 80, 85, 90, 95, 100}; //{/*0, 10,*/ 20, 50, 100, 150, 200, 250};//{-666.0};//{290};
+    static final double[] MAX_MA_ARCH_CHANGES_THRESHOLD_LIST = {325};//{20, 30, 40, 50, 60, 70, 80, 90, 100, 110, 120, 130, 140, 150, 160, 170, 180, 190, 200, 210, 220, 230, 240, 250, 260, 270, 280, 290, 300, 310, 320, 330, 340, 350, 360, 370, 380, 390, 400}; //{250, 325, 400};//{0, 5, 10, 15, 20, 25, 50, 75, 100, 125, 150, 175, 200, 225, 250, 275, 300, 325, 350, 500};//{Double.MAX_VALUE};//{320};
+    static final int[] MA_ARCH_CHANGES_SIZE_LIST = {60};//{1, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 25, 30, 35, 40, 45, 50, 55, 60};//{5, 10, 15};
+
     private static final List<Pair<String, String>> instanceWithOPF = Arrays.asList(
 //            new Pair<>( problemPath + "eil51_n50_bounded-strongly-corr_01.ttp", apfsPath + "24-06-11_eil51_n50_bounded-strongly-corr_01_merged.csv"),
 //            new Pair<>(problemPath + "eil51_n50_uncorr-similar-weights_01.ttp", apfsPath + "24-06-11_eil51_n50_uncorr-similar-weights_01_merged.csv"),
@@ -91,8 +135,10 @@ public class CGATTPRunner {
             System.out.println("File " + (k+1) + "/" + instanceWithOPF.size());
             TTP ttp = readFile(k);
             if (ttp == null) return null;
+            String instanceDirectory = instanceName.split("\\.")[0];
 
-            ParameterSet<Integer, TTP> parameters = setParameters(ttp);
+            long masterSeed = System.currentTimeMillis();
+            ParameterSet<Integer, TTP> parameters = setParameters(ttp, masterSeed);
             List<BaseIndividual<Integer, TTP>> optimalParetoFront = readAPF(instanceWithOPF.get(k).getValue(), ttp, parameters.evaluator);
 
             QualityMeasure[] clusterWeightMeasureList = new QualityMeasure[] {
@@ -107,36 +153,36 @@ public class CGATTPRunner {
             };
 
             int NUMBER_OF_REPEATS = 30;
-            int[] generationLimitList = new int[] {250_000};//{50_000};//{250_000};//{5_000};//{5_000};//{25_000, 12_500, 5_000, 2_500, 1_666, 1_250, 500, 250};//500};
-            int[] populationSizeList = new int[] {700};//{50, 75, 100, 125, 150, 175, 200, 225, 250, 275, 300, 325, 350, 375, 400, 425, 450, 475, 500, 525, 550, 575, 600, 625, 650, 675, 700, 725, 750, 775, 800, 825, 850, 875, 900, 925, 950, 975, 1000};//{450, 550, 650, 750, 850, 1000};//{700};//{225, 300, 400, 550, 650, 750, 850}; //{10};//{5000, 6000, 7000}; //{10};//{10, 50, 100, 150, 500}; //{10};//{10};//{20};//{10, 100};//{20};//{10, 20, 50, 100};//{50};// 100};
-            double[] TSPmutationProbabilityList = new double[] {0.6};//{0.0, 0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.0, 0.2, 0.4, 0.6, 0.8, 1.0};//{0.6};//{0.0, 0.001, 0.005, 0.01, 0.015, 0.02, 0.03, 0.05, 0.07, 0.1};//\0.5};//{0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.5};//{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.25};//{0.0, 0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.25};//{0.3};//{0.4};//}{0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, {0.4};//{0.4};//{0.1, 0.2, 0.3, 0.4, 0.5};//{0.01};//{0.007};//{0.002, 0.004, 0.006, 0.008};//{0.004};//{0.0, 0.0001, 0.05, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.9};//{0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.0, 0.0001, 0.05, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6}; //{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
-            double[] KNAPmutationProbabilityList = new double[] {0.3};//{0.0, 0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.0, 0.2, 0.4, 0.6, 0.8, 1.0};//{0.3};//{0.6};//{1.0, 0.9, 0.8, 0.7, 0.6, 0.5, 0.4, 0.3, 0.2, 0.1};//{0.005};//{0.005, 0.01, 0.015, 0.02, 0.025, 0.03, 0.035, 0.04, 0.05, 0.06, 0.07, 0.08, 0.09, 0.1};//{0.0027};//{0.0001, 0.0002, 0.0003, 0.0004, 0.0005, 0.0006, 0.0007, 0.0008, 0.0009, 0.0011, 0.0012, 0.0013, 0.0014, 0.0015, 0.0016, 0.0017, 0.0018, 0.0019, 0.0021, 0.0022, 0.0023, 0.0024, 0.0025, 0.0026, 0.0027, 0.0028, 0.0029, 0.0031, 0.0032, 0.0033, 0.0034, 0.0035, 0.0036, 0.0037, 0.0038, 0.0039};//, 0.004, 0.005, 0.006, 0.007, 0.008, 0.009, 0.01, 0.011, 0.012, 0.013, 0.014, 0.015, 0.016, 0.017, 0.018, 0.019};//{0.0031};//{0.0001, 0.0003, 0.0005, 0.0007, 0.0009, 0.0011, 0.0013, 0.0015, 0.0017, 0.0019, 0.0021, 0.0023, 0.0025, 0.0027, 0.0029, 0.0031, 0.0033, 0.0035, 0.0037, 0.0039};//{0.0024};//0.04};//{0.001, 0.005, 0.01, 0.015, 0.02, 0.03, 0.04, 0.05, 0.1, 0.125, 0.15};//{0.006};//, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.034};//{0.006};//{0.006};//{0.006};//{0.8, 0.9, 1.0};//{0.01};//{0.006};//{0.004, 0.005, 0.006, 0.007};//{0.01};//{0.01, 0.02, 0.03, 0.04};//, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.0, 0.0025, 0.005, 0.0075}; //{0.005, 0.01, 0.015};//, 0.005, 0.015};
-            double[] TSPcrossoverProbabilityList = new double[] {0.3};//{0.3};//{0.75};//{0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.75};//{0.3, 0.35};//{0.35, 0.4};//{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.6};//{0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.6};//{0.0, 0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.05, 0.15, 0.25, 0.35, 0.45, 0.55, 0.65, 0.75, 0.85, 0.95};//{0.4};//{0.0, 0.1, 0.3, 0.5, 0.7, 0.9};//{0.25, 0.35, 0.45, 0.55, 0.65, 0.75, 0.85, 0.95};//}{0.0, 0.15, 0.25, 0.35, 0.45, 0.55, 0.65, 0.75, 0.85, 0.95};//{0.45};{0.8};//}{0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.8};//{0.2};//{0.2};//{0.0, 0.05, 0.1, 0.15, 0.2}; //{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
-            double[] KNAPcrossoverProbabilityList = new double[] {1.0};//{0.0, 0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{1.0};//{0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{1.0};//{1.0, 0.8, 0.6, 0.4, 0.2};//{0.8};//{0.6, 0.7, 0.8, 0.9, 1.0};//}{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.95};//{0.95};//{0.95};//{0.95};//{0.05, 0.1, 0.15, 0.2, 0.25, 0.3, 0.35, 0.4, 0.45, 0.5, 0.55, 0.6, 0.65, 0.7, 0.75, 0.8, 0.85, 0.9, 0.95, 1.0};//{0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.95};//{0.95};//{0.75, 0.8, 0.85, 0.9, 0.95, 1.0, 1.5};//{0.7};//{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//{0.05, 0.1, 0.2, 0.3, 0.4, 0.5};//{0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
-            int[] numberOfClusterList = new int[] {2};//{3}; //{11, 12, 13, 14, 16, 17, 18, 19, 21, 22, 23, 24, 25};//{2, 3, 4, 5, 6, 7, 8, 9, 10, 15, 20};//{5};//{2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 17, 20, 22, 25, 30};//{5};//{2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 17, 20, 22, 25, 30};//{2};//{2, 3, 4, 5, 10, 20};//{3};
-            int[] clusterisationAlgorithmIterList = new int[]{50};//100};
-            /*if negative, it will disable that function */ int[] clusteringRunFrequencyInCostList = {250};//{5, 10, 50, 75, 100, 125, 150, 175, 200, 225, 250, 275, 300, 325, 350, 375, 400, 425, 450, 475, 500, 525, 550, 575, 600, 625, 650, 675, 700, 725, 750, 775, 800, 825, 850, 875, 900, 925, 950, 975, 1000, 1025, 1050, 1075, 1100, 1125, 1150, 1175, 1200, 1225, 1250, 1275, 1300, 1325, 1350, 1375, 1400, 1425, 1450, 1475, 1500, 1525, 1550, 1575, 1600, 1625, 1650, 1675, 1700, 1725, 1750, 1775, 1800, 1825, 1850, 1875, 1900, 1925, 1950, 1975, 2000};//{10, 75, 150, 200, 250, 300, 350, 450, 550, 650, 750, 850, 950};//{250};//{5, 20, 60, 100};//{10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60, 65, 70, 75, 80, 85, 90, 95, 100, 105, 110, 115, 120, 125, 130, 135, 140, 145, 150, 155, 160, 165, 170, 175, 180, 185, 190, 195, 200};//, 250, 500, 750, 1000, 2500, 5000, 7500, 10000, 15000, 20000, 30000, 50000};
-            boolean[] isRecalculateCentresList = {false};
-            boolean[] isClusteringEveryXCostList = {true};
-            boolean[] isPopulationUsedList = {false};
-            double[] edgeClustersDispersion = new double[] {3};//{3, 3.5};//{3.0, 2.5, 3.5};//{/*0.5, 1.0, */2.0/*, 3.0, 5.0, 10.0*/};//3.5, 4.5, 5.5, 6.5, 7.5, 8.5, 9.5};//{2};//{0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10, 20, 50, 1000};//{2.5};//{0.0, 0.5, 1.5, 2.5, 3.5, 4.5, 7.0};//{4.0};//{0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 10, 20, 50, 1000};//{4.0};//{0.5, 1.0, 1.5, 2.5, 3.5, 4.5, 5.5, 6.5, 7.5, 8.5, 9.5, 20, 50};//{4.0};//{0.5, 1.5, 2.5, 3.5, 4.5, 5.5, 6.5, 7.5, 8.5, 9.5, 20, 50};//{4};//{0.5};//{4};//{0.1, 0.5, 1, 2, 4, 10, 100};//{4}//{0.05, 0.1, 0.3, 0.5, 0.7, 0.9, 1, 4, 5, 10.0, 50, 100, 1_000, 5_000}; //{4};//, 10_000, 15_000, 20_000, 50_000, 100_000};//{0.1, 0.2, 0.3, 0.4, 0.5, 1.0, 1.5, 2.0};//{0.5, 1.0, 1.5, 2.0}; //}{0.1, 0.2, 0.3, 0.4, 0.5, 1.0, 1.5, 2.0};
-            int[] tournamentSizeList = new int[] {10};//{2, 5, 10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60, 65, 70, 75, 80, 85, 90, 95, 100}; //{10, 30, 50, 70/*, 90, 100*/}; //{500};//{70}; // {50};//{10, 20, 30, 40, 50}; //{15};//{10, 5, 15}; //{100};//{60};//{20, 40, 60, 80, 100}; //{0.95};////{200};//{10, 30, 50, 70, 90, 120, 200}; //{150};//{60, 70, 80, 90, 100}; //{80};//{10};//{80};//{10, 20, 30, 40, 50, 60, 70, 80, 90, 100}; //{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 20, 30, 50, 100}; //{90};
-            int[] populationTurPropList = new int[]{100}; //{50};
-            int[] KNAPmutationVersionList = new int[] {2}; //{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27};//{2};//{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27};//{2}; // {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27};
-            int[] KNAPcrossoverVersionList = new int[] {1};//{1, 2, 3}; // {1}; // {1, 2, 3};
-            int[] TSPmutationVersionList = new int[] {1};// {3 9 10};//{1, 2, 4, 5, 6, 7, 8, 11};//{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}; // // {1};
-            int[] TSPcrossoverVersionList = new int[] {6};//{1, 2, 3, 4, 5, 6}; //{6};
-            int[] indExclusionUsageLimitList = new int[] {50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750, 800, 850, 900, 950, 1000};//{250_000};//{750};//{300, 400, 500, 600, 700, 800, 900, 1000};//{250};//{100, 200, 300, 400, 500, 600, 700, 800, 900, 1000};//{550, 600, 650, 700, 750, 800, 850, 900, 950, 1000};//}{50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750, 800, 850, 900, 950, 1000};//{50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750, 800, 850, 900, 1000};//{25, 50, 75, 100, 125, 150, 175, 200, 225, 250, 275, 300, 325, 350, 375, 400, 425, 450, 475, 500, 525, 550, 575, 600, 625, 650, 675, 700};
-            int[] indExclusionGenDurationList = new int[] {50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750, 800, 850, 900, 950, 1000};//{250_000};//{650};//{50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600, 650, 700, 750, 800, 850, 900, 950, 1000};//}{150};//{100, 300, 500, 700, 900};//{150};//{{550};//{520, 540, 560, 580, 600, 620, 640, 660, 680};//{50, 150, 250, 350, 450, 550, 650};//{50, 100, 150, 200, 250, 300, 350, 400, 450, 500, 550, 600};
-            double[] turDecayParamList = new double[] {-5};//{-0.5, -1.5, -3, -4, -5, -6, -7, -8, -9, -10, -11, -12.5, -13  .5, -14.5, -15.5};//{-6, -8, -15, -100};
-            double[] localSearchPropList = {0.00};//{0.02, 0.03, 0.04, 0.05};//{0.001};//{0.001, 0.005, 0.01, 0.03, 0.06, 0.1};//{0.0, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};//
-            double[] knapLocalSearchArchivePropList = {0.0};//{1.0, 0.0};//{0.001};//{0.0, 0.1, 0.3, 0.6, 1.0};//
-            double[] tspLocalSearchArchivePropList = {0.0};//{1.0, 0.0};//{0.0, 0.1, 0.3, 0.6, 1.0};//
-            /*if negative, no decay will be applied!*/ int[] minTournamentSizeList = new int[] {-666};//{-666};//{15};//{30, 40, 50, 60, 70};
-            IndividualsPairingMethod[] individualsPairingMethodsList = new IndividualsPairingMethod[]{IndividualsPairingMethod.DISTANT_IMMEDIATE_NEIGHBOUR_PAIR_SIMPLIFIED};//, IndividualsPairingMethod.ALL_POSSIBLE_PAIRS, IndividualsPairingMethod.DISTANT_IMMEDIATE_NEIGHBOUR_PAIR, IndividualsPairingMethod.CROSS_CLUSTER_ALL_POSSIBLE_PAIRS};//ALL_POSSIBLE_PAIRS CROSS_CLUSTER_ALL_POSSIBLE_PAIRS DISTANT_IMMEDIATE_NEIGHBOUR_PAIR DISTANT_IMMEDIATE_NEIGHBOUR_PAIR_SIMPLIFIED
-            double[] minMaArchChangesThresholdList = {10};//{2, 5, 10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60, 65, 70, 75, 80, 85, 90, 95, 100}; //{/*0, 10,*/ 20, 50, 100, 150, 200, 250};//{-666.0};//{290};
-            double[] maxMaArchChangesThresholdList = {325};//{20, 30, 40, 50, 60, 70, 80, 90, 100, 110, 120, 130, 140, 150, 160, 170, 180, 190, 200, 210, 220, 230, 240, 250, 260, 270, 280, 290, 300, 310, 320, 330, 340, 350, 360, 370, 380, 390, 400}; //{250, 325, 400};//{0, 5, 10, 15, 20, 25, 50, 75, 100, 125, 150, 175, 200, 225, 250, 275, 300, 325, 350, 500};//{Double.MAX_VALUE};//{320};
-            int[] maArchChangesSizeList = {60};//{1, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 25, 30, 35, 40, 45, 50, 55, 60};//{5, 10, 15};
+            int[] generationLimitList = GENERATION_LIMIT_LIST.clone();
+            int[] populationSizeList = POPULATION_SIZE_LIST.clone();
+            double[] TSPmutationProbabilityList = TSP_MUTATION_PROBABILITY_LIST.clone();
+            double[] KNAPmutationProbabilityList = KNAP_MUTATION_PROBABILITY_LIST.clone();
+            double[] TSPcrossoverProbabilityList = TSP_CROSSOVER_PROBABILITY_LIST.clone();
+            double[] KNAPcrossoverProbabilityList = KNAP_CROSSOVER_PROBABILITY_LIST.clone();
+            int[] numberOfClusterList = NUMBER_OF_CLUSTER_LIST.clone();
+            int[] clusterisationAlgorithmIterList = CLUSTERISATION_ALGORITHM_ITER_LIST.clone();
+            int[] clusteringRunFrequencyInCostList = CLUSTERING_RUN_FREQUENCY_IN_COST_LIST.clone();
+            boolean[] isRecalculateCentresList = IS_RECALCULATE_CENTRES_LIST.clone();
+            boolean[] isClusteringEveryXCostList = IS_CLUSTERING_EVERY_X_COST_LIST.clone();
+            boolean[] isPopulationUsedList = IS_POPULATION_USED_LIST.clone();
+            double[] edgeClustersDispersion = EDGE_CLUSTERS_DISPERSION.clone();
+            int[] tournamentSizeList = TOURNAMENT_SIZE_LIST.clone();
+            int[] populationTurPropList = POPULATION_TUR_PROP_LIST.clone();
+            int[] KNAPmutationVersionList = KNAP_MUTATION_VERSION_LIST.clone();
+            int[] KNAPcrossoverVersionList = KNAP_CROSSOVER_VERSION_LIST.clone();
+            int[] TSPmutationVersionList = TSP_MUTATION_VERSION_LIST.clone();
+            int[] TSPcrossoverVersionList = TSP_CROSSOVER_VERSION_LIST.clone();
+            int[] indExclusionUsageLimitList = IND_EXCLUSION_USAGE_LIMIT_LIST.clone();
+            int[] indExclusionGenDurationList = IND_EXCLUSION_GEN_DURATION_LIST.clone();
+            double[] turDecayParamList = TUR_DECAY_PARAM_LIST.clone();
+            double[] localSearchPropList = LOCAL_SEARCH_PROP_LIST.clone();
+            double[] knapLocalSearchArchivePropList = KNAP_LOCAL_SEARCH_ARCHIVE_PROP_LIST.clone();
+            double[] tspLocalSearchArchivePropList = TSP_LOCAL_SEARCH_ARCHIVE_PROP_LIST.clone();
+            int[] minTournamentSizeList = MIN_TOURNAMENT_SIZE_LIST.clone();
+            IndividualsPairingMethod[] individualsPairingMethodsList = INDIVIDUALS_PAIRING_METHODS_LIST.clone();
+            double[] minMaArchChangesThresholdList = MIN_MA_ARCH_CHANGES_THRESHOLD_LIST.clone();
+            double[] maxMaArchChangesThresholdList = MAX_MA_ARCH_CHANGES_THRESHOLD_LIST.clone();
+            int[] maArchChangesSizeList = MA_ARCH_CHANGES_SIZE_LIST.clone();
 
             boolean shuffleParams = false;
             FILE_OUTPUT_LEVEL saveResultFiles = FILE_OUTPUT_LEVEL.MINIMAL;//FILE_OUTPUT_LEVEL.NONE FILE_OUTPUT_LEVEL.ALL FILE_OUTPUT_LEVEL.MINIMAL FILE_OUTPUT_LEVEL.REASONABLE;
@@ -215,6 +261,8 @@ public class CGATTPRunner {
                 e.printStackTrace();
             }
 
+            // every repeat gets its own parameters, operators and CGA instance, so repeats can run in parallel
+            ExperimentScheduler<CGARepeatResult> scheduler = new ExperimentScheduler<>(NUMBER_OF_THREADS, masterSeed);
             int paramCounter = 0;
             for(int wmNum = 0; wmNum < clusterWeightMeasureList.length; wmNum++) {
                 QualityMeasure clusterWeightMeasure = clusterWeightMeasureList[wmNum];
@@ -282,22 +330,12 @@ public class CGATTPRunner {
                                                                                                                                     for (int zz = 0; zz < maArchChangesSizeList.length; zz++) {
                                                                                                                                         int maArchChangesSize = maArchChangesSizeList[zz];
 
-                                                                                                                                        var eachRepeatHV = new ArrayList<Double>();
-                                                                                                                                        var eachRepeatND = new ArrayList<Integer>();
-                                                                                                                                        var eachRepeatOptimisationResult = new ArrayList<OptimisationResult>();
-                                                                                                                                        var eachRepeatResult = new ArrayList<List<BaseIndividual<Integer, TTP>>>();
-                                                                                                                                        var eachRepeatIGD = new ArrayList<Double>();
-                                                                                                                                        var eachRepeatGD = new ArrayList<Double>();
-                                                                                                                                        var eachRepeatPurity = new ArrayList<Double>();
-                                                                                                                                        List<Integer> eachRepeatNumberOfExtraPopulationTriggered = new ArrayList<>();
                                                                                                                                         paramCounter += 1;
+                                                                                                                                        int configurationCounter = paramCounter;
 
                                                                                                                                         int maxAdditionalPopulationSize = populationSize / 2;
                                                                                                                                         int minAdditionalPopulationSize = populationSize / 10;
 
-                                                                                                                                        List<BaseIndividual<Integer, TTP>> bestAPF = null;
-                                                                                                                                        double bestAPFHV = -Double.MIN_VALUE;
-
                                                                                                                                         String outputFilename = "." + File.separator + "out" + File.separator
                                                                                                                                                 + removePrefixAndTtpPostFixFromFileName(problemPath, instanceWithOPF.get(k).getKey())
                                                                                                                                                 + "_m-" + clusterWeightMeasure.getName()
@@ -314,8 +352,6 @@ public class CGATTPRunner {
                                                                                                                                                 + "_lt" + tspLocalSearchArchiveProp + "_lk" + knapLocalSearchArchiveProp + "_ls" + localSearchProp
                                                                                                                                                 + "_ma" + minMaArchChangesThreshold + "_" + maxMaArchChangesThreshold + "_" + maArchChangesSize;
 
-                                                                                                                                        String bestAPFoutputFile = "bestAPF";
-                                                                                                                                        int bestIterNumber = 0;
 //                                                                                        if(saveResultFiles) {
                                                                                                                                         File theDir = new File(outputFilename);
                                                                                                                                         if (!theDir.exists()) {
@@ -323,65 +359,78 @@ public class CGATTPRunner {
                                                                                                                                         }
 //                                                                                        }
 
-                                                                                                                                        List<BaseIndividual<Integer, TTP>> uberPareto = new ArrayList<>();
-                                                                                                                                        List<BaseIndividual<Integer, TTP>> optimalApfWithUberPareto = new ArrayList<>();
-                                                                                                                                        CGA<TTP> geneticAlgorithm = null;
-                                                                                                                                        for (int xxx = 0; xxx < NUMBER_OF_REPEATS; xxx++) {
-                                                                                                                                            parameters.KNAPmutationVersion = KNAPmutationVersion;
-                                                                                                                                            parameters.KNAPcrossoverVersion = KNAPcrossoverVersion;
-                                                                                                                                            parameters.TSPmutationVersion = TSPmutationVersion;
-                                                                                                                                            parameters.TSPcrossoverVersion = TSPcrossoverVersion;
-                                                                                                                                            HVMany hv = new HVMany(parameters.evaluator.getNadirPoint());
-                                                                                                                                            geneticAlgorithm = new CGA<>(
-                                                                                                                                                    ttp,
-                                                                                                                                                    clusterWeightMeasure,
-                                                                                                                                                    populationSize,
-                                                                                                                                                    generationLimit,
-                                                                                                                                                    parameters,
-                                                                                                                                                    TSPmutationProbability,
-                                                                                                                                                    KNAPmutationProbability,
-                                                                                                                                                    TSPcrossoverProbability,
-                                                                                                                                                    KNAPcrossoverProbability,
-                                                                                                                                                    instanceWithOPF.get(k).getKey().split("\\.")[0],
-                                                                                                                                                    numberOfClusters,
-                                                                                                                                                    clusterIterLimit,
-                                                                                                                                                    edgeClustersDispVal,
-                                                                                                                                                    tournamentSize,
-                                                                                                                                                    maxAdditionalPopulationSize,
-                                                                                                                                                    minAdditionalPopulationSize,
-                                                                                                                                                    populationTurProp,
-                                                                                                                                                    -666,
-                                                                                                                                                    true,
-                                                                                                                                                    hv,
-                                                                                                                                                    optimalParetoFront,
-                                                                                                                                                    outputFilename,
-                                                                                                                                                    saveResultFiles,
-                                                                                                                                                    xxx,
-                                                                                                                                                    indExclusionUsageLimit,
-                                                                                                                                                    indExclusionGenDuration,
-                                                                                                                                                    turDecayParam,
-                                                                                                                                                    minTournamentSize,
-                                                                                                                                                    indPairingMethod,
-                                                                                                                                                    clusteringRunFrequencyInCost,
-                                                                                                                                                    isClusteringEveryXCost,
-                                                                                                                                                    isRecalculateCentres,
-                                                                                                                                                    isPopulationUsed,
-                                                                                                                                                    tspLocalSearchArchiveProp,
-                                                                                                                                                    knapLocalSearchArchiveProp,
-                                                                                                                                                    localSearchProp,
-                                                                                                                                                    minMaArchChangesThreshold,
-                                                                                                                                                    maxMaArchChangesThreshold,
-                                                                                                                                                    maArchChangesSize
-                                                                                                                                            );
-
-                                                                                                                                            var result = geneticAlgorithm.optimize();
-                                                                                                                                            eachRepeatNumberOfExtraPopulationTriggered.add(geneticAlgorithm.getNumberOfExtraPopulationTriggered());
-                                                                                                                                            geneticAlgorithm.removeDuplicatesAndDominated(result, uberPareto);
-//                    uberPareto = geneticAlgorithm.getNondominatedFromTwoLists(result, uberPareto);
-                                                                                                                                            //            printResults(result);
-
-                                                                                                                                            eachRepeatOptimisationResult.add(geneticAlgorithm.getOptimisationResult());
-                                                                                                                                            eachRepeatResult.add(result);
+                                                                                                                                        scheduler.submit(NUMBER_OF_REPEATS, (xxx, seed) -> {
+                                                                                                                                            // islands split the budget of the repeat, a single island is the plain CGA
+                                                                                                                                            IntFunction<CGA<TTP>> islandFactory = island -> {
+                                                                                                                                                ParameterSet<Integer, TTP> repeatParameters = setParameters(ttp, seed + island);
+                                                                                                                                                repeatParameters.KNAPmutationVersion = KNAPmutationVersion;
+                                                                                                                                                repeatParameters.KNAPcrossoverVersion = KNAPcrossoverVersion;
+                                                                                                                                                repeatParameters.TSPmutationVersion = TSPmutationVersion;
+                                                                                                                                                repeatParameters.TSPcrossoverVersion = TSPcrossoverVersion;
+                                                                                                                                                HVMany hv = new HVMany(repeatParameters.evaluator.getNadirPoint());
+                                                                                                                                                CGA<TTP> geneticAlgorithm = new CGA<>(
+                                                                                                                                                        ttp,
+                                                                                                                                                        clusterWeightMeasure,
+                                                                                                                                                        populationSize,
+                                                                                                                                                        generationLimit / NUMBER_OF_ISLANDS,
+                                                                                                                                                        repeatParameters,
+                                                                                                                                                        TSPmutationProbability,
+                                                                                                                                                        KNAPmutationProbability,
+                                                                                                                                                        TSPcrossoverProbability,
+                                                                                                                                                        KNAPcrossoverProbability,
+                                                                                                                                                        instanceDirectory,
+                                                                                                                                                        numberOfClusters,
+                                                                                                                                                        clusterIterLimit,
+                                                                                                                                                        edgeClustersDispVal,
+                                                                                                                                                        tournamentSize,
+                                                                                                                                                        maxAdditionalPopulationSize,
+                                                                                                                                                        minAdditionalPopulationSize,
+                                                                                                                                                        populationTurProp,
+                                                                                                                                                        -666,
+                                                                                                                                                        true,
+                                                                                                                                                        hv,
+                                                                                                                                                        optimalParetoFront,
+                                                                                                                                                        outputFilename,
+                                                                                                                                                        saveResultFiles,
+                                                                                                                                                        xxx * NUMBER_OF_ISLANDS + island,
+                                                                                                                                                        indExclusionUsageLimit,
+                                                                                                                                                        indExclusionGenDuration,
+                                                                                                                                                        turDecayParam,
+                                                                                                                                                        minTournamentSize,
+                                                                                                                                                        indPairingMethod,
+                                                                                                                                                        clusteringRunFrequencyInCost,
+                                                                                                                                                        isClusteringEveryXCost,
+                                                                                                                                                        isRecalculateCentres,
+                                                                                                                                                        isPopulationUsed,
+                                                                                                                                                        tspLocalSearchArchiveProp,
+                                                                                                                                                        knapLocalSearchArchiveProp,
+                                                                                                                                                        localSearchProp,
+                                                                                                                                                        minMaArchChangesThreshold,
+                                                                                                                                                        maxMaArchChangesThreshold,
+                                                                                                                                                        maArchChangesSize
+                                                                                                                                                );
+
+                                                                                                                                                return geneticAlgorithm;
+                                                                                                                                            };
+
+                                                                                                                                            List<CGA<TTP>> islands;
+                                                                                                                                            List<BaseIndividual<Integer, TTP>> result;
+                                                                                                                                            if (NUMBER_OF_ISLANDS == 1) {
+                                                                                                                                                CGA<TTP> geneticAlgorithm = islandFactory.apply(0);
+                                                                                                                                                result = geneticAlgorithm.optimize();
+                                                                                                                                                islands = List.of(geneticAlgorithm);
+                                                                                                                                            } else {
+                                                                                                                                                IslandModel<TTP, CGA<TTP>> islandModel = new IslandModel<>(NUMBER_OF_ISLANDS, MIGRATION_TOPOLOGY,
+                                                                                                                                                        MIGRATION_INTERVAL, MIGRATION_SIZE, islandFactory);
+                                                                                                                                                result = islandModel.optimize();
+                                                                                                                                                islands = islandModel.getIslands();
+                                                                                                                                            }
+                                                                                                                                            OptimisationResult optimisationResult = new OptimisationResult();
+                                                                                                                                            int numberOfExtraPopulationTriggered = 0;
+                                                                                                                                            for (CGA<TTP> island : islands) {
+                                                                                                                                                optimisationResult.add(island.getOptimisationResult());
+                                                                                                                                                numberOfExtraPopulationTriggered += island.getNumberOfExtraPopulationTriggered();
+                                                                                                                                            }
 
                                                                                                                                             String instanceNameForFile = removePrefixAndTtpPostFixFromFileName(problemPath, instanceName);
                                                                                                                                             if (saveResultFiles.getLevel() >= 1) {
@@ -397,217 +446,240 @@ public class CGATTPRunner {
                                                                                                                                             }
 
                                                                                                                                             System.out.print(xxx + ", ");
-                                                                                                                                        }
-                                                                                                                                        System.out.println("");
+                                                                                                                                            return new CGARepeatResult(result, optimisationResult, numberOfExtraPopulationTriggered);
+                                                                                                                                        }, repeatResults -> {
+                                                                                                                                            var eachRepeatHV = new ArrayList<Double>();
+                                                                                                                                            var eachRepeatND = new ArrayList<Integer>();
+                                                                                                                                            var eachRepeatOptimisationResult = new ArrayList<OptimisationResult>();
+                                                                                                                                            var eachRepeatResult = new ArrayList<List<BaseIndividual<Integer, TTP>>>();
+                                                                                                                                            var eachRepeatIGD = new ArrayList<Double>();
+                                                                                                                                            var eachRepeatGD = new ArrayList<Double>();
+                                                                                                                                            var eachRepeatPurity = new ArrayList<Double>();
+                                                                                                                                            List<Integer> eachRepeatNumberOfExtraPopulationTriggered = new ArrayList<>();
+                                                                                                                                            List<BaseIndividual<Integer, TTP>> bestAPF = null;
+                                                                                                                                            double bestAPFHV = -Double.MIN_VALUE;
+                                                                                                                                            String bestAPFoutputFile = "bestAPF";
+                                                                                                                                            int bestIterNumber = 0;
+                                                                                                                                            List<BaseIndividual<Integer, TTP>> uberPareto = new ArrayList<>();
+                                                                                                                                            List<BaseIndividual<Integer, TTP>> optimalApfWithUberPareto = new ArrayList<>();
+                                                                                                                                            EvolutionaryAlgorithm<Integer, TTP> frontMerger = new EvolutionaryAlgorithm<>();
+                                                                                                                                            for (CGARepeatResult repeatResult : repeatResults) {
+                                                                                                                                                eachRepeatNumberOfExtraPopulationTriggered.add(repeatResult.getNumberOfExtraPopulationTriggered());
+                                                                                                                                                frontMerger.removeDuplicatesAndDominated(repeatResult.getResult(), uberPareto);
+                                                                                                                                                eachRepeatOptimisationResult.add(repeatResult.getOptimisationResult());
+                                                                                                                                                eachRepeatResult.add(repeatResult.getResult());
+                                                                                                                                            }
+                                                                                                                                            System.out.println("");
 
-                                                                                                                                        optimalApfWithUberPareto = new ArrayList<>(optimalParetoFront);
-                                                                                                                                        geneticAlgorithm.removeDuplicatesAndDominated(uberPareto, optimalApfWithUberPareto);
+                                                                                                                                            optimalApfWithUberPareto = new ArrayList<>(optimalParetoFront);
+                                                                                                                                            frontMerger.removeDuplicatesAndDominated(uberPareto, optimalApfWithUberPareto);
 
-                                                                                                                                        int mnd = geneticAlgorithm.getNumberOfNotDominated(uberPareto, optimalApfWithUberPareto);
+                                                                                                                                            int mnd = getNumberOfNotDominated(uberPareto, optimalApfWithUberPareto);
 
-                                                                                                                                        Pair<Pair<List<BaseIndividual<Integer, TTP>>, List<BaseIndividual<Integer, TTP>>>
-                                                                                                                                                , ArrayList<List<BaseIndividual<Integer, TTP>>>> normalisedApfAndResults
-                                                                                                                                                = normaliseParetoFrontsByMinMax(optimalApfWithUberPareto, uberPareto, eachRepeatResult, ttp,
-                                                                                                                                                parameters.evaluator);
-                                                                                                                                        List<BaseIndividual<Integer, TTP>> normalisedOptimalPftWithUberPareto = normalisedApfAndResults.getKey().getKey();
-                                                                                                                                        List<BaseIndividual<Integer, TTP>> normalisedUberPareto = normalisedApfAndResults.getKey().getValue();
-                                                                                                                                        ArrayList<List<BaseIndividual<Integer, TTP>>> normalisedResults = normalisedApfAndResults.getValue();
+                                                                                                                                            Pair<Pair<List<BaseIndividual<Integer, TTP>>, List<BaseIndividual<Integer, TTP>>>
+                                                                                                                                                    , ArrayList<List<BaseIndividual<Integer, TTP>>>> normalisedApfAndResults
+                                                                                                                                                    = normaliseParetoFrontsByMinMax(optimalApfWithUberPareto, uberPareto, eachRepeatResult, ttp,
+                                                                                                                                                    parameters.evaluator);
+                                                                                                                                            List<BaseIndividual<Integer, TTP>> normalisedOptimalPftWithUberPareto = normalisedApfAndResults.getKey().getKey();
+                                                                                                                                            List<BaseIndividual<Integer, TTP>> normalisedUberPareto = normalisedApfAndResults.getKey().getValue();
+                                                                                                                                            ArrayList<List<BaseIndividual<Integer, TTP>>> normalisedResults = normalisedApfAndResults.getValue();
 
 //                        optimalApfWithUberPareto = geneticAlgorithm.getNondominatedFromTwoLists(optimalParetoFront, uberPareto);
-                                                                                                                                        InvertedGenerationalDistance igdCalculator = new InvertedGenerationalDistance(normalisedOptimalPftWithUberPareto);
-                                                                                                                                        GenerationalDistance gdCalculator = new GenerationalDistance(normalisedOptimalPftWithUberPareto);
-                                                                                                                                        Purity purityCalculator = new Purity(normalisedOptimalPftWithUberPareto);
-
-                                                                                                                                        BaseIndividual<Integer, TTP> normalisedHvNadirPoint = new BaseIndividual<>(ttp, new ArrayList<>(), parameters.evaluator);
-                                                                                                                                        normalisedHvNadirPoint.setObjectives(new double[]{1.0, 1.0});
-                                                                                                                                        normalisedHvNadirPoint.setNormalObjectives(new double[]{1.0, 1.0});
-                                                                                                                                        normalisedHvNadirPoint.setHashCode();
-                                                                                                                                        HVMany hvCalculator = new HVMany(normalisedHvNadirPoint);
-
-                                                                                                                                        for (int yyy = 0; yyy < normalisedResults.size(); yyy++) {
-                                                                                                                                            var normRes = normalisedResults.get(yyy);
-                                                                                                                                            var result = eachRepeatResult.get(yyy);
-
-                                                                                                                                            var hvValue = hvCalculator.getMeasure(normRes);
-                                                                                                                                            eachRepeatHV.add(hvValue);
-                                                                                                                                            eachRepeatND.add(result.size());
-
-                                                                                                                                            if (hvValue > bestAPFHV) {
-                                                                                                                                                bestAPFHV = hvValue;
-                                                                                                                                                bestAPF = result;
-                                                                                                                                                bestIterNumber = yyy;
-                                                                                                                                            }
-
-                                                                                                                                            var igdValue = igdCalculator.getMeasure(normRes);
-                                                                                                                                            eachRepeatIGD.add(igdValue);
+                                                                                                                                            InvertedGenerationalDistance igdCalculator = new InvertedGenerationalDistance(normalisedOptimalPftWithUberPareto);
+                                                                                                                                            GenerationalDistance gdCalculator = new GenerationalDistance(normalisedOptimalPftWithUberPareto);
+                                                                                                                                            Purity purityCalculator = new Purity(normalisedOptimalPftWithUberPareto);
+
+                                                                                                                                            BaseIndividual<Integer, TTP> normalisedHvNadirPoint = new BaseIndividual<>(ttp, new ArrayList<>(), parameters.evaluator);
+                                                                                                                                            normalisedHvNadirPoint.setObjectives(new double[]{1.0, 1.0});
+                                                                                                                                            normalisedHvNadirPoint.setNormalObjectives(new double[]{1.0, 1.0});
+                                                                                                                                            normalisedHvNadirPoint.setHashCode();
+                                                                                                                                            HVMany hvCalculator = new HVMany(normalisedHvNadirPoint);
+
+                                                                                                                                            for (int yyy = 0; yyy < normalisedResults.size(); yyy++) {
+                                                                                                                                                var normRes = normalisedResults.get(yyy);
+                                                                                                                                                var result = eachRepeatResult.get(yyy);
+
+                                                                                                                                                var hvValue = hvCalculator.getMeasure(normRes);
+                                                                                                                                                eachRepeatHV.add(hvValue);
+                                                                                                                                                eachRepeatND.add(result.size());
+
+                                                                                                                                                if (hvValue > bestAPFHV) {
+                                                                                                                                                    bestAPFHV = hvValue;
+                                                                                                                                                    bestAPF = result;
+                                                                                                                                                    bestIterNumber = yyy;
+                                                                                                                                                }
 
-                                                                                                                                            var gdValue = gdCalculator.getMeasure(normRes);
-                                                                                                                                            eachRepeatGD.add(gdValue);
+                                                                                                                                                var igdValue = igdCalculator.getMeasure(normRes);
+                                                                                                                                                eachRepeatIGD.add(igdValue);
 
-                                                                                                                                            var purityValue = purityCalculator.getMeasure(normRes);
-                                                                                                                                            eachRepeatPurity.add(purityValue);
-                                                                                                                                        }
+                                                                                                                                                var gdValue = gdCalculator.getMeasure(normRes);
+                                                                                                                                                eachRepeatGD.add(gdValue);
 
-                                                                                                                                        String instanceNameForFile = removePrefixAndTtpPostFixFromFileName(problemPath, instanceName);
-                                                                                                                                        try {
-                                                                                                                                            BufferedWriter writer = new BufferedWriter(new FileWriter(outputFilename
-                                                                                                                                                    + File.separator + instanceNameForFile + "_UBER_PARETO.csv"));
-                                                                                                                                            writer.write(printParetos("uber", uberPareto, "apf", optimalParetoFront, false));
-                                                                                                                                            writer.close();
-                                                                                                                                        } catch (
-                                                                                                                                                IOException e) {
-                                                                                                                                            e.printStackTrace();
-                                                                                                                                        }
+                                                                                                                                                var purityValue = purityCalculator.getMeasure(normRes);
+                                                                                                                                                eachRepeatPurity.add(purityValue);
+                                                                                                                                            }
 
-                                                                                                                                        if (saveResultFiles.getLevel() > 1) {
+                                                                                                                                            String instanceNameForFile = removePrefixAndTtpPostFixFromFileName(problemPath, instanceName);
                                                                                                                                             try {
-                                                                                                                                                BufferedWriter writer = null;
-
-                                                                                                                                                writer = new BufferedWriter(new FileWriter(outputFilename
-                                                                                                                                                        + File.separator + instanceNameForFile + "_apf.csv"));
-                                                                                                                                                writer.write(printParetos("uber", uberPareto, "uber+apf", optimalApfWithUberPareto, false));
-                                                                                                                                                writer.close();
-
-                                                                                                                                                writer = new BufferedWriter(new FileWriter(outputFilename
-                                                                                                                                                        + File.separator + instanceNameForFile + "_genes_UBER_PARETO.csv"));
-                                                                                                                                                writer.write(printGenes(uberPareto, ttp));
+                                                                                                                                                BufferedWriter writer = new BufferedWriter(new FileWriter(outputFilename
+                                                                                                                                                        + File.separator + instanceNameForFile + "_UBER_PARETO.csv"));
+                                                                                                                                                writer.write(printParetos("uber", uberPareto, "apf", optimalParetoFront, false));
                                                                                                                                                 writer.close();
                                                                                                                                             } catch (
                                                                                                                                                     IOException e) {
                                                                                                                                                 e.printStackTrace();
                                                                                                                                             }
-                                                                                                                                        }
 
-                                                                                                                                        OptionalDouble NDaverage = eachRepeatND
-                                                                                                                                                .stream()
-                                                                                                                                                .mapToDouble(a -> a)
-                                                                                                                                                .average();
-                                                                                                                                        var avgPFS = NDaverage.isPresent() ? NDaverage.getAsDouble() : -666.0;
+                                                                                                                                            if (saveResultFiles.getLevel() > 1) {
+                                                                                                                                                try {
+                                                                                                                                                    BufferedWriter writer = null;
 
-                                                                                                                                        double NDstandardDeviation = 0.0;
-                                                                                                                                        for (double num : eachRepeatND) {
-                                                                                                                                            NDstandardDeviation += Math.pow(num - avgPFS, 2);
-                                                                                                                                        }
-                                                                                                                                        NDstandardDeviation = Math.sqrt(NDstandardDeviation / eachRepeatND.size());
+                                                                                                                                                    writer = new BufferedWriter(new FileWriter(outputFilename
+                                                                                                                                                            + File.separator + instanceNameForFile + "_apf.csv"));
+                                                                                                                                                    writer.write(printParetos("uber", uberPareto, "uber+apf", optimalApfWithUberPareto, false));
+                                                                                                                                                    writer.close();
 
-                                                                                                                                        OptionalDouble average = eachRepeatHV
-                                                                                                                                                .stream()
-                                                                                                                                                .mapToDouble(a -> a)
-                                                                                                                                                .average();
-                                                                                                                                        var avgHV = average.isPresent() ? average.getAsDouble() : -666.0;
+                                                                                                                                                    writer = new BufferedWriter(new FileWriter(outputFilename
+                                                                                                                                                            + File.separator + instanceNameForFile + "_genes_UBER_PARETO.csv"));
+                                                                                                                                                    writer.write(printGenes(uberPareto, ttp));
+                                                                                                                                                    writer.close();
+                                                                                                                                                } catch (
+                                                                                                                                                        IOException e) {
+                                                                                                                                                    e.printStackTrace();
+                                                                                                                                                }
+                                                                                                                                            }
 
-                                                                                                                                        double standardDeviation = 0.0;
-                                                                                                                                        for (double num : eachRepeatHV) {
-                                                                                                                                            standardDeviation += Math.pow(num - avgHV, 2);
-                                                                                                                                        }
+                                                                                                                                            OptionalDouble NDaverage = eachRepeatND
+                                                                                                                                                    .stream()
+                                                                                                                                                    .mapToDouble(a -> a)
+                                                                                                                                                    .average();
+                                                                                                                                            var avgPFS = NDaverage.isPresent() ? NDaverage.getAsDouble() : -666.0;
 
-                                                                                                                                        standardDeviation = Math.sqrt(standardDeviation / eachRepeatHV.size());
+                                                                                                                                            double NDstandardDeviation = 0.0;
+                                                                                                                                            for (double num : eachRepeatND) {
+                                                                                                                                                NDstandardDeviation += Math.pow(num - avgPFS, 2);
+                                                                                                                                            }
+                                                                                                                                            NDstandardDeviation = Math.sqrt(NDstandardDeviation / eachRepeatND.size());
 
-                                                                                                                                        OptionalDouble averageIGD = eachRepeatIGD
-                                                                                                                                                .stream()
-                                                                                                                                                .mapToDouble(a -> a)
-                                                                                                                                                .average();
-                                                                                                                                        var averageIGDVal = averageIGD.isPresent() ? averageIGD.getAsDouble() : -666.0;
-                                                                                                                                        double averageIGDValStdev = 0.0;
-                                                                                                                                        for (double num : eachRepeatIGD) {
-                                                                                                                                            averageIGDValStdev += Math.pow(num - averageIGDVal, 2);
-                                                                                                                                        }
-                                                                                                                                        averageIGDValStdev = Math.sqrt(averageIGDValStdev / eachRepeatIGD.size());
-
-                                                                                                                                        OptionalDouble averageGD = eachRepeatGD
-                                                                                                                                                .stream()
-                                                                                                                                                .mapToDouble(a -> a)
-                                                                                                                                                .average();
-                                                                                                                                        var averageGDVal = averageGD.isPresent() ? averageGD.getAsDouble() : -666.0;
-                                                                                                                                        double averageGDStdev = 0.0;
-                                                                                                                                        for (double num : eachRepeatGD) {
-                                                                                                                                            averageGDStdev += Math.pow(num - averageGDVal, 2);
-                                                                                                                                        }
-                                                                                                                                        averageGDStdev = Math.sqrt(averageGDStdev / eachRepeatGD.size());
-
-                                                                                                                                        OptionalDouble averagePurity = eachRepeatPurity
-                                                                                                                                                .stream()
-                                                                                                                                                .mapToDouble(a -> a)
-                                                                                                                                                .average();
-                                                                                                                                        var averagePurityVal = averagePurity.isPresent() ? averagePurity.getAsDouble() : -666.0;
-                                                                                                                                        double averagePurityStdev = 0.0;
-                                                                                                                                        for (double num : eachRepeatPurity) {
-                                                                                                                                            averagePurityStdev += Math.pow(num - averagePurityVal, 2);
-                                                                                                                                        }
-                                                                                                                                        averagePurityStdev = Math.sqrt(averagePurityStdev / eachRepeatPurity.size());
-                                                                                                                                        long runsWithPurity = eachRepeatPurity.stream().filter(value -> value > 0).count();
-
-                                                                                                                                        OptionalDouble avgEachRepeatNumberOfExtraPopulationTriggered = eachRepeatNumberOfExtraPopulationTriggered
-                                                                                                                                                .stream()
-                                                                                                                                                .mapToDouble(a -> a)
-                                                                                                                                                .average();
-                                                                                                                                        double avgEachRepeatNumberOfExtraPopulationTriggeredVal = avgEachRepeatNumberOfExtraPopulationTriggered.isPresent()?
-                                                                                                                                                avgEachRepeatNumberOfExtraPopulationTriggered.getAsDouble() : -666.0;
-                                                                                                                                        double avgEachRepeatNumberOfExtraPopulationTriggeredStdev = 0.0;
-                                                                                                                                        for(int num: eachRepeatNumberOfExtraPopulationTriggered) {
-                                                                                                                                            avgEachRepeatNumberOfExtraPopulationTriggeredStdev += Math.pow(num - avgEachRepeatNumberOfExtraPopulationTriggeredVal, 2);
-                                                                                                                                        }
-                                                                                                                                        avgEachRepeatNumberOfExtraPopulationTriggeredStdev = Math.sqrt(avgEachRepeatNumberOfExtraPopulationTriggeredStdev /
-                                                                                                                                                eachRepeatNumberOfExtraPopulationTriggered.size());
-
-                                                                                                                                        String runResult = instanceNameForFile + ";" + paramCounter + "/" + numberOfParamConfigs + ";"
-                                                                                                                                                + clusterWeightMeasure.getClass().getName() + ";" + NUMBER_OF_REPEATS
-                                                                                                                                                + ";" + averageIGDVal + ";" + averageIGDValStdev
-                                                                                                                                                + ";" + purityCalculator.getMeasure(normalisedUberPareto)
-                                                                                                                                                + ";" + runsWithPurity
-                                                                                                                                                + ";" + mnd + ";" + optimalApfWithUberPareto.size()
-                                                                                                                                                + ";" + igdCalculator.getMeasure(normalisedUberPareto)
-                                                                                                                                                + ";" + gdCalculator.getMeasure(normalisedUberPareto)
-//                        + ";" + new HVMany(parameters.evaluator.getNadirPoint()).getMeasure(normalisedUberPareto)
-                                                                                                                                                + ";" + hvCalculator.getMeasure(normalisedUberPareto)
-                                                                                                                                                + ";" + normalisedUberPareto.size()
-                                                                                                                                                + ";" + averagePurityVal + ";" + averagePurityStdev
-                                                                                                                                                + ";" + averageGDVal + ";" + averageGDStdev
-                                                                                                                                                + ";" + avgHV + ";" + standardDeviation
-                                                                                                                                                + ";" + avgPFS + ";" + NDstandardDeviation
-                                                                                                                                                + ";" + OptimisationResult.getAvgAfterCrossParentDominationCounter(eachRepeatOptimisationResult)
-                                                                                                                                                + ";" + OptimisationResult.getAvgAfterCrossParentDominationProp(eachRepeatOptimisationResult)
-                                                                                                                                                + ";" + OptimisationResult.getAvgAfterCrossAndMutParentDominationCounter(eachRepeatOptimisationResult)
-                                                                                                                                                + ";" + OptimisationResult.getAvgAfterCrossAndMutParentDominationProp(eachRepeatOptimisationResult)
-                                                                                                                                                + ";" + OptimisationResult.getAvgAfterCrossAfterCrossAndMutDominationCounter(eachRepeatOptimisationResult)
-                                                                                                                                                + ";" + OptimisationResult.getAvgAfterCrossAfterCrossAndMutDominationProp(eachRepeatOptimisationResult)
-                                                                                                                                                + ";" + OptimisationResult.getAvgAfterCrossAndMutAfterCrossDominationCounter(eachRepeatOptimisationResult)
-                                                                                                                                                + ";" + OptimisationResult.getAvgAfterCrossAndMutAfterCrossDominationProp(eachRepeatOptimisationResult)
-                                                                                                                                                + ";" + generationLimit
-                                                                                                                                                + ";" + populationSize + ";" + TSPmutationProbability
-                                                                                                                                                + ";" + KNAPmutationProbability + ";" + TSPcrossoverProbability + ";" + KNAPcrossoverProbability
-                                                                                                                                                + ";" + tspLocalSearchArchiveProp + ";" + knapLocalSearchArchiveProp + ";" + localSearchProp
-                                                                                                                                                + ";" + numberOfClusters + ";" + clusterIterLimit + ";" + isClusteringEveryXCost + ";" + isRecalculateCentres
-                                                                                                                                                + ";" + clusteringRunFrequencyInCost + ";" + isPopulationUsed + ";" + edgeClustersDispVal + ";" + tournamentSize
-                                                                                                                                                + ";" + populationTurProp + ";" + KNAPmutationVersion + ";" + KNAPcrossoverVersion + ";" + TSPmutationVersion
-                                                                                                                                                + ";" + TSPcrossoverVersion + ";" + minMaArchChangesThreshold + ";" + maxMaArchChangesThreshold + ";" + maArchChangesSize
-                                                                                                                                                + ";" + avgEachRepeatNumberOfExtraPopulationTriggeredVal
-                                                                                                                                                + ";" + avgEachRepeatNumberOfExtraPopulationTriggeredStdev
-                                                                                                                                                + ";" + indExclusionUsageLimit + ";" + indExclusionGenDuration
-                                                                                                                                                + ";" + turDecayParam + ";" + minTournamentSize + ";" + indPairingMethod;
-                                                                                                                                        System.out.println(runResult);
-                                                                                                                                        try {
-                                                                                                                                            FileWriter fw = new FileWriter(baseDir + summaryOutputFileName, true);
-                                                                                                                                            BufferedWriter bw = new BufferedWriter(fw);
-                                                                                                                                            bw.write(runResult);
-                                                                                                                                            bw.newLine();
-                                                                                                                                            bw.close();
-                                                                                                                                        } catch (
-                                                                                                                                                IOException e) {
-                                                                                                                                            e.printStackTrace();
-                                                                                                                                        }
+                                                                                                                                            OptionalDouble average = eachRepeatHV
+                                                                                                                                                    .stream()
+                                                                                                                                                    .mapToDouble(a -> a)
+                                                                                                                                                    .average();
+                                                                                                                                            var avgHV = average.isPresent() ? average.getAsDouble() : -666.0;
 
-                                                                                                                                        if (saveResultFiles.getLevel() > 1) {
+                                                                                                                                            double standardDeviation = 0.0;
+                                                                                                                                            for (double num : eachRepeatHV) {
+                                                                                                                                                standardDeviation += Math.pow(num - avgHV, 2);
+                                                                                                                                            }
+
+                                                                                                                                            standardDeviation = Math.sqrt(standardDeviation / eachRepeatHV.size());
+
+                                                                                                                                            OptionalDouble averageIGD = eachRepeatIGD
+                                                                                                                                                    .stream()
+                                                                                                                                                    .mapToDouble(a -> a)
+                                                                                                                                                    .average();
+                                                                                                                                            var averageIGDVal = averageIGD.isPresent() ? averageIGD.getAsDouble() : -666.0;
+                                                                                                                                            double averageIGDValStdev = 0.0;
+                                                                                                                                            for (double num : eachRepeatIGD) {
+                                                                                                                                                averageIGDValStdev += Math.pow(num - averageIGDVal, 2);
+                                                                                                                                            }
+                                                                                                                                            averageIGDValStdev = Math.sqrt(averageIGDValStdev / eachRepeatIGD.size());
+
+                                                                                                                                            OptionalDouble averageGD = eachRepeatGD
+                                                                                                                                                    .stream()
+                                                                                                                                                    .mapToDouble(a -> a)
+                                                                                                                                                    .average();
+                                                                                                                                            var averageGDVal = averageGD.isPresent() ? averageGD.getAsDouble() : -666.0;
+                                                                                                                                            double averageGDStdev = 0.0;
+                                                                                                                                            for (double num : eachRepeatGD) {
+                                                                                                                                                averageGDStdev += Math.pow(num - averageGDVal, 2);
+                                                                                                                                            }
+                                                                                                                                            averageGDStdev = Math.sqrt(averageGDStdev / eachRepeatGD.size());
+
+                                                                                                                                            OptionalDouble averagePurity = eachRepeatPurity
+                                                                                                                                                    .stream()
+                                                                                                                                                    .mapToDouble(a -> a)
+                                                                                                                                                    .average();
+                                                                                                                                            var averagePurityVal = averagePurity.isPresent() ? averagePurity.getAsDouble() : -666.0;
+                                                                                                                                            double averagePurityStdev = 0.0;
+                                                                                                                                            for (double num : eachRepeatPurity) {
+                                                                                                                                                averagePurityStdev += Math.pow(num - averagePurityVal, 2);
+                                                                                                                                            }
+                                                                                                                                            averagePurityStdev = Math.sqrt(averagePurityStdev / eachRepeatPurity.size());
+                                                                                                                                            long runsWithPurity = eachRepeatPurity.stream().filter(value -> value > 0).count();
+
+                                                                                                                                            OptionalDouble avgEachRepeatNumberOfExtraPopulationTriggered = eachRepeatNumberOfExtraPopulationTriggered
+                                                                                                                                                    .stream()
+                                                                                                                                                    .mapToDouble(a -> a)
+                                                                                                                                                    .average();
+                                                                                                                                            double avgEachRepeatNumberOfExtraPopulationTriggeredVal = avgEachRepeatNumberOfExtraPopulationTriggered.isPresent()?
+                                                                                                                                                    avgEachRepeatNumberOfExtraPopulationTriggered.getAsDouble() : -666.0;
+                                                                                                                                            double avgEachRepeatNumberOfExtraPopulationTriggeredStdev = 0.0;
+                                                                                                                                            for(int num: eachRepeatNumberOfExtraPopulationTriggered) {
+                                                                                                                                                avgEachRepeatNumberOfExtraPopulationTriggeredStdev += Math.pow(num - avgEachRepeatNumberOfExtraPopulationTriggeredVal, 2);
+                                                                                                                                            }
+                                                                                                                                            avgEachRepeatNumberOfExtraPopulationTriggeredStdev = Math.sqrt(avgEachRepeatNumberOfExtraPopulationTriggeredStdev /
+                                                                                                                                                    eachRepeatNumberOfExtraPopulationTriggered.size());
+
+                                                                                                                                            String runResult = instanceNameForFile + ";" + configurationCounter + "/" + numberOfParamConfigs + ";"
+                                                                                                                                                    + clusterWeightMeasure.getClass().getName() + ";" + NUMBER_OF_REPEATS
+                                                                                                                                                    + ";" + averageIGDVal + ";" + averageIGDValStdev
+                                                                                                                                                    + ";" + purityCalculator.getMeasure(normalisedUberPareto)
+                                                                                                                                                    + ";" + runsWithPurity
+                                                                                                                                                    + ";" + mnd + ";" + optimalApfWithUberPareto.size()
+                                                                                                                                                    + ";" + igdCalculator.getMeasure(normalisedUberPareto)
+                                                                                                                                                    + ";" + gdCalculator.getMeasure(normalisedUberPareto)
+//                        + ";" + new HVMany(parameters.evaluator.getNadirPoint()).getMeasure(normalisedUberPareto)
+                                                                                                                                                    + ";" + hvCalculator.getMeasure(normalisedUberPareto)
+                                                                                                                                                    + ";" + normalisedUberPareto.size()
+                                                                                                                                                    + ";" + averagePurityVal + ";" + averagePurityStdev
+                                                                                                                                                    + ";" + averageGDVal + ";" + averageGDStdev
+                                                                                                                                                    + ";" + avgHV + ";" + standardDeviation
+                                                                                                                                                    + ";" + avgPFS + ";" + NDstandardDeviation
+                                                                                                                                                    + ";" + OptimisationResult.getAvgAfterCrossParentDominationCounter(eachRepeatOptimisationResult)
+                                                                                                                                                    + ";" + OptimisationResult.getAvgAfterCrossParentDominationProp(eachRepeatOptimisationResult)
+                                                                                                                                                    + ";" + OptimisationResult.getAvgAfterCrossAndMutParentDominationCounter(eachRepeatOptimisationResult)
+                                                                                                                                                    + ";" + OptimisationResult.getAvgAfterCrossAndMutParentDominationProp(eachRepeatOptimisationResult)
+                                                                                                                                                    + ";" + OptimisationResult.getAvgAfterCrossAfterCrossAndMutDominationCounter(eachRepeatOptimisationResult)
+                                                                                                                                                    + ";" + OptimisationResult.getAvgAfterCrossAfterCrossAndMutDominationProp(eachRepeatOptimisationResult)
+                                                                                                                                                    + ";" + OptimisationResult.getAvgAfterCrossAndMutAfterCrossDominationCounter(eachRepeatOptimisationResult)
+                                                                                                                                                    + ";" + OptimisationResult.getAvgAfterCrossAndMutAfterCrossDominationProp(eachRepeatOptimisationResult)
+                                                                                                                                                    + ";" + generationLimit
+                                                                                                                                                    + ";" + populationSize + ";" + TSPmutationProbability
+                                                                                                                                                    + ";" + KNAPmutationProbability + ";" + TSPcrossoverProbability + ";" + KNAPcrossoverProbability
+                                                                                                                                                    + ";" + tspLocalSearchArchiveProp + ";" + knapLocalSearchArchiveProp + ";" + localSearchProp
+                                                                                                                                                    + ";" + numberOfClusters + ";" + clusterIterLimit + ";" + isClusteringEveryXCost + ";" + isRecalculateCentres
+                                                                                                                                                    + ";" + clusteringRunFrequencyInCost + ";" + isPopulationUsed + ";" + edgeClustersDispVal + ";" + tournamentSize
+                                                                                                                                                    + ";" + populationTurProp + ";" + KNAPmutationVersion + ";" + KNAPcrossoverVersion + ";" + TSPmutationVersion
+                                                                                                                                                    + ";" + TSPcrossoverVersion + ";" + minMaArchChangesThreshold + ";" + maxMaArchChangesThreshold + ";" + maArchChangesSize
+                                                                                                                                                    + ";" + avgEachRepeatNumberOfExtraPopulationTriggeredVal
+                                                                                                                                                    + ";" + avgEachRepeatNumberOfExtraPopulationTriggeredStdev
+                                                                                                                                                    + ";" + indExclusionUsageLimit + ";" + indExclusionGenDuration
+                                                                                                                                                    + ";" + turDecayParam + ";" + minTournamentSize + ";" + indPairingMethod;
+                                                                                                                                            System.out.println(runResult);
                                                                                                                                             try {
-                                                                                                                                                BufferedWriter writer = new BufferedWriter(new FileWriter(outputFilename + File.separator
-                                                                                                                                                        + bestAPFoutputFile + bestIterNumber + ".csv"));
-                                                                                                                                                writer.write(printResultsForComparison(bestAPF, false));
-                                                                                                                                                writer.close();
+                                                                                                                                                FileWriter fw = new FileWriter(baseDir + summaryOutputFileName, true);
+                                                                                                                                                BufferedWriter bw = new BufferedWriter(fw);
+                                                                                                                                                bw.write(runResult);
+                                                                                                                                                bw.newLine();
+                                                                                                                                                bw.close();
                                                                                                                                             } catch (
                                                                                                                                                     IOException e) {
                                                                                                                                                 e.printStackTrace();
                                                                                                                                             }
-                                                                                                                                        }
+
+                                                                                                                                            if (saveResultFiles.getLevel() > 1) {
+                                                                                                                                                try {
+                                                                                                                                                    BufferedWriter writer = new BufferedWriter(new FileWriter(outputFilename + File.separator
+                                                                                                                                                            + bestAPFoutputFile + bestIterNumber + ".csv"));
+                                                                                                                                                    writer.write(printResultsForComparison(bestAPF, false));
+                                                                                                                                                    writer.close();
+                                                                                                                                                } catch (
+                                                                                                                                                        IOException e) {
+                                                                                                                                                    e.printStackTrace();
+                                                                                                                                                }
+                                                                                                                                            }
+                                                                                                                                        });
                                                                                                                                     }
                                                                                                                                 }
                                                                                                                             }
@@ -639,10 +711,21 @@ public class CGATTPRunner {
                     }
                 }
             }
+            scheduler.awaitCompletion();
         }
         return null;
     }
 
+    private static int getNumberOfNotDominated(List<BaseIndividual<Integer, TTP>> front, List<BaseIndividual<Integer, TTP>> apf) {
+        int mnd = 0;
+        for (BaseIndividual<Integer, TTP> individual : front) {
+            if (individual.isNotDominatedBy(apf)) {
+                mnd++;
+            }
+        }
+        return mnd;
+    }
+
     private static int[] shuffleIntArray(int[] intArray, RandomBase<Integer> random) {
         for (int i = intArray.length - 1; i > 0; i--) {
             // Generate a random index between 0 and i (inclusive)
@@ -797,7 +880,7 @@ public class CGATTPRunner {
         return normalisedFront;
     }
 
-    private static List<BaseIndividual<Integer, TTP>> readAPF(String apfPath, TTP ttp, BaseEvaluator<Integer, TTP> evaluator) {
+    static List<BaseIndividual<Integer, TTP>> readAPF(String apfPath, TTP ttp, BaseEvaluator<Integer, TTP> evaluator) {
         File file = new File(apfPath);
         System.out.print("File;" + file.getName());
         List<BaseIndividual<Integer, TTP>> front = new ArrayList<>();
@@ -844,23 +927,82 @@ public class CGATTPRunner {
         return ttp;
     }
 
-    private static ParameterSet<Integer, TTP> setParameters(TTP ttp) {
+    static ParameterSet<Integer, TTP> setParameters(TTP ttp, long seed) {
         ParameterSet<Integer, TTP> parameters = new ParameterSet<>();
         parameters.upperBounds = ttp.getUpperBounds();
         parameters.populationMultiplicationFactor = 1;
         parameters.evalRate = 1.0;
         parameters.tournamentSize = 6;
-        parameters.random = new RandomInt(System.currentTimeMillis());
+        parameters.random = new RandomInt(seed);
         parameters.geneSplitPoint = ttp.getSplitPoint();
         parameters.initialPopulation = new InitialPopulationGeneratorFactory(parameters).createInitialPopulation(InitialPopulationType.RANDOM_TTP);
         parameters.selection = new SelectionFactory(parameters).createSelection(SelectionType.NONDOMINATED_SORTING_NO_CROWDING_TOURNAMENT);
         parameters.crossover = new CrossoverFactory().createCrossover(CrossoverType.COMPETITION);
         parameters.mutation = new MutationFactory(parameters).createMutation(MutationType.COMPETITION);
         parameters.evaluator = new EvaluatorFactory().createEvaluator(EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, parameters.evalRate);
+        parameters.evaluationPool = BatchEvaluation.getPool();
         parameters.evaluator.setIndividual(new BaseIndividual<>(ttp, parameters.evaluator));
         return parameters;
     }
 
+    /**
+     * @return values of the grid parameters as text, keyed by the names used by <code>CGAFarmJobRunner</code>
+     */
+    static Map<String, String[]> getGrid() {
+        Map<String, String[]> grid = new LinkedHashMap<>();
+        grid.put("generationLimit", toStrings(GENERATION_LIMIT_LIST));
+        grid.put("populationSize", toStrings(POPULATION_SIZE_LIST));
+        grid.put("TSPmutationProbability", toStrings(TSP_MUTATION_PROBABILITY_LIST));
+        grid.put("KNAPmutationProbability", toStrings(KNAP_MUTATION_PROBABILITY_LIST));
+        grid.put("TSPcrossoverProbability", toStrings(TSP_CROSSOVER_PROBABILITY_LIST));
+        grid.put("KNAPcrossoverProbability", toStrings(KNAP_CROSSOVER_PROBABILITY_LIST));
+        grid.put("numberOfClusters", toStrings(NUMBER_OF_CLUSTER_LIST));
+        grid.put("clusterIterLimit", toStrings(CLUSTERISATION_ALGORITHM_ITER_LIST));
+        grid.put("edgeClustersDispersion", toStrings(EDGE_CLUSTERS_DISPERSION));
+        grid.put("tournamentSize", toStrings(TOURNAMENT_SIZE_LIST));
+        grid.put("populationTurProp", toStrings(POPULATION_TUR_PROP_LIST));
+        grid.put("KNAPmutationVersion", toStrings(KNAP_MUTATION_VERSION_LIST));
+        grid.put("KNAPcrossoverVersion", toStrings(KNAP_CROSSOVER_VERSION_LIST));
+        grid.put("TSPmutationVersion", toStrings(TSP_MUTATION_VERSION_LIST));
+        grid.put("TSPcrossoverVersion", toStrings(TSP_CROSSOVER_VERSION_LIST));
+        grid.put("indExclusionUsageLimit", toStrings(IND_EXCLUSION_USAGE_LIMIT_LIST));
+        grid.put("indExclusionGenDuration", toStrings(IND_EXCLUSION_GEN_DURATION_LIST));
+        grid.put("turDecayParam", toStrings(TUR_DECAY_PARAM_LIST));
+        grid.put("minTournamentSize", toStrings(MIN_TOURNAMENT_SIZE_LIST));
+        grid.put("indPairingMethod", toStrings(INDIVIDUALS_PAIRING_METHODS_LIST));
+        grid.put("clusteringRunFrequencyInCost", toStrings(CLUSTERING_RUN_FREQUENCY_IN_COST_LIST));
+        grid.put("isRecalculateCentres", toStrings(IS_RECALCULATE_CENTRES_LIST));
+        grid.put("isClusteringEveryXCost", toStrings(IS_CLUSTERING_EVERY_X_COST_LIST));
+        grid.put("isPopulationUsed", toStrings(IS_POPULATION_USED_LIST));
+        grid.put("tspLocalSearchArchiveProp", toStrings(TSP_LOCAL_SEARCH_ARCHIVE_PROP_LIST));
+        grid.put("knapLocalSearchArchiveProp", toStrings(KNAP_LOCAL_SEARCH_ARCHIVE_PROP_LIST));
+        grid.put("localSearchProp", toStrings(LOCAL_SEARCH_PROP_LIST));
+        grid.put("minMaArchChangesThreshold", toStrings(MIN_MA_ARCH_CHANGES_THRESHOLD_LIST));
+        grid.put("maxMaArchChangesThreshold", toStrings(MAX_MA_ARCH_CHANGES_THRESHOLD_LIST));
+        grid.put("maArchChangesSize", toStrings(MA_ARCH_CHANGES_SIZE_LIST));
+        return grid;
+    }
+
+    private static String[] toStrings(int[] values) {
+        return Arrays.stream(values).mapToObj(String::valueOf).toArray(String[]::new);
+    }
+
+    private static String[] toStrings(double[] values) {
+        return Arrays.stream(values).mapToObj(String::valueOf).toArray(String[]::new);
+    }
+
+    private static String[] toStrings(boolean[] values) {
+        String[] strings = new String[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            strings[i] = String.valueOf(values[i]);
+        }
+        return strings;
+    }
+
+    private static String[] toStrings(Enum<?>[] values) {
+        return Arrays.stream(values).map(Enum::name).toArray(String[]::new);
+    }
+
     private static String printResultsForComparison(List<BaseIndividual<Integer, TTP>> resultIndividuals, boolean isVerbose) {
         String output = "";
         if(isVerbose) {
@@ -960,4 +1102,32 @@ public class CGATTPRunner {
         }
         return output;
     }
+
+    /**
+     * Outcome of a single CGA repeat, merged per configuration by the scheduler.
+     */
+    private static class CGARepeatResult {
+        private final List<BaseIndividual<Integer, TTP>> result;
+        private final OptimisationResult optimisationResult;
+        private final int numberOfExtraPopulationTriggered;
+
+        CGARepeatResult(List<BaseIndividual<Integer, TTP>> result, OptimisationResult optimisationResult,
+                        int numberOfExtraPopulationTriggered) {
+            this.result = result;
+            this.optimisationResult = optimisationResult;
+            this.numberOfExtraPopulationTriggered = numberOfExtraPopulationTriggered;
+        }
+
+        List<BaseIndividual<Integer, TTP>> getResult() {
+            return result;
+        }
+
+        OptimisationResult getOptimisationResult() {
+            return optimisationResult;
+        }
+
+        int getNumberOfExtraPopulationTriggered() {
+            return numberOfExtraPopulationTriggered;
+        }
+    }
 }
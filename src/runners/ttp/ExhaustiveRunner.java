@@ -3,6 +3,7 @@ package runners.ttp;
 import algorithms.brute_force.TTPExhaustiveSearch;
 import algorithms.evaluation.EvaluatorType;
 import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
 import algorithms.factories.EvaluatorFactory;
 import algorithms.io.TTPIO;
 import algorithms.problem.BaseIndividual;
@@ -31,6 +32,7 @@ public class ExhaustiveRunner {
     ParameterSet<Integer, TTP> parameters = new ParameterSet<>();
     parameters.upperBounds = ttp.getUpperBounds();
     parameters.evaluator = new EvaluatorFactory().createEvaluator(EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, parameters.evalRate);
+    parameters.evaluationPool = BatchEvaluation.getPool();
 
     TTPExhaustiveSearch exhaustiveSearch = new TTPExhaustiveSearch(ttp, parameters);
     List<BaseIndividual<Integer, TTP>> nonDominated = exhaustiveSearch.findNonDominated();
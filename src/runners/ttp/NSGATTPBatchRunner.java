@@ -7,6 +7,7 @@ import algorithms.evolutionary_algorithms.genetic_algorithm.NondominatedSortingG
 import algorithms.evolutionary_algorithms.initial_population.InitialPopulationType;
 import algorithms.evolutionary_algorithms.mutation.MutationType;
 import algorithms.evolutionary_algorithms.selection.SelectionType;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
 import algorithms.factories.*;
 import algorithms.io.TTPIO;
 import algorithms.problem.BaseIndividual;
@@ -44,6 +45,7 @@ public class NSGATTPBatchRunner {
     parameters.crossover = new CrossoverFactory().createCrossover(CrossoverType.COMPETITION);
     parameters.mutation = new MutationFactory(parameters).createMutation(MutationType.COMPETITION);
     parameters.evaluator = new EvaluatorFactory().createEvaluator(EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, parameters.evalRate);
+    parameters.evaluationPool = BatchEvaluation.getPool();
 
     File assets = new File("assets/definitions/TTP/selected");
     File[] files = assets.listFiles();
@@ -0,0 +1,50 @@
+package runners.ttp;
+
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.evolutionary_algorithms.genetic_algorithm.NondominatedTournamentGA;
+import algorithms.io.TTPIO;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.TTP;
+import algorithms.quality_measure.HVMany;
+import runners.farm.FarmJob;
+import runners.farm.FarmJobRunner;
+import runners.farm.FarmResult;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a single repeat of the NTGA grid of <code>NTGATTPBatchRunner</code> on a farm worker.
+ * Parameters missing in the job take the values of the batch runner.
+ */
+public class NTGAFarmJobRunner implements FarmJobRunner {
+
+    @Override
+    public FarmResult run(FarmJob job) throws IOException {
+        TTP ttp = new TTPIO().readDefinition(job.getInstance());
+        if (ttp == null) {
+            throw new IOException("Could not read the Definition " + job.getInstance());
+        }
+        ParameterSet<Integer, TTP> parameters = CGATTPRunner.setParameters(ttp, job.getSeed());
+        parameters.tournamentSize = job.getInt("tournamentSize", NTGATTPBatchRunner.TOURNAMENT_SIZE);
+
+        long start = System.nanoTime();
+        NondominatedTournamentGA<TTP> geneticAlgorithm = new NondominatedTournamentGA<>(ttp,
+                job.getInt("populationSize", NTGATTPBatchRunner.POPULATION_SIZE),
+                job.getInt("generationLimit", NTGATTPBatchRunner.GENERATION_LIMIT),
+                parameters,
+                job.getDouble("mutationProbability", NTGATTPBatchRunner.MUTATION_PROBABILITY),
+                job.getDouble("crossoverProbability", NTGATTPBatchRunner.CROSSOVER_PROBABILITY),
+                job.getDouble("diversityThreshold", NTGATTPBatchRunner.DIVERSITY_THRESHOLD),
+                job.getBoolean("enhanceDiversity", NTGATTPBatchRunner.ENHANCE_DIVERSITY));
+        List<BaseIndividual<Integer, TTP>> front = geneticAlgorithm.optimize();
+
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("hv", new HVMany(parameters.evaluator.getNadirPoint()).getMeasure(front));
+        metrics.put("frontSize", (double) front.size());
+        metrics.put("seconds", (System.nanoTime() - start) / 1e9);
+        return FarmResult.fromFront(job, front, metrics);
+    }
+}
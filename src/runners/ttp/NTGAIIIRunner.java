@@ -7,6 +7,7 @@ import algorithms.evolutionary_algorithms.crossover.CrossoverType;
 import algorithms.evolutionary_algorithms.genetic_algorithm.NTGAIII;
 import algorithms.evolutionary_algorithms.initial_population.InitialPopulationType;
 import algorithms.evolutionary_algorithms.mutation.MutationType;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
 import algorithms.factories.CrossoverFactory;
 import algorithms.factories.EvaluatorFactory;
 import algorithms.factories.InitialPopulationGeneratorFactory;
@@ -61,6 +62,7 @@ public class NTGAIIIRunner {
     parameters.crossover = new CrossoverFactory().createCrossover(CrossoverType.COMPETITION);
     parameters.mutation = new MutationFactory(parameters).createMutation(MutationType.COMPETITION);
     parameters.evaluator = new EvaluatorFactory().createEvaluator(EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, parameters.evalRate);
+    parameters.evaluationPool = BatchEvaluation.getPool();
     parameters.evaluator.setIndividual(new BaseIndividual<>(ttp, parameters.evaluator));
 
     NTGAIII<TTP> geneticAlgorithm = new NTGAIII<>(ttp, populationSize, generationLimit,
@@ -7,6 +7,7 @@ import algorithms.evolutionary_algorithms.genetic_algorithm.NondominatedTourname
 import algorithms.evolutionary_algorithms.initial_population.InitialPopulationType;
 import algorithms.evolutionary_algorithms.mutation.MutationType;
 import algorithms.evolutionary_algorithms.selection.SelectionType;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
 import algorithms.factories.*;
 import algorithms.io.TTPIO;
 import algorithms.problem.BaseIndividual;
@@ -16,13 +17,22 @@ import util.random.RandomInt;
 import java.io.File;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class NTGATTPBatchRunner {
 
   private static final Logger LOGGER = Logger.getLogger( NTGATTPBatchRunner.class.getName() );
+  static final int POPULATION_SIZE = 100;
+  static final int GENERATION_LIMIT = 5000;
+  static final double MUTATION_PROBABILITY = 0.9;
+  static final double CROSSOVER_PROBABILITY = 0.3;
+  static final int TOURNAMENT_SIZE = 6;
+  static final boolean ENHANCE_DIVERSITY = true;
+  static final double DIVERSITY_THRESHOLD = 0.8;
 
   public static void main(String[] args) {
     run();
@@ -39,14 +49,8 @@ public class NTGATTPBatchRunner {
 
     ParameterSet<Integer, TTP> parameters = new ParameterSet<>();
     parameters.populationMultiplicationFactor = 1;
-    int populationSize = 100;
-    int generationLimit = 5000;
-    double mutationProbability = 0.9;
-    double crossoverProbability = 0.3;
     parameters.evalRate = 1.0;
-    parameters.tournamentSize = 6;
-    boolean enhanceDiversity = true;
-    double diversityThreshold = 0.8;
+    parameters.tournamentSize = TOURNAMENT_SIZE;
     parameters.random = new RandomInt(System.currentTimeMillis());
 
     parameters.initialPopulation = new InitialPopulationGeneratorFactory(parameters).createInitialPopulation(InitialPopulationType.RANDOM_TTP);
@@ -54,6 +58,7 @@ public class NTGATTPBatchRunner {
     parameters.crossover = new CrossoverFactory().createCrossover(CrossoverType.COMPETITION);
     parameters.mutation = new MutationFactory(parameters).createMutation(MutationType.COMPETITION);
     parameters.evaluator = new EvaluatorFactory().createEvaluator(EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, parameters.evalRate);
+    parameters.evaluationPool = BatchEvaluation.getPool();
 
     File assets = new File("assets/definitions/TTP/for_khaled");
     File[] files = assets.listFiles();
@@ -83,8 +88,8 @@ public class NTGATTPBatchRunner {
       System.out.println(file);
       for (int i = 0; i < 20; ++i) {
         NondominatedTournamentGA<TTP> geneticAlgorithm = new NondominatedTournamentGA<>(ttp,
-            populationSize, generationLimit, parameters, mutationProbability,
-            crossoverProbability, diversityThreshold, enhanceDiversity);
+            POPULATION_SIZE, GENERATION_LIMIT, parameters, MUTATION_PROBABILITY,
+            CROSSOVER_PROBABILITY, DIVERSITY_THRESHOLD, ENHANCE_DIVERSITY);
         List<BaseIndividual<Integer, TTP>> resultIndividuals = geneticAlgorithm.optimize();
 
         for (BaseIndividual<Integer, TTP> individual : resultIndividuals) {
@@ -102,4 +107,19 @@ public class NTGATTPBatchRunner {
     return null;
   }
 
+  /**
+   * @return parameter values of the runner as text, keyed by the names used by <code>NTGAFarmJobRunner</code>
+   */
+  static Map<String, String[]> getGrid() {
+    Map<String, String[]> grid = new LinkedHashMap<>();
+    grid.put("generationLimit", new String[]{String.valueOf(GENERATION_LIMIT)});
+    grid.put("populationSize", new String[]{String.valueOf(POPULATION_SIZE)});
+    grid.put("mutationProbability", new String[]{String.valueOf(MUTATION_PROBABILITY)});
+    grid.put("crossoverProbability", new String[]{String.valueOf(CROSSOVER_PROBABILITY)});
+    grid.put("tournamentSize", new String[]{String.valueOf(TOURNAMENT_SIZE)});
+    grid.put("diversityThreshold", new String[]{String.valueOf(DIVERSITY_THRESHOLD)});
+    grid.put("enhanceDiversity", new String[]{String.valueOf(ENHANCE_DIVERSITY)});
+    return grid;
+  }
+
 }
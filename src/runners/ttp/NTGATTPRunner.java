@@ -9,6 +9,7 @@ import algorithms.evolutionary_algorithms.genetic_algorithm.NondominatedTourname
 import algorithms.evolutionary_algorithms.initial_population.InitialPopulationType;
 import algorithms.evolutionary_algorithms.mutation.MutationType;
 import algorithms.evolutionary_algorithms.selection.SelectionType;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
 import algorithms.factories.*;
 import algorithms.io.TTPIO;
 import algorithms.problem.BaseIndividual;
@@ -65,6 +66,7 @@ public class NTGATTPRunner {
     parameters.crossover = new CrossoverFactory().createCrossover(CrossoverType.COMPETITION);
     parameters.mutation = new MutationFactory(parameters).createMutation(MutationType.COMPETITION);
     parameters.evaluator = new EvaluatorFactory().createEvaluator(EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, parameters.evalRate);
+    parameters.evaluationPool = BatchEvaluation.getPool();
     parameters.evaluator.setIndividual(new BaseIndividual<>(ttp, parameters.evaluator));
 
     NondominatedTournamentGA<TTP> geneticAlgorithm = new NondominatedTournamentGA<>(ttp,
@@ -0,0 +1,204 @@
+package runners.ttp;
+
+import runners.farm.FarmCoordinator;
+import runners.farm.FarmResult;
+import runners.farm.FarmWorker;
+import runners.farm.SummaryRows;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Runs the TTP grids of <code>CGATTPRunner</code> and <code>NTGATTPBatchRunner</code>
+ * on workers of an evaluation farm. The coordinator submits every configuration of
+ * the grid for every instance and writes the fronts of all repeats and a summary line
+ * per configuration, in the order of the grid. Workers run the jobs. Instance paths
+ * have to be valid on the workers. The coordinator listens on the loopback interface
+ * unless an address is given. Job seeds are derived from the master seed, so a sweep
+ * with the same seed gives the same results. A configuration with a job which failed
+ * in all attempts gets a summary line marked as failed, without averages.
+ *
+ * <pre>
+ * TTPFarmRunner coordinator [address:]port seed CGA|NTGA repeats instance.ttp...
+ * TTPFarmRunner worker host port [name]
+ * </pre>
+ */
+public class TTPFarmRunner {
+    private static final String OUTPUT_DIRECTORY = "." + File.separator + "out" + File.separator + "farm";
+    private static final long LEASE_MILLIS = 60_000;
+    private static final int MAX_ATTEMPTS = 3;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 3 && args[0].equals("worker")) {
+            new FarmWorker(args[1], Integer.parseInt(args[2]),
+                    args.length > 3 ? args[3] : ManagementFactory.getRuntimeMXBean().getName()).run();
+        } else if (args.length >= 6 && args[0].equals("coordinator")) {
+            runCoordinator(args[1], Long.parseLong(args[2]), args[3], Integer.parseInt(args[4]),
+                    Arrays.copyOfRange(args, 5, args.length));
+        } else {
+            System.err.println("Usage: TTPFarmRunner coordinator [address:]port seed CGA|NTGA repeats instance.ttp...");
+            System.err.println("       TTPFarmRunner worker host port [name]");
+            System.exit(1);
+        }
+    }
+
+    private static void runCoordinator(String address, long masterSeed, String algorithm, int numberOfRepeats,
+                                       String[] instances) throws IOException {
+        String runner;
+        Map<String, String[]> grid;
+        if (algorithm.equals("CGA")) {
+            runner = CGAFarmJobRunner.class.getName();
+            grid = CGATTPRunner.getGrid();
+        } else if (algorithm.equals("NTGA")) {
+            runner = NTGAFarmJobRunner.class.getName();
+            grid = NTGATTPBatchRunner.getGrid();
+        } else {
+            throw new IllegalArgumentException("Unknown algorithm " + algorithm);
+        }
+        List<Map<String, String>> configurations = getConfigurations(grid);
+
+        new File(OUTPUT_DIRECTORY).mkdirs();
+        String summaryFile = OUTPUT_DIRECTORY + File.separator + "summary.csv";
+        if (!new File(summaryFile).exists()) {
+            write(summaryFile, "dataset;algorithm;configuration;master seed;no of repeats;avgHV;stdev;avgPFS;stdev;workers\n",
+                    false);
+        }
+
+        int separator = address.lastIndexOf(':');
+        InetAddress bindAddress = separator < 0 ? InetAddress.getLoopbackAddress()
+                : InetAddress.getByName(address.substring(0, separator));
+        FarmCoordinator coordinator = new FarmCoordinator(bindAddress, Integer.parseInt(address.substring(separator + 1)),
+                masterSeed, LEASE_MILLIS, MAX_ATTEMPTS);
+        System.out.println("Coordinator listens on " + bindAddress.getHostAddress() + ":" + coordinator.getPort() + ", "
+                + configurations.size() * instances.length + " configurations, master seed " + masterSeed);
+        SummaryRows summaryRows = new SummaryRows(summaryFile, configurations.size() * instances.length);
+        for (String instance : instances) {
+            String instanceName = new File(instance).getName().replace(".ttp", "");
+            for (Map<String, String> configuration : configurations) {
+                String configurationName = getConfigurationName(configuration, grid);
+                int row = summaryRows.reserve();
+                coordinator.submit(runner, instance, configuration, numberOfRepeats,
+                        results -> {
+                            try {
+                                summaryRows.set(row, saveResults(instanceName, algorithm, configurationName,
+                                        masterSeed, results));
+                            } catch (RuntimeException e) {
+                                // later rows wait for this one
+                                summaryRows.set(row, getFailureRow(instanceName, algorithm, configurationName,
+                                        masterSeed, e.toString()));
+                                throw e;
+                            }
+                        },
+                        reason -> summaryRows.set(row, getFailureRow(instanceName, algorithm, configurationName,
+                                masterSeed, reason)));
+            }
+        }
+        coordinator.awaitCompletion();
+    }
+
+    private static List<Map<String, String>> getConfigurations(Map<String, String[]> grid) {
+        List<Map<String, String>> configurations = new ArrayList<>();
+        configurations.add(new LinkedHashMap<>());
+        for (Map.Entry<String, String[]> parameter : grid.entrySet()) {
+            List<Map<String, String>> extended = new ArrayList<>();
+            for (Map<String, String> configuration : configurations) {
+                for (String value : parameter.getValue()) {
+                    Map<String, String> extendedConfiguration = new LinkedHashMap<>(configuration);
+                    extendedConfiguration.put(parameter.getKey(), value);
+                    extended.add(extendedConfiguration);
+                }
+            }
+            configurations = extended;
+        }
+        return configurations;
+    }
+
+    /**
+     * @return name of the configuration made of the parameters which have several values in the grid
+     */
+    private static String getConfigurationName(Map<String, String> configuration, Map<String, String[]> grid) {
+        StringBuilder name = new StringBuilder();
+        for (Map.Entry<String, String> parameter : configuration.entrySet()) {
+            if (grid.get(parameter.getKey()).length > 1) {
+                name.append(name.length() > 0 ? "_" : "").append(parameter.getKey()).append('=').append(parameter.getValue());
+            }
+        }
+        return name.length() > 0 ? name.toString() : "default";
+    }
+
+    /**
+     * Writes fronts of all repeats.
+     *
+     * @return summary row of the configuration
+     */
+    private static String saveResults(String instanceName, String algorithm, String configurationName, long masterSeed,
+                                      List<FarmResult> results) {
+        double[] hv = new double[results.size()];
+        double[] frontSize = new double[results.size()];
+        Set<String> workers = new TreeSet<>();
+        for (int i = 0; i < results.size(); ++i) {
+            FarmResult result = results.get(i);
+            hv[i] = result.getMetrics().get("hv");
+            frontSize[i] = result.getMetrics().get("frontSize");
+            workers.add(result.getWorker());
+
+            StringBuilder front = new StringBuilder();
+            for (double[] objectives : result.getObjectives()) {
+                front.append(objectives[0]).append(';').append(objectives[1]).append('\n');
+            }
+            write(OUTPUT_DIRECTORY + File.separator + instanceName + "_" + algorithm + "_" + configurationName
+                    + "_run" + i + "_archive.csv", front.toString(), false);
+        }
+        System.out.println(instanceName + " " + configurationName + " finished");
+        return instanceName + ";" + algorithm + ";" + configurationName + ";" + masterSeed + ";" + results.size()
+                + ";" + getAverage(hv) + ";" + getStandardDeviation(hv)
+                + ";" + getAverage(frontSize) + ";" + getStandardDeviation(frontSize)
+                + ";" + String.join(",", workers) + "\n";
+    }
+
+    /**
+     * @return summary row of a configuration whose results were not merged
+     */
+    private static String getFailureRow(String instanceName, String algorithm, String configurationName,
+                                        long masterSeed, String reason) {
+        System.out.println(instanceName + " " + configurationName + " failed: " + reason);
+        return instanceName + ";" + algorithm + ";" + configurationName + ";" + masterSeed + ";0"
+                + ";NaN;NaN;NaN;NaN;failed\n";
+    }
+
+    private static double getAverage(double[] values) {
+        double sum = 0.0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double getStandardDeviation(double[] values) {
+        double average = getAverage(values);
+        double sum = 0.0;
+        for (double value : values) {
+            sum += (value - average) * (value - average);
+        }
+        return Math.sqrt(sum / values.length);
+    }
+
+    private static void write(String path, String text, boolean append) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(path, append))) {
+            writer.write(text);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
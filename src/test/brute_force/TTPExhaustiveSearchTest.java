@@ -0,0 +1,133 @@
+package test.brute_force;
+
+import algorithms.brute_force.TTPExhaustiveSearch;
+import algorithms.evaluation.EvaluatorType;
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.factories.EvaluatorFactory;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.TTP;
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+import algorithms.problem.mtsp.City;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class TTPExhaustiveSearchTest {
+
+  private static final int NUM_CITIES = 5;
+
+  @Test
+  public void testFrontOfAllSolutions() {
+    TTP ttp = getProblem(new Random(5));
+    ParameterSet<Integer, TTP> parameters = getParameters(ttp);
+
+    List<BaseIndividual<Integer, TTP>> allSolutions = new ArrayList<>();
+    int[] path = new int[NUM_CITIES];
+    for (int i = 0; i < NUM_CITIES; ++i) {
+      path[i] = i;
+    }
+    addSolutions(ttp, parameters, path, 1, allSolutions);
+    List<BaseIndividual<Integer, TTP>> front = new ArrayList<>();
+    for (BaseIndividual<Integer, TTP> solution : allSolutions) {
+      if (solution.isNotDominatedBy(allSolutions)) {
+        front.add(solution);
+      }
+    }
+
+    assertEquals("Front differs from the front of all solutions", getObjectives(front),
+        getObjectives(findNonDominated(ttp, parameters)));
+    parameters.evaluationPool = new ForkJoinPool(2);
+    assertEquals("Front depends on the pool", getObjectives(front),
+        getObjectives(findNonDominated(ttp, parameters)));
+    parameters.evaluationPool.shutdown();
+  }
+
+  private static void addSolutions(TTP ttp, ParameterSet<Integer, TTP> parameters, int[] path, int index,
+                                   List<BaseIndividual<Integer, TTP>> solutions) {
+    if (index < NUM_CITIES - 1) {
+      for (int i = index; i < NUM_CITIES; ++i) {
+        int t = path[index];
+        path[index] = path[i];
+        path[i] = t;
+        addSolutions(ttp, parameters, path, index + 1, solutions);
+        path[i] = path[index];
+        path[index] = t;
+      }
+      return;
+    }
+    int numItems = ttp.getKnapsack().getItems().size();
+    for (int mask = 0; mask < 1 << numItems; ++mask) {
+      int[] selection = new int[numItems];
+      for (int item = 0; item < numItems; ++item) {
+        selection[item] = (mask >> item) & 1;
+      }
+      BaseIndividual<Integer, TTP> solution = new BaseIndividual<>(ttp, parameters.evaluator);
+      solution.getProblem().setPath(path.clone());
+      solution.getProblem().setSelection(selection);
+      if (solution.getProblem().getCurrentWeight() <= ttp.getKnapsack().getCapacity()) {
+        solution.setObjectives();
+        solutions.add(solution);
+      }
+    }
+  }
+
+  private static List<BaseIndividual<Integer, TTP>> findNonDominated(TTP ttp, ParameterSet<Integer, TTP> parameters) {
+    PrintStream out = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    try {
+      return new TTPExhaustiveSearch(ttp, parameters).findNonDominated();
+    } finally {
+      System.setOut(out);
+    }
+  }
+
+  private static Set<String> getObjectives(List<BaseIndividual<Integer, TTP>> solutions) {
+    Set<String> objectives = new TreeSet<>();
+    for (BaseIndividual<Integer, TTP> solution : solutions) {
+      objectives.add(solution.getObjectives()[0] + ";" + solution.getObjectives()[1]);
+    }
+    return objectives;
+  }
+
+  private static TTP getProblem(Random random) {
+    City[] cities = new City[NUM_CITIES];
+    for (int i = 0; i < NUM_CITIES; ++i) {
+      cities[i] = new City(i + 1, random.nextInt(100), random.nextInt(100));
+    }
+    List<Item> items = new ArrayList<>();
+    List<List<Integer>> itemAvailabilities = new ArrayList<>();
+    itemAvailabilities.add(new ArrayList<>());
+    for (int city = 1; city < NUM_CITIES; ++city) {
+      itemAvailabilities.add(new ArrayList<>());
+      for (int i = 0; i < 2; ++i) {
+        Item item = new Item(items.size() + 1, 1 + random.nextInt(50), 1 + random.nextInt(30));
+        item.addAvailabitliy(city);
+        itemAvailabilities.get(city).add(items.size());
+        items.add(item);
+      }
+    }
+    TTP ttp = new TTP(new Knapsack(60, items), cities, 0.1, 1.0, 1.0);
+    ttp.setItemAvailabilities(itemAvailabilities);
+    return ttp;
+  }
+
+  private static ParameterSet<Integer, TTP> getParameters(TTP ttp) {
+    ParameterSet<Integer, TTP> parameters = new ParameterSet<>();
+    parameters.upperBounds = ttp.getUpperBounds();
+    parameters.evaluator = new EvaluatorFactory().createEvaluator(EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR,
+        parameters.evalRate);
+    return parameters;
+  }
+
+}
@@ -0,0 +1,285 @@
+package test.farm;
+
+import org.junit.Test;
+import runners.ExperimentScheduler;
+import runners.farm.FarmCoordinator;
+import runners.farm.FarmJob;
+import runners.farm.FarmJobRunner;
+import runners.farm.FarmResult;
+import runners.farm.FarmWorker;
+import runners.farm.SummaryRows;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class FarmCoordinatorTest {
+
+  private static final long MASTER_SEED = 17;
+
+  /**
+   * Front of a single point made of the seed and a parameter.
+   */
+  public static class SeedRunner implements FarmJobRunner {
+    @Override
+    public FarmResult run(FarmJob job) {
+      double[] objectives = {job.getSeed(), job.getInt("size", 0)};
+      return new FarmResult(job, List.of(objectives), List.of(new int[]{job.getRepeat()}),
+          Map.of("attempt", (double) job.getAttempt()));
+    }
+  }
+
+  /**
+   * Fails at the first attempt of every job.
+   */
+  public static class FlakyRunner extends SeedRunner {
+    @Override
+    public FarmResult run(FarmJob job) {
+      if (job.getAttempt() == 1) {
+        throw new IllegalStateException("First attempt");
+      }
+      return super.run(job);
+    }
+  }
+
+  public static class FailingRunner implements FarmJobRunner {
+    @Override
+    public FarmResult run(FarmJob job) {
+      throw new IllegalStateException("Always");
+    }
+  }
+
+  /**
+   * Not a runner, marks when its class is initialised.
+   */
+  public static class NotRunner {
+    static {
+      isNotRunnerInitialised = true;
+    }
+  }
+
+  private static volatile boolean isNotRunnerInitialised;
+
+  @Test
+  public void testResultsOfSeveralWorkers() throws Exception {
+    FarmCoordinator coordinator = new FarmCoordinator(0, MASTER_SEED, 10_000, 3);
+    List<List<FarmResult>> merged = Collections.synchronizedList(new ArrayList<>());
+    for (int size = 0; size < 3; ++size) {
+      coordinator.submit(SeedRunner.class.getName(), "instance", Map.of("size", String.valueOf(size)), 4, merged::add);
+    }
+    List<Thread> workers = startWorkers(coordinator, 3);
+    coordinator.awaitCompletion();
+    for (Thread worker : workers) {
+      worker.join(10_000);
+    }
+
+    assertEquals("Wrong number of merged configurations", 3, merged.size());
+    for (List<FarmResult> results : merged) {
+      assertEquals("Wrong number of repeats", 4, results.size());
+      int configuration = (int) results.get(0).getObjectives().get(0)[1];
+      for (int repeat = 0; repeat < results.size(); ++repeat) {
+        FarmResult result = results.get(repeat);
+        assertEquals("Results are not in the repeat order", repeat, result.getRepeat());
+        assertEquals("Seed differs from the local scheduler", (double) ExperimentScheduler.getSeed(MASTER_SEED, configuration, repeat),
+            result.getObjectives().get(0)[0], 0.0);
+        assertEquals("Genes were not sent back", repeat, result.getGenes().get(0)[0]);
+        assertTrue("Worker is unknown", result.getWorker().startsWith("worker-"));
+      }
+    }
+    for (Thread worker : workers) {
+      assertTrue("Worker was not shut down", !worker.isAlive());
+    }
+  }
+
+  @Test
+  public void testWorkerProcesses() throws Exception {
+    FarmCoordinator coordinator = new FarmCoordinator(0, MASTER_SEED, 10_000, 2);
+    List<FarmResult> merged = Collections.synchronizedList(new ArrayList<>());
+    coordinator.submit(SeedRunner.class.getName(), "instance", Map.of("size", "0"), 4, merged::addAll);
+    List<Process> workers = new ArrayList<>();
+    for (int i = 0; i < 2; ++i) {
+      workers.add(new ProcessBuilder(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+          "-cp", System.getProperty("java.class.path"), FarmWorker.class.getName(),
+          "localhost", String.valueOf(coordinator.getPort()), "process-" + i)
+          .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+          .redirectError(ProcessBuilder.Redirect.DISCARD)
+          .start());
+    }
+    try {
+      coordinator.awaitCompletion();
+      for (Process worker : workers) {
+        assertTrue("Worker process was not shut down", worker.waitFor(30, TimeUnit.SECONDS));
+        assertEquals("Worker process failed", 0, worker.exitValue());
+      }
+    } finally {
+      workers.forEach(Process::destroyForcibly);
+    }
+
+    assertEquals("Wrong number of results", 4, merged.size());
+    for (int repeat = 0; repeat < merged.size(); ++repeat) {
+      FarmResult result = merged.get(repeat);
+      assertEquals("Seed differs from the local scheduler", (double) ExperimentScheduler.getSeed(MASTER_SEED, 0, repeat),
+          result.getObjectives().get(0)[0], 0.0);
+      assertTrue("Job was not run by a worker process", result.getWorker().startsWith("process-"));
+    }
+  }
+
+  @Test
+  public void testRetries() throws Exception {
+    FarmCoordinator coordinator = new FarmCoordinator(0, MASTER_SEED, 10_000, 2);
+    List<FarmResult> merged = Collections.synchronizedList(new ArrayList<>());
+    coordinator.submit(FlakyRunner.class.getName(), "instance", Map.of(), 3, merged::addAll);
+    startWorkers(coordinator, 2);
+    coordinator.awaitCompletion();
+
+    assertEquals("Wrong number of results", 3, merged.size());
+    for (FarmResult result : merged) {
+      assertEquals("Job was not run again", 2.0, result.getMetrics().get("attempt"), 0.0);
+    }
+  }
+
+  @Test
+  public void testFailure() throws Exception {
+    FarmCoordinator coordinator = new FarmCoordinator(0, MASTER_SEED, 10_000, 2);
+    AtomicInteger merges = new AtomicInteger();
+    coordinator.submit(FailingRunner.class.getName(), "instance", Map.of(), 2, results -> merges.incrementAndGet());
+    startWorkers(coordinator, 1);
+    try {
+      coordinator.awaitCompletion();
+      fail("Failed jobs were not reported");
+    } catch (IllegalStateException e) {
+      assertEquals("Results of a failed configuration were merged", 0, merges.get());
+    }
+  }
+
+  @Test
+  public void testRowsAfterFailedConfiguration() throws Exception {
+    File summaryFile = File.createTempFile("summary", ".csv");
+    try {
+      FarmCoordinator coordinator = new FarmCoordinator(0, MASTER_SEED, 10_000, 2);
+      SummaryRows summaryRows = new SummaryRows(summaryFile.getPath(), 4);
+      List<String> failureReasons = Collections.synchronizedList(new ArrayList<>());
+      String[] runners = {SeedRunner.class.getName(), FailingRunner.class.getName(), SeedRunner.class.getName(),
+          SeedRunner.class.getName()};
+      for (int i = 0; i < runners.length; ++i) {
+        int row = summaryRows.reserve();
+        coordinator.submit(runners[i], "instance", Map.of("size", String.valueOf(i)), 2,
+            results -> summaryRows.set(row, "merged " + row + "\n"),
+            reason -> {
+              failureReasons.add(reason);
+              summaryRows.set(row, "failed " + row + "\n");
+            });
+      }
+      startWorkers(coordinator, 2);
+      try {
+        coordinator.awaitCompletion();
+        fail("Failed jobs were not reported");
+      } catch (IllegalStateException e) {
+        assertEquals("Failure callback was not called once", 1, failureReasons.size());
+        assertTrue("Wrong reason of the failure", failureReasons.get(0).contains("Always"));
+      }
+      assertEquals("Rows after the failed configuration were not written",
+          List.of("merged 0", "failed 1", "merged 2", "merged 3"), Files.readAllLines(summaryFile.toPath()));
+    } finally {
+      summaryFile.delete();
+    }
+  }
+
+  @Test
+  public void testRunnerOfWrongType() throws Exception {
+    FarmCoordinator coordinator = new FarmCoordinator(0, MASTER_SEED, 10_000, 1);
+    coordinator.submit(NotRunner.class.getName(), "instance", Map.of(), 1, results -> { });
+    startWorkers(coordinator, 1);
+    try {
+      coordinator.awaitCompletion();
+      fail("Job of a class which is not a runner did not fail");
+    } catch (IllegalStateException e) {
+      assertTrue("Wrong reason of the failure", e.getMessage().contains("is not a FarmJobRunner"));
+      assertTrue("Class was initialised", !isNotRunnerInitialised);
+    }
+  }
+
+  @Test
+  public void testMalformedResults() throws Exception {
+    FarmCoordinator coordinator = new FarmCoordinator(0, MASTER_SEED, 10_000, 2);
+    List<FarmResult> merged = Collections.synchronizedList(new ArrayList<>());
+    coordinator.submit(SeedRunner.class.getName(), "instance", Map.of(), 2, merged::addAll);
+
+    // message types and fields as written by FarmProtocol
+    try (Socket socket = new Socket("localhost", coordinator.getPort());
+         DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+         DataOutputStream out = new DataOutputStream(socket.getOutputStream())) {
+      out.writeByte(1);
+      out.writeUTF("broken");
+      assertEquals("Worker was not welcomed", 10, in.readByte());
+      in.readLong();
+      out.writeByte(2);
+      assertEquals("Job was not leased", 11, in.readByte());
+      long jobId = in.readLong();
+      in.readInt();
+      in.readInt();
+      in.readUTF();
+      in.readUTF();
+      assertEquals("Configuration has parameters", 0, in.readInt());
+      in.readLong();
+      in.readInt();
+
+      // result of an unknown job is ignored
+      out.writeByte(4);
+      out.writeLong(jobId + 100);
+      out.writeUTF("broken");
+      out.writeInt(0);
+      out.writeInt(0);
+      // result of the leased job with a negative number of individuals
+      out.writeByte(4);
+      out.writeLong(jobId);
+      out.writeUTF("broken");
+      out.writeInt(-1);
+      out.flush();
+      assertEquals("Connection of a broken worker was not closed", -1, in.read());
+    }
+
+    startWorkers(coordinator, 1);
+    coordinator.awaitCompletion();
+    assertEquals("Wrong number of results", 2, merged.size());
+    for (int repeat = 0; repeat < merged.size(); ++repeat) {
+      assertEquals("Repeat was not taken from the job", repeat, merged.get(repeat).getRepeat());
+      assertEquals("Job of the broken worker was not run again", 2.0 - repeat,
+          merged.get(repeat).getMetrics().get("attempt"), 0.0);
+    }
+  }
+
+  private static List<Thread> startWorkers(FarmCoordinator coordinator, int numWorkers) {
+    List<Thread> workers = new ArrayList<>();
+    for (int i = 0; i < numWorkers; ++i) {
+      FarmWorker worker = new FarmWorker("localhost", coordinator.getPort(), "worker-" + i);
+      Thread thread = new Thread(() -> {
+        try {
+          worker.run();
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      });
+      thread.setDaemon(true);
+      thread.start();
+      workers.add(thread);
+    }
+    return workers;
+  }
+
+}
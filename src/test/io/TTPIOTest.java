@@ -0,0 +1,159 @@
+package test.io;
+
+import algorithms.io.TTPIO;
+import algorithms.problem.TTP;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+
+
+public class TTPIOTest {
+
+  private static final String DEFINITION = "assets/definitions/TTP/selected_01/eil51_n150_bounded-strongly-corr_01.ttp";
+
+  @Test
+  public void testReadNoFile() {
+    TTPIO reader = new TTPIO(null);
+    assertNull("TTP was not null", reader.readDefinition("wrong_path"));
+  }
+
+  @Test
+  public void testRead() {
+    TTP ttp = new TTPIO(null).readDefinition(DEFINITION);
+    assertNotNull("TTP is null", ttp);
+
+    assertEquals("Wrong number of cities", 51, ttp.getDistanceMatrix().getDistances().length);
+    assertEquals("Wrong number of items", 150, ttp.getKnapsack().getItems().size());
+    assertEquals("Wrong capacity", 12347, ttp.getKnapsack().getCapacity());
+    assertEquals("Wrong renting ratio", 20.57, ttp.getRentingRatio(), 0.0);
+    assertEquals("Wrong distance between the first cities", 13.0, ttp.getDistanceMatrix().getDistances()[0][1], 0.0);
+    assertEquals("Wrong city of the last item", 50, (int)ttp.getKnapsack().getItems().get(149).getAvailability().get(0));
+    assertEquals("Wrong items of the second city", 3, ttp.getItemAvailabilities().get(1).size());
+  }
+
+  @Test
+  public void testReadFromCache() throws IOException {
+    Path cacheDirectory = Files.createTempDirectory("ttp_cache");
+    try {
+      TTPIO parser = new TTPIO(cacheDirectory.toString());
+      TTP parsed = parser.readDefinition(DEFINITION);
+      assertEquals("Definition was loaded from an empty cache", 0, parser.getCacheHits());
+      TTPIO reader = new TTPIO(cacheDirectory.toString());
+      TTP cached = reader.readDefinition(DEFINITION);
+      assertEquals("Definition was not loaded from the cache", 1, reader.getCacheHits());
+      assertEqualInstances(parsed, cached);
+    } finally {
+      delete(cacheDirectory);
+    }
+  }
+
+  @Test
+  public void testDamagedCacheEntry() throws IOException {
+    Path cacheDirectory = Files.createTempDirectory("ttp_cache");
+    try {
+      TTP parsed = new TTPIO(cacheDirectory.toString()).readDefinition(DEFINITION);
+      Path entry = getEntries(cacheDirectory).get(0);
+      byte[] bytes = Files.readAllBytes(entry);
+      // a distance in the middle of the matrix
+      bytes[bytes.length / 2] ^= 1;
+      Files.write(entry, bytes);
+
+      TTPIO reader = new TTPIO(cacheDirectory.toString());
+      assertEqualInstances(parsed, reader.readDefinition(DEFINITION));
+      assertEquals("Damaged entry was loaded", 0, reader.getCacheHits());
+      TTPIO nextReader = new TTPIO(cacheDirectory.toString());
+      nextReader.readDefinition(DEFINITION);
+      assertEquals("Damaged entry was not written again", 1, nextReader.getCacheHits());
+    } finally {
+      delete(cacheDirectory);
+    }
+  }
+
+  @Test
+  public void testEntryOfAnotherDefinition() throws IOException {
+    Path cacheDirectory = Files.createTempDirectory("ttp_cache");
+    try {
+      Path entries = cacheDirectory.resolve("entries");
+      TTP parsed = new TTPIO(entries.toString()).readDefinition(DEFINITION);
+      Path entry = getEntries(entries).get(0);
+      // the same instance with another definition, so only the keys differ
+      Path otherDefinition = cacheDirectory.resolve("other.ttp");
+      Files.write(otherDefinition, (new String(Files.readAllBytes(Path.of(DEFINITION))) + "\n").getBytes());
+      Files.delete(entry);
+      new TTPIO(entries.toString()).readDefinition(otherDefinition.toString());
+      Files.move(getEntries(entries).get(0), entry);
+
+      TTPIO reader = new TTPIO(entries.toString());
+      assertEqualInstances(parsed, reader.readDefinition(DEFINITION));
+      assertEquals("Entry of another definition was loaded", 0, reader.getCacheHits());
+    } finally {
+      delete(cacheDirectory);
+    }
+  }
+
+  @Test
+  public void testCacheLimit() throws IOException {
+    Path cacheDirectory = Files.createTempDirectory("ttp_cache");
+    try {
+      new TTPIO(cacheDirectory.toString(), 1024).readDefinition(DEFINITION);
+      assertEquals("Entry above the size limit was stored", 0, getEntries(cacheDirectory).size());
+    } finally {
+      delete(cacheDirectory);
+    }
+  }
+
+  @Test
+  public void testSharedCacheDirectory() throws IOException {
+    Path cacheDirectory = Files.createTempDirectory("ttp_cache");
+    try {
+      if (Files.getFileAttributeView(cacheDirectory, PosixFileAttributeView.class) == null) {
+        return;
+      }
+      Files.setPosixFilePermissions(cacheDirectory, PosixFilePermissions.fromString("rwxrwxrwx"));
+      new TTPIO(cacheDirectory.toString()).readDefinition(DEFINITION);
+      assertEquals("Entry was stored in a directory writable by others", 0, getEntries(cacheDirectory).size());
+
+      Path privateDirectory = cacheDirectory.resolve("private");
+      new TTPIO(privateDirectory.toString()).readDefinition(DEFINITION);
+      assertEquals("Cache directory is not private", PosixFilePermissions.fromString("rwx------"),
+          Files.getPosixFilePermissions(privateDirectory));
+    } finally {
+      delete(cacheDirectory);
+    }
+  }
+
+  private static void assertEqualInstances(TTP parsed, TTP cached) {
+    assertNotNull("Cached TTP is null", cached);
+    assertArrayEquals("Cached distances differ", parsed.getDistanceMatrix().getDistances(), cached.getDistanceMatrix().getDistances());
+    assertEquals("Cached item availabilities differ", parsed.getItemAvailabilities(), cached.getItemAvailabilities());
+    assertEquals("Cached max profit differs", parsed.getMaxProfit(), cached.getMaxProfit(), 0.0);
+    assertEquals("Cached max travelling time differs", parsed.getMaxTravellingTime(), cached.getMaxTravellingTime(), 0.0);
+    assertEquals("Cached min speed differs", parsed.getMinSpeed(), cached.getMinSpeed(), 0.0);
+  }
+
+  private static List<Path> getEntries(Path cacheDirectory) throws IOException {
+    try (Stream<Path> files = Files.list(cacheDirectory)) {
+      return files.filter(file -> file.toString().endsWith(".ttpc")).collect(Collectors.toList());
+    }
+  }
+
+  private static void delete(Path directory) throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+        Files.delete(file);
+      }
+    }
+  }
+
+}
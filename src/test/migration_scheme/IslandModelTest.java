@@ -0,0 +1,132 @@
+package test.migration_scheme;
+
+import algorithms.evaluation.EvaluatorType;
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.evolutionary_algorithms.genetic_algorithm.GeneticAlgorithm;
+import algorithms.evolutionary_algorithms.initial_population.InitialPopulationType;
+import algorithms.evolutionary_algorithms.migration_scheme.IslandModel;
+import algorithms.evolutionary_algorithms.migration_scheme.MigrationTopology;
+import algorithms.factories.EvaluatorFactory;
+import algorithms.factories.InitialPopulationGeneratorFactory;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.TTP;
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+import algorithms.problem.mtsp.City;
+import org.junit.Test;
+import util.random.RandomInt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class IslandModelTest {
+
+  private static final int NUM_CITIES = 8;
+  private static final int NUM_ISLANDS = 2;
+  private static final long TIMEOUT_NANOS = 10_000_000_000L;
+
+  /**
+   * Starts from a single random solution, then only sends and receives migrants
+   * until it has received some.
+   */
+  private static class ReceivingIsland extends GeneticAlgorithm<TTP> {
+    private BaseIndividual<Integer, TTP> initial;
+    private List<BaseIndividual<Integer, TTP>> archive;
+    private int received;
+
+    ReceivingIsland(TTP ttp, ParameterSet<Integer, TTP> parameters) {
+      super(ttp, 1, Integer.MAX_VALUE, parameters, 0.0, 0.0);
+    }
+
+    @Override
+    public List<BaseIndividual<Integer, TTP>> optimize() {
+      initial = parameters.initialPopulation.generate(problem, 1, parameters.evaluator, parameters).get(0);
+      initial.buildSolution(initial.getGenes(), parameters);
+      archive = new ArrayList<>(List.of(initial));
+      long deadline = System.nanoTime() + TIMEOUT_NANOS;
+      for (int generation = 1; received == 0 && System.nanoTime() < deadline; ++generation) {
+        List<BaseIndividual<Integer, TTP>> immigrants = exchangeMigrants(generation, archive);
+        received += immigrants.size();
+        removeDuplicatesAndDominated(immigrants, archive);
+        Thread.yield();
+      }
+      return archive;
+    }
+  }
+
+  @Test
+  public void testMigration() {
+    TTP ttp = getProblem(new Random(5));
+    IslandModel<TTP, ReceivingIsland> islandModel = new IslandModel<>(NUM_ISLANDS, MigrationTopology.RING, 1, 1,
+        island -> new ReceivingIsland(ttp, getParameters(ttp, island)));
+    List<BaseIndividual<Integer, TTP>> front = islandModel.optimize();
+
+    List<BaseIndividual<Integer, TTP>> initial = new ArrayList<>();
+    for (ReceivingIsland island : islandModel.getIslands()) {
+      assertTrue("Migrants did not arrive", island.received > 0);
+      initial.add(island.initial);
+    }
+    List<BaseIndividual<Integer, TTP>> expected = new ArrayList<>();
+    for (BaseIndividual<Integer, TTP> individual : initial) {
+      if (individual.isNotDominatedBy(initial)) {
+        expected.add(individual);
+      }
+    }
+    assertEquals("Merged front differs from the front of all islands", getObjectives(expected), getObjectives(front));
+    for (ReceivingIsland island : islandModel.getIslands()) {
+      assertEquals("Migrants were not added to the archive", getObjectives(expected), getObjectives(island.archive));
+    }
+  }
+
+  private static Set<String> getObjectives(List<BaseIndividual<Integer, TTP>> solutions) {
+    Set<String> objectives = new TreeSet<>();
+    for (BaseIndividual<Integer, TTP> solution : solutions) {
+      objectives.add(solution.getObjectives()[0] + ";" + solution.getObjectives()[1]);
+    }
+    return objectives;
+  }
+
+  private static TTP getProblem(Random random) {
+    City[] cities = new City[NUM_CITIES];
+    for (int i = 0; i < NUM_CITIES; ++i) {
+      cities[i] = new City(i + 1, random.nextInt(100), random.nextInt(100));
+    }
+    List<Item> items = new ArrayList<>();
+    List<List<Integer>> itemAvailabilities = new ArrayList<>();
+    itemAvailabilities.add(new ArrayList<>());
+    for (int city = 1; city < NUM_CITIES; ++city) {
+      itemAvailabilities.add(new ArrayList<>());
+      for (int i = 0; i < 2; ++i) {
+        Item item = new Item(items.size() + 1, 1 + random.nextInt(50), 1 + random.nextInt(30));
+        item.addAvailabitliy(city);
+        itemAvailabilities.get(city).add(items.size());
+        items.add(item);
+      }
+    }
+    TTP ttp = new TTP(new Knapsack(100, items), cities, 0.1, 1.0, 1.0);
+    ttp.setItemAvailabilities(itemAvailabilities);
+    return ttp;
+  }
+
+  private static ParameterSet<Integer, TTP> getParameters(TTP ttp, int island) {
+    ParameterSet<Integer, TTP> parameters = new ParameterSet<>();
+    parameters.upperBounds = ttp.getUpperBounds();
+    parameters.populationMultiplicationFactor = 1;
+    parameters.geneSplitPoint = ttp.getSplitPoint();
+    parameters.random = new RandomInt(island);
+    parameters.evaluator = new EvaluatorFactory().createEvaluator(EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR,
+        parameters.evalRate);
+    parameters.evaluator.setIndividual(new BaseIndividual<>(ttp, parameters.evaluator));
+    parameters.initialPopulation = new InitialPopulationGeneratorFactory(parameters)
+        .createInitialPopulation(InitialPopulationType.RANDOM_TTP);
+    return parameters;
+  }
+
+}
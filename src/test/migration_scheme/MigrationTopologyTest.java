@@ -0,0 +1,48 @@
+package test.migration_scheme;
+
+import algorithms.evolutionary_algorithms.migration_scheme.IslandChannel;
+import algorithms.evolutionary_algorithms.migration_scheme.MigrationTopology;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class MigrationTopologyTest {
+
+  @Test
+  public void testNeighbours() {
+    assertArrayEquals("Wrong ring neighbours", new int[]{1, 4}, MigrationTopology.RING.getNeighbours(0, 5));
+    assertArrayEquals("Island of two is its own neighbour", new int[]{0}, MigrationTopology.RING.getNeighbours(1, 2));
+    assertEquals("Single island has neighbours", 0, MigrationTopology.FULLY_CONNECTED.getNeighbours(0, 1).length);
+    assertArrayEquals("Wrong fully connected neighbours", new int[]{0, 1, 3}, MigrationTopology.FULLY_CONNECTED.getNeighbours(2, 4));
+
+    // 3x3 grid
+    assertArrayEquals("Wrong torus neighbours", new int[]{1, 2, 3, 6}, MigrationTopology.TORUS.getNeighbours(0, 9));
+    assertArrayEquals("Wrong torus neighbours", new int[]{5, 3, 7, 1}, MigrationTopology.TORUS.getNeighbours(4, 9));
+    // the last row of 5 islands has 2 of 3 columns
+    assertArrayEquals("Wrong neighbours in a shorter row", new int[]{3, 1}, MigrationTopology.TORUS.getNeighbours(4, 5));
+    assertArrayEquals("Wrong neighbours in a shorter column", new int[]{0, 1}, MigrationTopology.TORUS.getNeighbours(2, 5));
+  }
+
+  @Test
+  public void testChannels() {
+    IslandChannel<Integer> first = new IslandChannel<>(5, 2);
+    IslandChannel<Integer> second = new IslandChannel<>(5, 2);
+    first.connect(second);
+    assertTrue("Migration is not in the interval", first.isMigrationGeneration(10));
+
+    List<Integer> genes = Arrays.asList(1, 2, 3);
+    first.emigrate(List.of(genes));
+    assertEquals("Migrants came back", 0, first.immigrate().size());
+    List<List<Integer>> received = second.immigrate();
+    assertEquals("Wrong migrants", List.of(genes), received);
+    assertTrue("Genes are shared between islands", received.get(0) != genes);
+    assertEquals("Migrants were received twice", 0, second.immigrate().size());
+  }
+
+}
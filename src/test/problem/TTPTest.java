@@ -0,0 +1,121 @@
+package test.problem;
+
+import algorithms.evaluation.BaseEvaluator;
+import algorithms.evaluation.MOTTPEvaluator;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.TTP;
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+import algorithms.problem.mtsp.City;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+public class TTPTest {
+
+  private static final double EPSILON = 1e-9;
+
+  private TTP ttp;
+
+  @Before
+  public void setUp() {
+    ttp = createTTP();
+  }
+
+  @Test
+  public void testTravellingTimeAfterReverse() {
+    ttp.getTravellingTime();
+    setPath(0, 1, 5, 4, 3, 2);
+    assertEquals("Delta evaluation differs from the full one", fullTravellingTime(), ttp.getTravellingTime(), EPSILON);
+  }
+
+  @Test
+  public void testTravellingTimeAfterSwapAndInsertion() {
+    ttp.getTravellingTime();
+    setPath(0, 1, 4, 3, 2, 5);
+    assertEquals("Delta evaluation differs after swap", fullTravellingTime(), ttp.getTravellingTime(), EPSILON);
+    setPath(0, 1, 4, 2, 5, 3);
+    assertEquals("Delta evaluation differs after insertion", fullTravellingTime(), ttp.getTravellingTime(), EPSILON);
+  }
+
+  @Test
+  public void testTravellingTimeAfterSelectionChange() {
+    ttp.getTravellingTime();
+    ttp.getSelection()[0] = 0;
+    ttp.getSelection()[3] = 1;
+    assertEquals("Delta evaluation differs after selection change", fullTravellingTime(), ttp.getTravellingTime(), EPSILON);
+  }
+
+  @Test
+  public void testNormalObjectivesOfGivenObjectives() {
+    BaseIndividual<Integer, TTP> individual = new BaseIndividual<>(ttp, new MOTTPEvaluator<>());
+    individual.setObjectives();
+    double[] objectives = individual.getObjectives().clone();
+    BaseEvaluator<Integer, TTP> evaluator = individual.getEvaluator();
+    assertArrayEquals("Normalized given objectives differ", evaluator.getNormalObjectives(),
+        evaluator.getNormalObjectives(individual.getObjectives()), 0.0);
+    assertArrayEquals("Given objectives were changed", objectives, individual.getObjectives(), 0.0);
+  }
+
+  @Test
+  public void testTravellingTimeOfClone() {
+    ttp.getTravellingTime();
+    TTP clone = (TTP)ttp.cloneDeep();
+    clone.setPath(new int[] {0, 3, 2, 1, 4, 5});
+    ttp.setPath(new int[] {0, 3, 2, 1, 4, 5});
+    assertEquals("Cloned cache gives a wrong travelling time", fullTravellingTime(), clone.getTravellingTime(), EPSILON);
+  }
+
+  @Test
+  public void testTravellingTimeWithoutItemAvailabilities() {
+    TTP withoutAvailabilities = createTTP();
+    withoutAvailabilities.setItemAvailabilities(null);
+    assertEquals("Items per city derived from the knapsack give a wrong travelling time",
+        ttp.getTravellingTime(), withoutAvailabilities.getTravellingTime(), EPSILON);
+  }
+
+  private void setPath(int... path) {
+    System.arraycopy(path, 0, ttp.getPath(), 0, path.length);
+  }
+
+  private double fullTravellingTime() {
+    TTP fresh = createTTP();
+    fresh.setPath(ttp.getPath().clone());
+    fresh.setSelection(ttp.getSelection().clone());
+    return fresh.getTravellingTime();
+  }
+
+  private static TTP createTTP() {
+    City[] cities = {
+        new City(1, 0, 0), new City(2, 10, 0), new City(3, 10, 10),
+        new City(4, 0, 10), new City(5, 5, 15), new City(6, -5, 5)
+    };
+    List<Item> items = new ArrayList<>();
+    int[][] itemData = {{1, 40, 20, 2}, {2, 30, 25, 3}, {3, 25, 10, 4}, {4, 50, 30, 5}, {5, 10, 5, 2}};
+    for (int[] data : itemData) {
+      Item item = new Item(data[0], data[1], data[2]);
+      item.addAvailabitliy(data[3] - 1);
+      items.add(item);
+    }
+    Knapsack knapsack = new Knapsack(80, items);
+    TTP ttp = new TTP(knapsack, cities, 0.1, 1.0, 1.0);
+
+    List<List<Integer>> itemAvailabilities = new ArrayList<>(cities.length);
+    for (int i = 0; i < cities.length; ++i) {
+      itemAvailabilities.add(new ArrayList<>());
+    }
+    for (Item item : items) {
+      itemAvailabilities.get(item.getAvailability().get(0)).add(item.getId() - 1);
+    }
+    ttp.setItemAvailabilities(itemAvailabilities);
+    ttp.setPath(new int[] {0, 1, 2, 3, 4, 5});
+    ttp.setSelection(new int[] {1, 1, 0, 0, 1});
+    return ttp;
+  }
+}
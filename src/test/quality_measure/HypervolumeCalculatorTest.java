@@ -0,0 +1,219 @@
+package test.quality_measure;
+
+import algorithms.evaluation.BaseEvaluator;
+import algorithms.evaluation.EvaluatorType;
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.factories.EvaluatorFactory;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.TTP;
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+import algorithms.problem.mtsp.City;
+import algorithms.quality_measure.HVMany;
+import algorithms.quality_measure.HypervolumeCalculator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class HypervolumeCalculatorTest {
+
+  private static final int NUM_FRONTS = 200;
+  // inclusion-exclusion sums over all subsets of points
+  private static final int MAX_POINTS = 9;
+
+  @Test
+  public void testAgainstInclusionExclusion() {
+    Random random = new Random(5);
+    for (int numObjectives = 1; numObjectives <= 5; ++numObjectives) {
+      for (int f = 0; f < NUM_FRONTS; ++f) {
+        double[] referencePoint = getReferencePoint(numObjectives);
+        double[][] points = getPoints(random, numObjectives, 1 + random.nextInt(MAX_POINTS));
+        assertEquals("Wrong hypervolume for " + numObjectives + " objectives",
+            getInclusionExclusion(points, referencePoint),
+            HypervolumeCalculator.getHypervolume(points, referencePoint), 1e-9);
+      }
+    }
+  }
+
+  @Test
+  public void testPointsOutsideReferenceBox() {
+    double[] referencePoint = {1.0, 1.0, 1.0};
+    double[][] points = {{0.5, 0.5, 1.0}, {1.5, 0.0, 0.0}, {0.5, 0.5, 0.5}};
+    assertEquals("Points on or behind the border were counted", 0.125,
+        HypervolumeCalculator.getHypervolume(points, referencePoint), 1e-12);
+    assertEquals("Hypervolume of no points", 0.0,
+        HypervolumeCalculator.getHypervolume(new double[0][], referencePoint), 0.0);
+  }
+
+  /**
+   * The slicing algorithm HVMany used before is exact only for two objectives,
+   * more objectives are checked against inclusion-exclusion.
+   */
+  @Test
+  public void testAgainstLegacyHVMany() {
+    Random random = new Random(6);
+    TTP ttp = getProblem();
+    BaseEvaluator<Integer, TTP> evaluator = new EvaluatorFactory().createEvaluator(
+        EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, new ParameterSet<Integer, TTP>().evalRate);
+    BaseIndividual<Integer, TTP> nadirPoint = BaseIndividual.withSharedProblem(ttp, new ArrayList<>(), evaluator);
+    nadirPoint.setNormalObjectives(getReferencePoint(2));
+    HVMany hvMany = new HVMany(nadirPoint);
+    for (int f = 0; f < NUM_FRONTS; ++f) {
+      double[][] points = getPoints(random, 2, 1 + random.nextInt(3 * MAX_POINTS));
+      List<BaseIndividual<Integer, TTP>> population = new ArrayList<>();
+      for (double[] point : points) {
+        BaseIndividual<Integer, TTP> individual = BaseIndividual.withSharedProblem(ttp, new ArrayList<>(), evaluator);
+        individual.setNormalObjectives(point);
+        population.add(individual);
+      }
+      assertEquals("HVMany differs from the slicing algorithm", getLegacyMeasure(points, getReferencePoint(2)),
+          hvMany.getMeasure(population), 1e-9);
+    }
+  }
+
+  /**
+   * Coordinates on a coarse grid, so points share coordinates and some are duplicated or dominated.
+   */
+  static double[][] getPoints(Random random, int numObjectives, int numPoints) {
+    double[][] points = new double[numPoints][numObjectives];
+    for (double[] point : points) {
+      for (int k = 0; k < numObjectives; ++k) {
+        point[k] = random.nextInt(8) / 8.0;
+      }
+    }
+    return points;
+  }
+
+  static double[] getReferencePoint(int numObjectives) {
+    double[] referencePoint = new double[numObjectives];
+    Arrays.fill(referencePoint, 1.0);
+    return referencePoint;
+  }
+
+  /**
+   * Sums volumes of intersections of boxes of all subsets of points, with alternating signs.
+   */
+  static double getInclusionExclusion(double[][] points, double[] referencePoint) {
+    double hypervolume = 0.0;
+    for (int subset = 1; subset < 1 << points.length; ++subset) {
+      double[] corner = new double[referencePoint.length];
+      Arrays.fill(corner, Double.NEGATIVE_INFINITY);
+      for (int i = 0; i < points.length; ++i) {
+        if ((subset >> i & 1) != 0) {
+          for (int k = 0; k < corner.length; ++k) {
+            corner[k] = Math.max(corner[k], points[i][k]);
+          }
+        }
+      }
+      double volume = 1.0;
+      for (int k = 0; k < corner.length; ++k) {
+        volume *= Math.max(0.0, referencePoint[k] - corner[k]);
+      }
+      hypervolume += Integer.bitCount(subset) % 2 == 1 ? volume : -volume;
+    }
+    return hypervolume;
+  }
+
+  /**
+   * Slicing algorithm of the former HVMany, on plain points sorted lexicographically.
+   */
+  private static double getLegacyMeasure(double[][] points, double[] referencePoint) {
+    int numObjectives = referencePoint.length;
+    List<double[]> population = new ArrayList<>(Arrays.asList(points));
+    population.sort(HypervolumeCalculatorTest::compareLexicographically);
+    List<Slice> slices = new ArrayList<>(List.of(new Slice(1.0, population)));
+    for (int k = 0; k < numObjectives - 1; ++k) {
+      List<Slice> nextSlices = new ArrayList<>();
+      for (Slice slice : slices) {
+        for (Slice nextSlice : slice(slice.points, k, referencePoint)) {
+          nextSlices.add(new Slice(slice.depth * nextSlice.depth, nextSlice.points));
+        }
+      }
+      slices = nextSlices;
+    }
+    double hypervolume = 0.0;
+    for (Slice slice : slices) {
+      hypervolume += slice.depth * Math.abs(slice.points.get(0)[numObjectives - 1] - referencePoint[numObjectives - 1]);
+    }
+    return hypervolume;
+  }
+
+  private static class Slice {
+    private final double depth;
+    private final List<double[]> points;
+
+    private Slice(double depth, List<double[]> points) {
+      this.depth = depth;
+      this.points = points;
+    }
+  }
+
+  private static List<Slice> slice(List<double[]> points, int k, double[] referencePoint) {
+    double[] point = points.get(0);
+    List<double[]> ql = new ArrayList<>();
+    List<Slice> slices = new ArrayList<>();
+    for (int i = 1; i < points.size(); ++i) {
+      ql = insert(point, k + 1, ql);
+      double[] nextPoint = points.get(i);
+      slices.add(new Slice(Math.abs(point[k] - nextPoint[k]), ql));
+      point = nextPoint;
+    }
+    ql = insert(point, k + 1, ql);
+    slices.add(new Slice(Math.abs(point[k] - referencePoint[k]), ql));
+    return slices;
+  }
+
+  private static List<double[]> insert(double[] point, int k, List<double[]> points) {
+    List<double[]> ql = new ArrayList<>();
+    for (int i = 0; i < points.size() && points.get(0)[k] < point[k]; ++i) {
+      ql.add(points.get(i));
+    }
+    ql.add(point);
+    for (double[] other : points) {
+      if (!dominates(point, other, k) && !ql.contains(other)) {
+        ql.add(other);
+      }
+    }
+    return ql;
+  }
+
+  private static boolean dominates(double[] first, double[] second, int k) {
+    boolean better = false;
+    for (int i = k; i < first.length; ++i) {
+      if (second[i] < first[i]) {
+        return false;
+      }
+      better = first[i] < second[i];
+    }
+    return better;
+  }
+
+  private static int compareLexicographically(double[] first, double[] second) {
+    for (int k = 0; k < first.length; ++k) {
+      int result = Double.compare(first[k], second[k]);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  private static TTP getProblem() {
+    City[] cities = {new City(1, 0, 0), new City(2, 3, 4)};
+    Item item = new Item(1, 1, 1);
+    item.addAvailabitliy(1);
+    List<List<Integer>> itemAvailabilities = new ArrayList<>();
+    itemAvailabilities.add(new ArrayList<>());
+    itemAvailabilities.add(new ArrayList<>(List.of(0)));
+    TTP ttp = new TTP(new Knapsack(1, new ArrayList<>(List.of(item))), cities, 0.1, 1.0, 1.0);
+    ttp.setItemAvailabilities(itemAvailabilities);
+    return ttp;
+  }
+
+}
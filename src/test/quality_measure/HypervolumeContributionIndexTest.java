@@ -0,0 +1,236 @@
+package test.quality_measure;
+
+import algorithms.evaluation.BaseEvaluator;
+import algorithms.evaluation.EvaluatorType;
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.factories.EvaluatorFactory;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.TTP;
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+import algorithms.problem.mtsp.City;
+import algorithms.quality_measure.HypervolumeCalculator;
+import algorithms.quality_measure.HypervolumeContributionIndex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class HypervolumeContributionIndexTest {
+
+  // integer objectives below the reference point make unit cells exact
+  private static final int GRID = 8;
+  private static final int NUM_POINTS = 60;
+
+  private final TTP ttp = getProblem();
+  private final BaseEvaluator<Integer, TTP> evaluator = new EvaluatorFactory().createEvaluator(
+      EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, new ParameterSet<Integer, TTP>().evalRate);
+
+  @Test
+  public void testAdd2D() {
+    checkAdd(2, new Random(1));
+  }
+
+  @Test
+  public void testAdd3D() {
+    checkAdd(3, new Random(2));
+  }
+
+  @Test
+  public void testTruncate2D() {
+    checkTruncate(2, new Random(3));
+  }
+
+  @Test
+  public void testTruncate3D() {
+    checkTruncate(3, new Random(4));
+  }
+
+  @Test
+  public void testOutsideReferenceBox() {
+    HypervolumeContributionIndex<BaseIndividual<Integer, TTP>> index = getIndex(3);
+    assertFalse("Point on the border of the reference box was added", index.add(getIndividual(0, GRID, 0)));
+    BaseIndividual<Integer, TTP> individual = getIndividual(GRID - 1, 0, GRID - 1);
+    assertTrue("Point inside the reference box was not added", index.add(individual));
+    assertFalse("Point was added twice", index.add(individual));
+    assertEquals("Wrong contribution", GRID, index.getContribution(individual), 0.0);
+  }
+
+  private void checkAdd(int numObjectives, Random random) {
+    HypervolumeContributionIndex<BaseIndividual<Integer, TTP>> index = getIndex(numObjectives);
+    List<BaseIndividual<Integer, TTP>> added = new ArrayList<>();
+    for (int i = 0; i < NUM_POINTS; ++i) {
+      BaseIndividual<Integer, TTP> individual = getRandomIndividual(numObjectives, random);
+      boolean isNondominated = !isWeaklyDominated(individual, index.getIndividuals());
+      assertEquals("Wrong result of adding a point", isNondominated, index.add(individual));
+      added.add(individual);
+      List<BaseIndividual<Integer, TTP>> expected = new ArrayList<>();
+      for (BaseIndividual<Integer, TTP> candidate : added) {
+        if (index.contains(candidate)) {
+          expected.add(candidate);
+        } else {
+          assertTrue("Nondominated point was dropped", isWeaklyDominated(candidate, index.getIndividuals()));
+        }
+      }
+      assertEquals("Wrong size", expected.size(), index.size());
+      checkContributions(index, numObjectives);
+    }
+  }
+
+  private void checkTruncate(int numObjectives, Random random) {
+    HypervolumeContributionIndex<BaseIndividual<Integer, TTP>> index = getIndex(numObjectives);
+    for (int i = 0; i < NUM_POINTS; ++i) {
+      index.add(getRandomIndividual(numObjectives, random));
+    }
+    while (index.size() > 3) {
+      List<BaseIndividual<Integer, TTP>> individuals = index.getIndividuals();
+      double minimum = Double.POSITIVE_INFINITY;
+      for (BaseIndividual<Integer, TTP> individual : individuals) {
+        minimum = Math.min(minimum, getExclusiveCells(individual, individuals, numObjectives));
+      }
+      List<BaseIndividual<Integer, TTP>> removed = index.truncate(index.size() - 1);
+      assertEquals("Wrong number of removed points", 1, removed.size());
+      assertEquals("Removed point is not the least contributor", minimum,
+          getExclusiveCells(removed.get(0), individuals, numObjectives), 0.0);
+      assertFalse("Removed point is still archived", index.contains(removed.get(0)));
+      checkContributions(index, numObjectives);
+    }
+    assertEquals("Truncation removed too much", Collections.emptyList(), index.truncate(3));
+  }
+
+  private static void checkContributions(HypervolumeContributionIndex<BaseIndividual<Integer, TTP>> index,
+                                         int numObjectives) {
+    List<BaseIndividual<Integer, TTP>> individuals = index.getIndividuals();
+    double[][] points = new double[individuals.size()][];
+    for (int i = 0; i < points.length; ++i) {
+      points[i] = individuals.get(i).getNormalObjectives();
+      assertEquals("Wrong contribution",
+          getExclusiveCells(individuals.get(i), individuals, numObjectives),
+          index.getContribution(individuals.get(i)), 1e-9);
+    }
+    double[] referencePoint = getReferencePoint(numObjectives);
+    assertEquals("Wrong hypervolume", HypervolumeCalculator.getHypervolume(points, referencePoint),
+        index.getHypervolume(), 1e-9);
+    assertEquals("Wrong hypervolume", getDominatedCells(individuals, numObjectives), index.getHypervolume(), 1e-9);
+  }
+
+  /**
+   * Counts the unit cells dominated by the individual and by no other archived one.
+   */
+  private static int getExclusiveCells(BaseIndividual<Integer, TTP> individual,
+                                       List<BaseIndividual<Integer, TTP>> individuals, int numObjectives) {
+    int count = 0;
+    for (int[] cell : getCells(numObjectives)) {
+      if (dominatesCell(individual, cell)) {
+        boolean isExclusive = true;
+        for (BaseIndividual<Integer, TTP> other : individuals) {
+          if (other != individual && dominatesCell(other, cell)) {
+            isExclusive = false;
+            break;
+          }
+        }
+        if (isExclusive) {
+          ++count;
+        }
+      }
+    }
+    return count;
+  }
+
+  private static int getDominatedCells(List<BaseIndividual<Integer, TTP>> individuals, int numObjectives) {
+    int count = 0;
+    for (int[] cell : getCells(numObjectives)) {
+      for (BaseIndividual<Integer, TTP> individual : individuals) {
+        if (dominatesCell(individual, cell)) {
+          ++count;
+          break;
+        }
+      }
+    }
+    return count;
+  }
+
+  private static List<int[]> getCells(int numObjectives) {
+    List<int[]> cells = new ArrayList<>();
+    int numCells = (int) Math.pow(GRID, numObjectives);
+    for (int i = 0; i < numCells; ++i) {
+      int[] cell = new int[numObjectives];
+      for (int k = 0, rest = i; k < numObjectives; ++k, rest /= GRID) {
+        cell[k] = rest % GRID;
+      }
+      cells.add(cell);
+    }
+    return cells;
+  }
+
+  private static boolean dominatesCell(BaseIndividual<Integer, TTP> individual, int[] cell) {
+    for (int k = 0; k < cell.length; ++k) {
+      if (individual.getNormalObjectives()[k] > cell[k]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isWeaklyDominated(BaseIndividual<Integer, TTP> individual,
+                                           List<BaseIndividual<Integer, TTP>> individuals) {
+    for (BaseIndividual<Integer, TTP> other : individuals) {
+      boolean isDominating = true;
+      for (int k = 0; k < individual.getNormalObjectives().length; ++k) {
+        if (other.getNormalObjectives()[k] > individual.getNormalObjectives()[k]) {
+          isDominating = false;
+          break;
+        }
+      }
+      if (isDominating) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static HypervolumeContributionIndex<BaseIndividual<Integer, TTP>> getIndex(int numObjectives) {
+    return new HypervolumeContributionIndex<>(getReferencePoint(numObjectives));
+  }
+
+  private static double[] getReferencePoint(int numObjectives) {
+    double[] referencePoint = new double[numObjectives];
+    Arrays.fill(referencePoint, GRID);
+    return referencePoint;
+  }
+
+  private BaseIndividual<Integer, TTP> getRandomIndividual(int numObjectives, Random random) {
+    double[] objectives = new double[numObjectives];
+    for (int k = 0; k < numObjectives; ++k) {
+      objectives[k] = random.nextInt(GRID);
+    }
+    return getIndividual(objectives);
+  }
+
+  private BaseIndividual<Integer, TTP> getIndividual(double... normalObjectives) {
+    BaseIndividual<Integer, TTP> individual = BaseIndividual.withSharedProblem(ttp, new ArrayList<>(), evaluator);
+    individual.setNormalObjectives(normalObjectives);
+    return individual;
+  }
+
+  private static TTP getProblem() {
+    City[] cities = {new City(1, 0, 0), new City(2, 3, 4)};
+    Item item = new Item(1, 1, 1);
+    item.addAvailabitliy(1);
+    List<List<Integer>> itemAvailabilities = new ArrayList<>();
+    itemAvailabilities.add(new ArrayList<>());
+    itemAvailabilities.add(new ArrayList<>(List.of(0)));
+    TTP ttp = new TTP(new Knapsack(1, new ArrayList<>(List.of(item))), cities, 0.1, 1.0, 1.0);
+    ttp.setItemAvailabilities(itemAvailabilities);
+    return ttp;
+  }
+
+}
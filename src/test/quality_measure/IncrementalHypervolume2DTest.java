@@ -0,0 +1,74 @@
+package test.quality_measure;
+
+import algorithms.quality_measure.HypervolumeCalculator;
+import algorithms.quality_measure.IncrementalHypervolume2D;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class IncrementalHypervolume2DTest {
+
+  private static final int NUM_OPERATIONS = 2000;
+
+  @Test
+  public void testAddAndRemove() {
+    Random random = new Random(8);
+    double[] referencePoint = HypervolumeCalculatorTest.getReferencePoint(2);
+    IncrementalHypervolume2D hypervolume = new IncrementalHypervolume2D(referencePoint);
+    List<double[]> front = new ArrayList<>();
+    for (int i = 0; i < NUM_OPERATIONS; ++i) {
+      if (!front.isEmpty() && random.nextInt(3) == 0) {
+        double[] point = front.remove(random.nextInt(front.size()));
+        assertTrue("Point of the front was not removed", hypervolume.remove(point[0], point[1]));
+      } else {
+        // points on the border of the reference box are outside of it
+        double[] point = {random.nextInt(9) / 8.0, random.nextInt(9) / 8.0};
+        boolean isAdded = HypervolumeCalculator.getHypervolume(new double[][]{point}, referencePoint) > 0.0
+            && !isWeaklyDominated(point, front);
+        assertEquals("Wrong result of adding a point", isAdded, hypervolume.add(point[0], point[1]));
+        if (isAdded) {
+          front.removeIf(archived -> point[0] <= archived[0] && point[1] <= archived[1]);
+          front.add(point);
+        }
+      }
+
+      double[][] points = front.toArray(new double[0][]);
+      assertEquals("Wrong size of the front", front.size(), hypervolume.size());
+      assertEquals("Wrong hypervolume", HypervolumeCalculatorTest.getInclusionExclusion(points, referencePoint),
+          hypervolume.getHypervolume(), 1e-9);
+      for (double[] point : front) {
+        List<double[]> others = new ArrayList<>(front);
+        others.remove(point);
+        double expected = HypervolumeCalculator.getHypervolume(points, referencePoint)
+            - HypervolumeCalculator.getHypervolume(others.toArray(new double[0][]), referencePoint);
+        assertEquals("Wrong contribution", expected, hypervolume.getContribution(point[0], point[1]), 1e-9);
+      }
+    }
+  }
+
+  @Test
+  public void testRemoveMissingPoint() {
+    IncrementalHypervolume2D hypervolume = new IncrementalHypervolume2D(HypervolumeCalculatorTest.getReferencePoint(2));
+    hypervolume.add(0.25, 0.5);
+    assertFalse("Point outside of the front was removed", hypervolume.remove(0.25, 0.75));
+    assertFalse("Point outside of the front was removed", hypervolume.remove(0.5, 0.5));
+    assertEquals("Hypervolume changed", 0.375, hypervolume.getHypervolume(), 1e-12);
+  }
+
+  private static boolean isWeaklyDominated(double[] point, List<double[]> front) {
+    for (double[] archived : front) {
+      if (archived[0] <= point[0] && archived[1] <= point[1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
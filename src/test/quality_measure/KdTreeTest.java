@@ -0,0 +1,106 @@
+package test.quality_measure;
+
+import algorithms.quality_measure.KdTree;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class KdTreeTest {
+
+  private static final int NUM_TREES = 100;
+  private static final int NUM_QUERIES = 50;
+
+  @Test
+  public void testGridPoints() {
+    // coordinates on a coarse grid make many points equally close
+    checkQueries(new Random(9), 8);
+  }
+
+  @Test
+  public void testContinuousPoints() {
+    checkQueries(new Random(10), 0);
+  }
+
+  @Test
+  public void testEmptyTree() {
+    KdTree tree = new KdTree(new double[0][]);
+    assertEquals("Nearest point of an empty tree", -1, tree.getNearestManhattan(new double[]{0.5, 0.5}));
+    assertEquals("IGD+ distance to an empty tree", Double.POSITIVE_INFINITY,
+        tree.getMinDistancePlus(new double[]{0.5, 0.5}), 0.0);
+    assertEquals("Epsilon of an empty tree", Double.POSITIVE_INFINITY, tree.getMinEpsilon(new double[]{0.5, 0.5}), 0.0);
+  }
+
+  private static void checkQueries(Random random, int gridSize) {
+    for (int t = 0; t < NUM_TREES; ++t) {
+      int dimension = 1 + random.nextInt(4);
+      double[][] points = new double[1 + random.nextInt(200)][];
+      for (int i = 0; i < points.length; ++i) {
+        points[i] = getPoint(random, dimension, gridSize);
+      }
+      KdTree tree = new KdTree(points);
+      for (int q = 0; q < NUM_QUERIES; ++q) {
+        double[] query = random.nextInt(4) == 0 ? points[random.nextInt(points.length)].clone()
+            : getPoint(random, dimension, gridSize);
+        assertEquals("Wrong nearest point", getNearestManhattan(points, query), tree.getNearestManhattan(query));
+        assertEquals("Wrong IGD+ distance", getMinDistancePlus(points, query), tree.getMinDistancePlus(query), 0.0);
+        assertEquals("Wrong epsilon", getMinEpsilon(points, query), tree.getMinEpsilon(query), 0.0);
+      }
+    }
+  }
+
+  private static double[] getPoint(Random random, int dimension, int gridSize) {
+    double[] point = new double[dimension];
+    for (int k = 0; k < dimension; ++k) {
+      point[k] = gridSize > 0 ? random.nextInt(gridSize) / (double) gridSize : random.nextDouble();
+    }
+    return point;
+  }
+
+  /**
+   * Linear scan of <code>BaseMeasure.getMinDistance</code>, keeping the first of equally close points.
+   */
+  private static int getNearestManhattan(double[][] points, double[] query) {
+    int nearest = -1;
+    double min = Double.MAX_VALUE;
+    for (int i = 0; i < points.length; ++i) {
+      double distance = 0.0;
+      for (int k = 0; k < query.length; ++k) {
+        distance += Math.abs(query[k] - points[i][k]);
+      }
+      if (distance < min) {
+        nearest = i;
+        min = distance;
+      }
+    }
+    return nearest;
+  }
+
+  private static double getMinDistancePlus(double[][] points, double[] query) {
+    double min = Double.POSITIVE_INFINITY;
+    for (double[] point : points) {
+      double distance = 0.0;
+      for (int k = 0; k < query.length; ++k) {
+        double worse = Math.max(point[k] - query[k], 0.0);
+        distance += worse * worse;
+      }
+      min = Math.min(min, Math.sqrt(distance));
+    }
+    return min;
+  }
+
+  private static double getMinEpsilon(double[][] points, double[] query) {
+    double min = Double.POSITIVE_INFINITY;
+    for (double[] point : points) {
+      double epsilon = Double.NEGATIVE_INFINITY;
+      for (int k = 0; k < query.length; ++k) {
+        epsilon = Math.max(epsilon, point[k] - query[k]);
+      }
+      min = Math.min(min, epsilon);
+    }
+    return min;
+  }
+
+}
@@ -0,0 +1,160 @@
+package test.quality_measure;
+
+import algorithms.evaluation.BaseEvaluator;
+import algorithms.evaluation.EvaluatorType;
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.factories.EvaluatorFactory;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.TTP;
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+import algorithms.problem.mtsp.City;
+import algorithms.quality_measure.BaseMeasure;
+import algorithms.quality_measure.GenerationalDistance;
+import algorithms.quality_measure.InvertedGenerationalDistance;
+import algorithms.quality_measure.ReferenceFrontDistances;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class ReferenceFrontDistancesTest {
+
+  private static final int NUM_FRONTS = 100;
+
+  private final TTP ttp = getProblem();
+  private final BaseEvaluator<Integer, TTP> evaluator = new EvaluatorFactory().createEvaluator(
+      EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, new ParameterSet<Integer, TTP>().evalRate);
+
+  /**
+   * Measures with the linear search for the closest individual.
+   */
+  private static class LinearMeasures extends BaseMeasure {
+    @Override
+    public <T extends BaseIndividual> double getMeasure(List<T> population) {
+      return getDistance(referencePopulation, population);
+    }
+
+    <T extends BaseIndividual> double getDistance(List<? extends BaseIndividual> from, List<T> to) {
+      double sum = 0.0;
+      for (BaseIndividual individual : from) {
+        sum += Math.pow(getMinDistance(individual, to), 2);
+      }
+      return Math.sqrt(sum) / (double) from.size();
+    }
+  }
+
+  @Test
+  public void testAgainstLinearSearch() {
+    Random random = new Random(13);
+    for (int f = 0; f < NUM_FRONTS; ++f) {
+      int numObjectives = 2 + random.nextInt(2);
+      // a coarse grid makes many individuals equally close
+      int gridSize = f % 2 == 0 ? 8 : 0;
+      List<BaseIndividual<Integer, TTP>> referenceFront = getPopulation(random, numObjectives, gridSize);
+      List<BaseIndividual<Integer, TTP>> population = getPopulation(random, numObjectives, gridSize);
+
+      LinearMeasures linear = new LinearMeasures();
+      double expectedIgd = linear.getDistance(referenceFront, population);
+      double expectedGd = linear.getDistance(population, referenceFront);
+      ReferenceFrontDistances distances = new ReferenceFrontDistances(referenceFront);
+      distances.calculate(population);
+
+      assertEquals("Wrong IGD", expectedIgd, distances.getInvertedGenerationalDistance(), 0.0);
+      assertEquals("Wrong GD", expectedGd, distances.getGenerationalDistance(), 0.0);
+      assertEquals("Wrong IGD of the measure", expectedIgd,
+          new InvertedGenerationalDistance(referenceFront).getMeasure(population), 0.0);
+      assertEquals("Wrong GD of the measure", expectedGd,
+          new GenerationalDistance(referenceFront).getMeasure(population), 0.0);
+      assertEquals("Wrong IGD+", getInvertedGenerationalDistancePlus(referenceFront, population),
+          distances.getInvertedGenerationalDistancePlus(), 0.0);
+      assertEquals("Wrong epsilon", getEpsilon(referenceFront, population), distances.getEpsilon(), 0.0);
+    }
+  }
+
+  @Test
+  public void testReusedReferenceIndex() {
+    Random random = new Random(14);
+    List<BaseIndividual<Integer, TTP>> referenceFront = getPopulation(random, 2, 0);
+    GenerationalDistance measure = new GenerationalDistance(referenceFront);
+    LinearMeasures linear = new LinearMeasures();
+    for (int p = 0; p < 10; ++p) {
+      List<BaseIndividual<Integer, TTP>> population = getPopulation(random, 2, 0);
+      if (p % 3 == 2) {
+        // the index has to follow changes of the reference front
+        referenceFront.get(random.nextInt(referenceFront.size()))
+            .setNormalObjectives(new double[]{random.nextDouble(), random.nextDouble()});
+        referenceFront.add(population.get(0));
+      }
+      assertEquals("Wrong GD of a reused measure", linear.getDistance(population, referenceFront),
+          measure.getMeasure(population), 0.0);
+    }
+  }
+
+  private static double getInvertedGenerationalDistancePlus(List<BaseIndividual<Integer, TTP>> referenceFront,
+                                                            List<BaseIndividual<Integer, TTP>> population) {
+    double sum = 0.0;
+    for (BaseIndividual<Integer, TTP> reference : referenceFront) {
+      double min = Double.POSITIVE_INFINITY;
+      for (BaseIndividual<Integer, TTP> individual : population) {
+        double distance = 0.0;
+        for (int k = 0; k < reference.getNormalObjectives().length; ++k) {
+          double worse = Math.max(individual.getNormalObjectives()[k] - reference.getNormalObjectives()[k], 0.0);
+          distance += worse * worse;
+        }
+        min = Math.min(min, Math.sqrt(distance));
+      }
+      sum += min;
+    }
+    return sum / (double) referenceFront.size();
+  }
+
+  private static double getEpsilon(List<BaseIndividual<Integer, TTP>> referenceFront,
+                                   List<BaseIndividual<Integer, TTP>> population) {
+    double epsilon = Double.NEGATIVE_INFINITY;
+    for (BaseIndividual<Integer, TTP> reference : referenceFront) {
+      double min = Double.POSITIVE_INFINITY;
+      for (BaseIndividual<Integer, TTP> individual : population) {
+        double shift = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < reference.getNormalObjectives().length; ++k) {
+          shift = Math.max(shift, individual.getNormalObjectives()[k] - reference.getNormalObjectives()[k]);
+        }
+        min = Math.min(min, shift);
+      }
+      epsilon = Math.max(epsilon, min);
+    }
+    return epsilon;
+  }
+
+  private List<BaseIndividual<Integer, TTP>> getPopulation(Random random, int numObjectives, int gridSize) {
+    List<BaseIndividual<Integer, TTP>> population = new ArrayList<>();
+    int size = 1 + random.nextInt(100);
+    for (int i = 0; i < size; ++i) {
+      double[] objectives = new double[numObjectives];
+      for (int k = 0; k < numObjectives; ++k) {
+        objectives[k] = gridSize > 0 ? random.nextInt(gridSize) / (double) gridSize : random.nextDouble();
+      }
+      BaseIndividual<Integer, TTP> individual = BaseIndividual.withSharedProblem(ttp, new ArrayList<>(), evaluator);
+      individual.setNormalObjectives(objectives);
+      population.add(individual);
+    }
+    return population;
+  }
+
+  private static TTP getProblem() {
+    City[] cities = {new City(1, 0, 0), new City(2, 3, 4)};
+    Item item = new Item(1, 1, 1);
+    item.addAvailabitliy(1);
+    List<List<Integer>> itemAvailabilities = new ArrayList<>();
+    itemAvailabilities.add(new ArrayList<>());
+    itemAvailabilities.add(new ArrayList<>(List.of(0)));
+    TTP ttp = new TTP(new Knapsack(1, new ArrayList<>(List.of(item))), cities, 0.1, 1.0, 1.0);
+    ttp.setItemAvailabilities(itemAvailabilities);
+    return ttp;
+  }
+
+}
@@ -0,0 +1,108 @@
+package test.runners;
+
+import org.junit.Test;
+import runners.ExperimentScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class ExperimentSchedulerTest {
+
+  private static final long MASTER_SEED = 23;
+  private static final int NUM_CONFIGURATIONS = 4;
+  private static final int NUM_REPEATS = 2;
+  private static final int PARALLELISM = 4;
+
+  @Test
+  public void testMergeOrder() throws InterruptedException {
+    // the first configuration finishes last
+    CountDownLatch laterRepeats = new CountDownLatch((NUM_CONFIGURATIONS - 1) * NUM_REPEATS);
+    ExperimentScheduler<Long> scheduler = new ExperimentScheduler<>(PARALLELISM, MASTER_SEED);
+    List<Integer> mergedConfigurations = Collections.synchronizedList(new ArrayList<>());
+    List<List<Long>> mergedResults = Collections.synchronizedList(new ArrayList<>());
+    for (int c = 0; c < NUM_CONFIGURATIONS; ++c) {
+      int configuration = c;
+      scheduler.submit(NUM_REPEATS, (repeat, seed) -> {
+        if (configuration == 0) {
+          await(laterRepeats);
+        } else {
+          laterRepeats.countDown();
+        }
+        return seed;
+      }, results -> {
+        mergedConfigurations.add(configuration);
+        mergedResults.add(new ArrayList<>(results));
+      });
+    }
+    scheduler.awaitCompletion();
+
+    assertEquals("Configurations were not merged in the order of submission", List.of(0, 1, 2, 3),
+        mergedConfigurations);
+    for (int c = 0; c < NUM_CONFIGURATIONS; ++c) {
+      List<Long> expected = new ArrayList<>();
+      for (int repeat = 0; repeat < NUM_REPEATS; ++repeat) {
+        expected.add(ExperimentScheduler.getSeed(MASTER_SEED, c, repeat));
+      }
+      assertEquals("Results were not merged in the repeat order", expected, mergedResults.get(c));
+    }
+  }
+
+  @Test
+  public void testFailedRepeat() {
+    ExperimentScheduler<Long> scheduler = new ExperimentScheduler<>(PARALLELISM, MASTER_SEED);
+    List<Integer> mergedConfigurations = Collections.synchronizedList(new ArrayList<>());
+    for (int c = 0; c < NUM_CONFIGURATIONS; ++c) {
+      int configuration = c;
+      scheduler.submit(NUM_REPEATS, (repeat, seed) -> {
+        if (configuration == 1 && repeat == 1) {
+          throw new IllegalStateException("Failed repeat");
+        }
+        return seed;
+      }, results -> mergedConfigurations.add(configuration));
+    }
+    try {
+      scheduler.awaitCompletion();
+      fail("Failure of a repeat was not reported");
+    } catch (RuntimeException e) {
+      assertTrue("Wrong failure " + e, String.valueOf(e.getMessage()).contains("Failed repeat")
+          || String.valueOf(e.getCause()).contains("Failed repeat"));
+    }
+    assertEquals("Failed configuration was merged or held back the later ones", List.of(0, 2, 3),
+        mergedConfigurations);
+  }
+
+  @Test
+  public void testParallelism() {
+    assertEquals("Results depend on the number of threads", runSweep(1), runSweep(PARALLELISM));
+  }
+
+  private static List<List<Long>> runSweep(int parallelism) {
+    ExperimentScheduler<Long> scheduler = new ExperimentScheduler<>(parallelism, MASTER_SEED);
+    List<List<Long>> merged = Collections.synchronizedList(new ArrayList<>());
+    for (int c = 0; c < NUM_CONFIGURATIONS; ++c) {
+      scheduler.submit(NUM_REPEATS, (repeat, seed) -> seed * 31 + repeat, results -> merged.add(results));
+    }
+    scheduler.awaitCompletion();
+    return merged;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(10, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("Later repeats did not finish");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
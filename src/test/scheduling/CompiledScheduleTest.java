@@ -0,0 +1,63 @@
+package test.scheduling;
+
+import algorithms.problem.scheduling.CompiledSchedule;
+import algorithms.problem.scheduling.Resource;
+import algorithms.problem.scheduling.Schedule;
+import algorithms.problem.scheduling.Skill;
+import algorithms.problem.scheduling.Task;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+
+public class CompiledScheduleTest {
+
+  private Task[] tasks;
+  private Resource[] resources;
+  private CompiledSchedule compiled;
+
+  @Before
+  public void setUp() {
+    tasks = new Task[] {
+        new Task(1, new Skill[] {new Skill("Q1", 1)}, 5, new int[0]),
+        new Task(2, new Skill[] {new Skill("Q1", 2), new Skill("Q2", 1)}, 3, new int[] {1}),
+        new Task(3, new Skill[] {new Skill("Q2", 3)}, 4, new int[] {1, 2})
+    };
+    resources = new Resource[] {
+        new Resource(1, 10.0, new Skill[] {new Skill("Q1", 3)}),
+        new Resource(2, 20.0, new Skill[] {new Skill("Q2", 1), new Skill("Q1", 2)}),
+        new Resource(3, 30.0, new Skill[] {new Skill("Q2", 3), new Skill("Q1", 1)})
+    };
+    compiled = new CompiledSchedule(tasks, resources);
+  }
+
+  @Test
+  public void testCapableResourcesMatchSkills() {
+    Schedule schedule = new Schedule(tasks, resources);
+    for (int t = 0; t < tasks.length; ++t) {
+      for (int r = 0; r < resources.length; ++r) {
+        assertEquals("Compiled capability differs for task " + tasks[t].getId() + " and resource " + resources[r].getId(),
+            schedule.canDoTask(tasks[t], resources[r]), compiled.canDoTask(t, r));
+      }
+    }
+    assertEquals("Wrong number of resources capable of the second task", 1, compiled.getNumCapableResources(1));
+    assertEquals("Wrong resource capable of the second task", 2, compiled.getResourceId(compiled.getCapableResource(1, 0)));
+  }
+
+  @Test
+  public void testPredecessorsAndSuccessors() {
+    assertEquals("Wrong number of predecessors of the third task", 2,
+        compiled.getPredecessorsTo(2) - compiled.getPredecessorsFrom(2));
+    assertEquals("Wrong last predecessor of the third task", 1, compiled.getPredecessor(compiled.getPredecessorsTo(2) - 1));
+    assertTrue("First task has successors", compiled.hasSuccessors(0));
+    assertFalse("Last task has no successors", compiled.hasSuccessors(2));
+  }
+
+  @Test
+  public void testSkillOveruse() {
+    assertEquals("Wrong skill overuse of the second task on the second resource", 0, compiled.getSkillOveruse(1, 1));
+    assertEquals("Wrong skill overuse of the first task on the first resource", 2, compiled.getSkillOveruse(0, 0));
+    assertEquals("Wrong maximal skill overuse", 2 + 1 + 2, compiled.getMaxSkillOveruse());
+  }
+}
@@ -1,8 +1,13 @@
 package test.scheduling.schedule_builders;
 
 import algorithms.io.MSRCPSPIO;
+import algorithms.problem.scheduling.CompiledSchedule;
+import algorithms.problem.scheduling.Resource;
 import algorithms.problem.scheduling.Schedule;
+import algorithms.problem.scheduling.Skill;
+import algorithms.problem.scheduling.Task;
 import algorithms.problem.scheduling.schedule_builders.BackwardScheduleBuilder;
+import algorithms.problem.scheduling.schedule_builders.ForwardScheduleBuilder;
 import algorithms.problem.scheduling.schedule_builders.ScheduleBuilder;
 import algorithms.validation.BaseValidator;
 import algorithms.validation.CompleteValidator;
@@ -64,4 +69,45 @@ public class ScheduleBuilderTest {
     assertEquals("Schedule should be valid", ValidationResult.SUCCESS, validator.validate(schedule));
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testUpdateTimestamps() {
+    Skill[] skills = new Skill[] {new Skill("Q1", 1)};
+    Task[] tasks = new Task[] {
+        new Task(1, skills, 3, new int[0]),
+        new Task(2, skills, 2, new int[] {1}),
+        new Task(3, skills, 4, new int[0]),
+        new Task(4, skills, 1, new int[] {2, 3}),
+        new Task(5, skills, 2, new int[0])
+    };
+    Resource[] resources = new Resource[] {
+        new Resource(1, 10.0, skills), new Resource(2, 20.0, skills), new Resource(3, 30.0, skills)
+    };
+    Schedule schedule = new Schedule(tasks, resources);
+    schedule.setCompiled(new CompiledSchedule(tasks, resources));
+    int[] resourceIds = {1, 2, 1, 2, 3};
+    for (int i = 0; i < tasks.length; ++i) {
+      tasks[i].setResourceId(resourceIds[i]);
+    }
+    ForwardScheduleBuilder scheduleBuilder = new ForwardScheduleBuilder(schedule.getSuccesors());
+    scheduleBuilder.buildTimestamps(schedule);
+
+    int[] previousResourceIds = resourceIds.clone();
+    schedule.getTask(3).setResourceId(3);
+    schedule.getTask(5).setResourceId(1);
+    scheduleBuilder.updateTimestamps(schedule, previousResourceIds);
+
+    Schedule rebuilt = schedule.cloneDeep();
+    rebuilt.clear(false);
+    scheduleBuilder.buildTimestamps(rebuilt);
+    for (Task task : rebuilt.getTasks()) {
+      assertEquals("Updated start differs for task " + task.getId(), task.getStart(), schedule.getTask(task.getId()).getStart());
+    }
+    for (Resource resource : rebuilt.getResources()) {
+      assertEquals("Updated finish differs for resource " + resource.getId(),
+          resource.getFinish(), schedule.getResource(resource.getId()).getFinish());
+      assertEquals("Updated working time differs for resource " + resource.getId(),
+          resource.getWorkingTime(), schedule.getResource(resource.getId()).getWorkingTime());
+    }
+  }
+
+}
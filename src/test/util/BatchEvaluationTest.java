@@ -0,0 +1,213 @@
+package test.util;
+
+import algorithms.evaluation.EvaluatorType;
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.evolutionary_algorithms.crossover.BaseCrossover;
+import algorithms.evolutionary_algorithms.crossover.CompetitionCrossover;
+import algorithms.evolutionary_algorithms.genetic_algorithm.NondominatedSortingGA;
+import algorithms.evolutionary_algorithms.genetic_algorithm.NondominatedTournamentGA;
+import algorithms.evolutionary_algorithms.initial_population.InitialPopulationType;
+import algorithms.evolutionary_algorithms.mutation.BaseMutation;
+import algorithms.evolutionary_algorithms.mutation.CompetitionMutation;
+import algorithms.evolutionary_algorithms.selection.SelectionType;
+import algorithms.evolutionary_algorithms.util.BatchEvaluation;
+import algorithms.factories.EvaluatorFactory;
+import algorithms.factories.InitialPopulationGeneratorFactory;
+import algorithms.factories.SelectionFactory;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.BaseProblemRepresentation;
+import algorithms.problem.TTP;
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+import algorithms.problem.mtsp.City;
+import org.junit.Test;
+import util.random.RandomInt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class BatchEvaluationTest {
+
+  private static final int NUM_CITIES = 12;
+  private static final int POPULATION_SIZE = 30;
+  private static final int GENERATION_LIMIT = 15;
+  private static final int NUM_THREADS = 4;
+
+  /**
+   * Competition crossover for the algorithms passing one crossover rate.
+   */
+  private static class TTPCrossover extends BaseCrossover<Integer, TTP> {
+    private final CompetitionCrossover crossover = new CompetitionCrossover();
+
+    @Override
+    public List<List<Integer>> crossover(double cr, List<Integer> firstParent, List<Integer> secondParent,
+                                         ParameterSet<Integer, TTP> parameters) {
+      return crossover(cr, cr, firstParent, secondParent, parameters);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<List<Integer>> crossover(double TSPcr, double KNAPcr, List<Integer> firstParent,
+                                         List<Integer> secondParent, ParameterSet<Integer, TTP> parameters) {
+      return crossover.crossover(TSPcr, KNAPcr, firstParent, secondParent,
+          (ParameterSet<Integer, BaseProblemRepresentation>) (ParameterSet<?, ?>) parameters);
+    }
+  }
+
+  /**
+   * Competition mutation for the algorithms passing one mutation probability.
+   */
+  private static class TTPMutation extends BaseMutation<Integer, TTP> {
+    private final CompetitionMutation mutation = new CompetitionMutation();
+
+    @Override
+    public List<Integer> mutate(List<BaseIndividual<Integer, TTP>> population, double f, List<Integer> genesToMutate,
+                                int current, int populationSize, ParameterSet<Integer, TTP> parameters) {
+      return mutate(population, f, f, genesToMutate, current, populationSize, parameters);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> mutate(List<BaseIndividual<Integer, TTP>> population, double TSPf, double KNAPf,
+                                List<Integer> genesToMutate, int current, int populationSize,
+                                ParameterSet<Integer, TTP> parameters) {
+      return mutation.mutate(null, TSPf, KNAPf, genesToMutate, current, populationSize,
+          (ParameterSet<Integer, BaseProblemRepresentation>) (ParameterSet<?, ?>) parameters);
+    }
+  }
+
+  @Test
+  public void testSameFrontsWithPool() {
+    TTP ttp = getProblem(new Random(15));
+    ForkJoinPool pool = new ForkJoinPool(NUM_THREADS);
+    try {
+      for (long seed = 1; seed <= 3; ++seed) {
+        ParameterSet<Integer, TTP> parameters = getParameters(ttp, seed, SelectionType.NONDOMINATED_SORTING_TOURNAMENT);
+        List<String> expected = getObjectives(new NondominatedSortingGA<>(ttp, POPULATION_SIZE, GENERATION_LIMIT,
+            parameters, 0.5, 0.8).optimize());
+        parameters = getParameters(ttp, seed, SelectionType.NONDOMINATED_SORTING_TOURNAMENT);
+        parameters.evaluationPool = pool;
+        assertEquals("NSGA-II front depends on the pool", expected, getObjectives(new NondominatedSortingGA<>(ttp,
+            POPULATION_SIZE, GENERATION_LIMIT, parameters, 0.5, 0.8).optimize()));
+
+        parameters = getParameters(ttp, seed, SelectionType.NONDOMINATED_SORTING_NO_CROWDING_TOURNAMENT);
+        expected = getObjectives(new NondominatedTournamentGA<>(ttp, POPULATION_SIZE, GENERATION_LIMIT,
+            parameters, 0.5, 0.8, 0.8, true).optimize());
+        parameters = getParameters(ttp, seed, SelectionType.NONDOMINATED_SORTING_NO_CROWDING_TOURNAMENT);
+        parameters.evaluationPool = pool;
+        assertEquals("NTGA front depends on the pool", expected, getObjectives(new NondominatedTournamentGA<>(ttp,
+            POPULATION_SIZE, GENERATION_LIMIT, parameters, 0.5, 0.8, 0.8, true).optimize()));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testFailureInLaterChunk() {
+    ParameterSet<Integer, TTP> parameters = new ParameterSet<>();
+    parameters.evaluationPool = new ForkJoinPool(2);
+    List<Integer> items = new ArrayList<>();
+    for (int i = 0; i < 100; ++i) {
+      items.add(i);
+    }
+    AtomicIntegerArray processed = new AtomicIntegerArray(items.size());
+    // the first chunk is processed by the calling thread, the last one by the pool
+    IllegalStateException failure = new IllegalStateException("failed item");
+    try {
+      BatchEvaluation.forEach(items, item -> {
+        if (item == items.size() - 1) {
+          throw failure;
+        }
+        processed.incrementAndGet(item);
+      }, parameters);
+      assertTrue("Failure of a pool thread was not passed to the caller", false);
+    } catch (IllegalStateException e) {
+      assertTrue("Wrong exception was passed to the caller", e == failure);
+    } finally {
+      parameters.evaluationPool.shutdown();
+    }
+    for (int i = 0; i < items.size() - 1; ++i) {
+      assertEquals("Item was not processed before the failure was passed on", 1, processed.get(i));
+    }
+  }
+
+  @Test
+  public void testPoolOption() {
+    String threads = System.getProperty(BatchEvaluation.THREADS_PROPERTY);
+    try {
+      System.clearProperty(BatchEvaluation.THREADS_PROPERTY);
+      assertTrue("Pool without the option", BatchEvaluation.getPool() == null);
+      System.setProperty(BatchEvaluation.THREADS_PROPERTY, "3");
+      assertEquals("Wrong number of threads", 3, ((ForkJoinPool) BatchEvaluation.getPool()).getParallelism());
+      assertTrue("Pool is not shared", BatchEvaluation.getPool() == BatchEvaluation.getPool());
+    } finally {
+      if (threads == null) {
+        System.clearProperty(BatchEvaluation.THREADS_PROPERTY);
+      } else {
+        System.setProperty(BatchEvaluation.THREADS_PROPERTY, threads);
+      }
+    }
+  }
+
+  private static List<String> getObjectives(List<BaseIndividual<Integer, TTP>> solutions) {
+    List<String> objectives = new ArrayList<>();
+    for (BaseIndividual<Integer, TTP> solution : solutions) {
+      objectives.add(solution.getObjectives()[0] + ";" + solution.getObjectives()[1]);
+    }
+    return objectives;
+  }
+
+  private static ParameterSet<Integer, TTP> getParameters(TTP ttp, long seed, SelectionType selectionType) {
+    ParameterSet<Integer, TTP> parameters = new ParameterSet<>();
+    parameters.upperBounds = ttp.getUpperBounds();
+    parameters.populationMultiplicationFactor = 1;
+    parameters.evalRate = 1.0;
+    parameters.tournamentSize = 4;
+    parameters.geneSplitPoint = ttp.getSplitPoint();
+    parameters.TSPcrossoverVersion = 6;
+    parameters.KNAPcrossoverVersion = 1;
+    parameters.TSPmutationVersion = 1;
+    parameters.KNAPmutationVersion = 1;
+    parameters.random = new RandomInt(seed);
+    parameters.evaluator = new EvaluatorFactory().createEvaluator(EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR,
+        parameters.evalRate);
+    parameters.evaluator.setIndividual(new BaseIndividual<>(ttp, parameters.evaluator));
+    parameters.initialPopulation = new InitialPopulationGeneratorFactory(parameters)
+        .createInitialPopulation(InitialPopulationType.RANDOM_TTP);
+    parameters.selection = new SelectionFactory(parameters).createSelection(selectionType);
+    parameters.crossover = new TTPCrossover();
+    parameters.mutation = new TTPMutation();
+    return parameters;
+  }
+
+  private static TTP getProblem(Random random) {
+    City[] cities = new City[NUM_CITIES];
+    for (int i = 0; i < NUM_CITIES; ++i) {
+      cities[i] = new City(i + 1, random.nextInt(100), random.nextInt(100));
+    }
+    List<Item> items = new ArrayList<>();
+    List<List<Integer>> itemAvailabilities = new ArrayList<>();
+    itemAvailabilities.add(new ArrayList<>());
+    for (int city = 1; city < NUM_CITIES; ++city) {
+      itemAvailabilities.add(new ArrayList<>());
+      for (int i = 0; i < 2; ++i) {
+        Item item = new Item(items.size() + 1, 1 + random.nextInt(50), 1 + random.nextInt(30));
+        item.addAvailabitliy(city);
+        itemAvailabilities.get(city).add(items.size());
+        items.add(item);
+      }
+    }
+    TTP ttp = new TTP(new Knapsack(100, items), cities, 0.1, 1.0, 1.0);
+    ttp.setItemAvailabilities(itemAvailabilities);
+    return ttp;
+  }
+
+}
@@ -0,0 +1,137 @@
+package test.util;
+
+import algorithms.evaluation.BaseEvaluator;
+import algorithms.evaluation.EvaluatorType;
+import algorithms.evolutionary_algorithms.EvolutionaryAlgorithm;
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.factories.EvaluatorFactory;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.TTP;
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+import algorithms.problem.mtsp.City;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class BiObjectiveParetoArchiveTest {
+
+  private static final int NUM_ROUNDS = 200;
+  // populations of at least 16 individuals take the archive path
+  private static final int MIN_POPULATION_SIZE = 16;
+
+  private final TTP ttp = getProblem();
+  private final BaseEvaluator<Integer, TTP> evaluator = new EvaluatorFactory().createEvaluator(
+      EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, new ParameterSet<Integer, TTP>().evalRate);
+
+  /**
+   * Exposes the nondominated filter.
+   */
+  private static class Algorithm extends EvolutionaryAlgorithm<Integer, TTP> {
+    List<BaseIndividual<Integer, TTP>> nondominated(List<BaseIndividual<Integer, TTP>> population) {
+      return getNondominated(population);
+    }
+  }
+
+  @Test
+  public void testRemoveDuplicatesAndDominated() {
+    Random random = new Random(11);
+    Algorithm indexed = new Algorithm();
+    Algorithm linear = new Algorithm();
+    List<BaseIndividual<Integer, TTP>> archive = new ArrayList<>();
+    List<BaseIndividual<Integer, TTP>> expectedArchive = new ArrayList<>();
+    for (int round = 0; round < NUM_ROUNDS; ++round) {
+      if (round % 20 == 0) {
+        archive.clear();
+        expectedArchive.clear();
+      }
+      List<BaseIndividual<Integer, TTP>> population = getPopulation(random, archive);
+      // single individuals take the linear path, which handles the population one by one
+      int expectedChanges = 0;
+      for (BaseIndividual<Integer, TTP> individual : population) {
+        List<BaseIndividual<Integer, TTP>> single = new ArrayList<>(List.of(individual));
+        expectedChanges += linear.removeDuplicatesAndDominated(single, expectedArchive);
+      }
+      int changes = indexed.removeDuplicatesAndDominated(population, archive);
+
+      assertEquals("Wrong number of archive changes", expectedChanges, changes);
+      assertIdentical(expectedArchive, archive);
+
+      // the archive changed outside of removeDuplicatesAndDominated is indexed again
+      if (random.nextInt(4) == 0 && !archive.isEmpty()) {
+        int removed = random.nextInt(archive.size());
+        archive.remove(removed);
+        expectedArchive.remove(removed);
+      }
+    }
+  }
+
+  @Test
+  public void testGetNondominated() {
+    Random random = new Random(12);
+    Algorithm algorithm = new Algorithm();
+    for (int round = 0; round < NUM_ROUNDS; ++round) {
+      List<BaseIndividual<Integer, TTP>> population = getPopulation(random, new ArrayList<>());
+      List<BaseIndividual<Integer, TTP>> expected = new ArrayList<>();
+      for (BaseIndividual<Integer, TTP> individual : population) {
+        if (individual.isNotDominatedBy(population)) {
+          expected.add(individual);
+        }
+      }
+      assertIdentical(expected, algorithm.nondominated(population));
+    }
+  }
+
+  private static void assertIdentical(List<BaseIndividual<Integer, TTP>> expected,
+                                      List<BaseIndividual<Integer, TTP>> actual) {
+    assertEquals("Wrong number of individuals", expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); ++i) {
+      assertTrue("Wrong individual at " + i, expected.get(i) == actual.get(i));
+    }
+  }
+
+  /**
+   * Objectives of a few distinct values, so there are many ties, and copies of objectives
+   * of archived individuals.
+   */
+  private List<BaseIndividual<Integer, TTP>> getPopulation(Random random, List<BaseIndividual<Integer, TTP>> archive) {
+    int size = MIN_POPULATION_SIZE + random.nextInt(40);
+    List<BaseIndividual<Integer, TTP>> population = new ArrayList<>();
+    for (int i = 0; i < size; ++i) {
+      if (!archive.isEmpty() && random.nextInt(5) == 0) {
+        population.add(getIndividual(archive.get(random.nextInt(archive.size())).getObjectives().clone()));
+      } else if (!population.isEmpty() && random.nextInt(5) == 0) {
+        population.add(getIndividual(population.get(random.nextInt(population.size())).getObjectives().clone()));
+      } else {
+        population.add(getIndividual(new double[]{random.nextInt(30), -random.nextInt(30) - 1}));
+      }
+    }
+    return population;
+  }
+
+  private BaseIndividual<Integer, TTP> getIndividual(double[] objectives) {
+    BaseIndividual<Integer, TTP> individual = BaseIndividual.withSharedProblem(ttp, new ArrayList<>(), evaluator);
+    individual.setObjectives(objectives);
+    individual.setNormalObjectives(objectives);
+    return individual;
+  }
+
+  private static TTP getProblem() {
+    City[] cities = {new City(1, 0, 0), new City(2, 3, 4)};
+    Item item = new Item(1, 1, 1);
+    item.addAvailabitliy(1);
+    List<List<Integer>> itemAvailabilities = new ArrayList<>();
+    itemAvailabilities.add(new ArrayList<>());
+    itemAvailabilities.add(new ArrayList<>(List.of(0)));
+    TTP ttp = new TTP(new Knapsack(1, new ArrayList<>(List.of(item))), cities, 0.1, 1.0, 1.0);
+    ttp.setItemAvailabilities(itemAvailabilities);
+    return ttp;
+  }
+
+}
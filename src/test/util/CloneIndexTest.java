@@ -0,0 +1,157 @@
+package test.util;
+
+import algorithms.evaluation.BaseEvaluator;
+import algorithms.evaluation.EvaluatorType;
+import algorithms.evolutionary_algorithms.ParameterSet;
+import algorithms.evolutionary_algorithms.util.CloneIndex;
+import algorithms.factories.EvaluatorFactory;
+import algorithms.problem.BaseIndividual;
+import algorithms.problem.TTP;
+import algorithms.problem.mkp.Item;
+import algorithms.problem.mkp.Knapsack;
+import algorithms.problem.mtsp.City;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class CloneIndexTest {
+
+  private static final int NUM_GENES = 20;
+
+  private final TTP ttp = getProblem();
+  private final BaseEvaluator<Integer, TTP> evaluator = new EvaluatorFactory().createEvaluator(
+      EvaluatorType.MULTI_OBJECTIVE_TTP_EVALUATOR, new ParameterSet<Integer, TTP>().evalRate);
+
+  /**
+   * Individual whose fingerprint always collides with the other ones.
+   */
+  private static class CollidingIndividual extends BaseIndividual<Integer, TTP> {
+    CollidingIndividual(TTP ttp, List<Integer> genes, BaseEvaluator<Integer, TTP> evaluator) {
+      super(ttp, genes, evaluator);
+    }
+
+    @Override
+    public long getFingerprint() {
+      return 42;
+    }
+  }
+
+  @Test
+  public void testLookups() {
+    Random random = new Random(1);
+    CloneIndex<Integer, TTP> index = new CloneIndex<>();
+    List<Integer> genes = getRandomGenes(random);
+    assertTrue("Individual was not added", index.add(getIndividual(genes)));
+    assertTrue("Clone with the same genes was not found", index.contains(getIndividual(genes)));
+    assertFalse("Clone was added", index.add(getIndividual(genes)));
+
+    List<Integer> changed = new ArrayList<>(genes);
+    changed.set(NUM_GENES - 1, changed.get(NUM_GENES - 1) + 1);
+    assertFalse("Individual with different genes was found", index.contains(getIndividual(changed)));
+    assertEquals("Wrong size", 1, index.size());
+
+    index.clear();
+    assertEquals("Index was not cleared", 0, index.size());
+    assertFalse("Cleared individual was found", index.contains(getIndividual(genes)));
+  }
+
+  @Test
+  public void testCollisions() {
+    Random random = new Random(2);
+    CloneIndex<Integer, TTP> index = new CloneIndex<>(4);
+    List<List<Integer>> added = new ArrayList<>();
+    for (int i = 0; i < 10; ++i) {
+      List<Integer> genes = getRandomGenes(random);
+      assertTrue("Individual with a colliding fingerprint was not added",
+          index.add(new CollidingIndividual(ttp, genes, evaluator)));
+      added.add(genes);
+    }
+    for (List<Integer> genes : added) {
+      assertTrue("Individual with a colliding fingerprint was not found",
+          index.contains(new CollidingIndividual(ttp, genes, evaluator)));
+    }
+    assertFalse("Individual with different genes was found",
+        index.contains(new CollidingIndividual(ttp, getRandomGenes(random), evaluator)));
+  }
+
+  @Test
+  public void testGrowth() {
+    Random random = new Random(3);
+    CloneIndex<Integer, TTP> index = new CloneIndex<>(2);
+    List<List<Integer>> added = new ArrayList<>();
+    Set<List<Integer>> distinct = new HashSet<>();
+    for (int i = 0; i < 1000; ++i) {
+      List<Integer> genes = getRandomGenes(random);
+      assertEquals("Wrong result of adding an individual", distinct.add(genes), index.add(getIndividual(genes)));
+      added.add(genes);
+    }
+    assertEquals("Wrong size", distinct.size(), index.size());
+    for (List<Integer> genes : added) {
+      assertTrue("Individual was lost when the index grew", index.contains(getIndividual(genes)));
+    }
+  }
+
+  @Test
+  public void testFingerprint() {
+    List<Integer> genes = new ArrayList<>();
+    for (int i = 0; i < NUM_GENES; ++i) {
+      genes.add(i);
+    }
+    long fingerprint = getIndividual(genes).getFingerprint();
+    Set<Long> lowBits = new HashSet<>();
+    for (int i = 0; i < NUM_GENES; ++i) {
+      for (int value = 0; value < 64; ++value) {
+        if (value == genes.get(i)) {
+          continue;
+        }
+        List<Integer> changed = new ArrayList<>(genes);
+        changed.set(i, value);
+        long changedFingerprint = getIndividual(changed).getFingerprint();
+        assertTrue("Fingerprint did not change with a gene", fingerprint != changedFingerprint);
+        lowBits.add(changedFingerprint & 0xFF);
+      }
+    }
+    // 1260 changed genomes fill the 256 values of the lowest byte almost surely
+    assertTrue("Low bits of fingerprints are not mixed: " + lowBits.size(), lowBits.size() > 240);
+
+    List<Integer> swapped = new ArrayList<>(genes);
+    swapped.set(0, genes.get(1));
+    swapped.set(1, genes.get(0));
+    assertTrue("Fingerprint does not depend on the gene order",
+        fingerprint != getIndividual(swapped).getFingerprint());
+  }
+
+  private BaseIndividual<Integer, TTP> getIndividual(List<Integer> genes) {
+    return BaseIndividual.withSharedProblem(ttp, genes, evaluator);
+  }
+
+  private static List<Integer> getRandomGenes(Random random) {
+    List<Integer> genes = new ArrayList<>();
+    for (int i = 0; i < NUM_GENES; ++i) {
+      genes.add(random.nextInt(4));
+    }
+    return genes;
+  }
+
+  private static TTP getProblem() {
+    City[] cities = {new City(1, 0, 0), new City(2, 3, 4)};
+    Item item = new Item(1, 1, 1);
+    item.addAvailabitliy(1);
+    List<List<Integer>> itemAvailabilities = new ArrayList<>();
+    itemAvailabilities.add(new ArrayList<>());
+    itemAvailabilities.add(new ArrayList<>(List.of(0)));
+    TTP ttp = new TTP(new Knapsack(1, new ArrayList<>(List.of(item))), cities, 0.1, 1.0, 1.0);
+    ttp.setItemAvailabilities(itemAvailabilities);
+    return ttp;
+  }
+
+}
@@ -0,0 +1,99 @@
+package test.util;
+
+import algorithms.evolutionary_algorithms.util.IncrementalObjectiveClusters;
+import algorithms.evolutionary_algorithms.util.ObjectiveSpaceKmeans;
+import org.junit.Test;
+import util.random.RandomInt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class IncrementalObjectiveClustersTest {
+
+  private static final int POINTS_PER_GROUP = 30;
+  // travelling time and negative profit of the centres of well separated groups
+  private static final double[][] GROUPS = {{100.0, -900.0}, {500.0, -5000.0}, {900.0, -9000.0}};
+
+  @Test
+  public void testAddAndRemove() {
+    Random random = new Random(3);
+    List<double[]> items = getItems(random);
+    IncrementalObjectiveClusters<double[]> clusters = getClusters(items);
+
+    int cluster = getCluster(clusters, items.get(0));
+    double dispersion = clusters.getDispersion(cluster);
+    List<double[]> updated = new ArrayList<>(items);
+    for (int i = 0; i < 10; ++i) {
+      updated.remove(items.get(i));
+      updated.add(new double[]{GROUPS[0][0] + random.nextInt(20), GROUPS[0][1] + random.nextInt(200)});
+    }
+    updated.add(items.get(POINTS_PER_GROUP));
+    clusters.clearChanges();
+    assertEquals("Wrong number of changes", 20, clusters.update(updated, item -> item));
+
+    assertEquals("Wrong number of items", items.size(), clusters.getNumItems());
+    assertEquals("New points did not join the nearest cluster", POINTS_PER_GROUP, clusters.getSize(cluster));
+    assertTrue("Changed cluster is not marked", clusters.isChanged(cluster));
+    assertFalse("Unchanged cluster is marked", clusters.isChanged(getCluster(clusters, items.get(POINTS_PER_GROUP))));
+
+    // running sums follow the members
+    clusters.update(items, item -> item);
+    assertEquals("Dispersion changed after the points came back", dispersion, clusters.getDispersion(cluster), 1e-12);
+    double minimum = Double.POSITIVE_INFINITY;
+    for (int j = 0; j < clusters.getSize(cluster); ++j) {
+      minimum = Math.min(minimum, clusters.getMember(cluster, j)[0]);
+    }
+    assertEquals("Wrong minimal travelling time", minimum, clusters.getMinimum(cluster, 0), 0.0);
+    assertFalse("Points of the same group drifted", clusters.isDrifted());
+  }
+
+  @Test
+  public void testDrift() {
+    List<double[]> items = getItems(new Random(3));
+    IncrementalObjectiveClusters<double[]> clusters = getClusters(items);
+
+    List<double[]> updated = new ArrayList<>(items);
+    for (int i = 0; i < POINTS_PER_GROUP; ++i) {
+      updated.add(new double[]{300.0, -3000.0});
+    }
+    clusters.update(updated, item -> item);
+    assertTrue("Points between groups did not move the means", clusters.isDrifted());
+  }
+
+  private static IncrementalObjectiveClusters<double[]> getClusters(List<double[]> items) {
+    double[] objectives = new double[items.size() * 2];
+    for (int i = 0; i < items.size(); ++i) {
+      System.arraycopy(items.get(i), 0, objectives, 2 * i, 2);
+    }
+    ObjectiveSpaceKmeans kmeans = ObjectiveSpaceKmeans.cluster(objectives, 2, GROUPS.length, 100, new RandomInt(5));
+    return new IncrementalObjectiveClusters<>(kmeans, items, 0.05, false);
+  }
+
+  private static int getCluster(IncrementalObjectiveClusters<double[]> clusters, double[] item) {
+    for (int c = 0; c < clusters.getNumClusters(); ++c) {
+      for (int j = 0; j < clusters.getSize(c); ++j) {
+        if (clusters.getMember(c, j) == item) {
+          return c;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private static List<double[]> getItems(Random random) {
+    List<double[]> items = new ArrayList<>();
+    for (double[] group : GROUPS) {
+      for (int i = 0; i < POINTS_PER_GROUP; ++i) {
+        items.add(new double[]{group[0] + random.nextInt(20), group[1] + random.nextInt(200)});
+      }
+    }
+    return items;
+  }
+
+}
@@ -0,0 +1,109 @@
+package test.util;
+
+import algorithms.evolutionary_algorithms.util.NondominatedSortingEngine;
+import algorithms.evolutionary_algorithms.util.NondominatedSortingType;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+public class NondominatedSortingEngineTest {
+
+  private static final int NUM_POPULATIONS = 50;
+  private static final int[] NUMS_OBJECTIVES = {2, 3, 5};
+
+  @Test
+  public void testRandomPopulations() {
+    Random random = new Random(7);
+    for (int numObjectives : NUMS_OBJECTIVES) {
+      for (int p = 0; p < NUM_POPULATIONS; ++p) {
+        double[][] objectives = getPopulation(random, numObjectives, 1 + random.nextInt(80), 2 + random.nextInt(10));
+        int[] expected = getRanksByPeeling(objectives);
+        for (NondominatedSortingType type : NondominatedSortingType.values()) {
+          assertArrayEquals("Wrong ranks of " + type + " for " + numObjectives + " objectives",
+              expected, new NondominatedSortingEngine(type).getRanks(objectives));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDuplicates() {
+    double[][] objectives = {{1, 2}, {1, 2}, {2, 1}, {2, 2}, {2, 2}, {1, 2}, {3, 3}};
+    int[] expected = {1, 1, 1, 2, 2, 1, 3};
+    for (NondominatedSortingType type : NondominatedSortingType.values()) {
+      assertArrayEquals("Wrong ranks of duplicates for " + type, expected,
+          new NondominatedSortingEngine(type).getRanks(objectives));
+    }
+  }
+
+  @Test
+  public void testEmptyPopulation() {
+    for (NondominatedSortingType type : NondominatedSortingType.values()) {
+      assertEquals("Ranks of an empty population for " + type, 0,
+          new NondominatedSortingEngine(type).getRanks(new double[0][]).length);
+    }
+  }
+
+  /**
+   * Objectives of a few distinct values, so there are many ties, and about a fifth of vectors copy earlier ones.
+   */
+  private static double[][] getPopulation(Random random, int numObjectives, int size, int numValues) {
+    double[][] objectives = new double[size][];
+    for (int i = 0; i < size; ++i) {
+      if (i > 0 && random.nextInt(5) == 0) {
+        objectives[i] = objectives[random.nextInt(i)].clone();
+        continue;
+      }
+      objectives[i] = new double[numObjectives];
+      for (int k = 0; k < numObjectives; ++k) {
+        objectives[i][k] = random.nextInt(numValues) - numValues / 2;
+      }
+    }
+    return objectives;
+  }
+
+  /**
+   * Removes the nondominated vectors of the remaining ones until none are left.
+   */
+  private static int[] getRanksByPeeling(double[][] objectives) {
+    int[] ranks = new int[objectives.length];
+    int remaining = objectives.length;
+    for (int rank = 1; remaining > 0; ++rank) {
+      boolean[] isFront = new boolean[objectives.length];
+      for (int i = 0; i < objectives.length; ++i) {
+        if (ranks[i] != 0) {
+          continue;
+        }
+        isFront[i] = true;
+        for (int j = 0; j < objectives.length && isFront[i]; ++j) {
+          if (ranks[j] == 0 && dominates(objectives[j], objectives[i])) {
+            isFront[i] = false;
+          }
+        }
+      }
+      for (int i = 0; i < objectives.length; ++i) {
+        if (isFront[i]) {
+          ranks[i] = rank;
+          --remaining;
+        }
+      }
+    }
+    return ranks;
+  }
+
+  private static boolean dominates(double[] first, double[] second) {
+    boolean isBetter = false;
+    for (int k = 0; k < first.length; ++k) {
+      if (first[k] > second[k]) {
+        return false;
+      }
+      isBetter |= first[k] < second[k];
+    }
+    return isBetter;
+  }
+
+}
@@ -0,0 +1,69 @@
+package test.util;
+
+import algorithms.evolutionary_algorithms.util.ObjectiveSpaceKmeans;
+import org.junit.Test;
+import util.random.RandomInt;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class ObjectiveSpaceKmeansTest {
+
+  private static final int POINTS_PER_GROUP = 30;
+  // travelling time and negative profit of the centres of well separated groups
+  private static final double[][] GROUPS = {{100.0, -900.0}, {500.0, -5000.0}, {900.0, -9000.0}};
+
+  @Test
+  public void testSeparatedGroups() {
+    double[] objectives = getObjectives(new Random(3));
+    ObjectiveSpaceKmeans kmeans = ObjectiveSpaceKmeans.cluster(objectives, 2, GROUPS.length, 100, new RandomInt(5));
+
+    assertEquals("Wrong number of clusters", GROUPS.length, kmeans.getNumClusters());
+    assertTrue("Assignments did not become stable", kmeans.getIterations() < 100);
+    for (int group = 0; group < GROUPS.length; ++group) {
+      int cluster = kmeans.getAssignment(group * POINTS_PER_GROUP);
+      assertEquals("Group is split", POINTS_PER_GROUP, kmeans.getSize(cluster));
+      for (int i = 0; i < POINTS_PER_GROUP; ++i) {
+        assertEquals("Point is in another cluster than its group", cluster, kmeans.getAssignment(group * POINTS_PER_GROUP + i));
+      }
+      assertEquals("Wrong minimal travelling time", getMinimum(objectives, group, 0), kmeans.getMinimum(cluster, 0), 0.0);
+      assertEquals("Wrong minimal negative profit", getMinimum(objectives, group, 1), kmeans.getMinimum(cluster, 1), 0.0);
+    }
+  }
+
+  @Test
+  public void testRemove() {
+    double[] objectives = getObjectives(new Random(3));
+    ObjectiveSpaceKmeans kmeans = ObjectiveSpaceKmeans.cluster(objectives, 2, GROUPS.length, 100, new RandomInt(5));
+    boolean[] isRemoved = new boolean[GROUPS.length];
+    isRemoved[kmeans.getAssignment(0)] = true;
+    ObjectiveSpaceKmeans removed = kmeans.removeClusters(isRemoved);
+    assertEquals("Cluster was not removed", GROUPS.length - 1, removed.getNumClusters());
+    assertEquals("Point of the removed cluster is assigned", -1, removed.getAssignment(0));
+    assertEquals("Wrong size of a kept cluster", POINTS_PER_GROUP, removed.getSize(removed.getAssignment(POINTS_PER_GROUP)));
+  }
+
+  private static double[] getObjectives(Random random) {
+    double[] objectives = new double[GROUPS.length * POINTS_PER_GROUP * 2];
+    for (int group = 0; group < GROUPS.length; ++group) {
+      for (int i = 0; i < POINTS_PER_GROUP; ++i) {
+        int point = group * POINTS_PER_GROUP + i;
+        objectives[2 * point] = GROUPS[group][0] + random.nextInt(20);
+        objectives[2 * point + 1] = GROUPS[group][1] + random.nextInt(200);
+      }
+    }
+    return objectives;
+  }
+
+  private static double getMinimum(double[] objectives, int group, int objective) {
+    double minimum = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < POINTS_PER_GROUP; ++i) {
+      minimum = Math.min(minimum, objectives[2 * (group * POINTS_PER_GROUP + i) + objective]);
+    }
+    return minimum;
+  }
+
+}
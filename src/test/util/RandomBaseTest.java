@@ -0,0 +1,64 @@
+package test.util;
+
+import org.junit.Test;
+import util.random.RandomBase;
+import util.random.RandomInt;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+
+public class RandomBaseTest {
+
+  @Test
+  public void testSameSeedSameNumbers() {
+    RandomInt first = new RandomInt(7);
+    RandomInt second = new RandomInt(7);
+    for (int i = 0; i < 100; ++i) {
+      assertEquals("Generators with the same seed differ", first.nextInt(1000), second.nextInt(1000));
+    }
+  }
+
+  @Test
+  public void testStreamDoesNotDependOnDrawnNumbers() {
+    RandomInt master = new RandomInt(7);
+    int[] expected = draw(master.getStream(3));
+    master.nextInt();
+    master.getStream(1).nextInt();
+    assertArrayEquals("Stream depends on the state of the master generator", expected, draw(master.getStream(3)));
+  }
+
+  @Test
+  public void testStreamsDiffer() {
+    RandomInt master = new RandomInt(7);
+    assertFalse("Different streams give the same numbers",
+        Arrays.equals(draw(master.getStream(0)), draw(master.getStream(1))));
+    assertFalse("Split streams give the same numbers", Arrays.equals(draw(master.split()), draw(master.split())));
+  }
+
+  @Test
+  public void testBulkFill() {
+    RandomInt bulk = new RandomInt(7);
+    RandomInt single = new RandomInt(7);
+    int[] values = new int[50];
+    bulk.nextInts(values, 10);
+    double[] doubles = new double[50];
+    bulk.nextDoubles(doubles);
+    for (int i = 0; i < values.length; ++i) {
+      assertEquals("Bulk ints differ from the single ones", single.nextInt(10), values[i]);
+    }
+    for (int i = 0; i < doubles.length; ++i) {
+      assertEquals("Bulk doubles differ from the single ones", single.nextDouble(), doubles[i], 0.0);
+    }
+  }
+
+  private static int[] draw(RandomBase<Integer> random) {
+    int[] values = new int[20];
+    random.nextInts(values, Integer.MAX_VALUE);
+    return values;
+  }
+
+}
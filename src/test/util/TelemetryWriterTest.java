@@ -0,0 +1,42 @@
+package test.util;
+
+import org.junit.Test;
+import util.TelemetryWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class TelemetryWriterTest {
+
+  @Test
+  public void testAppendAfterWrite() throws IOException {
+    Path directory = Files.createTempDirectory("telemetry");
+    String path = directory.resolve("history.csv").toString();
+    try (TelemetryWriter telemetry = new TelemetryWriter()) {
+      telemetry.write(path, "gen;hv\n");
+      for (int generation = 1; generation <= 3; ++generation) {
+        telemetry.append(path, generation + ";0.5\n");
+      }
+      telemetry.flush();
+      assertEquals("Flushed file misses lines", "gen;hv\n1;0.5\n2;0.5\n3;0.5\n", Files.readString(Path.of(path)));
+    }
+  }
+
+  @Test
+  public void testWriteReplacesAppendedFile() throws IOException {
+    Path directory = Files.createTempDirectory("telemetry");
+    String path = directory.resolve("nested").resolve("excluded.csv").toString();
+    TelemetryWriter telemetry = new TelemetryWriter(2, TelemetryWriter.OVERFLOW_POLICY.BLOCK);
+    for (int i = 0; i < 100; ++i) {
+      telemetry.append(path, "line\n");
+    }
+    telemetry.write(path, "last\n");
+    telemetry.close();
+    assertEquals("File was not written over", "last\n", Files.readString(Path.of(path)));
+  }
+
+}
@@ -0,0 +1,237 @@
+package util;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes result and history files on a background thread, so the algorithm
+ * does not wait for the disk. Tasks go through a bounded queue, which either
+ * blocks the algorithm when full or drops the task, depending on the overflow policy.
+ * Files appended to stay open until they are written over, closed or the writer is closed.
+ * Texts passed to the writer have to be final, as they are written later.
+ */
+public class TelemetryWriter implements AutoCloseable {
+    public enum OVERFLOW_POLICY {
+        BLOCK,
+        DROP
+    }
+
+    private static final int FILE_BUFFER_SIZE = 1 << 16;
+    private static final Runnable STOP = () -> { };
+
+    private final BlockingQueue<Runnable> tasks;
+    private final OVERFLOW_POLICY overflowPolicy;
+    private final Thread thread;
+    // used only by the writer thread
+    private final Map<String, Writer> openFiles = new HashMap<>();
+    private final AtomicLong droppedTasks = new AtomicLong();
+    private volatile boolean isClosed;
+
+    public TelemetryWriter() {
+        this(1024, OVERFLOW_POLICY.BLOCK);
+    }
+
+    /**
+     * @param capacity number of tasks waiting for the writer thread
+     * @param overflowPolicy what to do with a task when the queue is full
+     */
+    public TelemetryWriter(int capacity, OVERFLOW_POLICY overflowPolicy) {
+        this.tasks = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.thread = new Thread(this::run, "telemetry-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Writes the text over the file.
+     */
+    public void write(String path, String text) {
+        submit(() -> {
+            closeWriter(path);
+            try (Writer writer = open(path, false)) {
+                writer.write(text);
+            }
+        });
+    }
+
+    /**
+     * Appends the text to the file, which stays open for next appends.
+     */
+    public void append(String path, String text) {
+        submit(() -> {
+            Writer writer = openFiles.get(path);
+            if (writer == null) {
+                writer = open(path, true);
+                openFiles.put(path, writer);
+            }
+            writer.write(text);
+        });
+    }
+
+    public void closeFile(String path) {
+        submit(() -> closeWriter(path));
+    }
+
+    /**
+     * Runs the task on the writer thread, i.e. to save a result by a method of another class.
+     */
+    public void execute(Runnable task) {
+        submit(task::run);
+    }
+
+    /**
+     * Waits until every task submitted before is done and open files are flushed.
+     * Used also before changing objects a submitted task reads.
+     */
+    public void flush() {
+        if (isClosed) {
+            return;
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        put(() -> {
+            for (Writer writer : openFiles.values()) {
+                try {
+                    writer.flush();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            done.countDown();
+        });
+        await(done);
+    }
+
+    /**
+     * Finishes the submitted tasks, closes the files and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        put(STOP);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getDroppedTasks() {
+        return droppedTasks.get();
+    }
+
+    private void submit(IOTask task) {
+        if (isClosed) {
+            throw new IllegalStateException("Telemetry writer is closed");
+        }
+        Runnable runnable = () -> {
+            try {
+                task.run();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        };
+        if (overflowPolicy == OVERFLOW_POLICY.DROP) {
+            if (!tasks.offer(runnable)) {
+                droppedTasks.incrementAndGet();
+            }
+        } else {
+            put(runnable);
+        }
+    }
+
+    private void put(Runnable task) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                tasks.put(task);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            Runnable task;
+            try {
+                task = tasks.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (task == STOP) {
+                break;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+        for (String path : openFiles.keySet().toArray(new String[0])) {
+            closeWriter(path);
+        }
+    }
+
+    private static Writer open(String path, boolean isAppended) throws IOException {
+        Path parent = Paths.get(path).toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new BufferedWriter(new FileWriter(path, isAppended), FILE_BUFFER_SIZE);
+    }
+
+    private void closeWriter(String path) {
+        Writer writer = openFiles.remove(path);
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private interface IOTask {
+        void run() throws IOException;
+    }
+}
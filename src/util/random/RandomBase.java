@@ -1,19 +1,42 @@
 package util.random;
 
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator.SplittableGenerator;
 
 /**
  * Abstract Base Class to unify procuring or random numbers
- * independent of type
+ * independent of type.
+ *
+ * Numbers come from a SplitMix64 generator, which is not synchronized,
+ * so a single instance must be used by one thread only. Threads and
+ * individuals processed in parallel get their own streams, either split
+ * from this one or derived from the seed with <code>getStream</code>,
+ * which keeps parallel runs reproducible.
  */
 abstract public class RandomBase<T extends Number> {
 
-  protected Random random;
+  // odd constant used by SplitMix64 to separate consecutive seeds
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private final long seed;
+  protected SplittableGenerator random;
+  // view for code requiring java.util.Random, i.e. Collections.shuffle
+  private Random randomView;
 
   public RandomBase(long seed) {
-    random = new Random(seed);
+    this.seed = seed;
+    random = new SplittableRandom(seed);
   }
 
+  /**
+   * Creates a generator of the same type with the given seed.
+   *
+   * @param seed seed of the new generator
+   * @return new generator
+   */
+  abstract protected RandomBase<T> create(long seed);
+
   public int nextInt() {
     return random.nextInt();
   }
@@ -22,14 +45,129 @@ abstract public class RandomBase<T extends Number> {
     return random.nextInt(bound);
   }
 
+  public long nextLong() {
+    return random.nextLong();
+  }
+
   public double nextDouble() {
     return random.nextDouble();
   }
 
+  /**
+   * Fills the array with random integers from 0 (inclusive)
+   * to <code>bound</code> (exclusive), the same as calling
+   * <code>nextInt(bound)</code> for each element.
+   *
+   * @param values array to fill
+   * @param bound upper bound of the values
+   */
+  public void nextInts(int[] values, int bound) {
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = random.nextInt(bound);
+    }
+  }
+
+  /**
+   * Fills the array with random doubles from 0 (inclusive)
+   * to 1 (exclusive), the same as calling <code>nextDouble()</code>
+   * for each element.
+   *
+   * @param values array to fill
+   */
+  public void nextDoubles(double[] values) {
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = random.nextDouble();
+    }
+  }
+
   abstract public T next(int bound);
 
+  /**
+   * Creates an independent generator seeded with a number drawn
+   * from this one, i.e. for a worker thread.
+   *
+   * @return new generator of the same type
+   */
+  public RandomBase<T> split() {
+    return create(mix(random.nextLong()));
+  }
+
+  /**
+   * Derives a generator from the seed of this one and the stream id, e.g. an index
+   * of a worker or of an individual. The result depends neither on numbers
+   * drawn from this generator nor on other derived streams.
+   *
+   * @param streamId id of the stream
+   * @return new generator of the same type
+   */
+  public RandomBase<T> getStream(long streamId) {
+    return create(mix(seed + GOLDEN_GAMMA * (streamId + 1)));
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns a <code>java.util.Random</code> drawing numbers from this generator.
+   *
+   * @return random backed by this generator
+   */
   public Random getRandom() {
-    return random;
+    if (randomView == null) {
+      randomView = new RandomView(random);
+    }
+    return randomView;
+  }
+
+  // finalizer of SplitMix64
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  private static final class RandomView extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SplittableGenerator generator;
+
+    private RandomView(SplittableGenerator generator) {
+      super(0L);
+      this.generator = generator;
+    }
+
+    @Override
+    protected int next(int bits) {
+      return (int)(generator.nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+      return generator.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+      return generator.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+      return generator.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+      return generator.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+      return generator.nextBoolean();
+    }
+
   }
 
 }
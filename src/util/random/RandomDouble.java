@@ -7,6 +7,11 @@ public class RandomDouble extends RandomBase<Double> {
     super(seed);
   }
 
+  @Override
+  protected RandomDouble create(long seed) {
+    return new RandomDouble(seed);
+  }
+
   @Override
   public Double next(int bound) {
     return random.nextDouble() * (double)bound;
@@ -7,6 +7,11 @@ public class RandomInt extends RandomBase<Integer> {
     super(seed);
   }
 
+  @Override
+  protected RandomInt create(long seed) {
+    return new RandomInt(seed);
+  }
+
   @Override
   public Integer next(int bound) {
     return random.nextInt(bound);